@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.AlgorithmRelation;
+import org.planqk.atlas.core.model.AlgorithmRelationType;
+import org.planqk.atlas.core.model.ClassicAlgorithm;
+import org.planqk.atlas.core.model.ComputationModel;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.QuantumAlgorithm;
+import org.planqk.atlas.core.model.QuantumComputationModel;
+import org.planqk.atlas.core.model.Sketch;
+import org.planqk.atlas.core.model.SoftwarePlatform;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Builds detached entity graphs that resemble the data returned by the algorithm and implementation endpoints.
+ */
+final class BenchmarkData {
+
+    private static final int SKETCHES_PER_ALGORITHM = 3;
+
+    private static final int IMPLEMENTATIONS_PER_ALGORITHM = 2;
+
+    private static final int PLATFORMS_PER_IMPLEMENTATION = 2;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates a page of alternating quantum and classic algorithms, each with sketches, implementations and a relation
+     * to its predecessor.
+     */
+    static Page<Algorithm> algorithmPage(int size) {
+        final var relationType = new AlgorithmRelationType();
+        relationType.setId(UUID.randomUUID());
+        relationType.setName("isBasedOn");
+        relationType.setInverseTypeName("isBaseFor");
+
+        final List<Algorithm> algorithms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final Algorithm algorithm = i % 2 == 0 ? quantumAlgorithm(i) : classicAlgorithm(i);
+            if (!algorithms.isEmpty()) {
+                final var relation = new AlgorithmRelation();
+                relation.setId(UUID.randomUUID());
+                relation.setSourceAlgorithm(algorithm);
+                relation.setTargetAlgorithm(algorithms.get(algorithms.size() - 1));
+                relation.setAlgorithmRelationType(relationType);
+                algorithm.addAlgorithmRelation(relation);
+            }
+            algorithms.add(algorithm);
+        }
+        return new PageImpl<>(algorithms, PageRequest.of(0, Math.max(size, 1)), size);
+    }
+
+    static Page<Implementation> implementationPage(Page<Algorithm> algorithms) {
+        final List<Implementation> implementations = new ArrayList<>();
+        algorithms.forEach(algorithm -> implementations.addAll(algorithm.getImplementations()));
+        return new PageImpl<>(implementations, PageRequest.of(0, Math.max(implementations.size(), 1)), implementations.size());
+    }
+
+    private static QuantumAlgorithm quantumAlgorithm(int index) {
+        final var algorithm = new QuantumAlgorithm();
+        fill(algorithm, index);
+        algorithm.setComputationModel(ComputationModel.QUANTUM);
+        algorithm.setNisqReady(index % 3 == 0);
+        algorithm.setQuantumComputationModel(QuantumComputationModel.GATE_BASED);
+        algorithm.setSpeedUp("polynomial");
+        return algorithm;
+    }
+
+    private static ClassicAlgorithm classicAlgorithm(int index) {
+        final var algorithm = new ClassicAlgorithm();
+        fill(algorithm, index);
+        algorithm.setComputationModel(ComputationModel.CLASSIC);
+        return algorithm;
+    }
+
+    private static void fill(Algorithm algorithm, int index) {
+        algorithm.setId(UUID.randomUUID());
+        algorithm.setCreationDate(new Date());
+        algorithm.setLastModifiedAt(new Date());
+        algorithm.setName("Algorithm " + index);
+        algorithm.setAcronym("ALG" + index);
+        algorithm.setIntent("Intent of algorithm " + index);
+        algorithm.setProblem("Problem solved by algorithm " + index);
+        algorithm.setInputFormat("n qubits");
+        algorithm.setOutputFormat("bit string");
+        algorithm.setAlgoParameter("precision");
+        algorithm.setSolution("Solution description of algorithm " + index);
+        algorithm.setAssumptions("none");
+
+        for (int i = 0; i < SKETCHES_PER_ALGORITHM; i++) {
+            final var sketch = new Sketch();
+            sketch.setId(UUID.randomUUID());
+            sketch.setDescription("Sketch " + i);
+            sketch.setImageURL("/atlas/algorithms/" + algorithm.getId() + "/sketches/" + i + "/image");
+            algorithm.addSketch(sketch);
+        }
+
+        for (int i = 0; i < IMPLEMENTATIONS_PER_ALGORITHM; i++) {
+            algorithm.getImplementations().add(implementation(algorithm, i));
+        }
+    }
+
+    private static Implementation implementation(Algorithm algorithm, int index) {
+        final var implementation = new Implementation();
+        implementation.setId(UUID.randomUUID());
+        implementation.setName(algorithm.getName() + " implementation " + index);
+        implementation.setDescription("Implementation of " + algorithm.getName());
+        implementation.setContributors("qc-atlas contributors");
+        implementation.setVersion("1." + index);
+        implementation.setLicense("Apache-2.0");
+        implementation.setTechnology("Qiskit");
+        implementation.setImplementedAlgorithm(algorithm);
+        implementation.addPattern("https://patterns.example/quantum/" + index);
+        for (int i = 0; i < PLATFORMS_PER_IMPLEMENTATION; i++) {
+            final var platform = new SoftwarePlatform();
+            platform.setId(UUID.randomUUID());
+            platform.setName("Platform " + i);
+            platform.setVersion("0." + i);
+            implementation.getSoftwarePlatforms().add(platform);
+        }
+        return implementation;
+    }
+}
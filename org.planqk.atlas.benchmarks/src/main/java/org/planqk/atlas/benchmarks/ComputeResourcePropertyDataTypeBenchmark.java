@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.planqk.atlas.core.model.ComputeResourcePropertyDataType;
+
+/**
+ * Measures the validation of compute resource property values, including the exception based rejection of invalid
+ * numbers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComputeResourcePropertyDataTypeBenchmark {
+
+    // JMH injects parameters into public fields
+    @Param({"42", "-17", "3.1415", "1e-3", "not a number", ""})
+    public String value;
+
+    @Benchmark
+    public boolean integer() {
+        return ComputeResourcePropertyDataType.INTEGER.isValid(value);
+    }
+
+    @Benchmark
+    public boolean floatingPoint() {
+        return ComputeResourcePropertyDataType.FLOAT.isValid(value);
+    }
+
+    @Benchmark
+    public boolean string() {
+        return ComputeResourcePropertyDataType.STRING.isValid(value);
+    }
+}
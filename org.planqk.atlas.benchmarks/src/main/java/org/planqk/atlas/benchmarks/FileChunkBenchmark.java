@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.planqk.atlas.core.model.File;
+import org.planqk.atlas.core.services.FileService;
+import org.planqk.atlas.web.Application;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.multipart.MultipartFile;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Stores and reads contents of 1 GB through the database file service, which writes and reads them in chunks.
+ * <p>
+ * The fork starts its own PostgreSQL container and application context with a heap of 256 MB, so the benchmarks can
+ * only succeed if the memory needed does not grow with the size of the content. The peak heap usage is reported when
+ * the benchmarks are run with the {@link PeakHeapProfiler}. The stored contents differ between the iterations, so they
+ * are not deduplicated, and the files written by an iteration are deleted after it. Docker is required to run the
+ * benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+public class FileChunkBenchmark {
+
+    // JMH injects parameters into public fields
+    @Param({"1073741824"})
+    public long contentSize;
+
+    private PostgreSQLContainer<?> database;
+
+    private ConfigurableApplicationContext context;
+
+    private FileService fileService;
+
+    private UUID storedFileId;
+
+    private final List<UUID> writtenFileIds = new ArrayList<>();
+
+    private int nextContent;
+
+    @Setup
+    public void setUp() {
+        database = new PostgreSQLContainer<>("postgres:12-alpine");
+        database.start();
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + database.getJdbcUrl(),
+                        "--spring.datasource.username=" + database.getUsername(),
+                        "--spring.datasource.password=" + database.getPassword(),
+                        "--org.planqk.atlas.revisions.compaction.cron=-",
+                        "--org.planqk.atlas.files.gc.cron=-",
+                        "--org.planqk.atlas.upload.cleanup.cron=-",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+        fileService = context.getBean(FileService.class);
+        storedFileId = fileService.create(new GeneratedMultipartFile(contentSize, nextContent++)).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        database.stop();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteWrittenFiles() {
+        writtenFileIds.forEach(fileService::delete);
+        writtenFileIds.clear();
+    }
+
+    @Benchmark
+    public long writeChunks() {
+        final File file = fileService.create(new GeneratedMultipartFile(contentSize, nextContent++));
+        writtenFileIds.add(file.getId());
+        return file.getSize();
+    }
+
+    @Benchmark
+    public long readChunks() throws IOException {
+        final byte[] buffer = new byte[64 * 1024];
+        long read = 0;
+        try (InputStream inputStream = fileService.getFileContent(storedFileId).getInputStream()) {
+            for (int count = inputStream.read(buffer); count != -1; count = inputStream.read(buffer)) {
+                read += count;
+            }
+        }
+        return read;
+    }
+
+    /**
+     * An upload of a generated content, which is not held in memory, like an upload spooled to disk.
+     */
+    private static final class GeneratedMultipartFile implements MultipartFile {
+
+        private final long size;
+
+        private final int seed;
+
+        private GeneratedMultipartFile(long size, int seed) {
+            this.size = size;
+            this.seed = seed;
+        }
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "content-" + seed + ".bin";
+        }
+
+        @Override
+        public String getContentType() {
+            // not compressed by the default compression policy
+            return "application/octet-stream";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException("The content is only streamed");
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new GeneratedInputStream(size, seed);
+        }
+
+        @Override
+        public void transferTo(java.io.File destination) {
+            throw new UnsupportedOperationException("The content is only streamed");
+        }
+    }
+
+    /**
+     * Generates a content of the given length without holding it in memory, the seed makes the contents differ.
+     */
+    private static final class GeneratedInputStream extends InputStream {
+
+        private final long length;
+
+        private final int seed;
+
+        private long position;
+
+        private GeneratedInputStream(long length, int seed) {
+            this.length = length;
+            this.seed = seed;
+        }
+
+        @Override
+        public int read() {
+            if (position >= length) {
+                return -1;
+            }
+            return next();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int count) {
+            if (position >= length) {
+                return -1;
+            }
+            final int read = (int) Math.min(count, length - position);
+            for (int i = 0; i < read; i++) {
+                buffer[offset + i] = (byte) next();
+            }
+            return read;
+        }
+
+        private int next() {
+            return (int) ((position++ + seed) % 251);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.benchmarks;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.planqk.atlas.web.annotation.VersionedRequestHandlerMapping;
+import org.planqk.atlas.web.controller.AlgorithmController;
+import org.planqk.atlas.web.controller.CloudServiceController;
+import org.planqk.atlas.web.controller.ComputeResourceController;
+import org.planqk.atlas.web.controller.ImplementationController;
+import org.planqk.atlas.web.controller.ImplementationGlobalController;
+import org.planqk.atlas.web.controller.PublicationController;
+import org.planqk.atlas.web.controller.SoftwarePlatformController;
+import org.planqk.atlas.web.linkassembler.LinkBuilderService;
+import org.planqk.atlas.web.utils.ListParameters;
+import org.planqk.atlas.web.utils.ListParametersMethodArgumentResolver;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.objenesis.Objenesis;
+import org.springframework.objenesis.ObjenesisStd;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.util.UriComponents;
+
+/**
+ * Measures the URL resolution of {@link LinkBuilderService} against the handler mappings of the main controllers.
+ * <p>
+ * The {@code prepared*} benchmarks reuse a recorded invocation, the other ones include the creation of the invocation
+ * proxy via {@code methodOn} like the controller tests and link assemblers do. {@code handlerMethodScan} performs the
+ * linear scan over all handler methods that was used before the handler method index, as baseline for the lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LinkBuilderServiceBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private VersionedRequestHandlerMapping mappings;
+
+    private LinkBuilderService linkBuilderService;
+
+    private UUID id;
+
+    private ListParameters listParameters;
+
+    private Object preparedAlgorithmInvocation;
+
+    private Object preparedListInvocation;
+
+    private Method algorithmMethod;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        mappings = new VersionedRequestHandlerMapping();
+        // The controllers are only inspected for their request mappings, so their dependencies can stay uninitialized
+        final Objenesis objenesis = new ObjenesisStd();
+        mappings.populateFromHandler(objenesis.newInstance(AlgorithmController.class));
+        mappings.populateFromHandler(objenesis.newInstance(ImplementationController.class));
+        mappings.populateFromHandler(objenesis.newInstance(ImplementationGlobalController.class));
+        mappings.populateFromHandler(objenesis.newInstance(PublicationController.class));
+        mappings.populateFromHandler(objenesis.newInstance(SoftwarePlatformController.class));
+        mappings.populateFromHandler(objenesis.newInstance(CloudServiceController.class));
+        mappings.populateFromHandler(objenesis.newInstance(ComputeResourceController.class));
+
+        linkBuilderService = new LinkBuilderService(new ListParametersMethodArgumentResolver(), mappings);
+        id = UUID.randomUUID();
+        listParameters = new ListParameters(PageRequest.of(1, PAGE_SIZE), "grover");
+        preparedAlgorithmInvocation = methodOn(AlgorithmController.class).getAlgorithm(id, null);
+        preparedListInvocation = methodOn(ImplementationGlobalController.class).getImplementations(listParameters);
+        algorithmMethod = AlgorithmController.class.getMethod("getAlgorithm", UUID.class, Set.class);
+    }
+
+    @Benchmark
+    public UriComponents urlToAlgorithm() {
+        return linkBuilderService.urlTo(methodOn(AlgorithmController.class).getAlgorithm(id, null));
+    }
+
+    @Benchmark
+    public UriComponents urlToImplementations() {
+        return linkBuilderService.urlTo(methodOn(ImplementationGlobalController.class).getImplementations(listParameters));
+    }
+
+    @Benchmark
+    public RequestMappingInfo handlerMethodScan() {
+        for (var entry : mappings.getHandlerMethods().entrySet()) {
+            if (entry.getValue().getMethod().equals(algorithmMethod)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public UriComponents preparedUrlToAlgorithm() {
+        return linkBuilderService.urlTo(preparedAlgorithmInvocation);
+    }
+
+    @Benchmark
+    public UriComponents preparedUrlToImplementations() {
+        return linkBuilderService.urlTo(preparedListInvocation);
+    }
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.benchmarks;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.planqk.atlas.web.Constants;
+import org.planqk.atlas.web.controller.ImplementationGlobalController;
+import org.planqk.atlas.web.utils.ListParameters;
+import org.planqk.atlas.web.utils.ListParametersMethodArgumentResolver;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Measures the resolution of {@link ListParameters} from a request and the inverse contribution to a link.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListParametersMethodArgumentResolverBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private final ListParametersMethodArgumentResolver resolver = new ListParametersMethodArgumentResolver();
+
+    private final ConversionService conversionService = DefaultConversionService.getSharedInstance();
+
+    private MethodParameter parameter;
+
+    private NativeWebRequest pagedRequest;
+
+    private NativeWebRequest sortedRequest;
+
+    private NativeWebRequest unpagedRequest;
+
+    private ListParameters pagedParameters;
+
+    private ListParameters sortedParameters;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        parameter = new MethodParameter(
+                ImplementationGlobalController.class.getMethod("getImplementations", ListParameters.class), 0);
+
+        final var paged = new MockHttpServletRequest();
+        paged.setParameter(Constants.PAGE, "2");
+        paged.setParameter(Constants.SIZE, String.valueOf(PAGE_SIZE));
+        paged.setParameter(Constants.SEARCH, "grover");
+        pagedRequest = new ServletWebRequest(paged);
+
+        final var sorted = new MockHttpServletRequest();
+        sorted.setParameter(Constants.PAGE, "0");
+        sorted.setParameter(Constants.SIZE, String.valueOf(PAGE_SIZE));
+        sorted.setParameter("sort", "name,desc");
+        sortedRequest = new ServletWebRequest(sorted);
+
+        final var unpaged = new MockHttpServletRequest();
+        unpaged.setParameter(Constants.PAGE, "-1");
+        unpaged.setParameter(Constants.SIZE, "-1");
+        unpagedRequest = new ServletWebRequest(unpaged);
+
+        pagedParameters = new ListParameters(PageRequest.of(2, PAGE_SIZE), "grover");
+        sortedParameters = new ListParameters(PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "name")), null);
+    }
+
+    @Benchmark
+    public Object resolvePaged() {
+        return resolver.resolveArgument(parameter, null, pagedRequest, null);
+    }
+
+    @Benchmark
+    public Object resolveSorted() {
+        return resolver.resolveArgument(parameter, null, sortedRequest, null);
+    }
+
+    @Benchmark
+    public Object resolveUnpaged() {
+        return resolver.resolveArgument(parameter, null, unpagedRequest, null);
+    }
+
+    @Benchmark
+    public UriComponentsBuilder contributePaged() {
+        final var builder = UriComponentsBuilder.newInstance();
+        resolver.contributeMethodArgument(parameter, pagedParameters, builder, new HashMap<>(), conversionService);
+        return builder;
+    }
+
+    @Benchmark
+    public UriComponentsBuilder contributeSorted() {
+        final var builder = UriComponentsBuilder.newInstance();
+        resolver.contributeMethodArgument(parameter, sortedParameters, builder, new HashMap<>(), conversionService);
+        return builder;
+    }
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.web.dtos.AlgorithmDto;
+import org.planqk.atlas.web.dtos.ImplementationDto;
+import org.planqk.atlas.web.utils.ModelMapperUtils;
+import org.springframework.data.domain.Page;
+
+/**
+ * Measures the entity to DTO conversion used by the algorithm and implementation endpoints.
+ * <p>
+ * The {@code modelMapper*} benchmarks convert the same data with the reflection based ModelMapper instance and serve as
+ * baseline for the generated mappers used by {@link ModelMapperUtils#convert(Object, Class)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelMapperUtilsBenchmark {
+
+    // JMH injects parameters into public fields
+    @Param({"1", "50", "500"})
+    public int pageSize;
+
+    private Page<Algorithm> algorithms;
+
+    private Page<Implementation> implementations;
+
+    private Algorithm algorithm;
+
+    @Setup
+    public void setUp() {
+        algorithms = BenchmarkData.algorithmPage(pageSize);
+        implementations = BenchmarkData.implementationPage(algorithms);
+        algorithm = algorithms.getContent().get(0);
+    }
+
+    @Benchmark
+    public AlgorithmDto convertAlgorithm() {
+        return ModelMapperUtils.convert(algorithm, AlgorithmDto.class);
+    }
+
+    @Benchmark
+    public Page<AlgorithmDto> convertAlgorithmPage() {
+        return ModelMapperUtils.convertPage(algorithms, AlgorithmDto.class);
+    }
+
+    @Benchmark
+    public Page<ImplementationDto> convertImplementationPage() {
+        return ModelMapperUtils.convertPage(implementations, ImplementationDto.class);
+    }
+
+    @Benchmark
+    public AlgorithmDto modelMapperAlgorithm() {
+        return ModelMapperUtils.mapper.map(algorithm, AlgorithmDto.class);
+    }
+
+    @Benchmark
+    public Page<AlgorithmDto> modelMapperAlgorithmPage() {
+        return algorithms.map(entity -> ModelMapperUtils.mapper.map(entity, AlgorithmDto.class));
+    }
+}
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.ClassicAlgorithm;
+import org.planqk.atlas.core.repository.AlgorithmRepository;
+import org.planqk.atlas.core.services.AlgorithmService;
+import org.planqk.atlas.web.Application;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.history.Revision;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Compares the revision reads of algorithms under the default audit strategy and the validity audit strategy.
+ * <p>
+ * Every fork starts its own PostgreSQL container and application context with the given strategy, and seeds a history
+ * of {@code revisions} revisions for each of {@code algorithms} algorithms. The revisions are written through the
+ * repository, so they are not trimmed by the retention of the algorithm service. The as-of reads use the point in time
+ * when half of the history was written. Docker is required to run the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RevisionHistoryBenchmark {
+
+    private static final Map<String, String> STRATEGIES = Map.of(
+            "default", "org.hibernate.envers.strategy.DefaultAuditStrategy",
+            "validity", "org.hibernate.envers.strategy.ValidityAuditStrategy");
+
+    private static final int PAGE_SIZE = 20;
+
+    // JMH injects parameters into public fields
+    @Param({"default", "validity"})
+    public String strategy;
+
+    @Param({"100"})
+    public int algorithms;
+
+    @Param({"200"})
+    public int revisions;
+
+    private PostgreSQLContainer<?> database;
+
+    private ConfigurableApplicationContext context;
+
+    private AlgorithmService algorithmService;
+
+    private final List<UUID> algorithmIds = new ArrayList<>();
+
+    private final List<Integer> middleRevisions = new ArrayList<>();
+
+    private Date middle;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        database = new PostgreSQLContainer<>("postgres:12-alpine");
+        database.start();
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + database.getJdbcUrl(),
+                        "--spring.datasource.username=" + database.getUsername(),
+                        "--spring.datasource.password=" + database.getPassword(),
+                        "--spring.jpa.properties.org.hibernate.envers.audit_strategy=" + STRATEGIES.get(strategy),
+                        "--org.planqk.atlas.revisions.compaction.cron=-",
+                        "--org.planqk.atlas.files.gc.cron=-",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+        algorithmService = context.getBean(AlgorithmService.class);
+        seed(context.getBean(AlgorithmRepository.class), new TransactionTemplate(context.getBean(PlatformTransactionManager.class)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        database.stop();
+    }
+
+    @Benchmark
+    public Page<Revision<Integer, Algorithm>> findRevisions() {
+        return algorithmService.findAlgorithmRevisions(algorithmIds.get(nextIndex()), PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Revision<Integer, Algorithm> findRevision() {
+        final int index = nextIndex();
+        return algorithmService.findAlgorithmRevision(algorithmIds.get(index), middleRevisions.get(index));
+    }
+
+    @Benchmark
+    public Algorithm findByIdAsOf() {
+        return algorithmService.findByIdAsOf(algorithmIds.get(nextIndex()), middle);
+    }
+
+    @Benchmark
+    public Page<Algorithm> findAllAsOf() {
+        return algorithmService.findAllAsOf(middle, PageRequest.of(0, PAGE_SIZE), null);
+    }
+
+    private void seed(AlgorithmRepository algorithmRepository, TransactionTemplate transactionTemplate) {
+        for (int i = 0; i < algorithms; i++) {
+            final Algorithm algorithm = new ClassicAlgorithm();
+            algorithm.setName("algorithm " + i);
+            algorithmIds.add(algorithmService.create(algorithm).getId());
+        }
+        // the algorithms are updated in turns, so the revisions of an algorithm are spread over the whole history
+        for (int revision = 1; revision < revisions; revision++) {
+            if (revision == revisions / 2) {
+                middle = new Date();
+            }
+            for (UUID id : algorithmIds) {
+                final String name = "algorithm " + id + " " + revision;
+                transactionTemplate.executeWithoutResult(status -> algorithmRepository.findById(id).orElseThrow().setName(name));
+            }
+        }
+        for (UUID id : algorithmIds) {
+            middleRevisions.add(algorithmService.findAlgorithmRevisions(id, PageRequest.of(revisions / 2, 1))
+                    .getContent().get(0).getRequiredRevisionNumber());
+        }
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % algorithmIds.size();
+        return next;
+    }
+}
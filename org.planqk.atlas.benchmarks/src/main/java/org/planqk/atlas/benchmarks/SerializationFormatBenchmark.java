@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.planqk.atlas.web.dtos.AlgorithmDto;
+import org.planqk.atlas.web.utils.ModelMapperUtils;
+import org.springframework.data.domain.Page;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Compares the JSON, CBOR and Smile encodings of a page of algorithms as returned by the list endpoints.
+ * <p>
+ * The payload size of each format and page size is reported as secondary result {@code payloadBytes} of both
+ * benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationFormatBenchmark {
+
+    // JMH injects parameters into public fields
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"50", "500"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+
+    private Page<AlgorithmDto> page;
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = createObjectMapper(format);
+        page = ModelMapperUtils.convertPage(BenchmarkData.algorithmPage(pageSize), AlgorithmDto.class);
+        payload = objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeAlgorithmPage(PayloadSize payloadSize) throws IOException {
+        final byte[] serialized = objectMapper.writeValueAsBytes(page);
+        payloadSize.payloadBytes = serialized.length;
+        return serialized;
+    }
+
+    @Benchmark
+    public JsonNode deserializeAlgorithmPage(PayloadSize payloadSize) throws IOException {
+        payloadSize.payloadBytes = payload.length;
+        return objectMapper.readTree(payload);
+    }
+
+    private static ObjectMapper createObjectMapper(String format) {
+        switch (format) {
+            case "cbor":
+                return new CBORMapper();
+            case "smile":
+                return new SmileMapper();
+            default:
+                return new ObjectMapper();
+        }
+    }
+
+    /**
+     * Reports the size of the payload, which is the same for every invocation, next to the measured time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        // JMH reads the counters from public fields
+        public long payloadBytes;
+    }
+}
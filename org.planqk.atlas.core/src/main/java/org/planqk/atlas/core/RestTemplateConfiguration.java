@@ -19,15 +19,61 @@
 
 package org.planqk.atlas.core;
 
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Configures the HTTP client used to call the Winery.
+ * <p>
+ * Connections are pooled and kept alive between requests, so concurrent requests neither open a connection each nor
+ * wait for a single one. The pool is bounded, and waiting for a pooled connection, connecting and reading a response
+ * time out, so a slow or unreachable Winery can not block the request threads indefinitely. Connections are kept alive
+ * for at most the configured duration, or shorter if the Winery announces so, and idle ones are closed in the
+ * background.
+ */
 @Configuration
 public class RestTemplateConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient wineryHttpClient(@Value("${org.planqk.atlas.winery.http.max-connections}") int maxConnections,
+                                                @Value("${org.planqk.atlas.winery.http.connect-timeout-millis}") int connectTimeout,
+                                                @Value("${org.planqk.atlas.winery.http.read-timeout-millis}") int readTimeout,
+                                                @Value("${org.planqk.atlas.winery.http.keep-alive-millis}") long keepAlive) {
+        final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        // all requests go to the same host, so a single route may use the whole pool
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+
+        final RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(connectTimeout)
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(readTimeout)
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    final long announced = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return announced > 0 ? Math.min(announced, keepAlive) : keepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient wineryHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(wineryHttpClient));
     }
 }
-
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configures the executor processing uploads in the background.
+ * <p>
+ * The pool and its queue are bounded, so a burst of large uploads can not exhaust the threads or the memory. Uploads
+ * exceeding the capacity are rejected with a {@link org.springframework.core.task.TaskRejectedException}.
+ */
+@Configuration
+public class UploadConfiguration {
+
+    public static final String UPLOAD_EXECUTOR = "uploadExecutor";
+
+    @Bean(UPLOAD_EXECUTOR)
+    public ThreadPoolTaskExecutor uploadExecutor(@Value("${org.planqk.atlas.upload.pool-size}") int poolSize,
+                                                 @Value("${org.planqk.atlas.upload.queue-capacity}") int queueCapacity) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -46,12 +46,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Client of the Winery API, which stores the TOSCA applications.
+ * <p>
+ * The service is called by concurrent requests, so the URI of each call is built from the immutable base URI by a
+ * builder of its own.
+ */
 @Slf4j
 @Component
 public class WineryService {
 
-    // API Endpoints
-    private final URIBuilder baseAPIEndpoint;
+    private final URI baseAPIEndpoint;
 
     private final ObjectMapper mapper = new ObjectMapper();
 
@@ -63,12 +68,14 @@ public class WineryService {
             @Value("${org.planqk.atlas.winery.port}") int port,
             RestTemplate restTemplate) {
         this.restTemplate = restTemplate;
-        this.baseAPIEndpoint = new URIBuilder();
-        this.baseAPIEndpoint.setHost(hostname).setPort(port);
-        if ("".equals(protocol)) {
-            this.baseAPIEndpoint.setScheme("http");
-        } else {
-            this.baseAPIEndpoint.setScheme(protocol);
+        try {
+            this.baseAPIEndpoint = new URIBuilder()
+                    .setScheme("".equals(protocol) ? "http" : protocol)
+                    .setHost(hostname)
+                    .setPort(port)
+                    .build();
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid Winery endpoint", e);
         }
     }
 
@@ -79,7 +86,7 @@ public class WineryService {
 
     public <T> T get(String route, Class<T> responseType) {
         try {
-            final ResponseEntity<T> response = restTemplate.getForEntity(this.baseAPIEndpoint.setPath(route).build(), responseType);
+            final ResponseEntity<T> response = restTemplate.getForEntity(endpoint(route), responseType);
             if (!response.getStatusCode().equals(HttpStatus.OK)) {
                 throw new ResponseStatusException(response.getStatusCode());
             }
@@ -103,7 +110,7 @@ public class WineryService {
         final ResponseEntity<String> response;
         try {
             response = this.restTemplate
-                    .postForEntity(this.baseAPIEndpoint.setPath("/winery/").build(), postRequestEntity, String.class);
+                    .postForEntity(endpoint("/winery/"), postRequestEntity, String.class);
         } catch (URISyntaxException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -116,7 +123,7 @@ public class WineryService {
         }
         final String jsonResponse;
         try {
-            jsonResponse = this.restTemplate.getForObject(baseAPIEndpoint.setPath(location.getPath()).build(), String.class);
+            jsonResponse = this.restTemplate.getForObject(endpoint(location.getPath()), String.class);
         } catch (URISyntaxException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -142,12 +149,14 @@ public class WineryService {
     public void delete(@NonNull ToscaApplication toscaApplication) {
         final String path = toscaApplication.getWineryLocation();
         try {
-            this.restTemplate.delete(this.baseAPIEndpoint.setPath(path).build());
+            this.restTemplate.delete(endpoint(path));
         } catch (URISyntaxException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
-
+    private URI endpoint(String path) throws URISyntaxException {
+        return new URIBuilder(baseAPIEndpoint).setPath(path).build();
+    }
 }
 
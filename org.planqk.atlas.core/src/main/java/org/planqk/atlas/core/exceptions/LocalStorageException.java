@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.exceptions;
+
+/**
+ * Exception that is thrown if a file content can not be written to or read from the local storage.
+ */
+public class LocalStorageException extends RuntimeException {
+
+    public LocalStorageException(String message) {
+        super(message);
+    }
+
+    public LocalStorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -21,11 +21,16 @@ package org.planqk.atlas.core.model;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.envers.NotAudited;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @AllArgsConstructor
@@ -38,6 +43,19 @@ public class File extends KnowledgeArtifact {
 
     private String mimeType;
 
+    // length of the content in bytes, null for files created before it was recorded
+    private Long size;
+
+    // hex encoded SHA-256 of the content, null for files created before it was recorded
+    private String digest;
+
+    // the shared content, the blobs are not audited since the content of a file never changes
+    @NotAudited
+    @ManyToOne(fetch = FetchType.LAZY)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private FileBlob blob;
+
     @Column(unique = true)
     private String fileURL;
 }
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.model;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity representing a stored file content.
+ * <p>
+ * Contents are addressed by their SHA-256 digest, so a content uploaded several times is stored only once and shared
+ * by all {@link File}s with this content. The number of files referencing the content is counted, the content is
+ * deleted together with the last of them. The content itself is stored in {@link FileChunk}s, which may be compressed.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+public class FileBlob extends HasId {
+
+    // hex encoded SHA-256 of the content, null while the content is written
+    @Column(unique = true, length = 64)
+    private String digest;
+
+    private long size;
+
+    private int referenceCount;
+
+    // null for blobs stored before compression was introduced, which are not compressed
+    @Enumerated(EnumType.STRING)
+    private FileCompression compression;
+
+    // the number of bytes of all chunks as stored, null for blobs stored before compression was introduced
+    private Long storedSize;
+
+    // CRC-32 of the content, kept for compressed blobs to serve them as gzip without reading the content first
+    private Long crc32;
+
+    public FileCompression getCompression() {
+        return compression != null ? compression : FileCompression.NONE;
+    }
+
+    public long getStoredSize() {
+        return storedSize != null ? storedSize : size;
+    }
+}
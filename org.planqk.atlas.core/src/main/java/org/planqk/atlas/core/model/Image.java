@@ -20,6 +20,8 @@
 package org.planqk.atlas.core.model;
 
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.JoinColumn;
 import javax.persistence.Lob;
 import javax.persistence.OneToOne;
@@ -44,7 +46,15 @@ public class Image extends KnowledgeArtifact {
 
     private String mimeType;
 
+    // null for images stored before the encoding was recorded, which are base64 encoded
+    @Enumerated(EnumType.STRING)
+    private ImageEncoding encoding;
+
     @OneToOne(optional = false)
     @JoinColumn(name = "sketch_id")
     private Sketch sketch;
+
+    public ImageEncoding getEncoding() {
+        return encoding != null ? encoding : ImageEncoding.BASE64;
+    }
 }
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.model;
+
+import java.util.Date;
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity representing an uploaded file that is processed in the background.
+ * <p>
+ * The upload is spooled to disk when it is received, the status of the processing, i.e. storing the content and
+ * creating the target, can be polled with the ID of the upload.
+ */
+@Entity
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class Upload extends HasId {
+
+    @Enumerated(EnumType.STRING)
+    private UploadTarget target;
+
+    // the implementation package or solution the file is added to, null for TOSCA applications
+    private UUID targetId;
+
+    // name of the uploaded file
+    private String name;
+
+    private long size;
+
+    // the amount of bytes of the upload that have been read so far
+    private long bytesProcessed;
+
+    @Enumerated(EnumType.STRING)
+    private UploadStatus status;
+
+    // the created file or TOSCA application once the upload is completed
+    private UUID resultId;
+
+    @Column(length = 2048)
+    private String errorMessage;
+
+    private Date creationDate;
+
+    private Date lastModifiedAt;
+}
@@ -19,14 +19,25 @@
 
 package org.planqk.atlas.core.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 
 import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.util.Constants;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.history.RevisionRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
@@ -46,45 +57,98 @@ public interface AlgorithmRepository extends RevisionRepository<Algorithm, UUID,
     Page<Algorithm> findByNameContainingIgnoreCaseOrAcronymContainingIgnoreCaseOrProblemContainingIgnoreCase(String name, String acronym,
                                                                                                              String problem, Pageable pageable);
 
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = Constants.STREAMING_FETCH_SIZE),
+                        @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT algo FROM Algorithm algo")
+    Stream<Algorithm> streamAll(Sort sort);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = Constants.STREAMING_FETCH_SIZE),
+                        @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT algo " +
+                   "FROM Algorithm algo " +
+                   "WHERE lower(algo.name) LIKE lower(concat('%', :search, '%')) " +
+                   "OR lower(algo.acronym) LIKE lower(concat('%', :search, '%')) " +
+                   "OR lower(algo.problem) LIKE lower(concat('%', :search, '%'))")
+    Stream<Algorithm> streamAll(@Param("search") String search, Sort sort);
+
+    // The following queries initialize one lazy collection of an algorithm including the associations that are part of
+    // its DTOs. An algorithm that is already loaded in the current persistence context gets its collection initialized.
+
+    @Query("SELECT DISTINCT algo FROM Algorithm algo " +
+                   "LEFT JOIN FETCH algo.publications pub " +
+                   "LEFT JOIN FETCH pub.authors " +
+                   "WHERE algo.id = :algoId")
+    List<Algorithm> fetchPublications(@Param("algoId") UUID algorithmId);
+
+    @Query("SELECT DISTINCT algo FROM Algorithm algo LEFT JOIN FETCH algo.problemTypes WHERE algo.id = :algoId")
+    List<Algorithm> fetchProblemTypes(@Param("algoId") UUID algorithmId);
+
+    @Query("SELECT DISTINCT algo FROM Algorithm algo LEFT JOIN FETCH algo.applicationAreas WHERE algo.id = :algoId")
+    List<Algorithm> fetchApplicationAreas(@Param("algoId") UUID algorithmId);
+
+    @Query("SELECT DISTINCT algo FROM Algorithm algo LEFT JOIN FETCH algo.tags WHERE algo.id = :algoId")
+    List<Algorithm> fetchTags(@Param("algoId") UUID algorithmId);
+
+    @Query("SELECT DISTINCT algo FROM Algorithm algo " +
+                   "LEFT JOIN FETCH algo.implementations impl " +
+                   "LEFT JOIN FETCH impl.softwarePlatforms " +
+                   "LEFT JOIN FETCH impl.patterns " +
+                   "WHERE algo.id = :algoId")
+    List<Algorithm> fetchImplementations(@Param("algoId") UUID algorithmId);
+
+    @Query("SELECT DISTINCT algo FROM Algorithm algo LEFT JOIN FETCH algo.learningMethods WHERE algo.id = :algoId")
+    List<Algorithm> fetchLearningMethods(@Param("algoId") UUID algorithmId);
+
+    @Query("SELECT DISTINCT algo FROM Algorithm algo " +
+                   "LEFT JOIN FETCH algo.relatedPatterns rel " +
+                   "LEFT JOIN FETCH rel.patternRelationType " +
+                   "WHERE algo.id = :algoId")
+    List<Algorithm> fetchPatternRelations(@Param("algoId") UUID algorithmId);
+
+    @Query("SELECT DISTINCT algo FROM Algorithm algo " +
+                   "LEFT JOIN FETCH algo.requiredComputeResourceProperties prop " +
+                   "LEFT JOIN FETCH prop.computeResourcePropertyType " +
+                   "WHERE algo.id = :algoId")
+    List<Algorithm> fetchComputeResourceProperties(@Param("algoId") UUID algorithmId);
+
+    @Query("SELECT DISTINCT algo FROM Algorithm algo LEFT JOIN FETCH algo.sketches WHERE algo.id = :algoId")
+    List<Algorithm> fetchSketches(@Param("algoId") UUID algorithmId);
+
     @Query("SELECT algo " +
                    "FROM Algorithm algo " +
                    "JOIN algo.publications pub " +
                    "WHERE  pub.id = :pubId")
     Page<Algorithm> findAlgorithmsByPublicationId(@Param("pubId") UUID publicationId, Pageable pageable);
 
-    @Modifying()
-    @Query(value = "DELETE FROM algorithm_revisions WHERE rev = :revId AND id = :algoId", nativeQuery = true)
-    void deleteAlgorithmRevision(@Param("revId") Integer revisionId, @Param("algoId") UUID algorithmId);
-
-    @Modifying()
-    @Query(value = "DELETE FROM algorithm_revisions WHERE id = :algoId", nativeQuery = true)
-    void deleteAllAlgorithmRevisions(@Param("algoId") UUID algorithmId);
-
-    @Modifying()
-    @Query(value = "DELETE FROM classic_algorithm_revisions WHERE rev = :revId AND id = :algoId", nativeQuery = true)
-    void deleteClassicAlgorithmRevision(@Param("revId") Integer revisionId, @Param("algoId") UUID algorithmId);
-
-    @Modifying()
-    @Query(value = "DELETE FROM classic_algorithm_revisions WHERE id = :algoId", nativeQuery = true)
-    void deleteAllClassicAlgorithmRevisions(@Param("algoId") UUID algorithmId);
-
-    @Modifying()
-    @Query(value = "DELETE FROM quantum_algorithm_revisions WHERE rev = :revId AND id = :algoId", nativeQuery = true)
-    void deleteQuantumAlgorithmRevision(@Param("revId") Integer revisionId, @Param("algoId") UUID algorithmId);
-
-    @Modifying()
-    @Query(value = "DELETE FROM quantum_algorithm_revisions WHERE id = :algoId", nativeQuery = true)
-    void deleteAllQuantumAlgorithmRevisions(@Param("algoId") UUID algorithmId);
+    /**
+     * Finds algorithms with more revisions than allowed or with revisions that ended before the given time, ordered by
+     * their IDs.
+     *
+     * @param after    only algorithms with a greater ID are returned, for paging through all algorithms
+     * @param maxCount the number of revisions to keep
+     * @param before   the time before which ended revisions are outdated
+     * @param limit    the maximum number of IDs to return
+     * @return the IDs of the algorithms, as strings since native queries do not map UUID columns
+     */
+    @Query(value = "SELECT CAST(r.id AS varchar) FROM algorithm_revisions r " +
+            "JOIN knowledge_artifact_revisions ka ON ka.id = r.id AND ka.rev = r.rev " +
+            "WHERE r.id > :after " +
+            "GROUP BY r.id " +
+            "HAVING COUNT(*) > :maxCount OR MIN(ka.revend_tstmp) < :before " +
+            "ORDER BY r.id LIMIT :limit",
+           nativeQuery = true)
+    List<String> findIdsWithOutdatedRevisions(@Param("after") UUID after, @Param("maxCount") int maxCount,
+                                              @Param("before") Date before, @Param("limit") int limit);
 
     @Modifying()
-    @Query(value = "DELETE FROM knowledge_artifact_revisions WHERE rev = :revId AND id = :id", nativeQuery = true)
-    void deleteKnowledgeArtifactRevision(@Param("revId") Integer revisionId, @Param("id") UUID id);
+    @Query(value = "DELETE FROM algorithm_revisions WHERE id = :algoId AND rev IN (:revIds)", nativeQuery = true)
+    int deleteAlgorithmRevisions(@Param("algoId") UUID algorithmId, @Param("revIds") Collection<Integer> revisionIds);
 
     @Modifying()
-    @Query(value = "DELETE FROM knowledge_artifact_revisions WHERE id = :id", nativeQuery = true)
-    void deleteAllKnowledgeArtifactRevisions(@Param("id") UUID id);
+    @Query(value = "DELETE FROM classic_algorithm_revisions WHERE id = :algoId AND rev IN (:revIds)", nativeQuery = true)
+    int deleteClassicAlgorithmRevisions(@Param("algoId") UUID algorithmId, @Param("revIds") Collection<Integer> revisionIds);
 
     @Modifying()
-    @Query(value = "DELETE FROM revinfo WHERE rev = :id", nativeQuery = true)
-    void deleteRevisionInfo(@Param("id") Integer id);
+    @Query(value = "DELETE FROM quantum_algorithm_revisions WHERE id = :algoId AND rev IN (:revIds)", nativeQuery = true)
+    int deleteQuantumAlgorithmRevisions(@Param("algoId") UUID algorithmId, @Param("revIds") Collection<Integer> revisionIds);
 }
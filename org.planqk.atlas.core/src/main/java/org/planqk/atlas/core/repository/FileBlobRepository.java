@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.FileBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository to access {@link FileBlob}s available in the data base with different queries.
+ * <p>
+ * The reference count is only changed by the update queries of this repository, so concurrent changes are applied by
+ * the database one after the other instead of overwriting each other.
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface FileBlobRepository extends JpaRepository<FileBlob, UUID> {
+
+    Optional<FileBlob> findByDigest(String digest);
+
+    /**
+     * Locks the given digest until the end of the transaction, so concurrent uploads of the same content do not both
+     * store a new blob for it. Other transactions locking the same digest wait until the lock is released.
+     *
+     * @return always 1
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext(:digest))) l", nativeQuery = true)
+    int lockDigest(@Param("digest") String digest);
+
+    @Query("SELECT b.referenceCount FROM FileBlob b WHERE b.id = :blobId")
+    int findReferenceCount(@Param("blobId") UUID blobId);
+
+    /**
+     * Adds a reference to a content that is still referenced.
+     *
+     * @return the number of updated blobs, zero if the last reference was removed in the meantime
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.referenceCount = b.referenceCount + 1 WHERE b.id = :blobId AND b.referenceCount > 0")
+    int incrementReferenceCount(@Param("blobId") UUID blobId);
+
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.referenceCount = b.referenceCount - 1 WHERE b.id = :blobId AND b.referenceCount > 0")
+    int decrementReferenceCount(@Param("blobId") UUID blobId);
+
+    @Query("SELECT COALESCE(SUM(b.size), 0) FROM FileBlob b WHERE b.referenceCount > 0")
+    long sumContentSize();
+
+    // blobs stored before compression was introduced are stored with their content size
+    @Query("SELECT COALESCE(SUM(COALESCE(b.storedSize, b.size)), 0) FROM FileBlob b WHERE b.referenceCount > 0")
+    long sumStoredSize();
+}
@@ -19,9 +19,13 @@
 
 package org.planqk.atlas.core.repository;
 
+import java.util.UUID;
+
 import org.planqk.atlas.core.model.File;
 import org.planqk.atlas.core.model.FileData;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.stereotype.Repository;
 
@@ -34,4 +38,6 @@ public interface FileDataRepository extends JpaRepository<FileData, String> {
 
     FileData findByFile(File file);
 
+    @Query(value = "SELECT length(data) FROM file_data WHERE file_id = :fileId", nativeQuery = true)
+    Long findContentLength(@Param("fileId") UUID fileId);
 }
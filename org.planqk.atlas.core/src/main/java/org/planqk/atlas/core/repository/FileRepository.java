@@ -19,10 +19,13 @@
 
 package org.planqk.atlas.core.repository;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.File;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -38,4 +41,24 @@ public interface FileRepository extends JpaRepository<File, UUID> {
             "WHERE implementation_package_file.implementation_package_id = :implementationPackageId",
            nativeQuery = true)
     Optional<File> findByImplementationPackage_Id(@Param("implementationPackageId") UUID implementationPackageId);
+
+    /**
+     * Finds files that are neither linked to an implementation package nor to a solution, ordered by their IDs.
+     *
+     * @param after         only files with a greater ID are returned, for paging through all files
+     * @param createdBefore files created at or after this date are skipped, files without creation date are included
+     * @param pageable      the batch to return
+     * @return the IDs of the unreferenced files
+     */
+    @Query("SELECT f.id FROM File f " +
+            "WHERE f.id > :after AND (f.creationDate IS NULL OR f.creationDate < :createdBefore) " +
+            "AND NOT EXISTS (SELECT p FROM ImplementationPackage p WHERE p.file = f) " +
+            "AND NOT EXISTS (SELECT s FROM Solution s WHERE s.file = f) " +
+            "ORDER BY f.id")
+    List<UUID> findUnreferencedIds(@Param("after") UUID after, @Param("createdBefore") Date createdBefore, Pageable pageable);
+
+    @Query("SELECT COUNT(f) FROM File f WHERE f.id = :id " +
+            "AND NOT EXISTS (SELECT p FROM ImplementationPackage p WHERE p.file = f) " +
+            "AND NOT EXISTS (SELECT s FROM Solution s WHERE s.file = f)")
+    long countUnreferencedById(@Param("id") UUID id);
 }
@@ -19,10 +19,16 @@
 
 package org.planqk.atlas.core.repository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.Image;
+import org.planqk.atlas.core.model.ImageEncoding;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 /**
@@ -32,4 +38,43 @@ import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 public interface ImageRepository extends JpaRepository<Image, UUID> {
 
     Image findImageBySketchId(UUID sketchId);
+
+    /**
+     * Returns the properties of the image of a sketch without loading its content.
+     */
+    @Query("SELECT i.id AS id, i.mimeType AS mimeType, i.encoding AS encoding, LENGTH(i.image) AS size " +
+            "FROM Image i WHERE i.sketch.id = :sketchId")
+    Optional<ImageInfo> findImageInfoBySketchId(@Param("sketchId") UUID sketchId);
+
+    /**
+     * Returns a part of the content of an image, the offset is one-based.
+     */
+    @Query(value = "SELECT substring(image FROM :offset FOR :count) FROM image WHERE id = :imageId", nativeQuery = true)
+    byte[] findContentSlice(@Param("imageId") UUID imageId, @Param("offset") long offset, @Param("count") int count);
+
+    /**
+     * Returns the IDs of all images.
+     */
+    @Query("SELECT i.id FROM Image i ORDER BY i.id")
+    List<UUID> findIds(Pageable pageable);
+
+    /**
+     * Returns the IDs of images that are still base64 encoded.
+     */
+    @Query("SELECT i.id FROM Image i WHERE i.encoding IS NULL OR i.encoding = org.planqk.atlas.core.model.ImageEncoding.BASE64")
+    List<UUID> findBase64EncodedIds(Pageable pageable);
+
+    /**
+     * Properties of an {@link Image} without its content.
+     */
+    interface ImageInfo {
+
+        UUID getId();
+
+        String getMimeType();
+
+        ImageEncoding getEncoding();
+
+        Number getSize();
+    }
 }
@@ -19,12 +19,15 @@
 
 package org.planqk.atlas.core.repository;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.ImplementationPackage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.stereotype.Repository;
 
@@ -33,4 +36,7 @@ import org.springframework.stereotype.Repository;
 public interface ImplementationPackageRepository extends JpaRepository<ImplementationPackage, UUID> {
 
     Page<ImplementationPackage> findImplementationPackagesByImplementationId(UUID implementation, Pageable pageable);
+
+    @Query("SELECT p FROM ImplementationPackage p LEFT JOIN FETCH p.file WHERE p.implementation.id = :implementationId ORDER BY p.name, p.id")
+    List<ImplementationPackage> findAllWithFileByImplementationId(@Param("implementationId") UUID implementationId);
 }
@@ -19,15 +19,26 @@
 
 package org.planqk.atlas.core.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 import java.net.URI;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 
 import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.util.Constants;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.history.RevisionRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
@@ -40,6 +51,33 @@ import org.springframework.stereotype.Repository;
 @RepositoryRestResource(exported = false)
 public interface ImplementationRepository extends RevisionRepository<Implementation, UUID, Integer>, JpaRepository<Implementation, UUID> {
 
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = Constants.STREAMING_FETCH_SIZE),
+                        @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT impl FROM Implementation impl")
+    Stream<Implementation> streamAll(Sort sort);
+
+    // The following queries initialize one lazy collection of an implementation including the associations that are
+    // part of its DTOs. An implementation that is already loaded in the current persistence context gets its collection
+    // initialized.
+
+    @Query("SELECT DISTINCT impl FROM Implementation impl " +
+                   "LEFT JOIN FETCH impl.publications pub " +
+                   "LEFT JOIN FETCH pub.authors " +
+                   "WHERE impl.id = :implId")
+    List<Implementation> fetchPublications(@Param("implId") UUID implementationId);
+
+    @Query("SELECT DISTINCT impl FROM Implementation impl LEFT JOIN FETCH impl.tags WHERE impl.id = :implId")
+    List<Implementation> fetchTags(@Param("implId") UUID implementationId);
+
+    @Query("SELECT DISTINCT impl FROM Implementation impl " +
+                   "LEFT JOIN FETCH impl.requiredComputeResourceProperties prop " +
+                   "LEFT JOIN FETCH prop.computeResourcePropertyType " +
+                   "WHERE impl.id = :implId")
+    List<Implementation> fetchComputeResourceProperties(@Param("implId") UUID implementationId);
+
+    @Query("SELECT DISTINCT impl FROM Implementation impl LEFT JOIN FETCH impl.implementationPackages WHERE impl.id = :implId")
+    List<Implementation> fetchImplementationPackages(@Param("implId") UUID implementationId);
+
     Page<Implementation> findByImplementedAlgorithmId(UUID implementedAlgorithmId, Pageable pageable);
 
     @Query("SELECT impl " +
@@ -60,27 +98,60 @@ public interface ImplementationRepository extends RevisionRepository<Implementat
             "WHERE  uri = :patternURI")
     Page<Implementation> findImplementationsByPatterns(@Param("patternURI") String patternURI, Pageable pageable);
 
-    @Modifying()
-    @Query(value = "DELETE FROM implementation_revisions WHERE id = :implId", nativeQuery = true)
-    void deleteAllImplementationRevisions(@Param("implId") UUID implementationId);
+    /**
+     * Finds implementations with more revisions than allowed or with revisions that ended before the given time,
+     * ordered by their IDs.
+     *
+     * @param after    only implementations with a greater ID are returned, for paging through all implementations
+     * @param maxCount the number of revisions to keep
+     * @param before   the time before which ended revisions are outdated
+     * @param limit    the maximum number of IDs to return
+     * @return the IDs of the implementations, as strings since native queries do not map UUID columns
+     */
+    @Query(value = "SELECT CAST(r.id AS varchar) FROM implementation_revisions r " +
+            "JOIN knowledge_artifact_revisions ka ON ka.id = r.id AND ka.rev = r.rev " +
+            "WHERE r.id > :after " +
+            "GROUP BY r.id " +
+            "HAVING COUNT(*) > :maxCount OR MIN(ka.revend_tstmp) < :before " +
+            "ORDER BY r.id LIMIT :limit",
+           nativeQuery = true)
+    List<String> findIdsWithOutdatedRevisions(@Param("after") UUID after, @Param("maxCount") int maxCount,
+                                              @Param("before") Date before, @Param("limit") int limit);
 
     @Modifying()
-    @Query(value = "DELETE FROM implementation_revisions WHERE rev = :revId AND id = :implId", nativeQuery = true)
-    void deleteImplementationRevision(@Param("revId") Integer revisionId, @Param("implId") UUID implementationId);
+    @Query(value = "DELETE FROM implementation_revisions WHERE id = :implId AND rev IN (:revIds)", nativeQuery = true)
+    int deleteImplementationRevisions(@Param("implId") UUID implementationId, @Param("revIds") Collection<Integer> revisionIds);
 
     @Modifying()
-    @Query(value = "DELETE FROM classic_implementation_revisions WHERE rev = :revId AND id = :implId", nativeQuery = true)
-    void deleteClassicImplementationRevision(@Param("revId") Integer revisionId, @Param("implId") UUID implementationId);
+    @Query(value = "DELETE FROM classic_implementation_revisions WHERE id = :implId AND rev IN (:revIds)", nativeQuery = true)
+    int deleteClassicImplementationRevisions(@Param("implId") UUID implementationId, @Param("revIds") Collection<Integer> revisionIds);
 
     @Modifying()
-    @Query(value = "DELETE FROM classic_implementation_revisions WHERE id = :implId", nativeQuery = true)
-    void deleteAllClassicImplementationRevisions(@Param("implId") UUID implementationId);
+    @Query(value = "DELETE FROM quantum_implementation_revisions WHERE id = :implId AND rev IN (:revIds)", nativeQuery = true)
+    int deleteQuantumImplementationRevisions(@Param("implId") UUID implementationId, @Param("revIds") Collection<Integer> revisionIds);
 
+    /**
+     * Moves the pattern URI revisions that are still valid at the oldest revision not in the given ones to that revision.
+     * <p>
+     * The revisions of a collection only record the added and removed elements, so the addition of a pattern URI that
+     * was not removed until the oldest kept revision has to be kept for the pattern URIs of the kept revisions. Removals
+     * and additions that were superseded until then are left to {@link #deletePatternUriRevisions(UUID, Collection)}.
+     *
+     * @param implementationId the ID of the implementation
+     * @param revisionIds      the numbers of the revisions that are going to be deleted
+     * @return the number of moved rows
+     */
     @Modifying()
-    @Query(value = "DELETE FROM quantum_implementation_revisions WHERE rev = :revId AND id = :implId", nativeQuery = true)
-    void deleteQuantumImplementationRevision(@Param("revId") Integer revisionId, @Param("implId") UUID implementationId);
+    @Query(value = "UPDATE pattern_uris_aud p SET rev = kept.rev " +
+            "FROM (SELECT MIN(ka.rev) AS rev FROM knowledge_artifact_revisions ka WHERE ka.id = :implId AND ka.rev NOT IN (:revIds)) kept " +
+            "WHERE p.implementation_id = :implId AND p.rev IN (:revIds) AND p.revtype <> 2 " +
+            "AND p.rev = (SELECT MAX(l.rev) FROM pattern_uris_aud l " +
+            "WHERE l.implementation_id = p.implementation_id AND l.pattern_uri = p.pattern_uri AND l.rev <= kept.rev)",
+           nativeQuery = true)
+    int movePatternUriRevisionsToOldestKept(@Param("implId") UUID implementationId, @Param("revIds") Collection<Integer> revisionIds);
 
+    // the audited pattern URIs of an implementation, the table is named by Envers after the collection table
     @Modifying()
-    @Query(value = "DELETE FROM quantum_implementation_revisions WHERE id = :implId", nativeQuery = true)
-    void deleteAllQuantumImplementationRevisions(@Param("implId") UUID implementationId);
+    @Query(value = "DELETE FROM pattern_uris_aud WHERE implementation_id = :implId AND rev IN (:revIds)", nativeQuery = true)
+    int deletePatternUriRevisions(@Param("implId") UUID implementationId, @Param("revIds") Collection<Integer> revisionIds);
 }
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.KnowledgeArtifact;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository to access the revisions shared by all {@link KnowledgeArtifact}s, e.g. algorithms and implementations, and
+ * the revision infos all audited entities refer to.
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface KnowledgeArtifactRepository extends JpaRepository<KnowledgeArtifact, UUID> {
+
+    /**
+     * Condition on a revision info {@code orphan} that no row of an audited table refers to, neither as its revision
+     * nor as its end revision. The revision tables of subclasses only refer to revisions that also have a row in the
+     * table of their base class, they are checked nonetheless so the condition does not rely on it.
+     */
+    String UNREFERENCED_REVISION_INFO = "NOT EXISTS (SELECT 1 FROM knowledge_artifact_revisions r WHERE r.rev = orphan.rev) " +
+            "AND NOT EXISTS (SELECT 1 FROM knowledge_artifact_revisions r WHERE r.revend = orphan.rev) " +
+            "AND NOT EXISTS (SELECT 1 FROM algorithm_revisions r WHERE r.rev = orphan.rev) " +
+            "AND NOT EXISTS (SELECT 1 FROM classic_algorithm_revisions r WHERE r.rev = orphan.rev) " +
+            "AND NOT EXISTS (SELECT 1 FROM quantum_algorithm_revisions r WHERE r.rev = orphan.rev) " +
+            "AND NOT EXISTS (SELECT 1 FROM implementation_revisions r WHERE r.rev = orphan.rev) " +
+            "AND NOT EXISTS (SELECT 1 FROM classic_implementation_revisions r WHERE r.rev = orphan.rev) " +
+            "AND NOT EXISTS (SELECT 1 FROM quantum_implementation_revisions r WHERE r.rev = orphan.rev) " +
+            "AND NOT EXISTS (SELECT 1 FROM pattern_uris_aud r WHERE r.rev = orphan.rev) " +
+            "AND NOT EXISTS (SELECT 1 FROM pattern_uris_aud r WHERE r.revend = orphan.rev) " +
+            "AND NOT EXISTS (SELECT 1 FROM tosca_application_revisions r WHERE r.rev = orphan.rev) " +
+            "AND NOT EXISTS (SELECT 1 FROM tosca_application_revisions r WHERE r.revend = orphan.rev)";
+
+    /**
+     * Finds the revisions of a knowledge artifact, e.g. an algorithm or an implementation, that exceed the given limit.
+     * Every revision of a knowledge artifact has a row in the revision table of the base class, so the revisions are
+     * found with a single lookup of the primary key index.
+     *
+     * @param id    the ID of the knowledge artifact
+     * @param limit the number of most recent revisions to keep
+     * @return the numbers of the older revisions, an empty list if there are at most {@code limit} revisions
+     */
+    @Query(value = "SELECT rev FROM knowledge_artifact_revisions WHERE id = :id ORDER BY rev DESC OFFSET :limit", nativeQuery = true)
+    List<Integer> findRevisionNumbersBeyondLimit(@Param("id") UUID id, @Param("limit") int limit);
+
+    /**
+     * Finds the revisions of a knowledge artifact that were superseded by a newer revision before the given time. The
+     * most recent revision has no end and is therefore never returned.
+     *
+     * @param id     the ID of the knowledge artifact
+     * @param before the time before which the revisions ended
+     * @return the numbers of the revisions
+     */
+    @Query(value = "SELECT rev FROM knowledge_artifact_revisions WHERE id = :id AND revend_tstmp < :before", nativeQuery = true)
+    List<Integer> findRevisionNumbersBefore(@Param("id") UUID id, @Param("before") Date before);
+
+    @Modifying()
+    @Query(value = "DELETE FROM knowledge_artifact_revisions WHERE id = :id AND rev IN (:revIds)", nativeQuery = true)
+    int deleteKnowledgeArtifactRevisions(@Param("id") UUID id, @Param("revIds") Collection<Integer> revisionIds);
+
+    /**
+     * Deletes the revision infos of the given revisions that no audited entity refers to anymore. A revision covers all
+     * entities changed in one transaction, so its info is kept as long as one of them still has a revision row or a
+     * revision row ended by it.
+     *
+     * @param revisionIds the numbers of the revisions
+     * @return the number of deleted revision infos
+     */
+    @Modifying()
+    @Query(value = "DELETE FROM revinfo WHERE rev IN (SELECT orphan.rev FROM revinfo orphan " +
+            "WHERE orphan.rev IN (:revIds) AND " + UNREFERENCED_REVISION_INFO + ")",
+           nativeQuery = true)
+    int deleteUnreferencedRevisionInfos(@Param("revIds") Collection<Integer> revisionIds);
+
+    /**
+     * Deletes a batch of revision infos that no audited entity refers to, e.g. left behind by earlier deletions of
+     * revisions.
+     *
+     * @param limit the maximum number of revision infos to delete
+     * @return the number of deleted revision infos
+     */
+    @Modifying()
+    @Query(value = "DELETE FROM revinfo WHERE rev IN (SELECT orphan.rev FROM revinfo orphan " +
+            "WHERE " + UNREFERENCED_REVISION_INFO + " ORDER BY orphan.rev LIMIT :limit)",
+           nativeQuery = true)
+    int deleteUnreferencedRevisionInfos(@Param("limit") int limit);
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.Upload;
+import org.planqk.atlas.core.model.UploadStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository to access {@link Upload}s available in the data base with different queries.
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface UploadRepository extends JpaRepository<Upload, UUID> {
+
+    /**
+     * Records the progress of an upload. The progress is reported while the upload is processed in a transaction, so
+     * it is committed in a new transaction to be visible right away.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE Upload u SET u.bytesProcessed = :bytesProcessed, u.lastModifiedAt = :now WHERE u.id = :uploadId")
+    void updateProgress(@Param("uploadId") UUID uploadId, @Param("bytesProcessed") long bytesProcessed, @Param("now") Date now);
+
+    /**
+     * Marks the uploads with one of the given states that were created before the given time as failed.
+     *
+     * @return the number of updated uploads
+     */
+    @Modifying
+    @Query("UPDATE Upload u SET u.status = org.planqk.atlas.core.model.UploadStatus.FAILED, u.errorMessage = :errorMessage, " +
+            "u.lastModifiedAt = :now WHERE u.status IN (:statuses) AND u.creationDate < :createdBefore")
+    int failCreatedBefore(@Param("statuses") Collection<UploadStatus> statuses, @Param("createdBefore") Date createdBefore,
+                          @Param("errorMessage") String errorMessage, @Param("now") Date now);
+
+    /**
+     * Deletes the uploads with one of the given states that were last modified before the given time.
+     *
+     * @return the number of deleted uploads
+     */
+    @Modifying
+    @Query("DELETE FROM Upload u WHERE u.status IN (:statuses) AND u.lastModifiedAt < :modifiedBefore")
+    int deleteModifiedBefore(@Param("statuses") Collection<UploadStatus> statuses, @Param("modifiedBefore") Date modifiedBefore);
+}
@@ -19,7 +19,12 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.AlgorithmRelation;
@@ -28,8 +33,10 @@ import org.planqk.atlas.core.model.LearningMethod;
 import org.planqk.atlas.core.model.PatternRelation;
 import org.planqk.atlas.core.model.ProblemType;
 import org.planqk.atlas.core.model.Publication;
+import org.planqk.atlas.core.util.PropertyChange;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.history.Revision;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -66,6 +73,21 @@ public interface AlgorithmService {
      */
     Page<Algorithm> findAll(Pageable pageable, String search);
 
+    /**
+     * Passes all {@link Algorithm} entries from the database to the given consumer, one after the other.
+     * <p>
+     * In contrast to {@link #findAll(Pageable, String)} with an unpaged {@link Pageable} the entries are fetched in
+     * chunks and detached after they were consumed, so the memory consumption does not depend on the amount of entries.
+     * The consumer is called within a read-only transaction and must not keep references to the passed entries.
+     * <p>
+     * If no search should be executed the search parameter can be left null or empty.
+     *
+     * @param sort     The order in which the entries are passed to the consumer
+     * @param search   The string based on which a search will be executed
+     * @param consumer The consumer the queried {@link Algorithm} entries are passed to
+     */
+    void streamAll(Sort sort, String search, Consumer<Algorithm> consumer);
+
     /**
      * Find a database entry of a {@link Algorithm} that is already saved in the database. This search is based on the
      * ID the database has given the {@link Algorithm} object when it was created and first saved to the database.
@@ -77,6 +99,33 @@ public interface AlgorithmService {
      */
     Algorithm findById(UUID algorithmId);
 
+    /**
+     * Find the database entries of multiple {@link Algorithm}s based on the IDs the database has given them.
+     * <p>
+     * The found {@link Algorithm}s are returned in the order of the given IDs. IDs without a database entry are skipped
+     * instead of throwing a {@link java.util.NoSuchElementException}, so the caller can report them.
+     *
+     * @param algorithmIds The IDs of the {@link Algorithm}s we want to find
+     * @return The found {@link Algorithm}s in the order of the given IDs
+     */
+    List<Algorithm> findAllById(Collection<UUID> algorithmIds);
+
+    /**
+     * Find a database entry of a {@link Algorithm} like {@link #findById(UUID)} and initialize the given lazy
+     * collections of it, so they can be accessed without further queries.
+     * <p>
+     * Each collection is loaded by a single query together with the associations of its elements, independent of the
+     * number of elements.
+     * <p>
+     * If there is no entry found in the database this method will throw a {@link java.util.NoSuchElementException}.
+     *
+     * @param algorithmId  The ID of the {@link Algorithm} we want to find
+     * @param associations The collections of the {@link Algorithm} that should be initialized
+     * @return The {@link Algorithm} with the given ID
+     */
+    @Transactional(readOnly = true)
+    Algorithm findById(UUID algorithmId, Set<Association> associations);
+
     /**
      * Update an existing {@link Algorithm} database entry by saving the updated {@link Algorithm} object to the the
      * database.
@@ -281,4 +330,59 @@ public interface AlgorithmService {
      *
      */
     Revision<Integer, Algorithm> findAlgorithmRevision(UUID algorithmId, Integer revisionId);
+
+    /**
+     * Retrieve the properties of an {@link Algorithm} that changed from one revision to another.
+     * <p>
+     * Only the properties stored in the revisions are compared. If one of the revisions does not exist for the
+     * {@link Algorithm} with the given ID a {@link java.util.NoSuchElementException} is thrown.
+     *
+     * @param algorithmId The ID of the {@link Algorithm}
+     * @param fromRevisionId The ID of the {@link Revision} to compare from
+     * @param toRevisionId The ID of the {@link Revision} to compare to
+     * @return The changed properties with their values in both revisions
+     */
+    List<PropertyChange> findAlgorithmRevisionChanges(UUID algorithmId, Integer fromRevisionId, Integer toRevisionId);
+
+    /**
+     * Retrieve all {@link Algorithm}s in the state they had at a given point in time.
+     * <p>
+     * The algorithms are read from their revisions, all of them with a single query. Algorithms created after the given
+     * point in time are not contained. If a search term is given, only algorithms whose name, acronym or problem at that
+     * point in time contained the term are returned. The sort of the {@link Pageable} may only refer to properties stored
+     * in the revisions, otherwise an {@link IllegalArgumentException} is thrown.
+     *
+     * @param asOf The point in time
+     * @param pageable The page information, namely page size and page number, of the page we want to retrieve
+     * @param search The search term, may be null
+     * @return The page of algorithms in the state at the given point in time
+     */
+    Page<Algorithm> findAllAsOf(Date asOf, Pageable pageable, String search);
+
+    /**
+     * Retrieve an {@link Algorithm} in the state it had at a given point in time.
+     * <p>
+     * If the {@link Algorithm} with the given ID had no revision at that point in time a {@link
+     * java.util.NoSuchElementException} is thrown.
+     *
+     * @param algorithmId The ID of the {@link Algorithm}
+     * @param asOf The point in time
+     * @return The {@link Algorithm} in the state at the given point in time
+     */
+    Algorithm findByIdAsOf(UUID algorithmId, Date asOf);
+
+    /**
+     * The lazy collections of an {@link Algorithm} that can be initialized by {@link #findById(UUID, Set)}.
+     */
+    enum Association {
+        PUBLICATIONS,
+        PROBLEM_TYPES,
+        APPLICATION_AREAS,
+        TAGS,
+        IMPLEMENTATIONS,
+        LEARNING_METHODS,
+        PATTERN_RELATIONS,
+        COMPUTE_RESOURCE_PROPERTIES,
+        SKETCHES
+    }
 }
@@ -19,15 +19,23 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
 
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.query.criteria.MatchMode;
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.AlgorithmRelation;
 import org.planqk.atlas.core.model.ApplicationArea;
 import org.planqk.atlas.core.model.LearningMethod;
-import org.planqk.atlas.core.model.ClassicAlgorithm;
 import org.planqk.atlas.core.model.PatternRelation;
 import org.planqk.atlas.core.model.ProblemType;
 import org.planqk.atlas.core.model.Publication;
@@ -40,13 +48,17 @@ import org.planqk.atlas.core.repository.LearningMethodRepository;
 import org.planqk.atlas.core.repository.PatternRelationRepository;
 import org.planqk.atlas.core.repository.ProblemTypeRepository;
 import org.planqk.atlas.core.repository.PublicationRepository;
+import org.planqk.atlas.core.util.AsOfQueries;
 import org.planqk.atlas.core.util.CollectionUtils;
 import org.planqk.atlas.core.util.Constants;
+import org.planqk.atlas.core.util.PropertyChange;
+import org.planqk.atlas.core.util.RevisionDiffs;
+import org.planqk.atlas.core.util.RevisionQueries;
 import org.planqk.atlas.core.util.ServiceUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.history.Revision;
-import org.springframework.data.history.Revisions;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -79,6 +91,10 @@ public class AlgorithmServiceImpl implements AlgorithmService {
 
     private final PatternRelationRepository patternRelationRepository;
 
+    private final RevisionRetention revisionRetention;
+
+    private final EntityManager entityManager;
+
     @Override
     @Transactional
     public Algorithm create(Algorithm algorithm) {
@@ -93,11 +109,67 @@ public class AlgorithmServiceImpl implements AlgorithmService {
         return algorithmRepository.findAll(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(@NonNull Sort sort, String search, @NonNull Consumer<Algorithm> consumer) {
+        final boolean searching = !Objects.isNull(search) && !search.isEmpty();
+        try (Stream<Algorithm> algorithms = searching ? algorithmRepository.streamAll(search, sort) : algorithmRepository.streamAll(sort)) {
+            ServiceUtils.forEachDetached(algorithms, entityManager, consumer);
+        }
+    }
+
     @Override
     public Algorithm findById(@NonNull UUID algorithmId) {
         return ServiceUtils.findById(algorithmId, Algorithm.class, algorithmRepository);
     }
 
+    @Override
+    public List<Algorithm> findAllById(@NonNull Collection<UUID> algorithmIds) {
+        return ServiceUtils.findAllById(algorithmIds, algorithmRepository);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Algorithm findById(@NonNull UUID algorithmId, @NonNull Set<Association> associations) {
+        final Algorithm algorithm = findById(algorithmId);
+        associations.forEach(association -> fetch(algorithmId, association));
+        return algorithm;
+    }
+
+    private void fetch(UUID algorithmId, Association association) {
+        switch (association) {
+            case PUBLICATIONS:
+                algorithmRepository.fetchPublications(algorithmId);
+                break;
+            case PROBLEM_TYPES:
+                algorithmRepository.fetchProblemTypes(algorithmId);
+                break;
+            case APPLICATION_AREAS:
+                algorithmRepository.fetchApplicationAreas(algorithmId);
+                break;
+            case TAGS:
+                algorithmRepository.fetchTags(algorithmId);
+                break;
+            case IMPLEMENTATIONS:
+                algorithmRepository.fetchImplementations(algorithmId);
+                break;
+            case LEARNING_METHODS:
+                algorithmRepository.fetchLearningMethods(algorithmId);
+                break;
+            case PATTERN_RELATIONS:
+                algorithmRepository.fetchPatternRelations(algorithmId);
+                break;
+            case COMPUTE_RESOURCE_PROPERTIES:
+                algorithmRepository.fetchComputeResourceProperties(algorithmId);
+                break;
+            case SKETCHES:
+                algorithmRepository.fetchSketches(algorithmId);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported association: " + association);
+        }
+    }
+
     @Override
     @Transactional
     public Algorithm update(@NonNull Algorithm algorithm) {
@@ -114,7 +186,8 @@ public class AlgorithmServiceImpl implements AlgorithmService {
         persistedAlgorithm.setAssumptions(algorithm.getAssumptions());
         persistedAlgorithm.setComputationModel(algorithm.getComputationModel());
 
-        updateRevisions(persistedAlgorithm);
+        // the update adds a revision, so one less than the limit is kept
+        revisionRetention.retain(persistedAlgorithm, Constants.REVISIONS_COUNT - 1);
 
         if (algorithm instanceof QuantumAlgorithm) {
             final QuantumAlgorithm quantumAlgorithm = (QuantumAlgorithm) algorithm;
@@ -139,48 +212,7 @@ public class AlgorithmServiceImpl implements AlgorithmService {
 
         algorithmRepository.deleteById(algorithmId);
 
-        removeRevisions(algorithm);
-    }
-
-    /*
-     * drop older revisions if the amount of saved revisions is reached
-     */
-    private void updateRevisions(@NonNull Algorithm algorithm) {
-        final Revisions<Integer, Algorithm> revisions = algorithmRepository.findRevisions(algorithm.getId());
-        if (revisions.getContent().size() == Constants.REVISIONS_COUNT) {
-
-            // get oldest revision (first table entry)
-            final Revision<Integer, Algorithm> oldestRevision = revisions.getContent().get(0);
-            final int revisionId = oldestRevision.getRevisionNumber().orElseThrow();
-            final UUID algorithmId = oldestRevision.getEntity().getId();
-
-            // delete oldest revision related to the algorithm
-            if (algorithm instanceof ClassicAlgorithm) {
-                algorithmRepository.deleteClassicAlgorithmRevision(revisionId, algorithmId);
-            }
-            if (algorithm instanceof QuantumAlgorithm) {
-                algorithmRepository.deleteQuantumAlgorithmRevision(revisionId, algorithmId);
-            }
-            algorithmRepository.deleteAlgorithmRevision(revisionId, algorithmId);
-            algorithmRepository.deleteKnowledgeArtifactRevision(revisionId, algorithmId);
-            algorithmRepository.deleteRevisionInfo(revisionId);
-        }
-    }
-
-    private void removeRevisions(@NonNull Algorithm algorithm) {
-
-            final Revisions<Integer, Algorithm> revisions = algorithmRepository.findRevisions(algorithm.getId());
-
-            // delete all related revisions
-            if (algorithm instanceof ClassicAlgorithm) {
-                algorithmRepository.deleteAllClassicAlgorithmRevisions(algorithm.getId());
-            }
-            if (algorithm instanceof QuantumAlgorithm) {
-                algorithmRepository.deleteAllQuantumAlgorithmRevisions(algorithm.getId());
-            }
-            algorithmRepository.deleteAllAlgorithmRevisions(algorithm.getId());
-            algorithmRepository.deleteAllKnowledgeArtifactRevisions(algorithm.getId());
-            revisions.forEach(revision -> algorithmRepository.deleteRevisionInfo(revision.getRevisionNumber().orElseThrow()));
+        revisionRetention.retain(algorithm, 0);
     }
 
     private void removeReferences(@NonNull Algorithm algorithm) {
@@ -301,17 +333,45 @@ public class AlgorithmServiceImpl implements AlgorithmService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Revision<Integer, Algorithm>> findAlgorithmRevisions(@NonNull UUID algorithmId, @NonNull Pageable pageable) {
         ServiceUtils.throwIfNotExists(algorithmId, Algorithm.class, algorithmRepository);
-        return algorithmRepository.findRevisions(algorithmId, pageable);
+        return RevisionQueries.findRevisions(entityManager, Algorithm.class, algorithmId, pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Revision<Integer, Algorithm> findAlgorithmRevision(@NonNull UUID algorithmId, @NonNull Integer revisionId) {
-        return algorithmRepository.findRevision(algorithmId, revisionId).orElseThrow(()
+        return RevisionQueries.findRevision(entityManager, Algorithm.class, algorithmId, revisionId).orElseThrow(()
         -> new NoSuchElementException("Algorithm revision with Algorithm ID: " + algorithmId + "and Revision ID " + revisionId + "does not exist"));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<PropertyChange> findAlgorithmRevisionChanges(@NonNull UUID algorithmId, @NonNull Integer fromRevisionId,
+                                                             @NonNull Integer toRevisionId) {
+        return RevisionDiffs.diff(entityManager, Algorithm.class, algorithmId, fromRevisionId, toRevisionId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Algorithm> findAllAsOf(@NonNull Date asOf, @NonNull Pageable pageable, String search) {
+        if (!Objects.isNull(search) && !search.isEmpty()) {
+            return AsOfQueries.findAll(entityManager, Algorithm.class, asOf, pageable, AuditEntity.or(
+                    AuditEntity.property("name").ilike(search, MatchMode.ANYWHERE),
+                    AuditEntity.or(AuditEntity.property("acronym").ilike(search, MatchMode.ANYWHERE),
+                            AuditEntity.property("problem").ilike(search, MatchMode.ANYWHERE))));
+        }
+        return AsOfQueries.findAll(entityManager, Algorithm.class, asOf, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Algorithm findByIdAsOf(@NonNull UUID algorithmId, @NonNull Date asOf) {
+        return AsOfQueries.findById(entityManager, Algorithm.class, algorithmId, asOf).orElseThrow(()
+                -> new NoSuchElementException("Algorithm with ID \"" + algorithmId + "\" did not exist as of " + asOf.toInstant()));
+    }
+
     private Page<AlgorithmRelation> getAlgorithmRelations(@NonNull UUID algorithmId, @NonNull Pageable pageable) {
         return algorithmRelationRepository.findBySourceAlgorithmIdOrTargetAlgorithmId(algorithmId, algorithmId, pageable);
     }
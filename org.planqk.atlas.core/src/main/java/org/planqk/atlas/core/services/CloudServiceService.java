@@ -19,6 +19,8 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.CloudService;
@@ -83,6 +85,17 @@ public interface CloudServiceService {
      */
     CloudService findById(UUID cloudServiceId);
 
+    /**
+     * Find the database entries of multiple {@link CloudService}s based on the IDs the database has given them.
+     * <p>
+     * The found {@link CloudService}s are returned in the order of the given IDs. IDs without a database entry are skipped
+     * instead of throwing a {@link java.util.NoSuchElementException}, so the caller can report them.
+     *
+     * @param cloudServiceIds The IDs of the {@link CloudService}s we want to find
+     * @return The found {@link CloudService}s in the order of the given IDs
+     */
+    List<CloudService> findAllById(Collection<UUID> cloudServiceIds);
+
     /**
      * Update an existing {@link CloudService} database entry by saving the updated {@link CloudService} object to the
      * the database.
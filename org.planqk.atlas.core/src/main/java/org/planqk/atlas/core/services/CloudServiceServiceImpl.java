@@ -19,6 +19,8 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.CloudService;
@@ -70,6 +72,11 @@ public class CloudServiceServiceImpl implements CloudServiceService {
         return ServiceUtils.findById(cloudServiceId, CloudService.class, cloudServiceRepository);
     }
 
+    @Override
+    public List<CloudService> findAllById(@NonNull Collection<UUID> cloudServiceIds) {
+        return ServiceUtils.findAllById(cloudServiceIds, cloudServiceRepository);
+    }
+
     @Override
     @Transactional
     public CloudService update(@NonNull CloudService cloudService) {
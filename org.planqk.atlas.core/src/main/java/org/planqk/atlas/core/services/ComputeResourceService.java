@@ -19,6 +19,8 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.CloudService;
@@ -83,6 +85,17 @@ public interface ComputeResourceService {
      */
     ComputeResource findById(UUID computeResourceId);
 
+    /**
+     * Find the database entries of multiple {@link ComputeResource}s based on the IDs the database has given them.
+     * <p>
+     * The found {@link ComputeResource}s are returned in the order of the given IDs. IDs without a database entry are skipped
+     * instead of throwing a {@link java.util.NoSuchElementException}, so the caller can report them.
+     *
+     * @param computeResourceIds The IDs of the {@link ComputeResource}s we want to find
+     * @return The found {@link ComputeResource}s in the order of the given IDs
+     */
+    List<ComputeResource> findAllById(Collection<UUID> computeResourceIds);
+
     /**
      * Update an existing {@link ComputeResource} database entry by saving the updated {@link ComputeResource} object to
      * the the database.
@@ -19,6 +19,8 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.exceptions.EntityReferenceConstraintViolationException;
@@ -73,6 +75,11 @@ public class ComputeResourceServiceImpl implements ComputeResourceService {
         return ServiceUtils.findById(computeResourceId, ComputeResource.class, computeResourceRepository);
     }
 
+    @Override
+    public List<ComputeResource> findAllById(@NonNull Collection<UUID> computeResourceIds) {
+        return ServiceUtils.findAllById(computeResourceIds, computeResourceRepository);
+    }
+
     @Override
     @Transactional
     public ComputeResource update(@NonNull ComputeResource computeResource) {
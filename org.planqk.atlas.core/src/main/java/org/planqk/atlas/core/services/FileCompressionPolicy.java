@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.planqk.atlas.core.model.FileCompression;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decides which contents are compressed when they are stored.
+ * <p>
+ * Only contents of the configured MIME types are compressed, e.g. source code, notebooks and JSON. Contents that are
+ * compressed already, like ZIP archives or images, would only cost CPU time. Small contents are not compressed either,
+ * since the savings would not outweigh the overhead.
+ */
+@Slf4j
+@Component
+public class FileCompressionPolicy {
+
+    private final boolean enabled;
+
+    private final long minSize;
+
+    private final List<MimeType> mimeTypes;
+
+    public FileCompressionPolicy(@Value("${org.planqk.atlas.files.compression.enabled}") boolean enabled,
+                                 @Value("${org.planqk.atlas.files.compression.min-size}") long minSize,
+                                 @Value("${org.planqk.atlas.files.compression.mime-types}") String[] mimeTypes) {
+        this.enabled = enabled;
+        this.minSize = minSize;
+        this.mimeTypes = Arrays.stream(mimeTypes)
+                .filter(StringUtils::hasText)
+                .map(String::trim)
+                .map(MimeTypeUtils::parseMimeType)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Selects the compression of a content.
+     *
+     * @param mimeType the MIME type of the content, may be null if it is unknown
+     * @param size     the length of the content in bytes
+     * @return the compression to store the content with
+     */
+    public FileCompression select(String mimeType, long size) {
+        if (!enabled || size < minSize || !StringUtils.hasText(mimeType)) {
+            return FileCompression.NONE;
+        }
+        try {
+            final MimeType contentType = MimeTypeUtils.parseMimeType(mimeType);
+            return mimeTypes.stream().anyMatch(type -> type.includes(contentType)) ? FileCompression.DEFLATE : FileCompression.NONE;
+        } catch (IllegalArgumentException e) {
+            log.debug("Not compressing content with invalid MIME type {}", mimeType);
+            return FileCompression.NONE;
+        }
+    }
+}
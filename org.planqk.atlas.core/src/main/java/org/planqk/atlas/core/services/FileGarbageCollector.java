@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.planqk.atlas.core.repository.FileRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes files that are no longer linked to an implementation package or a solution, together with their content.
+ * <p>
+ * The collection marks a batch of unreferenced files and sweeps each of them in its own transaction, after checking
+ * again that it is still unreferenced. Files created within the grace period are spared, since the transaction creating
+ * them may not have linked them yet. The files are paged through by their IDs, so files that can not be deleted do not
+ * keep the collection from getting past them. The collection pauses between batches and stops after a maximum number
+ * of files, so it never keeps the database busy for long; the next run continues after the last file of this run.
+ */
+@Slf4j
+@Component
+public class FileGarbageCollector implements MeterBinder {
+
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    private final FileRepository fileRepository;
+
+    private final FileService fileService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final long gracePeriodMinutes;
+
+    private final int batchSize;
+
+    private final int maxFilesPerRun;
+
+    private final long pauseMillis;
+
+    private final AtomicLong deletedFiles = new AtomicLong();
+
+    private final AtomicLong reclaimedBytes = new AtomicLong();
+
+    // the ID of the last file of the previous run that stopped before all files were processed
+    private volatile UUID resumeAfter = FIRST_ID;
+
+    public FileGarbageCollector(FileRepository fileRepository, FileService fileService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${org.planqk.atlas.files.gc.grace-period-minutes}") long gracePeriodMinutes,
+                                @Value("${org.planqk.atlas.files.gc.batch-size}") int batchSize,
+                                @Value("${org.planqk.atlas.files.gc.max-files-per-run}") int maxFilesPerRun,
+                                @Value("${org.planqk.atlas.files.gc.pause-millis}") long pauseMillis) {
+        this.fileRepository = fileRepository;
+        this.fileService = fileService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.gracePeriodMinutes = gracePeriodMinutes;
+        this.batchSize = batchSize;
+        this.maxFilesPerRun = maxFilesPerRun;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("atlas.files.gc.deleted", deletedFiles, AtomicLong::get)
+                .description("Number of unreferenced files deleted by the garbage collection")
+                .register(registry);
+        FunctionCounter.builder("atlas.files.gc.reclaimed", reclaimedBytes, AtomicLong::get)
+                .description("Space freed by the garbage collection of unreferenced files")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+
+    @Scheduled(cron = "${org.planqk.atlas.files.gc.cron}")
+    public void collectScheduled() {
+        final long reclaimed = collect();
+        if (reclaimed > 0) {
+            log.info("Garbage collection of unreferenced files freed {} bytes", reclaimed);
+        }
+    }
+
+    /**
+     * Deletes unreferenced files that were created before the grace period.
+     *
+     * @return the number of bytes freed
+     */
+    public long collect() {
+        final Date createdBefore = new Date(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(gracePeriodMinutes));
+        long reclaimed = 0;
+        int processed = 0;
+        UUID after = resumeAfter;
+        while (processed < maxFilesPerRun) {
+            final int limit = Math.min(batchSize, maxFilesPerRun - processed);
+            final List<UUID> fileIds = fileRepository.findUnreferencedIds(after, createdBefore, PageRequest.of(0, limit));
+            for (UUID fileId : fileIds) {
+                try {
+                    final Long freed = transactionTemplate.execute(status -> sweep(fileId));
+                    if (freed != null) {
+                        deletedFiles.incrementAndGet();
+                        reclaimedBytes.addAndGet(freed);
+                        reclaimed += freed;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Could not delete unreferenced file with ID \"{}\"", fileId, e);
+                }
+            }
+            processed += fileIds.size();
+            if (fileIds.size() < limit) {
+                // all files were processed, the next run starts from the beginning again
+                after = FIRST_ID;
+                break;
+            }
+            after = fileIds.get(fileIds.size() - 1);
+            if (processed >= maxFilesPerRun || !pause()) {
+                break;
+            }
+        }
+        resumeAfter = after;
+        return reclaimed;
+    }
+
+    private Long sweep(UUID fileId) {
+        if (fileRepository.countUnreferencedById(fileId) == 0) {
+            return null;
+        }
+        return fileService.purge(fileId);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -19,9 +19,11 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.File;
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface FileService {
@@ -32,5 +34,40 @@ public interface FileService {
 
     void delete(UUID id);
 
-    byte[] getFileContent(UUID id);
+    /**
+     * Deletes the {@link File} with the given ID like {@link #delete(UUID)} and reports the space freed in the storage.
+     * <p>
+     * A content shared with other files (see {@link org.planqk.atlas.core.model.FileBlob}) is kept, so deleting one of
+     * these files frees nothing.
+     *
+     * @param id The ID of the {@link File}
+     * @return The number of bytes freed in the storage
+     */
+    long purge(UUID id);
+
+    /**
+     * Returns the content of the {@link File} with the given ID.
+     * <p>
+     * The content is read from the storage when the stream of the returned resource is opened, it is never loaded into
+     * memory as a whole. The resource can be opened multiple times, e.g. to serve HTTP range requests.
+     * <p>
+     * If there is no {@link File} with the given ID or its content is missing in the storage a {@link
+     * java.util.NoSuchElementException} is thrown.
+     *
+     * @param id The ID of the {@link File}
+     * @return The content of the {@link File}
+     */
+    Resource getFileContent(UUID id);
+
+    /**
+     * Returns the content of the {@link File} with the given ID encoded with gzip, if the storage keeps the content
+     * compressed, so it can be served to clients accepting gzip without compressing it again.
+     * <p>
+     * Like {@link #getFileContent(UUID)} the content is read from the storage when the stream of the returned resource
+     * is opened.
+     *
+     * @param id The ID of the {@link File}
+     * @return The gzip encoded content or an empty optional if the content is not stored compressed
+     */
+    Optional<Resource> getGzipFileContent(UUID id);
 }
@@ -20,19 +20,30 @@
 package org.planqk.atlas.core.services;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.Date;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.planqk.atlas.core.exceptions.CloudStorageException;
 import org.planqk.atlas.core.model.File;
 import org.planqk.atlas.core.repository.FileRepository;
+import org.planqk.atlas.core.util.ContentDigests;
+import org.planqk.atlas.core.util.FileContentResource;
 import org.planqk.atlas.core.util.ServiceUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
@@ -41,16 +52,34 @@ import com.google.cloud.storage.StorageException;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Stores the contents of files in a Google Cloud Storage bucket.
+ * <p>
+ * Uploads up to the upload chunk size are stored with a single request. Larger uploads are streamed to a resumable
+ * upload session chunk by chunk, so only a single chunk is held in memory and a failed request only has to repeat the
+ * current chunk. Downloads are streamed from the bucket in chunks of the download chunk size, skipping parts of the
+ * content, e.g. for range requests, moves the read position without downloading the skipped bytes.
+ */
 @Service
 @Profile("google-cloud")
 @RequiredArgsConstructor
 public class FileServiceCloudStorageImpl implements FileService {
 
+    // the amount of bytes read from the upload at once, the channel collects them until a chunk is complete
+    private static final int UPLOAD_BUFFER_SIZE = 64 * 1024;
+
     private final Storage storage;
 
     @Value("${cloud.storage.implementation-files-bucket-name}")
     private String implementationFilesBucketName;
 
+    // must be a multiple of 256 KiB
+    @Value("${cloud.storage.upload-chunk-size}")
+    private int uploadChunkSize;
+
+    @Value("${cloud.storage.download-chunk-size}")
+    private int downloadChunkSize;
+
     private final FileRepository fileRepository;
 
     @Override
@@ -58,11 +87,20 @@ public class FileServiceCloudStorageImpl implements FileService {
         try {
             final BlobId blobId = BlobId.of(implementationFilesBucketName, file.getOriginalFilename());
             final BlobInfo blobInfo = BlobInfo.newBuilder(blobId).setContentType(file.getContentType()).build();
-            final Blob blob = storage.create(blobInfo, file.getBytes());
-            final File implementationFile = getFileFromBlob(blob);
+            final MessageDigest digest = ContentDigests.newDigest();
+            if (file.getSize() <= uploadChunkSize) {
+                final byte[] content = file.getBytes();
+                digest.update(content);
+                storage.create(blobInfo, content);
+            } else {
+                upload(file, blobInfo, digest);
+            }
+            final File implementationFile = getFileFromBlobInfo(blobInfo);
 
             // set the name to the original file, as the name from the blob includes the implementationId
             implementationFile.setName(file.getOriginalFilename());
+            implementationFile.setSize(file.getSize());
+            implementationFile.setDigest(ContentDigests.toHex(digest));
 
             // check if file already exists. If so set the Id to avoid duplicates in DB
             fileRepository.findByFileURL(implementationFile.getFileURL())
@@ -82,7 +120,7 @@ public class FileServiceCloudStorageImpl implements FileService {
     }
 
     @Override
-    public byte[] getFileContent(UUID id) {
+    public Resource getFileContent(UUID id) {
         final File file = ServiceUtils.findById(id, File.class, fileRepository);
         try {
             final BlobId blobId = BlobId.of(implementationFilesBucketName, file.getFileURL());
@@ -90,31 +128,125 @@ public class FileServiceCloudStorageImpl implements FileService {
             if (blob == null) {
                 throw new NoSuchElementException("File with URL \"" + file.getFileURL() + "\" does not exist");
             }
-            return blob.getContent();
+            // pin the generation, so all reads of the resource return the same content even if the blob is replaced
+            final BlobId generationId = BlobId.of(blobId.getBucket(), blobId.getName(), blob.getGeneration());
+            final Long size = blob.getSize();
+            return new FileContentResource(file, size, () -> {
+                final ReadChannel reader = storage.reader(generationId);
+                reader.setChunkSize(downloadChunkSize);
+                return new ReadChannelInputStream(reader, size);
+            });
         } catch (StorageException e) {
             throw new CloudStorageException("Could not get file from storage");
         }
     }
 
+    @Override
+    public Optional<Resource> getGzipFileContent(UUID id) {
+        // blobs are stored as uploaded
+        return Optional.empty();
+    }
+
     @Override
     public void delete(UUID id) {
+        purge(id);
+    }
+
+    @Override
+    public long purge(UUID id) {
         final File storedEntity = this.findById(id);
         final BlobId blobId = BlobId.of(implementationFilesBucketName, storedEntity.getFileURL());
         try {
-            storage.delete(blobId);
+            final boolean deleted = storage.delete(blobId);
             this.fileRepository.delete(storedEntity);
+            return deleted && storedEntity.getSize() != null ? storedEntity.getSize() : 0;
         } catch (StorageException e) {
             throw new CloudStorageException("Could not delete file from storage");
         }
     }
 
-    private File getFileFromBlob(Blob blob) {
+    /**
+     * Streams the content to a resumable upload session, the upload is completed when the channel is closed.
+     */
+    private void upload(MultipartFile file, BlobInfo blobInfo, MessageDigest digest) throws IOException {
+        try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest);
+             WriteChannel writer = storage.writer(blobInfo)) {
+            writer.setChunkSize(uploadChunkSize);
+            final byte[] buffer = new byte[UPLOAD_BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.readNBytes(buffer, 0, buffer.length)) > 0) {
+                final ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    writer.write(chunk);
+                }
+            }
+        }
+    }
+
+    private File getFileFromBlobInfo(BlobInfo blobInfo) {
+        final Date now = new Date();
         final File file = new File();
-        file.setName(blob.getName());
-        file.setMimeType(blob.getContentType());
-        file.setFileURL(blob.getName());
-        file.setCreationDate(new Date(blob.getCreateTime()));
-        file.setLastModifiedAt(new Date(blob.getUpdateTime()));
+        file.setName(blobInfo.getName());
+        file.setMimeType(blobInfo.getContentType());
+        file.setFileURL(blobInfo.getName());
+        file.setCreationDate(now);
+        file.setLastModifiedAt(now);
         return file;
     }
+
+    /**
+     * Stream of a blob that skips by moving the read position of the channel instead of reading the skipped bytes.
+     */
+    private static class ReadChannelInputStream extends InputStream {
+
+        private final ReadChannel reader;
+
+        private final InputStream inputStream;
+
+        private final Long size;
+
+        private long position;
+
+        ReadChannelInputStream(ReadChannel reader, Long size) {
+            this.reader = reader;
+            this.inputStream = Channels.newInputStream(reader);
+            this.size = size;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int value = inputStream.read();
+            if (value >= 0) {
+                position++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            final int count = inputStream.read(bytes, offset, length);
+            if (count > 0) {
+                position += count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            if (size == null) {
+                return super.skip(n);
+            }
+            final long skipped = Math.max(0, Math.min(n, size - position));
+            if (skipped > 0) {
+                position += skipped;
+                reader.seek(position);
+            }
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            inputStream.close();
+        }
+    }
 }
@@ -19,17 +19,42 @@
 
 package org.planqk.atlas.core.services;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.net.URLConnection;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import javax.persistence.EntityManager;
 
 import org.planqk.atlas.core.model.File;
+import org.planqk.atlas.core.model.FileBlob;
+import org.planqk.atlas.core.model.FileChunk;
+import org.planqk.atlas.core.model.FileCompression;
 import org.planqk.atlas.core.model.FileData;
+import org.planqk.atlas.core.repository.FileBlobRepository;
+import org.planqk.atlas.core.repository.FileChunkRepository;
 import org.planqk.atlas.core.repository.FileDataRepository;
 import org.planqk.atlas.core.repository.FileRepository;
+import org.planqk.atlas.core.util.ChunkedContent;
+import org.planqk.atlas.core.util.Constants;
+import org.planqk.atlas.core.util.ContentDigests;
+import org.planqk.atlas.core.util.DeflatedChunks;
+import org.planqk.atlas.core.util.FileContentResource;
 import org.planqk.atlas.core.util.ServiceUtils;
+import org.planqk.atlas.core.util.SlicedInputStream;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -37,9 +62,26 @@ import org.springframework.web.multipart.MultipartFile;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Stores the contents of files in the database.
+ * <p>
+ * The contents are split into {@link FileChunk}s, which are written one after the other while the upload is read and
+ * read one after the other while the content is streamed, so neither needs more memory than a single chunk. Contents
+ * stored as a single {@link FileData} row before chunks were introduced can still be read and deleted.
+ * <p>
+ * The SHA-256 digest of the content is computed while the upload is read. If a {@link FileBlob} with the same digest
+ * already exists, the chunks just written are dropped and the new file references the existing blob instead. The
+ * upload is only read once, since it may be a spooled upload reporting its progress, so the content of a duplicate is
+ * written before it is dropped again. The digest is locked from the lookup until the end of the transaction, so of two
+ * concurrent uploads of a new content the second one references the blob stored by the first one.
+ * <p>
+ * Contents selected by the {@link FileCompressionPolicy} are stored compressed. Each chunk is compressed on its own
+ * (see {@link DeflatedChunks}), so it is decompressed while it is read and range reads still only read the chunks in
+ * the range. The compressed chunks can also be served as gzip as they are stored.
+ */
 @Slf4j
 @Service
-@Profile("!google-cloud")
+@Profile("!google-cloud & !local-storage")
 @AllArgsConstructor
 public class FileServiceImpl implements FileService {
 
@@ -47,36 +89,78 @@ public class FileServiceImpl implements FileService {
 
     private final FileDataRepository fileDataRepository;
 
-    @Override
-    public File create(MultipartFile file) {
-        final InputStream inputStream;
-        try {
-            inputStream = file.getInputStream();
+    private final FileChunkRepository fileChunkRepository;
 
-            final File createdFile = new File();
-            createdFile.setName(file.getOriginalFilename());
+    private final FileBlobRepository fileBlobRepository;
 
-            var contentType = file.getContentType();
+    private final EntityManager entityManager;
 
-            if (contentType == null) {
-                contentType = URLConnection.guessContentTypeFromName(file.getOriginalFilename());
-            }
+    private final FileCompressionPolicy compressionPolicy;
 
-            createdFile.setMimeType(contentType);
-            createdFile.setFileURL(UUID.randomUUID().toString());
+    @Override
+    @Transactional
+    public File create(MultipartFile file) {
+        final File createdFile = new File();
+        createdFile.setName(file.getOriginalFilename());
 
-            final FileData fileData = new FileData();
-            fileData.setData(inputStream.readAllBytes());
-            fileData.setFile(createdFile);
+        var contentType = file.getContentType();
 
-            final File savedFile = fileRepository.save(createdFile);
-            fileDataRepository.save(fileData);
-            return savedFile;
+        if (contentType == null) {
+            contentType = URLConnection.guessContentTypeFromName(file.getOriginalFilename());
+        }
+
+        createdFile.setMimeType(contentType);
+        createdFile.setFileURL(UUID.randomUUID().toString());
+        // the garbage collection spares recent files, since they may not be linked yet
+        createdFile.setCreationDate(new Date());
+
+        final File savedFile = fileRepository.save(createdFile);
+        final FileBlob pendingBlob = new FileBlob();
+        pendingBlob.setCompression(compressionPolicy.select(contentType, file.getSize()));
+        fileBlobRepository.save(pendingBlob);
+        final boolean compress = pendingBlob.getCompression() == FileCompression.DEFLATE;
+        final MessageDigest digest = ContentDigests.newDigest();
+        final CRC32 crc32 = new CRC32();
+        final long[] storedSize = {0};
+        try (InputStream inputStream = new CheckedInputStream(new DigestInputStream(file.getInputStream(), digest), crc32)) {
+            final long size = ChunkedContent.split(inputStream, Constants.FILE_CHUNK_SIZE, (index, data) -> {
+                final FileChunk chunk = new FileChunk(pendingBlob, index, compress ? DeflatedChunks.deflate(data) : data);
+                storedSize[0] += chunk.getData().length;
+                entityManager.persist(chunk);
+                // write the chunk right away and forget it, so only the current chunk is kept in memory
+                entityManager.flush();
+                entityManager.detach(chunk);
+            });
+            savedFile.setSize(size);
         } catch (IOException e) {
-            e.printStackTrace();
+            throw new IllegalArgumentException("Cannot read contents of multipart file", e);
+        }
+        pendingBlob.setStoredSize(storedSize[0]);
+        pendingBlob.setCrc32(compress ? crc32.getValue() : null);
+        if (compress) {
+            log.debug("Stored {} bytes of file {} compressed as {} bytes", savedFile.getSize(), savedFile.getId(), storedSize[0]);
         }
+        savedFile.setDigest(ContentDigests.toHex(digest));
+        savedFile.setBlob(storeBlob(pendingBlob, savedFile.getDigest(), savedFile.getSize()));
+        return savedFile;
+    }
 
-        return null;
+    /**
+     * Adds a reference to the blob with the given digest if it already exists and drops the pending blob, otherwise the
+     * pending blob is completed and becomes the blob for this digest.
+     */
+    private FileBlob storeBlob(FileBlob pendingBlob, String digest, long size) {
+        fileBlobRepository.lockDigest(digest);
+        final Optional<FileBlob> existingBlob = fileBlobRepository.findByDigest(digest);
+        if (existingBlob.isPresent() && fileBlobRepository.incrementReferenceCount(existingBlob.get().getId()) == 1) {
+            fileChunkRepository.deleteByBlobId(pendingBlob.getId());
+            fileBlobRepository.delete(pendingBlob);
+            return existingBlob.get();
+        }
+        pendingBlob.setDigest(digest);
+        pendingBlob.setSize(size);
+        pendingBlob.setReferenceCount(1);
+        return pendingBlob;
     }
 
     @Override
@@ -87,16 +171,145 @@ public class FileServiceImpl implements FileService {
     @Override
     @Transactional
     public void delete(UUID id) {
+        purge(id);
+    }
+
+    @Override
+    @Transactional
+    public long purge(UUID id) {
         final File file = findById(id);
+        final FileBlob blob = file.getBlob();
+        long reclaimed = 0;
         final var fileData = fileDataRepository.findByFile(file);
-        fileDataRepository.delete(fileData);
+        if (fileData != null) {
+            reclaimed += fileData.getData() != null ? fileData.getData().length : 0;
+            fileDataRepository.delete(fileData);
+        }
         fileRepository.delete(file);
+        if (blob != null) {
+            reclaimed += releaseBlob(blob.getId());
+        }
+        return reclaimed;
+    }
+
+    /**
+     * Removes a reference to the blob and deletes the blob once the last reference is gone. The blob itself is removed
+     * through the persistence context, so it is deleted after the file referencing it.
+     *
+     * @return the number of stored bytes of the blob if it was deleted, zero otherwise
+     */
+    private long releaseBlob(UUID blobId) {
+        fileBlobRepository.decrementReferenceCount(blobId);
+        if (fileBlobRepository.findReferenceCount(blobId) == 0) {
+            final long storedSize = fileBlobRepository.findById(blobId).map(FileBlob::getStoredSize).orElse(0L);
+            fileChunkRepository.deleteByBlobId(blobId);
+            fileBlobRepository.deleteById(blobId);
+            return storedSize;
+        }
+        return 0;
     }
 
     @Override
-    public byte[] getFileContent(UUID id) {
+    public Resource getFileContent(UUID id) {
         final File file = findById(id);
-        final FileData fileData = fileDataRepository.findByFile(file);
-        return fileData.getData();
+        final Long legacyLength = fileDataRepository.findContentLength(file.getId());
+        if (legacyLength != null) {
+            return new FileContentResource(file, legacyLength, () -> new SlicedInputStream(
+                    (offset, count) -> readLegacySlice(file.getId(), offset, count), legacyLength, Constants.FILE_CONTENT_SLICE_SIZE));
+        }
+        if (file.getBlob() == null || file.getSize() == null) {
+            throw new NoSuchElementException("Content of file with ID \"" + id + "\" does not exist");
+        }
+        final FileBlob blob = findBlob(file);
+        final long length = file.getSize();
+        final boolean compressed = blob.getCompression() == FileCompression.DEFLATE;
+        return new FileContentResource(file, length, () -> new SlicedInputStream((offset, count) -> {
+            final int chunkIndex = (int) (offset / Constants.FILE_CHUNK_SIZE);
+            final byte[] data = readChunk(blob.getId(), chunkIndex);
+            final byte[] chunk = compressed ? DeflatedChunks.inflate(data, chunkLength(length, chunkIndex)) : data;
+            return ChunkedContent.sliceFrom(chunk, offset, Constants.FILE_CHUNK_SIZE);
+        }, length, Constants.FILE_CHUNK_SIZE));
+    }
+
+    @Override
+    public Optional<Resource> getGzipFileContent(UUID id) {
+        final File file = findById(id);
+        if (file.getBlob() == null || file.getSize() == null) {
+            return Optional.empty();
+        }
+        final FileBlob blob = findBlob(file);
+        if (blob.getCompression() != FileCompression.DEFLATE || blob.getCrc32() == null) {
+            return Optional.empty();
+        }
+        final int chunkCount = (int) ((blob.getSize() + Constants.FILE_CHUNK_SIZE - 1) / Constants.FILE_CHUNK_SIZE);
+        return Optional.of(new FileContentResource(file, DeflatedChunks.gzipLength(blob.getStoredSize()), () -> {
+            // the stored chunks are read one after the other while the stream is consumed
+            final Enumeration<InputStream> parts = Collections.enumeration(List.of(
+                    DeflatedChunks.gzipHeader(),
+                    new SequenceInputStream(new ChunkEnumeration(blob.getId(), chunkCount)),
+                    DeflatedChunks.gzipTrailer(blob.getCrc32(), blob.getSize())));
+            return new SequenceInputStream(parts);
+        }));
+    }
+
+    private FileBlob findBlob(File file) {
+        return fileBlobRepository.findById(file.getBlob().getId()).orElseThrow(() ->
+                new NoSuchElementException("Content of file with ID \"" + file.getId() + "\" does not exist"));
+    }
+
+    private static int chunkLength(long contentLength, int chunkIndex) {
+        return (int) Math.min(Constants.FILE_CHUNK_SIZE, contentLength - (long) chunkIndex * Constants.FILE_CHUNK_SIZE);
+    }
+
+    /**
+     * Reads the chunk with the given index of the content as stored. Only the data is queried, so the chunk is not
+     * kept in the persistence context.
+     */
+    private byte[] readChunk(UUID blobId, int chunkIndex) {
+        return entityManager.createQuery("SELECT c.data FROM FileChunk c WHERE c.blob.id = :blobId AND c.chunkIndex = :chunkIndex", byte[].class)
+                .setParameter("blobId", blobId)
+                .setParameter("chunkIndex", chunkIndex)
+                .getSingleResult();
+    }
+
+    /**
+     * Reads a part of a content stored as a single {@link FileData} row without loading the whole content.
+     */
+    private byte[] readLegacySlice(UUID fileId, long offset, int count) {
+        return (byte[]) entityManager.createNativeQuery("SELECT substring(data FROM :offset FOR :count) FROM file_data WHERE file_id = :fileId")
+                .setParameter("offset", offset + 1)
+                .setParameter("count", count)
+                .setParameter("fileId", fileId)
+                .getSingleResult();
+    }
+
+    /**
+     * Reads the stored chunks of a content lazily, one chunk per element.
+     */
+    private class ChunkEnumeration implements Enumeration<InputStream> {
+
+        private final UUID blobId;
+
+        private final int chunkCount;
+
+        private int chunkIndex;
+
+        ChunkEnumeration(UUID blobId, int chunkCount) {
+            this.blobId = blobId;
+            this.chunkCount = chunkCount;
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            return chunkIndex < chunkCount;
+        }
+
+        @Override
+        public InputStream nextElement() {
+            if (!hasMoreElements()) {
+                throw new NoSuchElementException();
+            }
+            return new ByteArrayInputStream(readChunk(blobId, chunkIndex++));
+        }
     }
 }
@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Date;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.planqk.atlas.core.exceptions.LocalStorageException;
+import org.planqk.atlas.core.model.File;
+import org.planqk.atlas.core.repository.FileRepository;
+import org.planqk.atlas.core.util.Constants;
+import org.planqk.atlas.core.util.ContentDigests;
+import org.planqk.atlas.core.util.LocalFileContentResource;
+import org.planqk.atlas.core.util.ServiceUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stores the contents of files on a local or network file system, so they are neither kept in the database nor in the
+ * heap.
+ * <p>
+ * The content of a file is stored in a file named by the ID of the {@link File}, in two levels of directories named by
+ * the first characters of the ID, so no directory gets too large. An upload is written to a temporary file first,
+ * which is renamed to its final name when the transaction creating the {@link File} commits, so the content of a file
+ * is either complete or not there at all. The size and the SHA-256 digest of the content are computed while the upload
+ * is copied and stored with the {@link File}. Both are verified against the temporary file before it is renamed, and
+ * the size is checked whenever the content is read.
+ */
+@Slf4j
+@Service
+@Profile("local-storage")
+@RequiredArgsConstructor
+public class FileServiceLocalStorageImpl implements FileService {
+
+    private static final String TEMPORARY_DIRECTORY = ".tmp";
+
+    private final FileRepository fileRepository;
+
+    @Value("${local.storage.directory}")
+    private String storageDirectory;
+
+    @Override
+    @Transactional
+    public File create(MultipartFile file) {
+        final File createdFile = new File();
+        createdFile.setName(file.getOriginalFilename());
+
+        var contentType = file.getContentType();
+
+        if (contentType == null) {
+            contentType = URLConnection.guessContentTypeFromName(file.getOriginalFilename());
+        }
+
+        createdFile.setMimeType(contentType);
+        // the garbage collection spares recent files, since they may not be linked yet
+        createdFile.setCreationDate(new Date());
+        // the ID is needed for the path, so the URL is set after the file has been saved
+        createdFile.setFileURL(UUID.randomUUID().toString());
+
+        final File savedFile = fileRepository.save(createdFile);
+        final Path relativePath = relativePath(savedFile.getId());
+        savedFile.setFileURL(relativePath.toString());
+
+        final Path temporaryFile = writeTemporaryFile(file, savedFile);
+        final Path contentFile = root().resolve(relativePath);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    verifyTemporaryFile(temporaryFile, savedFile);
+                    moveAtomically(temporaryFile, contentFile);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    deleteQuietly(temporaryFile);
+                    if (status == TransactionSynchronization.STATUS_ROLLED_BACK) {
+                        deleteQuietly(contentFile);
+                    }
+                }
+            });
+        } else {
+            verifyTemporaryFile(temporaryFile, savedFile);
+            moveAtomically(temporaryFile, contentFile);
+        }
+        return savedFile;
+    }
+
+    @Override
+    public File findById(UUID fileId) {
+        return ServiceUtils.findById(fileId, File.class, fileRepository);
+    }
+
+    @Override
+    @Transactional
+    public void delete(UUID id) {
+        purge(id);
+    }
+
+    @Override
+    @Transactional
+    public long purge(UUID id) {
+        final File file = findById(id);
+        final Path contentFile = root().resolve(relativePath(file.getId()));
+        fileRepository.delete(file);
+        // the content is removed once the file is gone for sure, a content without file can be collected later
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    deleteQuietly(contentFile);
+                }
+            });
+        } else {
+            deleteQuietly(contentFile);
+        }
+        return file.getSize() != null ? file.getSize() : 0;
+    }
+
+    @Override
+    public Resource getFileContent(UUID id) {
+        final File file = findById(id);
+        final Path contentFile = root().resolve(relativePath(file.getId()));
+        if (!Files.isRegularFile(contentFile)) {
+            throw new NoSuchElementException("Content of file with ID \"" + id + "\" does not exist");
+        }
+        try {
+            final long size = Files.size(contentFile);
+            if (file.getSize() != null && file.getSize() != size) {
+                throw new LocalStorageException("Content of file with ID \"" + id + "\" has " + size + " bytes instead of "
+                        + file.getSize());
+            }
+        } catch (IOException e) {
+            throw new LocalStorageException("Could not read content of file with ID \"" + id + "\"", e);
+        }
+        return new LocalFileContentResource(file, contentFile);
+    }
+
+    @Override
+    public Optional<Resource> getGzipFileContent(UUID id) {
+        // contents are stored uncompressed, so they can be sent with sendfile
+        return Optional.empty();
+    }
+
+    /**
+     * Writes the upload to a new temporary file and records its size and digest in the given {@link File}.
+     */
+    private Path writeTemporaryFile(MultipartFile file, File savedFile) {
+        final MessageDigest digest = ContentDigests.newDigest();
+        Path temporaryFile = null;
+        try {
+            final Path temporaryDirectory = Files.createDirectories(root().resolve(TEMPORARY_DIRECTORY));
+            temporaryFile = temporaryDirectory.resolve(savedFile.getId() + "-" + UUID.randomUUID());
+            try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(file.getInputStream(), digest));
+                 FileChannel target = FileChannel.open(temporaryFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = target.transferFrom(source, position, Constants.FILE_TRANSFER_SIZE)) > 0) {
+                    position += transferred;
+                }
+                // make sure the content is on the disk before the file is committed
+                target.force(true);
+                savedFile.setSize(position);
+            }
+        } catch (IOException e) {
+            if (temporaryFile != null) {
+                deleteQuietly(temporaryFile);
+            }
+            throw new LocalStorageException("Could not write content of multipart file", e);
+        }
+        savedFile.setDigest(ContentDigests.toHex(digest));
+        return temporaryFile;
+    }
+
+    /**
+     * Reads the temporary file again and checks that it still has the size and digest recorded in the given {@link
+     * File}, so a content that was changed or damaged on the disk is never committed.
+     */
+    private void verifyTemporaryFile(Path temporaryFile, File savedFile) {
+        final MessageDigest digest = ContentDigests.newDigest();
+        final long size;
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(temporaryFile), digest)) {
+            size = inputStream.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new LocalStorageException("Could not verify content of file with ID \"" + savedFile.getId() + "\"", e);
+        }
+        if (size != savedFile.getSize() || !ContentDigests.toHex(digest).equals(savedFile.getDigest())) {
+            throw new LocalStorageException("Content of file with ID \"" + savedFile.getId() + "\" does not match its size and digest");
+        }
+    }
+
+    private void moveAtomically(Path source, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new LocalStorageException("Could not store content at \"" + target + "\"", e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete \"{}\"", path, e);
+        }
+    }
+
+    private Path root() {
+        return Paths.get(storageDirectory);
+    }
+
+    private static Path relativePath(UUID fileId) {
+        final String id = fileId.toString();
+        return Paths.get(id.substring(0, 2), id.substring(2, 4), id);
+    }
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import org.planqk.atlas.core.repository.FileBlobRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+
+/**
+ * Publishes the size of the file contents stored in the database, before and after compression.
+ * <p>
+ * The difference of both gauges is the space saved by compression, contents shared by several files (see {@link
+ * org.planqk.atlas.core.model.FileBlob}) are counted once.
+ */
+@Component
+@Profile("!google-cloud & !local-storage")
+@AllArgsConstructor
+public class FileStorageMetrics implements MeterBinder {
+
+    private final FileBlobRepository fileBlobRepository;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("atlas.files.content.size", fileBlobRepository, FileBlobRepository::sumContentSize)
+                .description("Size of the stored file contents")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        Gauge.builder("atlas.files.stored.size", fileBlobRepository, FileBlobRepository::sumStoredSize)
+                .description("Size of the stored file contents after compression")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+}
@@ -19,6 +19,7 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.File;
@@ -97,6 +98,17 @@ public interface ImplementationPackageService {
 
     Page<ImplementationPackage> findImplementationPackagesByImplementationId(UUID implementationId, Pageable pageable);
 
+    /**
+     * Retrieve all {@link ImplementationPackage}s of an {@link Implementation} together with their {@link File}s, ordered
+     * by name.
+     * <p>
+     * If the {@link Implementation} does not exist a {@link java.util.NoSuchElementException} is thrown.
+     *
+     * @param implementationId The ID of the {@link Implementation} we want to find the packages of
+     * @return The list of {@link ImplementationPackage}s with their {@link File}s loaded
+     */
+    List<ImplementationPackage> findAllWithFilesByImplementationId(UUID implementationId);
+
     void checkIfImplementationPackageIsLinkedToImplementation(UUID packageId, UUID implementationId);
 
     /**
@@ -19,6 +19,7 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 import javax.transaction.Transactional;
@@ -79,11 +80,18 @@ public class ImplementationPackageServiceImpl implements ImplementationPackageSe
     @Override
     @Transactional
     public void delete(UUID implementationPackageId) {
-        // final ImplementationPackage implementationPackage = findById(implementationPackageId);
+        final ImplementationPackage implementationPackage = findById(implementationPackageId);
+        final File file = implementationPackage.getFile();
 
-        // removeReferences(implementationPackage);
+        // the package refers to the file through the join table, so it is deleted before the file
+        implementationPackage.setFile(null);
+        implementationPackageRepository.delete(implementationPackage);
+        implementationPackageRepository.flush();
 
-        implementationPackageRepository.deleteById(implementationPackageId);
+        // delete the file through the file service, so the reference to its content is released
+        if (file != null) {
+            fileService.delete(file.getId());
+        }
     }
 
     @Override
@@ -96,6 +104,12 @@ public class ImplementationPackageServiceImpl implements ImplementationPackageSe
         return implementationPackageRepository.findImplementationPackagesByImplementationId(implementationId, pageable);
     }
 
+    @Override
+    public List<ImplementationPackage> findAllWithFilesByImplementationId(@NonNull UUID implementationId) {
+        ServiceUtils.throwIfNotExists(implementationId, Implementation.class, implementationRepository);
+        return implementationPackageRepository.findAllWithFileByImplementationId(implementationId);
+    }
+
     @Override
     public void checkIfImplementationPackageIsLinkedToImplementation(UUID packageId, UUID implementationId) {
         final ImplementationPackage implementationPackage = findById(packageId);
@@ -20,14 +20,21 @@
 package org.planqk.atlas.core.services;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.Implementation;
 import org.planqk.atlas.core.model.Publication;
 import org.planqk.atlas.core.model.SoftwarePlatform;
+import org.planqk.atlas.core.util.PropertyChange;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.history.Revision;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -67,6 +74,18 @@ public interface ImplementationService {
      */
     Page<Implementation> findAll(Pageable pageable);
 
+    /**
+     * Passes all {@link Implementation} entries from the database to the given consumer, one after the other.
+     * <p>
+     * In contrast to {@link #findAll(Pageable)} with an unpaged {@link Pageable} the entries are fetched in chunks and
+     * detached after they were consumed, so the memory consumption does not depend on the amount of entries. The
+     * consumer is called within a read-only transaction and must not keep references to the passed entries.
+     *
+     * @param sort     The order in which the entries are passed to the consumer
+     * @param consumer The consumer the queried {@link Implementation} entries are passed to
+     */
+    void streamAll(Sort sort, Consumer<Implementation> consumer);
+
     /**
      * Find a database entry of a {@link Implementation} that is already saved in the database. This search is based on
      * the ID the database has given the {@link Implementation} object when it was created and first saved to the
@@ -79,6 +98,33 @@ public interface ImplementationService {
      */
     Implementation findById(UUID implementationId);
 
+    /**
+     * Find the database entries of multiple {@link Implementation}s based on the IDs the database has given them.
+     * <p>
+     * The found {@link Implementation}s are returned in the order of the given IDs. IDs without a database entry are skipped
+     * instead of throwing a {@link java.util.NoSuchElementException}, so the caller can report them.
+     *
+     * @param implementationIds The IDs of the {@link Implementation}s we want to find
+     * @return The found {@link Implementation}s in the order of the given IDs
+     */
+    List<Implementation> findAllById(Collection<UUID> implementationIds);
+
+    /**
+     * Find a database entry of a {@link Implementation} like {@link #findById(UUID)} and initialize the given lazy
+     * collections of it, so they can be accessed without further queries.
+     * <p>
+     * Each collection is loaded by a single query together with the associations of its elements, independent of the
+     * number of elements.
+     * <p>
+     * If there is no entry found in the database this method will throw a {@link java.util.NoSuchElementException}.
+     *
+     * @param implementationId The ID of the {@link Implementation} we want to find
+     * @param associations     The collections of the {@link Implementation} that should be initialized
+     * @return The {@link Implementation} with the given ID
+     */
+    @Transactional(readOnly = true)
+    Implementation findById(UUID implementationId, Set<Association> associations);
+
     /**
      * Update an existing {@link Implementation} database entry by saving the updated {@link Implementation} object to
      * the the database.
@@ -199,6 +245,71 @@ public interface ImplementationService {
      */
     Revision<Integer, Implementation> findImplementationRevision(UUID implementationId, Integer revisionNumber);
 
+    /**
+     * Retrieve the properties of an {@link Implementation} that changed from one revision to another.
+     * <p>
+     * Only the properties stored in the revisions are compared. If one of the revisions does not exist for the
+     * {@link Implementation} with the given ID a {@link java.util.NoSuchElementException} is thrown.
+     *
+     * @param implementationId The ID of the {@link Implementation}
+     * @param fromRevisionId The ID of the {@link Revision} to compare from
+     * @param toRevisionId The ID of the {@link Revision} to compare to
+     * @return The changed properties with their values in both revisions
+     */
+    List<PropertyChange> findImplementationRevisionChanges(UUID implementationId, Integer fromRevisionId, Integer toRevisionId);
+
+    /**
+     * Retrieve all {@link Implementation}s in the state they had at a given point in time.
+     * <p>
+     * The implementations are read from their revisions, all of them with a single query. Implementations created after
+     * the given point in time are not contained. The sort of the {@link Pageable} may only refer to properties stored in
+     * the revisions, otherwise an {@link IllegalArgumentException} is thrown.
+     *
+     * @param asOf The point in time
+     * @param pageable The page information, namely page size and page number, of the page we want to retrieve
+     * @return The page of implementations in the state at the given point in time
+     */
+    Page<Implementation> findAllAsOf(Date asOf, Pageable pageable);
+
+    /**
+     * Retrieve the {@link Implementation}s of an {@link Algorithm} in the state they had at a given point in time.
+     * <p>
+     * Only implementations that implemented the {@link Algorithm} at that point in time are returned. If the {@link
+     * Algorithm} with the given ID had no revision at that point in time a {@link java.util.NoSuchElementException} is
+     * thrown.
+     *
+     * @param algorithmId The ID of the {@link Algorithm}
+     * @param asOf The point in time
+     * @param pageable The page information, namely page size and page number, of the page we want to retrieve
+     * @return The page of implementations in the state at the given point in time
+     */
+    Page<Implementation> findByImplementedAlgorithmAsOf(UUID algorithmId, Date asOf, Pageable pageable);
+
+    /**
+     * Retrieve an {@link Implementation} in the state it had at a given point in time.
+     * <p>
+     * If the {@link Implementation} with the given ID had no revision at that point in time a {@link
+     * java.util.NoSuchElementException} is thrown.
+     *
+     * @param implementationId The ID of the {@link Implementation}
+     * @param asOf The point in time
+     * @return The {@link Implementation} in the state at the given point in time
+     */
+    Implementation findByIdAsOf(UUID implementationId, Date asOf);
+
+    /**
+     * Retrieve an {@link Implementation} of an {@link Algorithm} in the state it had at a given point in time.
+     * <p>
+     * If the {@link Implementation} with the given ID had no revision at that point in time or did not implement the
+     * {@link Algorithm} with the given ID at that point in time a {@link java.util.NoSuchElementException} is thrown.
+     *
+     * @param implementationId The ID of the {@link Implementation}
+     * @param algorithmId The ID of the {@link Algorithm}
+     * @param asOf The point in time
+     * @return The {@link Implementation} in the state at the given point in time
+     */
+    Implementation findByIdAndImplementedAlgorithmAsOf(UUID implementationId, UUID algorithmId, Date asOf);
+
     /**
      * Retrieve multiple {@link Implementation}s entries from the database which implement a given Pattern. If
      * no entries are found an empty page is returned.
@@ -215,4 +326,14 @@ public interface ImplementationService {
      */
     Page<Implementation> findByImplementedPatterns(String patternUri, Pageable pageable);
 
+
+    /**
+     * The lazy collections of an {@link Implementation} that can be initialized by {@link #findById(UUID, Set)}.
+     */
+    enum Association {
+        PUBLICATIONS,
+        TAGS,
+        COMPUTE_RESOURCE_PROPERTIES,
+        IMPLEMENTATION_PACKAGES
+    }
 }
@@ -20,14 +20,20 @@
 package org.planqk.atlas.core.services;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
 
+import org.hibernate.envers.query.AuditEntity;
 import org.planqk.atlas.core.model.Algorithm;
-import org.planqk.atlas.core.model.ClassicImplementation;
 import org.planqk.atlas.core.model.Implementation;
 import org.planqk.atlas.core.model.Publication;
-import org.planqk.atlas.core.model.QuantumImplementation;
 import org.planqk.atlas.core.model.SoftwarePlatform;
 import org.planqk.atlas.core.repository.AlgorithmRepository;
 import org.planqk.atlas.core.repository.ComputeResourcePropertyRepository;
@@ -35,13 +41,17 @@ import org.planqk.atlas.core.repository.FileRepository;
 import org.planqk.atlas.core.repository.ImplementationRepository;
 import org.planqk.atlas.core.repository.PublicationRepository;
 import org.planqk.atlas.core.repository.SoftwarePlatformRepository;
+import org.planqk.atlas.core.util.AsOfQueries;
 import org.planqk.atlas.core.util.CollectionUtils;
 import org.planqk.atlas.core.util.Constants;
+import org.planqk.atlas.core.util.PropertyChange;
+import org.planqk.atlas.core.util.RevisionDiffs;
+import org.planqk.atlas.core.util.RevisionQueries;
 import org.planqk.atlas.core.util.ServiceUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.history.Revision;
-import org.springframework.data.history.Revisions;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -68,6 +78,10 @@ public class ImplementationServiceImpl implements ImplementationService {
 
     private final FileService fileService;
 
+    private final RevisionRetention revisionRetention;
+
+    private final EntityManager entityManager;
+
     @Override
     @Transactional
     public Implementation create(@NonNull Implementation implementation, @NonNull UUID implementedAlgorithmId) {
@@ -83,11 +97,51 @@ public class ImplementationServiceImpl implements ImplementationService {
         return this.implementationRepository.findAll(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(@NonNull Sort sort, @NonNull Consumer<Implementation> consumer) {
+        try (Stream<Implementation> implementations = implementationRepository.streamAll(sort)) {
+            ServiceUtils.forEachDetached(implementations, entityManager, consumer);
+        }
+    }
+
     @Override
     public Implementation findById(@NonNull UUID implementationId) {
         return ServiceUtils.findById(implementationId, Implementation.class, implementationRepository);
     }
 
+    @Override
+    public List<Implementation> findAllById(@NonNull Collection<UUID> implementationIds) {
+        return ServiceUtils.findAllById(implementationIds, implementationRepository);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Implementation findById(@NonNull UUID implementationId, @NonNull Set<Association> associations) {
+        final Implementation implementation = findById(implementationId);
+        associations.forEach(association -> fetch(implementationId, association));
+        return implementation;
+    }
+
+    private void fetch(UUID implementationId, Association association) {
+        switch (association) {
+            case PUBLICATIONS:
+                implementationRepository.fetchPublications(implementationId);
+                break;
+            case TAGS:
+                implementationRepository.fetchTags(implementationId);
+                break;
+            case COMPUTE_RESOURCE_PROPERTIES:
+                implementationRepository.fetchComputeResourceProperties(implementationId);
+                break;
+            case IMPLEMENTATION_PACKAGES:
+                implementationRepository.fetchImplementationPackages(implementationId);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported association: " + association);
+        }
+    }
+
     @Override
     @Transactional
     public Implementation update(@NonNull Implementation implementation) {
@@ -107,7 +161,8 @@ public class ImplementationServiceImpl implements ImplementationService {
         persistedImplementation.setTechnology(implementation.getTechnology());
         persistedImplementation.setPatterns(implementation.getPatterns());
 
-        updateRevisions(persistedImplementation);
+        // the update adds a revision, so one less than the limit is kept
+        revisionRetention.retain(persistedImplementation, Constants.REVISIONS_COUNT - 1);
 
         return implementationRepository.save(persistedImplementation);
     }
@@ -121,50 +176,7 @@ public class ImplementationServiceImpl implements ImplementationService {
 
         implementationRepository.deleteById(implementationId);
 
-        removeRevisions(implementation);
-    }
-
-    /*
-     * drop older revisions if the amount of saved revisions is reached
-     */
-    private void updateRevisions(@NonNull Implementation implementation) {
-        final Revisions<Integer, Implementation> revisions = implementationRepository.findRevisions(implementation.getId());
-        if (revisions.getContent().size() == Constants.REVISIONS_COUNT) {
-
-            // get oldest revision (first table entry)
-            final Revision<Integer, Implementation> oldestRevision = revisions.getContent().get(0);
-            final int revisionId = oldestRevision.getRevisionNumber().orElseThrow();
-            final UUID implementationId = oldestRevision.getEntity().getId();
-
-            // delete oldest revision related to the implementation
-            if (implementation instanceof ClassicImplementation) {
-                implementationRepository.deleteClassicImplementationRevision(revisionId, implementationId);
-            }
-            if (implementation instanceof QuantumImplementation) {
-                implementationRepository.deleteQuantumImplementationRevision(revisionId, implementationId);
-            }
-            implementationRepository.deleteImplementationRevision(revisionId, implementationId);
-            algorithmRepository.deleteKnowledgeArtifactRevision(revisionId, implementationId);
-            algorithmRepository.deleteRevisionInfo(revisionId);
-        }
-    }
-
-    private void removeRevisions(@NonNull Implementation implementation) {
-
-        final Revisions<Integer, Implementation> revisions = implementationRepository.findRevisions(implementation.getId());
-
-        // delete all related revisions
-        if (implementation instanceof ClassicImplementation) {
-            implementationRepository.deleteAllClassicImplementationRevisions(implementation.getId());
-        }
-        if (implementation instanceof QuantumImplementation) {
-            implementationRepository.deleteAllQuantumImplementationRevisions(implementation.getId());
-        }
-
-        // delete all related revisions
-        implementationRepository.deleteAllImplementationRevisions(implementation.getId());
-        algorithmRepository.deleteAllKnowledgeArtifactRevisions(implementation.getId());
-        revisions.forEach(revision -> algorithmRepository.deleteRevisionInfo(revision.getRevisionNumber().orElseThrow()));
+        revisionRetention.retain(implementation, 0);
     }
 
     private void removeReferences(@NonNull Implementation implementation) {
@@ -215,21 +227,64 @@ public class ImplementationServiceImpl implements ImplementationService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Revision<Integer, Implementation> findImplementationRevision(@NonNull UUID implementationId, @NonNull Integer revisionId) {
-        return implementationRepository.findRevision(implementationId, revisionId).orElseThrow(()
+        return RevisionQueries.findRevision(entityManager, Implementation.class, implementationId, revisionId).orElseThrow(()
                 -> new NoSuchElementException("Implementation revision with Implementation ID: "
                 + implementationId + "and Revision ID " + revisionId + "does not exist"));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<PropertyChange> findImplementationRevisionChanges(@NonNull UUID implementationId, @NonNull Integer fromRevisionId,
+                                                                  @NonNull Integer toRevisionId) {
+        return RevisionDiffs.diff(entityManager, Implementation.class, implementationId, fromRevisionId, toRevisionId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Implementation> findAllAsOf(@NonNull Date asOf, @NonNull Pageable pageable) {
+        return AsOfQueries.findAll(entityManager, Implementation.class, asOf, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Implementation> findByImplementedAlgorithmAsOf(@NonNull UUID algorithmId, @NonNull Date asOf, @NonNull Pageable pageable) {
+        if (AsOfQueries.findById(entityManager, Algorithm.class, algorithmId, asOf).isEmpty()) {
+            throw new NoSuchElementException("Algorithm with ID \"" + algorithmId + "\" did not exist as of " + asOf.toInstant());
+        }
+        return AsOfQueries.findAll(entityManager, Implementation.class, asOf, pageable,
+                AuditEntity.relatedId("implementedAlgorithm").eq(algorithmId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Implementation findByIdAsOf(@NonNull UUID implementationId, @NonNull Date asOf) {
+        return AsOfQueries.findById(entityManager, Implementation.class, implementationId, asOf).orElseThrow(()
+                -> new NoSuchElementException("Implementation with ID \"" + implementationId + "\" did not exist as of " + asOf.toInstant()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Implementation findByIdAndImplementedAlgorithmAsOf(@NonNull UUID implementationId, @NonNull UUID algorithmId, @NonNull Date asOf) {
+        final Implementation implementation = findByIdAsOf(implementationId, asOf);
+        if (implementation.getImplementedAlgorithm() == null || !implementation.getImplementedAlgorithm().getId().equals(algorithmId)) {
+            throw new NoSuchElementException("Implementation with ID \"" + implementationId
+                    + "\" of Algorithm with ID \"" + algorithmId + "\" did not exist as of " + asOf.toInstant());
+        }
+        return implementation;
+    }
+
     @Override
     public Page<Implementation> findByImplementedPatterns(String patternUri, Pageable pageable) {
         return implementationRepository.findImplementationsByPatterns(patternUri, pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Revision<Integer, Implementation>> findImplementationRevisions(@NonNull UUID implementationId, @NonNull Pageable pageable) {
         ServiceUtils.throwIfNotExists(implementationId, Implementation.class, implementationRepository);
 
-        return implementationRepository.findRevisions(implementationId, pageable);
+        return RevisionQueries.findRevisions(entityManager, Implementation.class, implementationId, pageable);
     }
 }
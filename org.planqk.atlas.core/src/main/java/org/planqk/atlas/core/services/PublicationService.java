@@ -19,6 +19,8 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -72,6 +74,17 @@ public interface PublicationService {
      */
     Publication findById(UUID publicationId);
 
+    /**
+     * Find the database entries of multiple {@link Publication}s based on the IDs the database has given them.
+     * <p>
+     * The found {@link Publication}s are returned in the order of the given IDs. IDs without a database entry are skipped
+     * instead of throwing a {@link java.util.NoSuchElementException}, so the caller can report them.
+     *
+     * @param publicationIds The IDs of the {@link Publication}s we want to find
+     * @return The found {@link Publication}s in the order of the given IDs
+     */
+    List<Publication> findAllById(Collection<UUID> publicationIds);
+
     /**
      * Update an existing {@link Publication} database entry by saving the updated {@link Publication} object to the the
      * database.
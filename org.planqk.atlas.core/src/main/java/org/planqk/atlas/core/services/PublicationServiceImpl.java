@@ -19,6 +19,8 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
@@ -70,6 +72,11 @@ public class PublicationServiceImpl implements PublicationService {
         return ServiceUtils.findById(publicationId, Publication.class, publicationRepository);
     }
 
+    @Override
+    public List<Publication> findAllById(@NonNull Collection<UUID> publicationIds) {
+        return ServiceUtils.findAllById(publicationIds, publicationRepository);
+    }
+
     @Override
     @Transactional
     public Publication update(@NonNull Publication publication) {
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.repository.AlgorithmRepository;
+import org.planqk.atlas.core.repository.ImplementationRepository;
+import org.planqk.atlas.core.repository.KnowledgeArtifactRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes outdated revisions of all algorithms and implementations, including the ones that are not updated anymore.
+ * <p>
+ * Revisions are outdated if an entity has more revisions than its maximum count or if they were superseded by a newer
+ * revision longer ago than its maximum age, so the most recent revision of an entity is always kept. The entities with
+ * outdated revisions are compacted in batches, each in its own transaction. Afterwards the revision infos no audited
+ * entity refers to are deleted, again in batches. The number of deleted rows and the duration of the last run are
+ * published as metrics.
+ */
+@Slf4j
+@Component
+public class RevisionCompaction implements MeterBinder {
+
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    private final AlgorithmRepository algorithmRepository;
+
+    private final ImplementationRepository implementationRepository;
+
+    private final KnowledgeArtifactRepository knowledgeArtifactRepository;
+
+    private final RevisionRetention revisionRetention;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final int algorithmMaxCount;
+
+    private final int algorithmMaxAgeDays;
+
+    private final int implementationMaxCount;
+
+    private final int implementationMaxAgeDays;
+
+    private final AtomicLong deletedRows = new AtomicLong();
+
+    private final AtomicLong lastDurationMillis = new AtomicLong();
+
+    public RevisionCompaction(AlgorithmRepository algorithmRepository, ImplementationRepository implementationRepository,
+                              KnowledgeArtifactRepository knowledgeArtifactRepository, RevisionRetention revisionRetention,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${org.planqk.atlas.revisions.compaction.batch-size}") int batchSize,
+                              @Value("${org.planqk.atlas.revisions.compaction.algorithms.max-count}") int algorithmMaxCount,
+                              @Value("${org.planqk.atlas.revisions.compaction.algorithms.max-age-days}") int algorithmMaxAgeDays,
+                              @Value("${org.planqk.atlas.revisions.compaction.implementations.max-count}") int implementationMaxCount,
+                              @Value("${org.planqk.atlas.revisions.compaction.implementations.max-age-days}") int implementationMaxAgeDays) {
+        this.algorithmRepository = algorithmRepository;
+        this.implementationRepository = implementationRepository;
+        this.knowledgeArtifactRepository = knowledgeArtifactRepository;
+        this.revisionRetention = revisionRetention;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.algorithmMaxCount = algorithmMaxCount;
+        this.algorithmMaxAgeDays = algorithmMaxAgeDays;
+        this.implementationMaxCount = implementationMaxCount;
+        this.implementationMaxAgeDays = implementationMaxAgeDays;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("atlas.revisions.compaction.deleted", deletedRows, AtomicLong::get)
+                .description("Number of rows deleted from the revision tables by the compaction")
+                .register(registry);
+        TimeGauge.builder("atlas.revisions.compaction.duration", lastDurationMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Duration of the last compaction of the revision tables")
+                .register(registry);
+    }
+
+    @Scheduled(cron = "${org.planqk.atlas.revisions.compaction.cron}")
+    public void compactScheduled() {
+        compact();
+    }
+
+    /**
+     * Deletes the outdated revisions of all algorithms and implementations and the revision infos left without
+     * revisions.
+     *
+     * @return the number of deleted rows
+     */
+    public long compact() {
+        final long start = System.nanoTime();
+        final long deleted = compactAlgorithms() + compactImplementations() + deleteUnreferencedRevisionInfos();
+        final long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        deletedRows.addAndGet(deleted);
+        lastDurationMillis.set(durationMillis);
+        log.info("Compaction of revisions deleted {} rows in {} ms", deleted, durationMillis);
+        return deleted;
+    }
+
+    private long compactAlgorithms() {
+        final Date before = outdatedBefore(algorithmMaxAgeDays);
+        long deleted = 0;
+        UUID after = FIRST_ID;
+        List<UUID> algorithmIds;
+        do {
+            algorithmIds = toIds(algorithmRepository.findIdsWithOutdatedRevisions(after, algorithmMaxCount, before, batchSize));
+            final List<UUID> batch = algorithmIds;
+            deleted += transactionTemplate.execute(status -> {
+                int deletedInBatch = 0;
+                for (Algorithm algorithm : algorithmRepository.findAllById(batch)) {
+                    deletedInBatch += revisionRetention.delete(algorithm,
+                            outdatedRevisions(algorithm.getId(), algorithmMaxCount, before));
+                }
+                return deletedInBatch;
+            });
+            after = algorithmIds.isEmpty() ? after : algorithmIds.get(algorithmIds.size() - 1);
+        } while (algorithmIds.size() == batchSize);
+        return deleted;
+    }
+
+    private long compactImplementations() {
+        final Date before = outdatedBefore(implementationMaxAgeDays);
+        long deleted = 0;
+        UUID after = FIRST_ID;
+        List<UUID> implementationIds;
+        do {
+            implementationIds = toIds(implementationRepository.findIdsWithOutdatedRevisions(after, implementationMaxCount, before, batchSize));
+            final List<UUID> batch = implementationIds;
+            deleted += transactionTemplate.execute(status -> {
+                int deletedInBatch = 0;
+                for (Implementation implementation : implementationRepository.findAllById(batch)) {
+                    deletedInBatch += revisionRetention.delete(implementation,
+                            outdatedRevisions(implementation.getId(), implementationMaxCount, before));
+                }
+                return deletedInBatch;
+            });
+            after = implementationIds.isEmpty() ? after : implementationIds.get(implementationIds.size() - 1);
+        } while (implementationIds.size() == batchSize);
+        return deleted;
+    }
+
+    private long deleteUnreferencedRevisionInfos() {
+        long deleted = 0;
+        int deletedInBatch;
+        do {
+            deletedInBatch = transactionTemplate.execute(status -> knowledgeArtifactRepository.deleteUnreferencedRevisionInfos(batchSize));
+            deleted += deletedInBatch;
+        } while (deletedInBatch == batchSize);
+        return deleted;
+    }
+
+    private List<Integer> outdatedRevisions(UUID id, int maxCount, Date before) {
+        final Set<Integer> revisionIds = new TreeSet<>(knowledgeArtifactRepository.findRevisionNumbersBeyondLimit(id, maxCount));
+        revisionIds.addAll(knowledgeArtifactRepository.findRevisionNumbersBefore(id, before));
+        return List.copyOf(revisionIds);
+    }
+
+    private static Date outdatedBefore(int maxAgeDays) {
+        // revisions are kept regardless of their age if no maximum age is configured, as none ended before the epoch
+        return new Date(maxAgeDays > 0 ? System.currentTimeMillis() - TimeUnit.DAYS.toMillis(maxAgeDays) : 0);
+    }
+
+    private static List<UUID> toIds(List<String> ids) {
+        return ids.stream().map(UUID::fromString).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fills the end revision columns of revisions written before the validity audit strategy was enabled.
+ * <p>
+ * The validity audit strategy stores in every revision row the revision that superseded it, so reading an entity at a
+ * revision is a range condition instead of a correlated subquery for the latest revision. When a new revision is
+ * written, the strategy ends the previous revision, which it expects to be the only one without an end. Revisions
+ * written before have no end yet, so they are ended by the migration right after the context started and before
+ * requests are served. The entities are migrated in batches, each in its own transaction. Entities whose revisions
+ * have been migrated already, which after the first start are all of them, are skipped by an aggregate query per
+ * table.
+ */
+@Slf4j
+@Component
+public class RevisionEndMigration {
+
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    /**
+     * The revision tables by the columns that identify what a row is a revision of. The first column is the ID of the
+     * entity, the last one the audited element in case of collections. Depending on the inheritance mapping, not every
+     * table has both end revision columns.
+     */
+    private static final Map<String, List<String>> TABLES = Map.of(
+            "knowledge_artifact_revisions", List.of("id"),
+            "algorithm_revisions", List.of("id"),
+            "classic_algorithm_revisions", List.of("id"),
+            "quantum_algorithm_revisions", List.of("id"),
+            "implementation_revisions", List.of("id"),
+            "classic_implementation_revisions", List.of("id"),
+            "quantum_implementation_revisions", List.of("id"),
+            "tosca_application_revisions", List.of("id"),
+            "pattern_uris_aud", List.of("implementation_id", "pattern_uri"));
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    public RevisionEndMigration(EntityManager entityManager, PlatformTransactionManager transactionManager,
+                                @Value("${org.planqk.atlas.revisions.validity-migration.batch-size}") int batchSize) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void migrate() {
+        long migrated = 0;
+        for (Map.Entry<String, List<String>> table : TABLES.entrySet()) {
+            // a table that can not be migrated must not prevent the application from starting
+            try {
+                migrated += migrate(table.getKey(), table.getValue());
+            } catch (RuntimeException e) {
+                log.warn("Could not fill the end revisions of {}", table.getKey(), e);
+            }
+        }
+        if (migrated > 0) {
+            log.info("Filled the end revision of {} revisions", migrated);
+        }
+    }
+
+    /**
+     * Fills the end revision columns of one revision table.
+     *
+     * @param table      the name of the revision table
+     * @param keyColumns the columns that identify what a row is a revision of
+     * @return the number of updated rows
+     */
+    long migrate(String table, List<String> keyColumns) {
+        final Set<String> columns = columnsOf(table);
+        final boolean hasEnd = columns.contains("revend");
+        final boolean hasEndTimestamp = columns.contains("revend_tstmp");
+        if (!hasEnd && !hasEndTimestamp) {
+            return 0;
+        }
+        final String endColumn = hasEnd ? "revend" : "revend_tstmp";
+        final String ownerColumn = keyColumns.get(0);
+        final String elementColumn = keyColumns.get(keyColumns.size() - 1);
+
+        // owners with more revisions without an end than audited elements, i.e. with revisions that are not the latest
+        final String findOwners = "SELECT CAST(" + ownerColumn + " AS varchar) FROM " + table +
+                " WHERE " + endColumn + " IS NULL AND " + ownerColumn + " > :after" +
+                " GROUP BY " + ownerColumn +
+                " HAVING COUNT(*) > COUNT(DISTINCT " + elementColumn + ")" +
+                " ORDER BY " + ownerColumn + " LIMIT :limit";
+        final String keys = String.join(", ", keyColumns);
+        final String update = "UPDATE " + table + " SET " +
+                (hasEnd ? "revend = successor.next_rev" + (hasEndTimestamp ? ", " : "") : "") +
+                (hasEndTimestamp ? "revend_tstmp = to_timestamp(revinfo.revtstmp / 1000.0)" : "") +
+                " FROM (SELECT " + keys + ", rev, LEAD(rev) OVER (PARTITION BY " + keys + " ORDER BY rev) AS next_rev" +
+                " FROM " + table + " WHERE " + ownerColumn + " IN (:owners)) successor" +
+                " JOIN revinfo ON revinfo.rev = successor.next_rev" +
+                " WHERE " + keyColumns.stream().map(column -> table + "." + column + " = successor." + column)
+                .collect(Collectors.joining(" AND ")) +
+                " AND " + table + ".rev = successor.rev AND " + table + "." + endColumn + " IS NULL";
+
+        long migrated = 0;
+        UUID after = FIRST_ID;
+        List<UUID> owners;
+        do {
+            final UUID from = after;
+            owners = transactionTemplate.execute(status -> ((List<?>) entityManager.createNativeQuery(findOwners)
+                    .setParameter("after", from)
+                    .setParameter("limit", batchSize)
+                    .getResultList()).stream()
+                    .map(owner -> UUID.fromString((String) owner))
+                    .collect(Collectors.toList()));
+            if (!owners.isEmpty()) {
+                final List<UUID> batch = owners;
+                migrated += transactionTemplate.execute(status -> entityManager.createNativeQuery(update)
+                        .setParameter("owners", batch)
+                        .executeUpdate());
+                after = owners.get(owners.size() - 1);
+            }
+        } while (owners.size() == batchSize);
+        return migrated;
+    }
+
+    private Set<String> columnsOf(String table) {
+        return transactionTemplate.execute(status -> ((List<?>) entityManager.createNativeQuery(
+                "SELECT CAST(column_name AS varchar) FROM information_schema.columns WHERE table_schema = current_schema() AND table_name = :table")
+                .setParameter("table", table)
+                .getResultList()).stream()
+                .map(String.class::cast)
+                .collect(Collectors.toCollection(HashSet::new)));
+    }
+}
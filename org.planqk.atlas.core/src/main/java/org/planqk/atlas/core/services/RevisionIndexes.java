@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import javax.sql.DataSource;
+
+import org.planqk.atlas.core.MaintenanceConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates the indexes of the revision tables that are not derived from the entity mappings.
+ * <p>
+ * The revision tables are only indexed by their primary keys, i.e. by entity ID and revision number. Resolving a
+ * point in time to a revision, selecting the implementations of an algorithm at a revision and deleting revisions by
+ * their numbers would otherwise scan the whole tables, which grow with every change. The end revisions stored by the
+ * validity audit strategy reference the revision info as well, so they are indexed for the checks of that reference
+ * when revision infos are deleted. The indexes are created
+ * concurrently in the background after the application started, so writes are not blocked while they are built on an
+ * existing history. Indexes that already exist are left as they are.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class RevisionIndexes {
+
+    static final List<String> INDEXES = List.of(
+            "revinfo_revtstmp_idx ON revinfo (revtstmp)",
+            "knowledge_artifact_revisions_rev_idx ON knowledge_artifact_revisions (rev)",
+            "knowledge_artifact_revisions_revend_idx ON knowledge_artifact_revisions (revend)",
+            "algorithm_revisions_rev_idx ON algorithm_revisions (rev)",
+            "classic_algorithm_revisions_rev_idx ON classic_algorithm_revisions (rev)",
+            "quantum_algorithm_revisions_rev_idx ON quantum_algorithm_revisions (rev)",
+            "implementation_revisions_rev_idx ON implementation_revisions (rev)",
+            "implementation_revisions_algorithm_idx ON implementation_revisions (implemented_algorithm_id, rev)",
+            "classic_implementation_revisions_rev_idx ON classic_implementation_revisions (rev)",
+            "quantum_implementation_revisions_rev_idx ON quantum_implementation_revisions (rev)",
+            "pattern_uris_aud_rev_idx ON pattern_uris_aud (rev)",
+            "pattern_uris_aud_revend_idx ON pattern_uris_aud (revend)",
+            "tosca_application_revisions_rev_idx ON tosca_application_revisions (rev)",
+            "tosca_application_revisions_revend_idx ON tosca_application_revisions (revend)");
+
+    private final DataSource dataSource;
+
+    @Async(MaintenanceConfiguration.MAINTENANCE_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void create() {
+        // concurrent index builds cannot run in a transaction, so the statements are executed in auto-commit mode
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            for (String index : INDEXES) {
+                try {
+                    statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + index);
+                } catch (SQLException e) {
+                    log.warn("Could not create revision index {}", index, e);
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Could not create the revision indexes", e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.ClassicAlgorithm;
+import org.planqk.atlas.core.model.ClassicImplementation;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.QuantumAlgorithm;
+import org.planqk.atlas.core.model.QuantumImplementation;
+import org.planqk.atlas.core.repository.AlgorithmRepository;
+import org.planqk.atlas.core.repository.ImplementationRepository;
+import org.planqk.atlas.core.repository.KnowledgeArtifactRepository;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * Limits the number of revisions kept for algorithms and implementations.
+ * <p>
+ * The revisions beyond the limit are found with one query on the revision table of {@link
+ * org.planqk.atlas.core.model.KnowledgeArtifact}, without reconstructing any historical entity, and are deleted from
+ * all revision tables of the entity with one statement per table. The revisions of the pattern URIs of an
+ * implementation only record changes, so additions that are still valid are moved to the oldest kept revision instead.
+ * The revision infos are deleted as well, unless another entity changed in the same revision still refers to them.
+ */
+@Component
+@AllArgsConstructor
+public class RevisionRetention {
+
+    private final AlgorithmRepository algorithmRepository;
+
+    private final ImplementationRepository implementationRepository;
+
+    private final KnowledgeArtifactRepository knowledgeArtifactRepository;
+
+    /**
+     * Deletes the oldest revisions of an algorithm, so that at most the given number of revisions is left.
+     *
+     * @param algorithm the algorithm
+     * @param limit     the number of most recent revisions to keep, zero deletes all revisions
+     * @return the number of deleted rows
+     */
+    public int retain(@NonNull Algorithm algorithm, int limit) {
+        return delete(algorithm, knowledgeArtifactRepository.findRevisionNumbersBeyondLimit(algorithm.getId(), limit));
+    }
+
+    /**
+     * Deletes the oldest revisions of an implementation, so that at most the given number of revisions is left.
+     *
+     * @param implementation the implementation
+     * @param limit          the number of most recent revisions to keep, zero deletes all revisions
+     * @return the number of deleted rows
+     */
+    public int retain(@NonNull Implementation implementation, int limit) {
+        return delete(implementation, knowledgeArtifactRepository.findRevisionNumbersBeyondLimit(implementation.getId(), limit));
+    }
+
+    /**
+     * Deletes the given revisions of an algorithm.
+     *
+     * @param algorithm   the algorithm
+     * @param revisionIds the numbers of the revisions
+     * @return the number of deleted rows
+     */
+    public int delete(@NonNull Algorithm algorithm, @NonNull List<Integer> revisionIds) {
+        if (revisionIds.isEmpty()) {
+            return 0;
+        }
+        final UUID algorithmId = algorithm.getId();
+        int deleted = 0;
+        if (algorithm instanceof ClassicAlgorithm) {
+            deleted += algorithmRepository.deleteClassicAlgorithmRevisions(algorithmId, revisionIds);
+        }
+        if (algorithm instanceof QuantumAlgorithm) {
+            deleted += algorithmRepository.deleteQuantumAlgorithmRevisions(algorithmId, revisionIds);
+        }
+        deleted += algorithmRepository.deleteAlgorithmRevisions(algorithmId, revisionIds);
+        return deleted + deleteKnowledgeArtifactRevisions(algorithmId, revisionIds);
+    }
+
+    /**
+     * Deletes the given revisions of an implementation.
+     *
+     * @param implementation the implementation
+     * @param revisionIds    the numbers of the revisions
+     * @return the number of deleted rows
+     */
+    public int delete(@NonNull Implementation implementation, @NonNull List<Integer> revisionIds) {
+        if (revisionIds.isEmpty()) {
+            return 0;
+        }
+        final UUID implementationId = implementation.getId();
+        int deleted = 0;
+        if (implementation instanceof ClassicImplementation) {
+            deleted += implementationRepository.deleteClassicImplementationRevisions(implementationId, revisionIds);
+        }
+        if (implementation instanceof QuantumImplementation) {
+            deleted += implementationRepository.deleteQuantumImplementationRevisions(implementationId, revisionIds);
+        }
+        // pattern URIs added in a deleted revision are still part of the kept revisions, unless they were removed since
+        implementationRepository.movePatternUriRevisionsToOldestKept(implementationId, revisionIds);
+        deleted += implementationRepository.deletePatternUriRevisions(implementationId, revisionIds);
+        deleted += implementationRepository.deleteImplementationRevisions(implementationId, revisionIds);
+        return deleted + deleteKnowledgeArtifactRevisions(implementationId, revisionIds);
+    }
+
+    private int deleteKnowledgeArtifactRevisions(UUID id, List<Integer> revisionIds) {
+        return knowledgeArtifactRepository.deleteKnowledgeArtifactRevisions(id, revisionIds)
+                + knowledgeArtifactRepository.deleteUnreferencedRevisionInfos(revisionIds);
+    }
+}
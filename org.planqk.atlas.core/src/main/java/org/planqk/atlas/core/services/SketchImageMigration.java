@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import org.planqk.atlas.core.MaintenanceConfiguration;
+import org.planqk.atlas.core.model.Image;
+import org.planqk.atlas.core.model.ImageEncoding;
+import org.planqk.atlas.core.repository.ImageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Converts the images of sketches stored base64 encoded to their raw content.
+ * <p>
+ * The migration runs in the background after the application started and converts the images in batches, each in its
+ * own transaction, so only one batch of images is held in memory and converted images are served raw right away.
+ * Images that are not converted yet are decoded when they are read.
+ */
+@Slf4j
+@Component
+public class SketchImageMigration {
+
+    private final ImageRepository imageRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    public SketchImageMigration(ImageRepository imageRepository, PlatformTransactionManager transactionManager,
+                                @Value("${org.planqk.atlas.sketches.migration-batch-size}") int batchSize) {
+        this.imageRepository = imageRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Decodes the content of an image stored base64 encoded. Contents that are no valid base64 have been stored raw
+     * and are returned unchanged.
+     *
+     * @param content the content as stored
+     * @return the raw content
+     */
+    public static byte[] decode(byte[] content) {
+        if (content == null) {
+            return new byte[0];
+        }
+        try {
+            return Base64.getDecoder().decode(content);
+        } catch (IllegalArgumentException e) {
+            return content;
+        }
+    }
+
+    @Async(MaintenanceConfiguration.MAINTENANCE_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        long migrated = 0;
+        int converted;
+        do {
+            converted = transactionTemplate.execute(status -> migrateBatch());
+            migrated += converted;
+        } while (converted == batchSize);
+        if (migrated > 0) {
+            log.info("Converted {} base64 encoded sketch images", migrated);
+        }
+    }
+
+    /**
+     * Converts the next batch of images.
+     *
+     * @return the number of converted images
+     */
+    int migrateBatch() {
+        final List<UUID> imageIds = imageRepository.findBase64EncodedIds(PageRequest.of(0, batchSize));
+        for (Image image : imageRepository.findAllById(imageIds)) {
+            image.setImage(decode(image.getImage()));
+            image.setEncoding(ImageEncoding.RAW);
+        }
+        return imageIds.size();
+    }
+}
@@ -24,6 +24,7 @@ import java.util.UUID;
 
 import org.planqk.atlas.core.model.Image;
 import org.planqk.atlas.core.model.Sketch;
+import org.planqk.atlas.core.util.ImageContentResource;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -96,4 +97,28 @@ public interface SketchService {
      * @return @return The {@link Image} of the {@link Sketch} with the given ID
      */
     Image getImageBySketch(final UUID sketchId);
+
+    /**
+     * Retrieve the content of the image of a {@link Sketch} as it was uploaded.
+     * <p>
+     * The content is read from the database when the stream of the returned resource is opened, it is not loaded into
+     * memory as a whole. If the {@link Sketch} has no image a {@link java.util.NoSuchElementException} is thrown.
+     *
+     * @param sketchId The ID of the {@link Sketch} for which we want to find the image for
+     * @return The content of the {@link Image} of the {@link Sketch} with the given ID
+     */
+    ImageContentResource getImageContentBySketch(UUID sketchId);
+
+    /**
+     * Retrieve a thumbnail of the image of a {@link Sketch}.
+     * <p>
+     * The requested size is rounded up to the next configured thumbnail width. If no thumbnail is configured for the
+     * size or the image is not wider than the thumbnail, the image is returned as it was uploaded. If the requested size
+     * is not positive an {@link IllegalArgumentException} is thrown.
+     *
+     * @param sketchId The ID of the {@link Sketch} for which we want to find the image for
+     * @param size     The requested width of the image in pixels
+     * @return The content of the thumbnail or of the {@link Image} of the {@link Sketch} with the given ID
+     */
+    ImageContentResource getImageContentBySketch(UUID sketchId, int size);
 }
@@ -19,19 +19,27 @@
 
 package org.planqk.atlas.core.services;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.Base64;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.Image;
+import org.planqk.atlas.core.model.ImageEncoding;
 import org.planqk.atlas.core.model.Sketch;
 import org.planqk.atlas.core.repository.ImageRepository;
 import org.planqk.atlas.core.repository.SketchRepository;
+import org.planqk.atlas.core.util.Constants;
+import org.planqk.atlas.core.util.ImageContentResource;
 import org.planqk.atlas.core.util.ServiceUtils;
+import org.planqk.atlas.core.util.SlicedInputStream;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import lombok.AllArgsConstructor;
@@ -47,6 +55,8 @@ public class SketchServiceImpl implements SketchService {
 
     private final ImageRepository imageRepository;
 
+    private final SketchThumbnails sketchThumbnails;
+
     @Override
     @Transactional
     public Sketch update(@NonNull Sketch sketch) {
@@ -76,10 +86,12 @@ public class SketchServiceImpl implements SketchService {
             // image
             final Image image = new Image();
             image.setId(sketch.getId());
-            image.setImage(Base64.getEncoder().encode(file.getBytes()));
+            image.setImage(file.getBytes());
+            image.setEncoding(ImageEncoding.RAW);
             image.setMimeType(file.getContentType());
             image.setSketch(persistedSketch2);
-            this.imageRepository.save(image);
+            final UUID imageId = this.imageRepository.save(image).getId();
+            afterCommit(() -> sketchThumbnails.generateThumbnails(imageId));
 
             return persistedSketch2;
         } catch (IOException e) {
@@ -90,7 +102,9 @@ public class SketchServiceImpl implements SketchService {
     @Override
     @Transactional
     public void delete(@NonNull UUID sketchId) {
+        final var imageInfo = imageRepository.findImageInfoBySketchId(sketchId);
         sketchRepository.deleteById(sketchId);
+        imageInfo.ifPresent(info -> afterCommit(() -> sketchThumbnails.evict(info.getId())));
     }
 
     @Override
@@ -102,4 +116,53 @@ public class SketchServiceImpl implements SketchService {
     public Image getImageBySketch(@NonNull UUID sketchId) {
         return this.imageRepository.findImageBySketchId(sketchId);
     }
+
+    @Override
+    public ImageContentResource getImageContentBySketch(@NonNull UUID sketchId) {
+        return getImageContent(findImageInfo(sketchId));
+    }
+
+    @Override
+    public ImageContentResource getImageContentBySketch(@NonNull UUID sketchId, int size) {
+        final OptionalInt width = sketchThumbnails.selectWidth(size);
+        final ImageRepository.ImageInfo info = findImageInfo(sketchId);
+        if (width.isEmpty()) {
+            return getImageContent(info);
+        }
+        return sketchThumbnails.getThumbnail(info.getId(), info.getMimeType(), width.getAsInt())
+                .orElseGet(() -> getImageContent(info));
+    }
+
+    private ImageRepository.ImageInfo findImageInfo(UUID sketchId) {
+        return imageRepository.findImageInfoBySketchId(sketchId).orElseThrow(() ->
+                new NoSuchElementException("Image of sketch with ID \"" + sketchId + "\" does not exist"));
+    }
+
+    private ImageContentResource getImageContent(ImageRepository.ImageInfo info) {
+        final UUID imageId = info.getId();
+        if (info.getEncoding() != ImageEncoding.RAW) {
+            // not converted by the migration yet, such images are decoded as a whole
+            final byte[] content = SketchImageMigration.decode(ServiceUtils.findById(imageId, Image.class, imageRepository).getImage());
+            return new ImageContentResource(imageId, info.getMimeType(), content.length, () -> new ByteArrayInputStream(content));
+        }
+        final long length = info.getSize() != null ? info.getSize().longValue() : 0;
+        return new ImageContentResource(imageId, info.getMimeType(), length, () -> new SlicedInputStream(
+                (offset, count) -> imageRepository.findContentSlice(imageId, offset + 1, count), length, Constants.FILE_CONTENT_SLICE_SIZE));
+    }
+
+    /**
+     * Runs a task once the current transaction committed, so it only sees committed data.
+     */
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
 }
@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.planqk.atlas.core.ThumbnailConfiguration;
+import org.planqk.atlas.core.model.Image;
+import org.planqk.atlas.core.model.ImageEncoding;
+import org.planqk.atlas.core.repository.ImageRepository;
+import org.planqk.atlas.core.util.ImageContentResource;
+import org.planqk.atlas.core.util.ImageScaling;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generates and caches scaled down versions of the images of sketches, so lists of algorithms do not have to load the
+ * images in full resolution.
+ * <p>
+ * Thumbnails are generated at the configured widths only, a requested size is rounded up to the next configured width.
+ * They are generated in the background when a sketch is added and for all existing sketches after the application
+ * started, and on the first request if they are still missing. The thumbnails are cached on disk, named by the ID of
+ * the image and the width. Images are never changed, so a cached thumbnail never gets stale.
+ * <p>
+ * An image that is not wider than a thumbnail or that can not be decoded, e.g. an SVG, is served as it is. This is
+ * recorded by an empty marker file, so the image is not decoded on every request.
+ * <p>
+ * The dimensions of an image are read before it is decoded, so a small file declaring huge dimensions can not exhaust
+ * the memory. An image with more than the maximum amount of pixels is decoded with only every n-th pixel of every n-th
+ * row, as long as the result stays wider than the thumbnails, otherwise it is served as it is.
+ */
+@Slf4j
+@Component
+public class SketchThumbnails {
+
+    private static final String TEMPORARY_DIRECTORY = ".tmp";
+
+    private static final String ORIGINAL_MARKER = ".original";
+
+    private final ImageRepository imageRepository;
+
+    private final int[] widths;
+
+    private final Path directory;
+
+    private final long maxPixels;
+
+    public SketchThumbnails(ImageRepository imageRepository,
+                            @Value("${org.planqk.atlas.sketches.thumbnails.widths}") int[] widths,
+                            @Value("${org.planqk.atlas.sketches.thumbnails.directory}") String directory,
+                            @Value("${org.planqk.atlas.sketches.thumbnails.max-pixels}") long maxPixels) {
+        this.imageRepository = imageRepository;
+        this.widths = Arrays.stream(widths).filter(width -> width > 0).sorted().distinct().toArray();
+        this.directory = Paths.get(directory);
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * Selects the width of the thumbnail serving a requested size.
+     *
+     * @param size the requested width in pixels
+     * @return the smallest configured width not smaller than the requested one, or an empty optional if the original
+     * image has to be served
+     */
+    public OptionalInt selectWidth(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size of image must be positive");
+        }
+        return Arrays.stream(widths).filter(width -> width >= size).findFirst();
+    }
+
+    /**
+     * Returns the thumbnail of an image, generating it if it is not cached yet.
+     *
+     * @param imageId  the ID of the image
+     * @param mimeType the MIME type of the image
+     * @param width    one of the configured widths
+     * @return the thumbnail or an empty optional if the original image has to be served
+     */
+    public Optional<ImageContentResource> getThumbnail(UUID imageId, String mimeType, int width) {
+        final Path thumbnail = thumbnailPath(imageId, mimeType, width);
+        if (!isCached(imageId, width)) {
+            imageRepository.findById(imageId).ifPresent(image -> generate(image, new int[] {width}));
+        }
+        try {
+            if (Files.isRegularFile(thumbnail)) {
+                return Optional.of(new ImageContentResource(imageId, thumbnailMimeType(mimeType), Files.size(thumbnail), width,
+                        () -> Files.newInputStream(thumbnail)));
+            }
+        } catch (IOException e) {
+            log.warn("Could not read thumbnail {}", thumbnail, e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Generates all missing thumbnails of an image in the background.
+     *
+     * @param imageId the ID of the image
+     */
+    @Async(ThumbnailConfiguration.THUMBNAIL_EXECUTOR)
+    public void generateThumbnails(UUID imageId) {
+        final int[] missingWidths = Arrays.stream(widths).filter(width -> !isCached(imageId, width)).toArray();
+        if (missingWidths.length > 0) {
+            imageRepository.findById(imageId).ifPresent(image -> generate(image, missingWidths));
+        }
+    }
+
+    /**
+     * Generates the missing thumbnails of all images once the application started, e.g. after further widths have been
+     * configured.
+     */
+    @Async(ThumbnailConfiguration.THUMBNAIL_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void generateAllThumbnails() {
+        if (widths.length == 0) {
+            return;
+        }
+        List<UUID> imageIds;
+        int page = 0;
+        do {
+            imageIds = imageRepository.findIds(PageRequest.of(page++, 20));
+            imageIds.forEach(this::generateThumbnails);
+        } while (!imageIds.isEmpty());
+    }
+
+    /**
+     * Removes the cached thumbnails of an image.
+     *
+     * @param imageId the ID of the image
+     */
+    public void evict(UUID imageId) {
+        final Path imageDirectory = imageDirectory(imageId);
+        if (!Files.isDirectory(imageDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(imageDirectory, imageId + "-*")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.warn("Could not remove thumbnails of image {}", imageId, e);
+        }
+    }
+
+    private boolean isCached(UUID imageId, int width) {
+        return Files.exists(markerPath(imageId, width))
+                || Files.isRegularFile(thumbnailPath(imageId, "image/png", width))
+                || Files.isRegularFile(thumbnailPath(imageId, "image/jpeg", width));
+    }
+
+    private void generate(Image image, int[] thumbnailWidths) {
+        final String format = thumbnailFormat(image.getMimeType());
+        final BufferedImage source = decode(image, Arrays.stream(thumbnailWidths).max().orElse(0));
+        for (int width : thumbnailWidths) {
+            try {
+                if (source == null || source.getWidth() <= width) {
+                    write(markerPath(image.getId(), width), null, format);
+                } else {
+                    write(thumbnailPath(image.getId(), image.getMimeType(), width),
+                            ImageScaling.scaleToWidth(source, width, "png".equals(format)), format);
+                }
+            } catch (IOException | RuntimeException e) {
+                // the original image is served instead
+                log.warn("Could not generate thumbnail of image {} with width {}", image.getId(), width, e);
+            }
+        }
+    }
+
+    /**
+     * Decodes an image, subsampled if it has more than the maximum amount of pixels.
+     *
+     * @param image          the image to decode
+     * @param thumbnailWidth the width of the widest thumbnail to generate, the decoded image stays wider than it
+     * @return the decoded image or null if the image can not be decoded or is too large
+     */
+    private BufferedImage decode(Image image, int thumbnailWidth) {
+        final byte[] content = image.getEncoding() == ImageEncoding.RAW ? image.getImage() : SketchImageMigration.decode(image.getImage());
+        if (content == null) {
+            return null;
+        }
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            final Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                final int width = reader.getWidth(0);
+                final long pixels = (long) width * reader.getHeight(0);
+                final ImageReadParam param = reader.getDefaultReadParam();
+                if (pixels > maxPixels) {
+                    // the largest subsampling keeping the image wider than the thumbnail
+                    final int subsampling = Math.min((int) Math.ceil(Math.sqrt((double) pixels / maxPixels)),
+                            Math.max(1, (width - 1) / Math.max(1, thumbnailWidth)));
+                    if (pixels / ((long) subsampling * subsampling) > maxPixels) {
+                        log.info("Image {} with {} pixels is too large to generate thumbnails", image.getId(), pixels);
+                        return null;
+                    }
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Could not decode image {}", image.getId(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes a thumbnail to a temporary file first and moves it to its final name, so a thumbnail is either complete or
+     * not there at all.
+     */
+    private void write(Path target, BufferedImage thumbnail, String format) throws IOException {
+        final Path temporaryDirectory = Files.createDirectories(directory.resolve(TEMPORARY_DIRECTORY));
+        final Path temporaryFile = temporaryDirectory.resolve(target.getFileName() + "-" + UUID.randomUUID());
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+                if (thumbnail != null && !ImageIO.write(thumbnail, format, outputStream)) {
+                    throw new IOException("No writer for image format " + format);
+                }
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(temporaryFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private Path imageDirectory(UUID imageId) {
+        final String id = imageId.toString();
+        return directory.resolve(id.substring(0, 2));
+    }
+
+    private Path thumbnailPath(UUID imageId, String mimeType, int width) {
+        return imageDirectory(imageId).resolve(imageId + "-" + width + "." + thumbnailFormat(mimeType));
+    }
+
+    private Path markerPath(UUID imageId, int width) {
+        return imageDirectory(imageId).resolve(imageId + "-" + width + ORIGINAL_MARKER);
+    }
+
+    /**
+     * Photos stay JPEGs, all other images become PNGs, which keeps drawings sharp and transparency intact.
+     */
+    private static String thumbnailFormat(String mimeType) {
+        return "image/jpeg".equalsIgnoreCase(mimeType) || "image/jpg".equalsIgnoreCase(mimeType) ? "jpg" : "png";
+    }
+
+    private static String thumbnailMimeType(String mimeType) {
+        return "jpg".equals(thumbnailFormat(mimeType)) ? "image/jpeg" : "image/png";
+    }
+}
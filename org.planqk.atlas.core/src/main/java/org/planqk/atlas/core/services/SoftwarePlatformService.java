@@ -19,6 +19,8 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.CloudService;
@@ -84,6 +86,17 @@ public interface SoftwarePlatformService {
      */
     SoftwarePlatform findById(UUID softwarePlatformId);
 
+    /**
+     * Find the database entries of multiple {@link SoftwarePlatform}s based on the IDs the database has given them.
+     * <p>
+     * The found {@link SoftwarePlatform}s are returned in the order of the given IDs. IDs without a database entry are skipped
+     * instead of throwing a {@link java.util.NoSuchElementException}, so the caller can report them.
+     *
+     * @param softwarePlatformIds The IDs of the {@link SoftwarePlatform}s we want to find
+     * @return The found {@link SoftwarePlatform}s in the order of the given IDs
+     */
+    List<SoftwarePlatform> findAllById(Collection<UUID> softwarePlatformIds);
+
     /**
      * Update an existing {@link SoftwarePlatform} database entry by saving the updated {@link SoftwarePlatform} object
      * to the the database.
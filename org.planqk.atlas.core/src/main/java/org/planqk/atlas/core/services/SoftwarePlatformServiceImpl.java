@@ -19,6 +19,8 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 
@@ -79,6 +81,11 @@ public class SoftwarePlatformServiceImpl implements SoftwarePlatformService {
         return ServiceUtils.findById(softwarePlatformId, SoftwarePlatform.class, softwarePlatformRepository);
     }
 
+    @Override
+    public List<SoftwarePlatform> findAllById(@NonNull Collection<UUID> softwarePlatformIds) {
+        return ServiceUtils.findAllById(softwarePlatformIds, softwarePlatformRepository);
+    }
+
     @Override
     @Transactional
     public SoftwarePlatform update(@NonNull SoftwarePlatform softwarePlatform) {
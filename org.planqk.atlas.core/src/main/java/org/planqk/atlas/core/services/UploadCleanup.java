@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.planqk.atlas.core.MaintenanceConfiguration;
+import org.planqk.atlas.core.model.UploadStatus;
+import org.planqk.atlas.core.repository.UploadRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cleans up the uploads processed in the background, see {@link UploadService}.
+ * <p>
+ * The uploads are processed by an executor in memory, so uploads that were pending or processed when the application
+ * stopped are never completed. After the application started, they are marked as failed and the spooled files left
+ * behind are deleted. Only uploads and files from before the start are touched, so uploads received in the meantime
+ * are processed as usual. Completed and failed uploads are deleted once they were not modified for the retention
+ * period, their status is only polled shortly after the upload.
+ */
+@Slf4j
+@Component
+public class UploadCleanup {
+
+    static final String INTERRUPTED_MESSAGE = "The processing of the upload was interrupted by a restart";
+
+    private static final List<UploadStatus> UNFINISHED = List.of(UploadStatus.PENDING, UploadStatus.PROCESSING);
+
+    private static final List<UploadStatus> FINISHED = List.of(UploadStatus.COMPLETED, UploadStatus.FAILED);
+
+    private final UploadRepository uploadRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final String spoolDirectory;
+
+    private final long retentionHours;
+
+    private final Date startedAt = new Date();
+
+    public UploadCleanup(UploadRepository uploadRepository, PlatformTransactionManager transactionManager,
+                         @Value("${org.planqk.atlas.upload.spool-directory}") String spoolDirectory,
+                         @Value("${org.planqk.atlas.upload.retention-hours}") long retentionHours) {
+        this.uploadRepository = uploadRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.spoolDirectory = spoolDirectory;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * Marks the uploads that were not finished before the application started as failed and deletes the spooled files
+     * from before the start.
+     */
+    @Async(MaintenanceConfiguration.MAINTENANCE_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        final Integer failed = transactionTemplate.execute(status ->
+                uploadRepository.failCreatedBefore(UNFINISHED, startedAt, INTERRUPTED_MESSAGE, new Date()));
+        if (failed != null && failed > 0) {
+            log.info("Marked {} uploads interrupted by a restart as failed", failed);
+        }
+        deleteSpooledFiles();
+    }
+
+    @Scheduled(cron = "${org.planqk.atlas.upload.cleanup.cron}")
+    public void deleteFinished() {
+        final Date modifiedBefore = new Date(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(retentionHours));
+        final Integer deleted = transactionTemplate.execute(status -> uploadRepository.deleteModifiedBefore(FINISHED, modifiedBefore));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} finished uploads", deleted);
+        }
+    }
+
+    private void deleteSpooledFiles() {
+        final Path directory = Paths.get(spoolDirectory).toAbsolutePath();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        // the names match the files created by the upload service
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "upload-*.part")) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toMillis() < startedAt.getTime()) {
+                        Files.deleteIfExists(file);
+                    }
+                } catch (IOException e) {
+                    log.warn("Could not delete spooled upload \"{}\"", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not list the spooled uploads in \"{}\"", directory, e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import java.util.Date;
+import java.util.UUID;
+
+import org.planqk.atlas.core.UploadConfiguration;
+import org.planqk.atlas.core.model.Upload;
+import org.planqk.atlas.core.model.UploadStatus;
+import org.planqk.atlas.core.repository.UploadRepository;
+import org.planqk.atlas.core.util.ServiceUtils;
+import org.planqk.atlas.core.util.SpooledMultipartFile;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Processes spooled uploads on the upload executor, see {@link UploadService}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadProcessor {
+
+    // length of the error message column
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 2048;
+
+    private final UploadRepository uploadRepository;
+
+    private final ImplementationPackageService implementationPackageService;
+
+    private final SolutionService solutionService;
+
+    private final ToscaApplicationService toscaApplicationService;
+
+    /**
+     * Stores the spooled upload as its target and records the result in the {@link Upload}. The spooled file is deleted
+     * afterwards, whether the processing succeeded or not.
+     *
+     * @param uploadId the ID of the {@link Upload}
+     * @param file     the spooled content of the upload
+     */
+    @Async(UploadConfiguration.UPLOAD_EXECUTOR)
+    public void process(UUID uploadId, SpooledMultipartFile file) {
+        try {
+            final Upload upload = ServiceUtils.findById(uploadId, Upload.class, uploadRepository);
+            updateStatus(upload, UploadStatus.PROCESSING);
+            try {
+                upload.setResultId(store(upload, file));
+                upload.setBytesProcessed(upload.getSize());
+                updateStatus(upload, UploadStatus.COMPLETED);
+            } catch (RuntimeException e) {
+                log.warn("Processing of upload {} failed", uploadId, e);
+                // keep the progress reported by the stream of the upload
+                uploadRepository.findById(uploadId).ifPresent(current -> upload.setBytesProcessed(current.getBytesProcessed()));
+                upload.setErrorMessage(errorMessage(e));
+                updateStatus(upload, UploadStatus.FAILED);
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static String errorMessage(RuntimeException e) {
+        final String message = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+        return message.length() > MAX_ERROR_MESSAGE_LENGTH ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH) : message;
+    }
+
+    private UUID store(Upload upload, SpooledMultipartFile file) {
+        switch (upload.getTarget()) {
+            case IMPLEMENTATION_PACKAGE_FILE:
+                return implementationPackageService.addFileToImplementationPackage(upload.getTargetId(), file).getId();
+            case SOLUTION_FILE:
+                return solutionService.addFileToSolution(upload.getTargetId(), file).getId();
+            case TOSCA_APPLICATION:
+                return toscaApplicationService.createFromFile(file, upload.getName()).getId();
+            default:
+                throw new IllegalStateException("Unknown upload target " + upload.getTarget());
+        }
+    }
+
+    private void updateStatus(Upload upload, UploadStatus status) {
+        upload.setStatus(status);
+        upload.setLastModifiedAt(new Date());
+        uploadRepository.save(upload);
+    }
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.Upload;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Service to accept uploads that are processed in the background.
+ * <p>
+ * The uploaded file is spooled to disk and an {@link Upload} with status {@link
+ * org.planqk.atlas.core.model.UploadStatus#PENDING} is returned right away. Storing the content and creating the
+ * target happens on a bounded executor, its progress and result are recorded in the {@link Upload}.
+ */
+public interface UploadService {
+
+    Upload submitImplementationPackageFile(UUID implementationPackageId, MultipartFile file);
+
+    Upload submitSolutionFile(UUID solutionId, MultipartFile file);
+
+    Upload submitToscaApplication(MultipartFile file, String name);
+
+    Upload findById(UUID uploadId);
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Date;
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.Upload;
+import org.planqk.atlas.core.model.UploadStatus;
+import org.planqk.atlas.core.model.UploadTarget;
+import org.planqk.atlas.core.repository.UploadRepository;
+import org.planqk.atlas.core.util.ServiceUtils;
+import org.planqk.atlas.core.util.SpooledMultipartFile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadServiceImpl implements UploadService {
+
+    private final UploadRepository uploadRepository;
+
+    private final UploadProcessor uploadProcessor;
+
+    @Value("${org.planqk.atlas.upload.spool-directory}")
+    private String spoolDirectory;
+
+    @Override
+    public Upload submitImplementationPackageFile(UUID implementationPackageId, MultipartFile file) {
+        return submit(UploadTarget.IMPLEMENTATION_PACKAGE_FILE, implementationPackageId, file, file.getOriginalFilename());
+    }
+
+    @Override
+    public Upload submitSolutionFile(UUID solutionId, MultipartFile file) {
+        return submit(UploadTarget.SOLUTION_FILE, solutionId, file, file.getOriginalFilename());
+    }
+
+    @Override
+    public Upload submitToscaApplication(MultipartFile file, String name) {
+        return submit(UploadTarget.TOSCA_APPLICATION, null, file, name);
+    }
+
+    @Override
+    public Upload findById(UUID uploadId) {
+        return ServiceUtils.findById(uploadId, Upload.class, uploadRepository);
+    }
+
+    /**
+     * Spools the upload and hands it to the processor. This method is deliberately not transactional, the upload has to
+     * be committed before the processor, which runs in another thread, looks it up.
+     */
+    private Upload submit(UploadTarget target, UUID targetId, MultipartFile file, String name) {
+        final Path spooledFile = spool(file);
+
+        final Date now = new Date();
+        final Upload upload = new Upload();
+        upload.setTarget(target);
+        upload.setTargetId(targetId);
+        upload.setName(name);
+        upload.setSize(file.getSize());
+        upload.setStatus(UploadStatus.PENDING);
+        upload.setCreationDate(now);
+        upload.setLastModifiedAt(now);
+        final Upload savedUpload = uploadRepository.save(upload);
+
+        final UUID uploadId = savedUpload.getId();
+        final SpooledMultipartFile spooledMultipartFile = new SpooledMultipartFile(spooledFile, file,
+                bytesProcessed -> uploadRepository.updateProgress(uploadId, bytesProcessed, new Date()));
+        try {
+            uploadProcessor.process(uploadId, spooledMultipartFile);
+        } catch (TaskRejectedException e) {
+            spooledMultipartFile.delete();
+            savedUpload.setStatus(UploadStatus.FAILED);
+            savedUpload.setErrorMessage("Too many uploads are processed at the moment");
+            uploadRepository.save(savedUpload);
+            throw e;
+        }
+        return savedUpload;
+    }
+
+    private Path spool(MultipartFile file) {
+        try {
+            final Path directory = Files.createDirectories(Paths.get(spoolDirectory).toAbsolutePath());
+            final Path spooledFile = Files.createTempFile(directory, "upload-", ".part");
+            // the container moves the file instead of copying it if the upload is already stored on disk
+            file.transferTo(spooledFile.toFile());
+            return spooledFile;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot spool contents of multipart file", e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.util;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.exception.RevisionDoesNotExistException;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.query.AuditQuery;
+import org.hibernate.envers.query.criteria.AuditCriterion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import lombok.NonNull;
+
+/**
+ * Reads audited entities in the state they had at a given point in time.
+ * <p>
+ * The date is resolved to the latest revision created at or before it with one lookup on the revision info table.
+ * All entities are then read with one audit query, which selects the latest revision of every entity up to that
+ * revision, so the cost does not depend on the number of entities in a page. Entities without a revision at that
+ * point in time, i.e. created later or deleted together with their revisions, are not part of the result.
+ */
+public final class AsOfQueries {
+
+    private AsOfQueries() {
+    }
+
+    /**
+     * Returns an entity in the state it had at the given point in time.
+     *
+     * @param entityManager the entity manager of the current transaction
+     * @param entityClass   the audited class of the entity
+     * @param id            the ID of the entity
+     * @param asOf          the point in time
+     * @return the entity or an empty optional if it had no revision at that point in time
+     */
+    public static <T> Optional<T> findById(@NonNull EntityManager entityManager, @NonNull Class<T> entityClass,
+                                           @NonNull UUID id, @NonNull Date asOf) {
+        final AuditReader auditReader = AuditReaderFactory.get(entityManager);
+        return revisionAt(auditReader, asOf).flatMap(revision -> {
+            final List<?> entities = auditReader.createQuery()
+                    .forEntitiesAtRevision(entityClass, revision)
+                    .add(AuditEntity.id().eq(id))
+                    .getResultList();
+            return entities.stream().findFirst().map(entityClass::cast);
+        });
+    }
+
+    /**
+     * Returns a page of entities in the state they had at the given point in time.
+     * <p>
+     * The entities are sorted by the given sort, which may only refer to audited properties, and by their IDs, so
+     * entities with equal sort properties are paged in a stable order.
+     *
+     * @param entityManager the entity manager of the current transaction
+     * @param entityClass   the audited class of the entities
+     * @param asOf          the point in time
+     * @param pageable      the page to return
+     * @param criteria      further restrictions of the entities, e.g. on their properties at that point in time
+     * @return the page of entities, empty if there was no revision at that point in time
+     */
+    public static <T> Page<T> findAll(@NonNull EntityManager entityManager, @NonNull Class<T> entityClass,
+                                      @NonNull Date asOf, @NonNull Pageable pageable, AuditCriterion... criteria) {
+        final AuditReader auditReader = AuditReaderFactory.get(entityManager);
+        final Optional<Number> revision = revisionAt(auditReader, asOf);
+        if (revision.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        final AuditQuery query = restrict(auditReader.createQuery().forEntitiesAtRevision(entityClass, revision.get()), criteria);
+        for (Sort.Order order : pageable.getSort()) {
+            // rejects unknown properties before they are passed to the query
+            entityManager.getMetamodel().entity(entityClass).getAttribute(order.getProperty());
+            query.addOrder(order.isAscending() ? AuditEntity.property(order.getProperty()).asc()
+                    : AuditEntity.property(order.getProperty()).desc());
+        }
+        query.addOrder(AuditEntity.id().asc());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        final List<T> content = ((List<?>) query.getResultList()).stream().map(entityClass::cast).collect(Collectors.toList());
+        if (pageable.isUnpaged() || (pageable.getOffset() == 0 && content.size() < pageable.getPageSize())) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+
+        final Number total = (Number) restrict(auditReader.createQuery().forEntitiesAtRevision(entityClass, revision.get()), criteria)
+                .addProjection(AuditEntity.id().count())
+                .getSingleResult();
+        return new PageImpl<>(content, pageable, total.longValue());
+    }
+
+    private static AuditQuery restrict(AuditQuery query, AuditCriterion... criteria) {
+        for (AuditCriterion criterion : criteria) {
+            query.add(criterion);
+        }
+        return query;
+    }
+
+    private static Optional<Number> revisionAt(AuditReader auditReader, Date asOf) {
+        try {
+            return Optional.of(auditReader.getRevisionNumberForDate(asOf));
+        } catch (RevisionDoesNotExistException e) {
+            // the date is before the first revision
+            return Optional.empty();
+        }
+    }
+}
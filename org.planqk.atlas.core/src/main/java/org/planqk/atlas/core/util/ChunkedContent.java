@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Utility class to store contents in chunks of a fixed size.
+ */
+public final class ChunkedContent {
+
+    private ChunkedContent() {
+    }
+
+    /**
+     * Reads the given stream chunk by chunk and passes each chunk to the consumer.
+     * <p>
+     * Every chunk is a new array of the given size, only the last one may be smaller. Since the stream is never read
+     * beyond the current chunk, the memory needed is bounded by the chunk size as long as the consumer does not keep
+     * references to the chunks. An empty stream results in no chunks.
+     *
+     * @param inputStream the content to split, is not closed
+     * @param chunkSize   the size of the chunks in bytes
+     * @param consumer    the consumer the chunks are passed to in order
+     * @return the length of the content in bytes
+     * @throws IOException if the stream can not be read
+     */
+    public static long split(InputStream inputStream, int chunkSize, ChunkConsumer consumer) throws IOException {
+        long length = 0;
+        int index = 0;
+        while (true) {
+            final byte[] chunk = inputStream.readNBytes(chunkSize);
+            if (chunk.length == 0) {
+                return length;
+            }
+            consumer.accept(index++, chunk);
+            length += chunk.length;
+            if (chunk.length < chunkSize) {
+                return length;
+            }
+        }
+    }
+
+    /**
+     * Returns the part of a chunk starting at the given position of the content, as needed by a {@link
+     * SlicedInputStream.SliceReader}.
+     *
+     * @param chunk     the chunk containing the position
+     * @param offset    the position in the content
+     * @param chunkSize the size of the chunks the content was split into
+     * @return the chunk itself if the position is the start of the chunk, otherwise the rest of the chunk
+     */
+    public static byte[] sliceFrom(byte[] chunk, long offset, int chunkSize) {
+        final int start = (int) (offset % chunkSize);
+        if (start == 0) {
+            return chunk;
+        }
+        return Arrays.copyOfRange(chunk, start, chunk.length);
+    }
+
+    /**
+     * Consumes the chunks of a content.
+     */
+    @FunctionalInterface
+    public interface ChunkConsumer {
+
+        void accept(int index, byte[] chunk) throws IOException;
+    }
+}
@@ -27,6 +27,28 @@ public final class Constants {
     // amount of revisions to be saved for each artifact
     public static final int REVISIONS_COUNT = 20;
     public static final String PROPERTY_SORT = "parentProblemTypeName";
+
+    // rows fetched per round trip when streaming query results, must be a constant string for @QueryHint
+    public static final String STREAMING_FETCH_SIZE = "250";
+
+    // amount of streamed entities after which the persistence context is cleared
+    public static final int STREAMING_CLEAR_INTERVAL = 250;
+
+    // maximum amount of IDs in the IN list of a single query when loading entities by a list of IDs
+    public static final int FIND_ALL_BY_ID_CHUNK_SIZE = 500;
+
+    // maximum amount of bytes of a file content that are read from the database at once
+    public static final int FILE_CONTENT_SLICE_SIZE = 1024 * 1024;
+
+    // size of the chunks file contents are stored in
+    public static final int FILE_CHUNK_SIZE = 1024 * 1024;
+
+    // maximum amount of bytes transferred between a channel and a file on the local storage or a response at once
+    public static final long FILE_TRANSFER_SIZE = 8 * 1024 * 1024;
+
+    // amount of bytes read between two progress reports of an upload
+    public static final long UPLOAD_PROGRESS_INTERVAL = 4 * 1024 * 1024;
+
     private Constants() {
     }
 }
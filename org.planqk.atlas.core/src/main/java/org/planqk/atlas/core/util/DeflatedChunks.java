@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Utility class to compress the chunks of a content independently of each other.
+ * <p>
+ * Every chunk is compressed by a new {@link Deflater} and ends with a sync flush instead of a final block. Hence a
+ * chunk can be decompressed on its own, e.g. for range requests, and the chunks of a content concatenated in order form
+ * a single raw deflate stream, which only lacks the final block. {@link #gzipHeader()} and {@link #gzipTrailer(long,
+ * long)} add the missing parts to serve the stored chunks as gzip without compressing the content again.
+ */
+public final class DeflatedChunks {
+
+    // an empty final block with fixed Huffman codes, following the byte aligned end of the last chunk
+    private static final byte[] FINAL_BLOCK = {0x03, 0x00};
+
+    // magic number, deflate, no flags, no modification time, no extra flags, unknown operating system
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private static final int GZIP_TRAILER_LENGTH = FINAL_BLOCK.length + 8;
+
+    private DeflatedChunks() {
+    }
+
+    /**
+     * Compresses a chunk.
+     *
+     * @param chunk the uncompressed chunk
+     * @return the chunk as raw deflate data ending with a sync flush
+     */
+    public static byte[] deflate(byte[] chunk) {
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(chunk);
+            final ByteArrayOutputStream output = new ByteArrayOutputStream(chunk.length / 2 + 64);
+            final byte[] buffer = new byte[64 * 1024];
+            int length;
+            // the output is complete once the deflater stops filling the buffer
+            do {
+                length = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                output.write(buffer, 0, length);
+            } while (length == buffer.length);
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decompresses a chunk compressed by {@link #deflate(byte[])}.
+     *
+     * @param data   the compressed chunk
+     * @param length the length of the uncompressed chunk in bytes
+     * @return the uncompressed chunk
+     * @throws IllegalStateException if the data is not a compressed chunk of the given length
+     */
+    public static byte[] inflate(byte[] data, int length) {
+        final Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data);
+            final byte[] chunk = new byte[length];
+            int position = 0;
+            while (position < length) {
+                final int read = inflater.inflate(chunk, position, length - position);
+                if (read == 0 && (inflater.needsInput() || inflater.finished() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Compressed chunk is shorter than " + length + " bytes");
+                }
+                position += read;
+            }
+            return chunk;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Compressed chunk is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    public static InputStream gzipHeader() {
+        return new ByteArrayInputStream(GZIP_HEADER);
+    }
+
+    /**
+     * Returns the end of a gzip stream of the concatenated chunks of a content.
+     *
+     * @param crc32 the CRC-32 of the uncompressed content
+     * @param size  the length of the uncompressed content in bytes
+     * @return the final deflate block followed by the gzip trailer
+     */
+    public static InputStream gzipTrailer(long crc32, long size) {
+        final byte[] trailer = new byte[GZIP_TRAILER_LENGTH];
+        System.arraycopy(FINAL_BLOCK, 0, trailer, 0, FINAL_BLOCK.length);
+        writeIntLittleEndian(trailer, FINAL_BLOCK.length, crc32);
+        writeIntLittleEndian(trailer, FINAL_BLOCK.length + 4, size);
+        return new ByteArrayInputStream(trailer);
+    }
+
+    /**
+     * Returns the length of a gzip stream of the concatenated chunks of a content.
+     *
+     * @param storedSize the length of all compressed chunks in bytes
+     * @return the length including header and trailer in bytes
+     */
+    public static long gzipLength(long storedSize) {
+        return GZIP_HEADER.length + storedSize + GZIP_TRAILER_LENGTH;
+    }
+
+    // gzip stores the lower 32 bits only, the size is taken modulo 2^32
+    private static void writeIntLittleEndian(byte[] buffer, int offset, long value) {
+        for (int i = 0; i < 4; i++) {
+            buffer[offset + i] = (byte) (value >>> (8 * i));
+        }
+    }
+}
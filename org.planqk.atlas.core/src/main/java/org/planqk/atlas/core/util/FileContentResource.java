@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.planqk.atlas.core.model.File;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.lang.Nullable;
+
+/**
+ * The content of a stored {@link File} as a {@link org.springframework.core.io.Resource}.
+ * <p>
+ * The content is not loaded when the resource is created. Every call of {@link #getInputStream()} opens a new stream
+ * on the underlying storage, so the resource can be written in parts, e.g. for HTTP range requests, without holding
+ * the whole content in memory.
+ */
+public class FileContentResource extends AbstractResource {
+
+    private final File file;
+
+    private final Long contentLength;
+
+    private final ContentOpener opener;
+
+    /**
+     * @param file          the file the content belongs to
+     * @param contentLength the length of the content in bytes, null if it is unknown and has to be determined by
+     *                      reading the content
+     * @param opener        opens a new stream of the content
+     */
+    public FileContentResource(File file, @Nullable Long contentLength, ContentOpener opener) {
+        this.file = file;
+        this.contentLength = contentLength;
+        this.opener = opener;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return opener.open();
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        if (contentLength != null) {
+            return contentLength;
+        }
+        return super.contentLength();
+    }
+
+    @Override
+    public String getFilename() {
+        return file.getName();
+    }
+
+    @Override
+    public String getDescription() {
+        return "Content of file [" + file.getId() + "]";
+    }
+
+    /**
+     * Opens a new stream of the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentOpener {
+
+        InputStream open() throws IOException;
+    }
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+import org.springframework.core.io.AbstractResource;
+
+/**
+ * The content of a stored {@link org.planqk.atlas.core.model.Image} as a {@link org.springframework.core.io.Resource}.
+ * <p>
+ * Like {@link FileContentResource} the content is read from the database when the stream is opened, so it is never
+ * held in memory as a whole.
+ */
+public class ImageContentResource extends AbstractResource {
+
+    private final UUID imageId;
+
+    private final String mimeType;
+
+    private final long contentLength;
+
+    private final Integer width;
+
+    private final FileContentResource.ContentOpener opener;
+
+    /**
+     * @param imageId       the ID of the image
+     * @param mimeType      the MIME type of the image
+     * @param contentLength the length of the content in bytes
+     * @param opener        opens a new stream of the content
+     */
+    public ImageContentResource(UUID imageId, String mimeType, long contentLength, FileContentResource.ContentOpener opener) {
+        this(imageId, mimeType, contentLength, null, opener);
+    }
+
+    /**
+     * @param imageId       the ID of the image
+     * @param mimeType      the MIME type of the image or thumbnail
+     * @param contentLength the length of the content in bytes
+     * @param width         the width of the thumbnail or null for the original image
+     * @param opener        opens a new stream of the content
+     */
+    public ImageContentResource(UUID imageId, String mimeType, long contentLength, Integer width,
+                                FileContentResource.ContentOpener opener) {
+        this.imageId = imageId;
+        this.mimeType = mimeType;
+        this.contentLength = contentLength;
+        this.width = width;
+        this.opener = opener;
+    }
+
+    public UUID getImageId() {
+        return imageId;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public Integer getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns a tag identifying the content. Images are never changed, so the ID and the width identify it.
+     */
+    public String getEntityTag() {
+        return width == null ? imageId.toString() : imageId + "-" + width;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return opener.open();
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public String getDescription() {
+        return width == null ? "Content of image [" + imageId + "]" : "Thumbnail of image [" + imageId + "] with width " + width;
+    }
+}
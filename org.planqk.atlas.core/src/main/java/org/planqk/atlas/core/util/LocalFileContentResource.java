@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.util;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.planqk.atlas.core.model.File;
+
+/**
+ * The content of a {@link File} stored in a file of the local storage.
+ * <p>
+ * In contrast to other contents the resource is backed by a file system file, which allows writers of the resource to
+ * transfer the content without copying it through the heap, e.g. with {@link FileChannel#transferTo(long, long,
+ * java.nio.channels.WritableByteChannel)}.
+ */
+public class LocalFileContentResource extends FileContentResource {
+
+    private final Path path;
+
+    /**
+     * @param file the file the content belongs to
+     * @param path the file on the local storage containing the content
+     */
+    public LocalFileContentResource(File file, Path path) {
+        super(file, file.getSize(), () -> Files.newInputStream(path));
+        this.path = path;
+    }
+
+    @Override
+    public boolean isFile() {
+        return true;
+    }
+
+    @Override
+    public java.io.File getFile() {
+        return path.toFile();
+    }
+
+    @Override
+    public ReadableByteChannel readableChannel() throws IOException {
+        return FileChannel.open(path, StandardOpenOption.READ);
+    }
+}
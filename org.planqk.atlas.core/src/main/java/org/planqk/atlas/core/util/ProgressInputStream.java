@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+
+/**
+ * Stream that reports the amount of bytes read so far, at most once per interval and once more at the end.
+ */
+public class ProgressInputStream extends FilterInputStream {
+
+    private final LongConsumer listener;
+
+    private final long interval;
+
+    private long bytesRead;
+
+    private long reported;
+
+    /**
+     * @param inputStream the stream to read from
+     * @param interval    the amount of bytes to read between two reports
+     * @param listener    receives the amount of bytes read so far
+     */
+    public ProgressInputStream(InputStream inputStream, long interval, LongConsumer listener) {
+        super(inputStream);
+        this.interval = interval;
+        this.listener = listener;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int value = super.read();
+        count(value < 0 ? -1 : 1);
+        return value;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        final int count = super.read(bytes, offset, length);
+        count(count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        final long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void count(long count) {
+        if (count < 0) {
+            if (reported != bytesRead) {
+                report();
+            }
+            return;
+        }
+        bytesRead += count;
+        if (bytesRead - reported >= interval) {
+            report();
+        }
+    }
+
+    private void report() {
+        reported = bytesRead;
+        listener.accept(bytesRead);
+    }
+}
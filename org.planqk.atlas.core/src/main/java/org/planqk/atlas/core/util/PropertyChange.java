@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A property whose value differs between two revisions of an entity.
+ */
+@Data
+@AllArgsConstructor
+public class PropertyChange {
+
+    private String property;
+
+    // null if the property was not set in the older revision
+    private Object oldValue;
+
+    // null if the property is not set in the newer revision
+    private Object newValue;
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.util;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import javax.persistence.EntityManager;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.DefaultRevisionEntity;
+import org.hibernate.envers.NotAudited;
+import org.hibernate.envers.query.AuditEntity;
+import org.planqk.atlas.core.model.HasId;
+import org.springframework.util.ReflectionUtils;
+
+import lombok.NonNull;
+
+/**
+ * Computes the differences of the audited properties between two revisions of an entity.
+ * <p>
+ * Both revisions are read with a single audit query. Only properties stored in the revision tables are compared, i.e.
+ * basic properties, the IDs of referenced entities and audited element collections. Associations that are not audited
+ * are not part of a revision and therefore never show up as a change.
+ */
+public final class RevisionDiffs {
+
+    private RevisionDiffs() {
+    }
+
+    /**
+     * Returns the properties of an entity that changed from one revision to another.
+     *
+     * @param entityManager  the entity manager of the current transaction
+     * @param entityClass    the audited class of the entity
+     * @param id             the ID of the entity
+     * @param fromRevisionId the number of the older revision
+     * @param toRevisionId   the number of the newer revision
+     * @return the changed properties in the order of the entity metamodel, empty if both revisions are equal
+     * @throws NoSuchElementException if one of the revisions does not exist for the entity
+     */
+    public static List<PropertyChange> diff(@NonNull EntityManager entityManager, @NonNull Class<?> entityClass, @NonNull UUID id,
+                                            int fromRevisionId, int toRevisionId) {
+        Object from = null;
+        Object to = null;
+        final List<?> rows = AuditReaderFactory.get(entityManager).createQuery()
+                .forRevisionsOfEntity(entityClass, false, false)
+                .add(AuditEntity.id().eq(id))
+                .add(AuditEntity.revisionNumber().in(new Integer[] {fromRevisionId, toRevisionId}))
+                .getResultList();
+        for (Object row : rows) {
+            final Object[] revision = (Object[]) row;
+            final int revisionId = ((DefaultRevisionEntity) revision[1]).getId();
+            if (revisionId == fromRevisionId) {
+                from = revision[0];
+            }
+            if (revisionId == toRevisionId) {
+                to = revision[0];
+            }
+        }
+        if (from == null || to == null) {
+            throw new NoSuchElementException("Revision with ID " + (from == null ? fromRevisionId : toRevisionId)
+                    + " of " + entityClass.getSimpleName() + " with ID \"" + id + "\" does not exist");
+        }
+        return diff(entityManager.getMetamodel().entity(to.getClass()), from, to);
+    }
+
+    private static List<PropertyChange> diff(EntityType<?> entityType, Object from, Object to) {
+        final List<PropertyChange> changes = new ArrayList<>();
+        for (Attribute<?, ?> attribute : entityType.getAttributes()) {
+            if (!isAudited(attribute)) {
+                continue;
+            }
+            final Field field = (Field) attribute.getJavaMember();
+            ReflectionUtils.makeAccessible(field);
+            final Object oldValue = valueOf(ReflectionUtils.getField(field, from));
+            final Object newValue = valueOf(ReflectionUtils.getField(field, to));
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.add(new PropertyChange(attribute.getName(), oldValue, newValue));
+            }
+        }
+        return changes;
+    }
+
+    private static boolean isAudited(Attribute<?, ?> attribute) {
+        if (!(attribute.getJavaMember() instanceof Field) || ((Field) attribute.getJavaMember()).isAnnotationPresent(NotAudited.class)) {
+            return false;
+        }
+        switch (attribute.getPersistentAttributeType()) {
+            case BASIC:
+                return !"id".equals(attribute.getName());
+            case MANY_TO_ONE:
+            case ONE_TO_ONE:
+            case ELEMENT_COLLECTION:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static Object valueOf(Object value) {
+        if (value instanceof HasId) {
+            // referenced entities are represented by their ID, they are audited on their own
+            return ((HasId) value).getId();
+        }
+        if (value instanceof Set) {
+            // sorted if possible, so the order of the elements neither causes a change nor differs between requests
+            final Set<?> set = (Set<?>) value;
+            if (set.isEmpty()) {
+                return null;
+            }
+            return set.stream().allMatch(Comparable.class::isInstance) ? new TreeSet<>(set) : new HashSet<>(set);
+        }
+        if (value instanceof Collection) {
+            final Collection<?> collection = (Collection<?>) value;
+            return collection.isEmpty() ? null : new ArrayList<>(collection);
+        }
+        return value;
+    }
+}
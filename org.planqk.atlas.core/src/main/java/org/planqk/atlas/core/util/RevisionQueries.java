@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.util;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.DefaultRevisionEntity;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.query.AuditQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.envers.repository.support.DefaultRevisionMetadata;
+import org.springframework.data.history.Revision;
+import org.springframework.data.history.RevisionSort;
+
+import lombok.NonNull;
+
+/**
+ * Reads the revisions of an audited entity together with their revision infos.
+ * <p>
+ * Unlike the {@link org.springframework.data.repository.history.RevisionRepository} methods, which reconstruct every
+ * revision of a page with a separate query, a page of revisions is read with one query on the revision tables of the
+ * entity, joined with the revision infos, plus one count query if the page is not the only one.
+ */
+public final class RevisionQueries {
+
+    private RevisionQueries() {
+    }
+
+    /**
+     * Returns a page of the revisions of an entity.
+     *
+     * @param entityManager the entity manager of the current transaction
+     * @param entityClass   the audited class of the entity
+     * @param id            the ID of the entity
+     * @param pageable      the page to return, sorted by revision number as given by {@link RevisionSort}
+     * @return the page of revisions, ascending by revision number unless requested otherwise
+     */
+    public static <T> Page<Revision<Integer, T>> findRevisions(@NonNull EntityManager entityManager, @NonNull Class<T> entityClass,
+                                                               @NonNull UUID id, @NonNull Pageable pageable) {
+        final AuditReader auditReader = AuditReaderFactory.get(entityManager);
+        final AuditQuery query = revisionsOf(auditReader, entityClass, id)
+                .addOrder(RevisionSort.getRevisionDirection(pageable.getSort()).isDescending()
+                        ? AuditEntity.revisionNumber().desc() : AuditEntity.revisionNumber().asc());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        final List<Revision<Integer, T>> content = ((List<?>) query.getResultList()).stream()
+                .map(row -> toRevision(entityClass, (Object[]) row))
+                .collect(Collectors.toList());
+        if (pageable.isUnpaged() || (pageable.getOffset() == 0 && content.size() < pageable.getPageSize())) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+
+        final Number total = (Number) revisionsOf(auditReader, entityClass, id)
+                .addProjection(AuditEntity.revisionNumber().count())
+                .getSingleResult();
+        return new PageImpl<>(content, pageable, total.longValue());
+    }
+
+    /**
+     * Returns a revision of an entity.
+     *
+     * @param entityManager  the entity manager of the current transaction
+     * @param entityClass    the audited class of the entity
+     * @param id             the ID of the entity
+     * @param revisionNumber the number of the revision
+     * @return the revision or an empty optional if the entity was not changed in that revision
+     */
+    public static <T> Optional<Revision<Integer, T>> findRevision(@NonNull EntityManager entityManager, @NonNull Class<T> entityClass,
+                                                                  @NonNull UUID id, int revisionNumber) {
+        final List<?> rows = revisionsOf(AuditReaderFactory.get(entityManager), entityClass, id)
+                .add(AuditEntity.revisionNumber().eq(revisionNumber))
+                .getResultList();
+        return rows.stream().findFirst().map(row -> toRevision(entityClass, (Object[]) row));
+    }
+
+    private static AuditQuery revisionsOf(AuditReader auditReader, Class<?> entityClass, UUID id) {
+        return auditReader.createQuery()
+                .forRevisionsOfEntity(entityClass, false, true)
+                .add(AuditEntity.id().eq(id));
+    }
+
+    private static <T> Revision<Integer, T> toRevision(Class<T> entityClass, Object[] row) {
+        return Revision.of(new DefaultRevisionMetadata((DefaultRevisionEntity) row[1]), entityClass.cast(row[0]));
+    }
+}
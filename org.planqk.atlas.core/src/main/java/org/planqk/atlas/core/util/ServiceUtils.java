@@ -19,8 +19,20 @@
 
 package org.planqk.atlas.core.util;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
 
 import org.planqk.atlas.core.model.HasId;
 import org.springframework.data.repository.CrudRepository;
@@ -64,6 +76,27 @@ public final class ServiceUtils {
                 " with ID \"" + id.toString() + "\" does not exist"));
     }
 
+    /**
+     * Finds multiple objects in the database based on their IDs.
+     * <p>
+     * The IDs are queried in chunks of {@link Constants#FIND_ALL_BY_ID_CHUNK_SIZE}, so the IN lists of the generated
+     * queries stay within the limits of the database. The objects are returned in the order of the given IDs, each
+     * object only once. IDs without an object in the database are skipped.
+     *
+     * @param ids        of the objects we want to find
+     * @param repository the repository responsible for the data access of the objects.
+     * @return the found objects in the order of the given IDs
+     */
+    public static <T extends HasId> List<T> findAllById(Collection<UUID> ids, CrudRepository<T, UUID> repository) {
+        final List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        final Map<UUID, T> found = new HashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += Constants.FIND_ALL_BY_ID_CHUNK_SIZE) {
+            final var chunk = distinctIds.subList(from, Math.min(from + Constants.FIND_ALL_BY_ID_CHUNK_SIZE, distinctIds.size()));
+            repository.findAllById(chunk).forEach(entity -> found.put(entity.getId(), entity));
+        }
+        return distinctIds.stream().map(found::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     /**
      * Check if a element with a given ID is contained in a collection.
      *
@@ -74,4 +107,27 @@ public final class ServiceUtils {
     public static <T extends HasId, ID> boolean containsElementWithId(Collection<T> collection, ID id) {
         return collection.stream().anyMatch(p -> p.getId().equals(id));
     }
+
+    /**
+     * Passes all entities of a stream to the given consumer.
+     * <p>
+     * The persistence context is cleared every {@link Constants#STREAMING_CLEAR_INTERVAL} entities, so already consumed
+     * entities can be garbage collected. Therefore the consumer must not keep references to the entities or their lazy
+     * associations and has to be called within the transaction the stream was opened in.
+     *
+     * @param entities      the stream of entities, e.g. returned by a repository
+     * @param entityManager the entity manager the stream was created with
+     * @param consumer      the consumer the entities are passed to
+     */
+    public static <T> void forEachDetached(Stream<T> entities, EntityManager entityManager, Consumer<? super T> consumer) {
+        final Iterator<T> iterator = entities.iterator();
+        int consumed = 0;
+        while (iterator.hasNext()) {
+            consumer.accept(iterator.next());
+            consumed++;
+            if (consumed % Constants.STREAMING_CLEAR_INTERVAL == 0) {
+                entityManager.clear();
+            }
+        }
+    }
 }
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/**
+ * An {@link InputStream} that reads its content slice by slice, so at most one slice is held in memory.
+ * <p>
+ * Skipping only moves the read position, the skipped slices are never read. This makes range reads of large contents
+ * as cheap as reading the range itself.
+ */
+public class SlicedInputStream extends InputStream {
+
+    private final SliceReader reader;
+
+    private final long length;
+
+    private final int sliceSize;
+
+    private long position;
+
+    private byte[] slice;
+
+    private long sliceStart;
+
+    /**
+     * @param reader    reads the slices of the content
+     * @param length    the length of the content in bytes
+     * @param sliceSize the maximum amount of bytes read at once
+     */
+    public SlicedInputStream(SliceReader reader, long length, int sliceSize) {
+        this.reader = reader;
+        this.length = length;
+        this.sliceSize = sliceSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!loadSlice()) {
+            return -1;
+        }
+        return slice[(int) (position++ - sliceStart)] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int count) throws IOException {
+        Objects.checkFromIndexSize(offset, count, buffer.length);
+        if (count == 0) {
+            return 0;
+        }
+        if (!loadSlice()) {
+            return -1;
+        }
+        final int sliceOffset = (int) (position - sliceStart);
+        final int read = Math.min(count, slice.length - sliceOffset);
+        System.arraycopy(slice, sliceOffset, buffer, offset, read);
+        position += read;
+        return read;
+    }
+
+    @Override
+    public long skip(long count) {
+        final long skipped = Math.max(0, Math.min(count, length - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        if (slice == null || position < sliceStart || position >= sliceStart + slice.length) {
+            return 0;
+        }
+        return (int) (sliceStart + slice.length - position);
+    }
+
+    /**
+     * Makes sure the slice containing the current position is loaded.
+     *
+     * @return false if the end of the content is reached
+     */
+    private boolean loadSlice() throws IOException {
+        if (position >= length) {
+            return false;
+        }
+        if (slice == null || position < sliceStart || position >= sliceStart + slice.length) {
+            final int count = (int) Math.min(sliceSize, length - position);
+            final byte[] read = reader.read(position, count);
+            if (read == null || read.length == 0) {
+                throw new IOException("Content ended at " + position + " of " + length + " bytes");
+            }
+            slice = read;
+            sliceStart = position;
+        }
+        return true;
+    }
+
+    /**
+     * Reads a part of a content.
+     */
+    @FunctionalInterface
+    public interface SliceReader {
+
+        /**
+         * @param offset the zero-based position of the first byte to read
+         * @param count  the amount of bytes to read
+         * @return the bytes read, at most count
+         */
+        byte[] read(long offset, int count) throws IOException;
+    }
+}
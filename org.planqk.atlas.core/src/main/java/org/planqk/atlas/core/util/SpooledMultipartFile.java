@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.LongConsumer;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An uploaded file that was copied to the spool directory, so it can be processed after the request is completed.
+ * <p>
+ * The progress of reading the content is reported to the given listener.
+ */
+@Slf4j
+public class SpooledMultipartFile implements MultipartFile {
+
+    private final Path path;
+
+    private final String name;
+
+    private final String originalFilename;
+
+    private final String contentType;
+
+    private final long size;
+
+    private final LongConsumer progressListener;
+
+    /**
+     * @param path             the spooled content
+     * @param upload           the uploaded file the content was copied from, provides the metadata
+     * @param progressListener receives the amount of bytes read so far
+     */
+    public SpooledMultipartFile(Path path, MultipartFile upload, LongConsumer progressListener) {
+        this.path = path;
+        this.name = upload.getName();
+        this.originalFilename = upload.getOriginalFilename();
+        this.contentType = upload.getContentType();
+        this.size = upload.getSize();
+        this.progressListener = progressListener;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        final byte[] bytes = Files.readAllBytes(path);
+        progressListener.accept(bytes.length);
+        return bytes;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return new ProgressInputStream(Files.newInputStream(path), Constants.UPLOAD_PROGRESS_INTERVAL, progressListener);
+    }
+
+    /**
+     * Deletes the spooled content, the file can not be read anymore afterwards.
+     */
+    public void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete spooled upload \"{}\"", path, e);
+        }
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.copy(path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        progressListener.accept(size);
+    }
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Calls a local stub of the Winery from many threads at once, which echoes the path of every request.
+ */
+class WineryServiceConcurrencyTest {
+
+    private static final int MAX_CONNECTIONS = 4;
+
+    private static final int READ_TIMEOUT = 500;
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private HttpServer server;
+
+    private ExecutorService serverExecutor;
+
+    private CloseableHttpClient httpClient;
+
+    private WineryService wineryService;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::echo);
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(READ_TIMEOUT * 4);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            echo(exchange);
+        });
+        serverExecutor = Executors.newFixedThreadPool(MAX_CONNECTIONS * 2);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        final RestTemplateConfiguration configuration = new RestTemplateConfiguration();
+        httpClient = configuration.wineryHttpClient(MAX_CONNECTIONS, 1000, READ_TIMEOUT, 30000);
+        wineryService = new WineryService("http", "localhost", server.getAddress().getPort(),
+                configuration.restTemplate(httpClient));
+    }
+
+    @AfterEach
+    void stopServer() throws IOException {
+        httpClient.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void get_ConcurrentRequests_EachReachesItsOwnPath() throws Exception {
+        final ExecutorService clients = Executors.newFixedThreadPool(32);
+        try {
+            final List<Callable<Void>> calls = new ArrayList<>();
+            for (int thread = 0; thread < 32; thread++) {
+                final int threadNumber = thread;
+                calls.add(() -> {
+                    for (int request = 0; request < 50; request++) {
+                        final String route = "/servicetemplates/" + threadNumber + "/" + request;
+                        assertThat(wineryService.get(route)).isEqualTo(route);
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> result : clients.invokeAll(calls)) {
+                result.get();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        // the connections are bounded by the pool and reused for the following requests
+        assertThat(clientPorts).isNotEmpty().hasSizeLessThanOrEqualTo(MAX_CONNECTIONS);
+    }
+
+    @Test
+    void get_SlowResponse_TimesOut() {
+        assertThrows(ResourceAccessException.class, () -> wineryService.get("/slow"));
+    }
+
+    private void echo(HttpExchange exchange) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        exchange.getRequestBody().readAllBytes();
+        final byte[] body = exchange.getRequestURI().getPath().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream response = exchange.getResponseBody()) {
+            response.write(body);
+        }
+    }
+}
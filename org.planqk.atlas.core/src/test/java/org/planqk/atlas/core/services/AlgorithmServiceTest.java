@@ -26,10 +26,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.AlgorithmRelation;
@@ -47,10 +50,12 @@ import org.planqk.atlas.core.model.QuantumComputationModel;
 import org.planqk.atlas.core.model.Tag;
 import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
 import org.planqk.atlas.core.util.Constants;
+import org.planqk.atlas.core.util.PropertyChange;
 import org.planqk.atlas.core.util.ServiceTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -180,6 +185,21 @@ public class AlgorithmServiceTest extends AtlasDatabaseTestBase {
         assertThat(algorithms.size()).isEqualTo(2);
     }
 
+    @Test
+    void streamAllAlgorithms() {
+        algorithmService.create(getFullAlgorithm("algorithmName2"));
+        algorithmService.create(getFullAlgorithm("algorithmName1"));
+        algorithmService.create(getFullAlgorithm("otherName"));
+
+        List<String> names = new ArrayList<>();
+        algorithmService.streamAll(Sort.by("name"), null, algorithm -> names.add(algorithm.getName()));
+        assertThat(names).containsExactly("algorithmName1", "algorithmName2", "otherName");
+
+        names.clear();
+        algorithmService.streamAll(Sort.by("name"), "ALGORITHM", algorithm -> names.add(algorithm.getName()));
+        assertThat(names).containsExactly("algorithmName1", "algorithmName2");
+    }
+
     @Test
     void findAlgorithmById_ElementNotFound() {
         assertThrows(NoSuchElementException.class, () ->
@@ -199,6 +219,51 @@ public class AlgorithmServiceTest extends AtlasDatabaseTestBase {
         assertThat(storedAlgorithm).isInstanceOf(ClassicAlgorithm.class);
     }
 
+    @Test
+    void findAlgorithmById_WithAssociations() {
+        Algorithm algorithm = algorithmService.create(getFullAlgorithm("algorithmName"));
+
+        Publication publication = new Publication();
+        publication.setTitle("publicationTitle");
+        publication.setAuthors(new ArrayList<>(List.of("publicationAuthor1", "publicationAuthor2")));
+        publication = publicationService.create(publication);
+        linkingService.linkAlgorithmAndPublication(algorithm.getId(), publication.getId());
+
+        Implementation implementation = new Implementation();
+        implementation.setName("implementationName");
+        implementationService.create(implementation, algorithm.getId());
+
+        Algorithm foundAlgorithm = algorithmService.findById(algorithm.getId(),
+                Set.of(AlgorithmService.Association.PUBLICATIONS, AlgorithmService.Association.IMPLEMENTATIONS));
+
+        assertThat(Hibernate.isInitialized(foundAlgorithm.getPublications())).isTrue();
+        assertThat(foundAlgorithm.getPublications()).hasSize(1);
+        assertThat(Hibernate.isInitialized(foundAlgorithm.getPublications().iterator().next().getAuthors())).isTrue();
+        assertThat(foundAlgorithm.getPublications().iterator().next().getAuthors())
+                .containsExactly("publicationAuthor1", "publicationAuthor2");
+        assertThat(Hibernate.isInitialized(foundAlgorithm.getImplementations())).isTrue();
+        assertThat(foundAlgorithm.getImplementations()).extracting(Implementation::getName).containsExactly("implementationName");
+        assertThat(Hibernate.isInitialized(foundAlgorithm.getTags())).isFalse();
+    }
+
+    @Test
+    void findAlgorithmById_WithAssociations_ElementNotFound() {
+        assertThrows(NoSuchElementException.class, () ->
+                algorithmService.findById(UUID.randomUUID(), Set.of(AlgorithmService.Association.TAGS)));
+    }
+
+    @Test
+    void findAllAlgorithmsById_RequestOrder() {
+        Algorithm first = algorithmService.create(getFullAlgorithm("firstAlgorithm"));
+        Algorithm second = algorithmService.create(getFullAlgorithm("secondAlgorithm"));
+        UUID missingId = UUID.randomUUID();
+
+        List<Algorithm> foundAlgorithms = algorithmService.findAllById(
+                List.of(second.getId(), missingId, first.getId(), second.getId()));
+
+        assertThat(foundAlgorithms).extracting(Algorithm::getId).containsExactly(second.getId(), first.getId());
+    }
+
     @Test
     void updateAlgorithm_ElementFound() {
         Algorithm algorithm = getFullAlgorithm("algorithmName");
@@ -402,6 +467,65 @@ public class AlgorithmServiceTest extends AtlasDatabaseTestBase {
         assertThat(algorithmRevision.getEntity().getOutputFormat()).isEqualTo(algorithm.getOutputFormat());
     }
 
+    @Test
+    void findAlgorithmRevisionChanges() {
+        Algorithm storedAlgorithm = algorithmService.create(getFullAlgorithm("Shor"));
+        storedAlgorithm.setName("Shor_Updated");
+        storedAlgorithm.setAcronym(null);
+        storedAlgorithm.setAssumptions("updatedAssumptions");
+        algorithmService.update(storedAlgorithm);
+
+        var revisions = algorithmService.findAlgorithmRevisions(storedAlgorithm.getId(), PageRequest.of(0, 10)).getContent();
+        int fromRevisionId = revisions.get(0).getRevisionNumber().orElseThrow();
+        int toRevisionId = revisions.get(1).getRevisionNumber().orElseThrow();
+
+        var changes = algorithmService.findAlgorithmRevisionChanges(storedAlgorithm.getId(), fromRevisionId, toRevisionId);
+
+        assertThat(changes).containsExactlyInAnyOrder(
+                new PropertyChange("name", "Shor", "Shor_Updated"),
+                new PropertyChange("acronym", "testAcronym", null),
+                new PropertyChange("assumptions", "testAssumptions", "updatedAssumptions"));
+        assertThat(algorithmService.findAlgorithmRevisionChanges(storedAlgorithm.getId(), toRevisionId, toRevisionId)).isEmpty();
+        assertThrows(NoSuchElementException.class, () ->
+                algorithmService.findAlgorithmRevisionChanges(storedAlgorithm.getId(), fromRevisionId, toRevisionId + 1));
+    }
+
+    @Test
+    void findAlgorithmsAsOf() throws InterruptedException {
+        final Date beforeCreation = pointInTime();
+        Algorithm storedAlgorithm = algorithmService.create(getFullAlgorithm("Shor"));
+        algorithmService.create(getFullAlgorithm("Grover"));
+        final Date beforeUpdate = pointInTime();
+        storedAlgorithm.setName("Shor_Updated");
+        algorithmService.update(storedAlgorithm);
+
+        var algorithms = algorithmService.findAllAsOf(beforeUpdate, PageRequest.of(0, 1, Sort.by("name").descending()), null);
+        assertThat(algorithms.getTotalElements()).isEqualTo(2);
+        assertThat(algorithms.getContent()).extracting(Algorithm::getName).containsExactly("Shor");
+        assertThat(algorithmService.findAllAsOf(beforeUpdate, PageRequest.of(0, 10), "shor").getContent())
+                .extracting(Algorithm::getId).containsExactly(storedAlgorithm.getId());
+        assertThat(algorithmService.findAllAsOf(new Date(), PageRequest.of(0, 10), "shor_up").getContent())
+                .extracting(Algorithm::getName).containsExactly("Shor_Updated");
+        assertThat(algorithmService.findAllAsOf(beforeCreation, PageRequest.of(0, 10), null)).isEmpty();
+        assertThrows(IllegalArgumentException.class, () ->
+                algorithmService.findAllAsOf(beforeUpdate, PageRequest.of(0, 10, Sort.by("unknown")), null));
+    }
+
+    @Test
+    void findAlgorithmByIdAsOf() throws InterruptedException {
+        final Date beforeCreation = pointInTime();
+        Algorithm storedAlgorithm = algorithmService.create(getFullAlgorithm("Shor"));
+        final Date beforeUpdate = pointInTime();
+        storedAlgorithm.setName("Shor_Updated");
+        algorithmService.update(storedAlgorithm);
+
+        var algorithm = algorithmService.findByIdAsOf(storedAlgorithm.getId(), beforeUpdate);
+        assertThat(algorithm).isInstanceOf(ClassicAlgorithm.class);
+        assertThat(algorithm.getName()).isEqualTo("Shor");
+        assertThat(algorithmService.findByIdAsOf(storedAlgorithm.getId(), new Date()).getName()).isEqualTo("Shor_Updated");
+        assertThrows(NoSuchElementException.class, () -> algorithmService.findByIdAsOf(storedAlgorithm.getId(), beforeCreation));
+    }
+
     @Test
     void findAlgorithmRevisions_ElementNotFound() {
         assertThrows(NoSuchElementException.class, () ->
@@ -658,4 +782,12 @@ public class AlgorithmServiceTest extends AtlasDatabaseTestBase {
         algorithm.setComputationModel(ComputationModel.CLASSIC);
         return algorithm;
     }
+
+    private static Date pointInTime() throws InterruptedException {
+        // revisions are timestamped in milliseconds, so the point in time is kept apart from the surrounding changes
+        Thread.sleep(5);
+        final Date pointInTime = new Date();
+        Thread.sleep(5);
+        return pointInTime;
+    }
 }
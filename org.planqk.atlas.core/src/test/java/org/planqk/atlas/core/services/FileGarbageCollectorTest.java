@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.File;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.ImplementationPackage;
+import org.planqk.atlas.core.model.ImplementationPackageType;
+import org.planqk.atlas.core.repository.FileRepository;
+import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+public class FileGarbageCollectorTest extends AtlasDatabaseTestBase {
+
+    @Autowired
+    private FileGarbageCollector fileGarbageCollector;
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private AlgorithmService algorithmService;
+
+    @Autowired
+    private ImplementationService implementationService;
+
+    @Autowired
+    private ImplementationPackageService implementationPackageService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void collect_UnreferencedFile_Deleted() {
+        final File orphan = createOldFile("orphan.txt", "orphaned content");
+
+        final long reclaimed = fileGarbageCollector.collect();
+
+        assertThat(reclaimed).isEqualTo("orphaned content".length());
+        assertThat(fileRepository.existsById(orphan.getId())).isFalse();
+    }
+
+    @Test
+    void collect_MoreFilesThanBatchSize_AllDeleted() {
+        for (int i = 0; i < 5; i++) {
+            createOldFile("orphan" + i + ".txt", "orphaned content " + i);
+        }
+
+        fileGarbageCollector.collect();
+
+        assertThat(fileRepository.count()).isEqualTo(0);
+    }
+
+    @Test
+    void collect_LinkedFile_Kept() {
+        var algorithm = new Algorithm();
+        algorithm.setName("algorithm");
+        algorithm = algorithmService.create(algorithm);
+        var implementation = new Implementation();
+        implementation.setName("implementation");
+        implementation = implementationService.create(implementation, algorithm.getId());
+        var implementationPackage = new ImplementationPackage();
+        implementationPackage.setName("package");
+        implementationPackage.setPackageType(ImplementationPackageType.FILE);
+        implementationPackage = implementationPackageService.create(implementationPackage, implementation.getId());
+        final File linked = implementationPackageService.addFileToImplementationPackage(implementationPackage.getId(),
+                new MockMultipartFile("linked.txt", "linked.txt", "text/plain", "linked content".getBytes(StandardCharsets.UTF_8)));
+        ageFile(linked);
+
+        assertThat(fileGarbageCollector.collect()).isEqualTo(0);
+        assertThat(fileRepository.existsById(linked.getId())).isTrue();
+    }
+
+    @Test
+    void collect_RecentFile_Kept() {
+        final File recent = fileService.create(
+                new MockMultipartFile("recent.txt", "recent.txt", "text/plain", "recent content".getBytes(StandardCharsets.UTF_8)));
+        final var collector = new FileGarbageCollector(fileRepository, fileService, transactionManager, 60, 2, 100, 0);
+
+        assertThat(collector.collect()).isEqualTo(0);
+        assertThat(fileRepository.existsById(recent.getId())).isTrue();
+    }
+
+    @Test
+    void collect_FilesFailingToDelete_LaterFilesDeleted() {
+        final List<UUID> fileIds = createOldFiles(5);
+        final Set<UUID> failing = Set.of(fileIds.get(0), fileIds.get(1));
+        final var collector = new FileGarbageCollector(fileRepository, failingFileService(failing), transactionManager, 0, 2, 100, 0);
+
+        collector.collect();
+
+        assertThat(fileRepository.findAll()).extracting(File::getId).containsExactlyInAnyOrderElementsOf(failing);
+    }
+
+    @Test
+    void collect_MaxFilesPerRunReached_NextRunContinuesAfterLastFile() {
+        final List<UUID> fileIds = createOldFiles(5);
+        final Set<UUID> failing = Set.of(fileIds.get(0), fileIds.get(1));
+        final var collector = new FileGarbageCollector(fileRepository, failingFileService(failing), transactionManager, 0, 2, 2, 0);
+
+        collector.collect();
+        assertThat(fileRepository.count()).isEqualTo(5);
+
+        collector.collect();
+        assertThat(fileRepository.existsById(fileIds.get(2))).isFalse();
+        assertThat(fileRepository.existsById(fileIds.get(3))).isFalse();
+        assertThat(fileRepository.existsById(fileIds.get(4))).isTrue();
+    }
+
+    private List<UUID> createOldFiles(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> createOldFile("orphan" + i + ".txt", "orphaned content " + i).getId())
+                // in the order of the database, which compares the bytes of the IDs unsigned
+                .sorted(Comparator.comparing(UUID::toString))
+                .collect(Collectors.toList());
+    }
+
+    private FileService failingFileService(Set<UUID> failing) {
+        final FileService failingFileService = Mockito.mock(FileService.class);
+        Mockito.when(failingFileService.purge(any())).thenAnswer(invocation -> {
+            final UUID id = invocation.getArgument(0);
+            if (failing.contains(id)) {
+                throw new IllegalStateException("Storage unavailable");
+            }
+            return fileService.purge(id);
+        });
+        return failingFileService;
+    }
+
+    private File createOldFile(String name, String content) {
+        final File file = fileService.create(
+                new MockMultipartFile(name, name, "text/plain", content.getBytes(StandardCharsets.UTF_8)));
+        ageFile(file);
+        return file;
+    }
+
+    private void ageFile(File file) {
+        final File stored = fileRepository.findById(file.getId()).orElseThrow();
+        stored.setCreationDate(new Date(System.currentTimeMillis() - 60_000));
+        fileRepository.save(stored);
+    }
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.planqk.atlas.core.model.File;
+import org.planqk.atlas.core.repository.FileRepository;
+import org.planqk.atlas.core.util.ContentDigests;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.contrib.nio.testing.LocalStorageHelper;
+
+/**
+ * Runs the cloud storage file service against the in-memory storage of the NIO test helpers, so the streaming of
+ * contents is tested without network access.
+ */
+@ExtendWith(MockitoExtension.class)
+public class FileServiceCloudStorageStreamingTest {
+
+    private static final String BUCKET = "implementation-files";
+
+    private static final int UPLOAD_CHUNK_SIZE = 256 * 1024;
+
+    private final Storage storage = LocalStorageHelper.getOptions().getService();
+
+    @Mock
+    private FileRepository fileRepository;
+
+    private FileServiceCloudStorageImpl fileService;
+
+    @BeforeEach
+    void initialize() {
+        fileService = new FileServiceCloudStorageImpl(storage, fileRepository);
+        ReflectionTestUtils.setField(fileService, "implementationFilesBucketName", BUCKET);
+        ReflectionTestUtils.setField(fileService, "uploadChunkSize", UPLOAD_CHUNK_SIZE);
+        ReflectionTestUtils.setField(fileService, "downloadChunkSize", 64 * 1024);
+    }
+
+    @Test
+    void createLargeFile_resumableUpload() throws Exception {
+        byte[] content = randomBytes(UPLOAD_CHUNK_SIZE * 4 + 100);
+        when(fileRepository.findByFileURL("large.bin")).thenReturn(Optional.empty());
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        File file = fileService.create(new MockMultipartFile("large.bin", "large.bin", "application/octet-stream", content));
+
+        assertThat(storage.readAllBytes(BlobId.of(BUCKET, "large.bin"))).isEqualTo(content);
+        assertThat(file.getSize()).isEqualTo((long) content.length);
+        assertThat(file.getDigest()).isEqualTo(sha256(content));
+    }
+
+    @Test
+    void createSmallFile_singleRequest() throws Exception {
+        byte[] content = randomBytes(100);
+        when(fileRepository.findByFileURL("small.bin")).thenReturn(Optional.empty());
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        File file = fileService.create(new MockMultipartFile("small.bin", "small.bin", "application/octet-stream", content));
+
+        assertThat(storage.readAllBytes(BlobId.of(BUCKET, "small.bin"))).isEqualTo(content);
+        assertThat(file.getDigest()).isEqualTo(sha256(content));
+    }
+
+    @Test
+    void getFileContent_streamed() throws IOException {
+        byte[] content = randomBytes(200 * 1024);
+        File file = storedFile("content.bin", content);
+
+        Resource resource = fileService.getFileContent(file.getId());
+
+        assertThat(resource.contentLength()).isEqualTo(content.length);
+        try (InputStream inputStream = resource.getInputStream()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void getFileContent_skip() throws IOException {
+        byte[] content = randomBytes(200 * 1024);
+        File file = storedFile("content.bin", content);
+
+        try (InputStream inputStream = fileService.getFileContent(file.getId()).getInputStream()) {
+            assertThat(inputStream.readNBytes(10)).isEqualTo(Arrays.copyOfRange(content, 0, 10));
+            assertThat(inputStream.skip(100 * 1024)).isEqualTo(100 * 1024);
+            assertThat(inputStream.readNBytes(10)).isEqualTo(Arrays.copyOfRange(content, 100 * 1024 + 10, 100 * 1024 + 20));
+            assertThat(inputStream.skip(content.length)).isEqualTo(content.length - 100 * 1024 - 20);
+            assertThat(inputStream.read()).isEqualTo(-1);
+        }
+    }
+
+    private File storedFile(String name, byte[] content) {
+        storage.create(BlobInfo.newBuilder(BUCKET, name).build(), content);
+        File file = new File();
+        file.setId(UUID.randomUUID());
+        file.setName(name);
+        file.setFileURL(name);
+        when(fileRepository.findById(file.getId())).thenReturn(Optional.of(file));
+        return file;
+    }
+
+    private static String sha256(byte[] content) {
+        MessageDigest digest = ContentDigests.newDigest();
+        digest.update(content);
+        return ContentDigests.toHex(digest);
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -22,6 +22,7 @@ package org.planqk.atlas.core.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
 import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.UUID;
@@ -39,6 +40,7 @@ import org.planqk.atlas.core.repository.FileRepository;
 import org.planqk.atlas.core.repository.ImplementationPackageRepository;
 import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.multipart.MultipartFile;
@@ -130,16 +132,19 @@ public class FileServiceCloudStorageTest extends AtlasDatabaseTestBase {
     }
 
     @Test
-    public void getFileContent_success() {
+    public void getFileContent_success() throws IOException {
         // Given
         File persistedFile = fileRepository.save(getDummyFile());
 
         // When
         when(storage.get(Mockito.any(BlobId.class))).thenReturn(this.mockBlob);
-        byte[] result = fileServiceCloudStorage.getFileContent(persistedFile.getId());
+        when(mockBlob.getSize()).thenReturn(7L);
+        Resource result = fileServiceCloudStorage.getFileContent(persistedFile.getId());
 
         //Then
-        assertThat(result).isEqualTo(this.mockBlob.getContent());
+        assertThat(result.contentLength()).isEqualTo(7L);
+        assertThat(result.getFilename()).isEqualTo(persistedFile.getName());
+        Mockito.verify(storage, Mockito.never()).reader(Mockito.any(BlobId.class));
     }
 
     @Test
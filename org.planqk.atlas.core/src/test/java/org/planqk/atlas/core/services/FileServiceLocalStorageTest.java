@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.planqk.atlas.core.exceptions.LocalStorageException;
+import org.planqk.atlas.core.model.File;
+import org.planqk.atlas.core.repository.FileRepository;
+import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.planqk.atlas.core.util.ContentDigests;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ActiveProfiles({"test", "local-storage"})
+@TestPropertySource(properties = "local.storage.directory=target/local-storage-test")
+public class FileServiceLocalStorageTest extends AtlasDatabaseTestBase {
+
+    @Autowired
+    private FileService fileServiceLocalStorage;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${local.storage.directory}")
+    private String storageDirectory;
+
+    @Test
+    public void createFile_contentStoredOnDisk() throws IOException {
+        byte[] content = generateRandomByteArray();
+
+        File file = fileServiceLocalStorage.create(new MockMultipartFile("file.txt", "file.txt", "text/plain", content));
+
+        Path contentFile = Paths.get(storageDirectory).resolve(file.getFileURL());
+        assertThat(contentFile.getFileName().toString()).isEqualTo(file.getId().toString());
+        assertThat(Files.readAllBytes(contentFile)).isEqualTo(content);
+        assertThat(fileRepository.findById(file.getId()).orElseThrow().getSize()).isEqualTo((long) content.length);
+        MessageDigest digest = ContentDigests.newDigest();
+        digest.update(content);
+        assertThat(file.getDigest()).isEqualTo(ContentDigests.toHex(digest));
+        try (var temporaryFiles = Files.list(Paths.get(storageDirectory, ".tmp"))) {
+            assertThat(temporaryFiles.filter(path -> path.getFileName().toString().startsWith(file.getId().toString()))).isEmpty();
+        }
+    }
+
+    @Test
+    public void createFile_temporaryFileChangedBeforeCommit() {
+        byte[] content = generateRandomByteArray();
+        File[] created = new File[1];
+
+        assertThrows(LocalStorageException.class, () -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            created[0] = fileServiceLocalStorage.create(new MockMultipartFile("file.txt", "file.txt", "text/plain", content));
+            try (var temporaryFiles = Files.list(Paths.get(storageDirectory, ".tmp"))) {
+                Path temporaryFile = temporaryFiles
+                        .filter(path -> path.getFileName().toString().startsWith(created[0].getId().toString()))
+                        .findFirst().orElseThrow();
+                // same size, different content
+                Files.write(temporaryFile, new byte[content.length]);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+
+        assertThat(Paths.get(storageDirectory).resolve(created[0].getFileURL())).doesNotExist();
+        assertThat(fileRepository.findById(created[0].getId())).isNotPresent();
+    }
+
+    @Test
+    public void getFileContent() throws IOException {
+        byte[] content = generateRandomByteArray();
+        File file = fileServiceLocalStorage.create(new MockMultipartFile("file.txt", "file.txt", "text/plain", content));
+
+        Resource result = fileServiceLocalStorage.getFileContent(file.getId());
+
+        assertThat(result.isFile()).isTrue();
+        assertThat(result.contentLength()).isEqualTo(content.length);
+        assertThat(result.getFilename()).isEqualTo("file.txt");
+        try (InputStream inputStream = result.getInputStream()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    public void getFileContent_sizeMismatch() throws IOException {
+        File file = fileServiceLocalStorage.create(new MockMultipartFile("file.txt", "file.txt", "text/plain", generateRandomByteArray()));
+        Files.write(Paths.get(storageDirectory).resolve(file.getFileURL()), new byte[3]);
+
+        assertThrows(LocalStorageException.class, () -> fileServiceLocalStorage.getFileContent(file.getId()));
+    }
+
+    @Test
+    public void getFileContent_contentMissing() throws IOException {
+        File file = fileServiceLocalStorage.create(new MockMultipartFile("file.txt", "file.txt", "text/plain", generateRandomByteArray()));
+        Files.delete(Paths.get(storageDirectory).resolve(file.getFileURL()));
+
+        assertThrows(NoSuchElementException.class, () -> fileServiceLocalStorage.getFileContent(file.getId()));
+    }
+
+    @Test
+    public void delete_success() {
+        File file = fileServiceLocalStorage.create(new MockMultipartFile("file.txt", "file.txt", "text/plain", generateRandomByteArray()));
+        Path contentFile = Paths.get(storageDirectory).resolve(file.getFileURL());
+
+        fileServiceLocalStorage.delete(file.getId());
+
+        assertThat(fileRepository.findById(file.getId())).isNotPresent();
+        assertThat(contentFile).doesNotExist();
+    }
+
+    private byte[] generateRandomByteArray() {
+        Random rd = new Random();
+        byte[] arr = new byte[7];
+        rd.nextBytes(arr);
+        return arr;
+    }
+}
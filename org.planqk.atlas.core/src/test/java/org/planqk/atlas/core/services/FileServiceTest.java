@@ -22,18 +22,36 @@ package org.planqk.atlas.core.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.planqk.atlas.core.model.File;
+import org.planqk.atlas.core.model.FileBlob;
+import org.planqk.atlas.core.model.FileCompression;
+import org.planqk.atlas.core.repository.FileBlobRepository;
+import org.planqk.atlas.core.repository.FileChunkRepository;
 import org.planqk.atlas.core.repository.FileDataRepository;
 import org.planqk.atlas.core.repository.FileRepository;
 import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.planqk.atlas.core.util.Constants;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -52,6 +70,12 @@ public class FileServiceTest extends AtlasDatabaseTestBase {
     @Autowired
     private FileRepository fileRepository;
 
+    @Autowired
+    private FileChunkRepository fileChunkRepository;
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
     private MultipartFile multipartFile;
 
     @BeforeEach
@@ -63,8 +87,139 @@ public class FileServiceTest extends AtlasDatabaseTestBase {
     public void createFile() throws IOException {
         File file = fileService.create(multipartFile);
         assertThat(fileRepository.findAll().size()).isEqualTo(1);
-        assertThat(fileDataRepository.findAll().size()).isEqualTo(1);
-        assertThat(fileDataRepository.findByFile(file).getData()).isEqualTo(multipartFile.getBytes());
+        assertThat(fileRepository.findById(file.getId()).orElseThrow().getSize()).isEqualTo(0L);
+        assertThat(fileChunkRepository.countByBlobId(file.getBlob().getId())).isEqualTo(0);
+        assertThat(file.getDigest()).isEqualTo("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+        assertThat(fileDataRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    public void createFile_MultipleChunks() throws IOException {
+        byte[] content = new byte[Constants.FILE_CHUNK_SIZE * 2 + Constants.FILE_CHUNK_SIZE / 2];
+        new Random().nextBytes(content);
+
+        File file = fileService.create(new MockMultipartFile("file.bin", "file.bin", "application/octet-stream", content));
+
+        assertThat(fileChunkRepository.countByBlobId(file.getBlob().getId())).isEqualTo(3);
+        Resource result = fileService.getFileContent(file.getId());
+        assertThat(result.contentLength()).isEqualTo(content.length);
+        try (InputStream inputStream = result.getInputStream()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+        // a range spanning the border between the first and the second chunk
+        try (InputStream inputStream = result.getInputStream()) {
+            assertThat(inputStream.skip(Constants.FILE_CHUNK_SIZE - 2)).isEqualTo(Constants.FILE_CHUNK_SIZE - 2);
+            assertThat(inputStream.readNBytes(4))
+                    .isEqualTo(Arrays.copyOfRange(content, Constants.FILE_CHUNK_SIZE - 2, Constants.FILE_CHUNK_SIZE + 2));
+        }
+
+        fileService.delete(file.getId());
+        assertThat(fileChunkRepository.countByBlobId(file.getBlob().getId())).isEqualTo(0);
+    }
+
+    @Test
+    public void createFile_SameContentStoredOnce() throws IOException {
+        byte[] content = generateRandomByteArray();
+
+        File first = fileService.create(new MockMultipartFile("first.txt", "first.txt", "text/plain", content));
+        File second = fileService.create(new MockMultipartFile("second.txt", "second.txt", "text/plain", content));
+
+        assertThat(second.getDigest()).isEqualTo(first.getDigest());
+        assertThat(second.getBlob().getId()).isEqualTo(first.getBlob().getId());
+        assertThat(fileBlobRepository.count()).isEqualTo(1);
+        assertThat(fileBlobRepository.findReferenceCount(first.getBlob().getId())).isEqualTo(2);
+        assertThat(fileChunkRepository.count()).isEqualTo(1);
+
+        // the content is kept as long as a file references it
+        fileService.delete(first.getId());
+        assertThat(fileBlobRepository.findReferenceCount(second.getBlob().getId())).isEqualTo(1);
+        try (InputStream inputStream = fileService.getFileContent(second.getId()).getInputStream()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+
+        fileService.delete(second.getId());
+        assertThat(fileBlobRepository.count()).isEqualTo(0);
+        assertThat(fileChunkRepository.count()).isEqualTo(0);
+    }
+
+    @Test
+    public void createFile_SameContentConcurrently_StoredOnce() throws Exception {
+        byte[] content = generateRandomByteArray();
+        final int uploads = 4;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(uploads);
+        final List<Future<File>> files = new ArrayList<>();
+        try {
+            for (int i = 0; i < uploads; i++) {
+                final String name = "file" + i + ".txt";
+                files.add(executor.submit(() -> {
+                    start.await();
+                    return fileService.create(new MockMultipartFile(name, name, "text/plain", content));
+                }));
+            }
+            start.countDown();
+            for (Future<File> file : files) {
+                assertThat(file.get(30, TimeUnit.SECONDS).getDigest()).isEqualTo(files.get(0).get().getDigest());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(fileBlobRepository.count()).isEqualTo(1);
+        assertThat(fileBlobRepository.findReferenceCount(files.get(0).get().getBlob().getId())).isEqualTo(uploads);
+        assertThat(fileChunkRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void createFile_CompressibleContent_StoredCompressed() throws IOException {
+        byte[] content = generateText(Constants.FILE_CHUNK_SIZE + Constants.FILE_CHUNK_SIZE / 2);
+
+        File file = fileService.create(new MockMultipartFile("notebook.json", "notebook.json", "application/json", content));
+
+        FileBlob blob = fileBlobRepository.findById(file.getBlob().getId()).orElseThrow();
+        assertThat(blob.getCompression()).isEqualTo(FileCompression.DEFLATE);
+        assertThat(blob.getStoredSize()).isLessThan(content.length / 2);
+        assertThat(fileChunkRepository.countByBlobId(blob.getId())).isEqualTo(2);
+
+        Resource result = fileService.getFileContent(file.getId());
+        assertThat(result.contentLength()).isEqualTo(content.length);
+        try (InputStream inputStream = result.getInputStream()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+        // a range in the second chunk, which is decompressed without the first one
+        try (InputStream inputStream = result.getInputStream()) {
+            assertThat(inputStream.skip(Constants.FILE_CHUNK_SIZE + 10)).isEqualTo(Constants.FILE_CHUNK_SIZE + 10);
+            assertThat(inputStream.readNBytes(5))
+                    .isEqualTo(Arrays.copyOfRange(content, Constants.FILE_CHUNK_SIZE + 10, Constants.FILE_CHUNK_SIZE + 15));
+        }
+
+        // the stored chunks form a valid gzip stream
+        Resource gzipResult = fileService.getGzipFileContent(file.getId()).orElseThrow();
+        try (InputStream inputStream = gzipResult.getInputStream()) {
+            byte[] compressed = inputStream.readAllBytes();
+            assertThat((long) compressed.length).isEqualTo(gzipResult.contentLength());
+            try (InputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+                assertThat(gzipInputStream.readAllBytes()).isEqualTo(content);
+            }
+        }
+
+        assertThat(fileBlobRepository.sumContentSize()).isEqualTo((long) content.length);
+        assertThat(fileBlobRepository.sumStoredSize()).isEqualTo(blob.getStoredSize());
+    }
+
+    @Test
+    public void createFile_CompressedContentType_StoredUncompressed() throws IOException {
+        byte[] content = generateText(4096);
+
+        File file = fileService.create(new MockMultipartFile("package.zip", "package.zip", "application/zip", content));
+
+        FileBlob blob = fileBlobRepository.findById(file.getBlob().getId()).orElseThrow();
+        assertThat(blob.getCompression()).isEqualTo(FileCompression.NONE);
+        assertThat(blob.getStoredSize()).isEqualTo((long) content.length);
+        assertThat(fileService.getGzipFileContent(file.getId())).isEmpty();
+        try (InputStream inputStream = fileService.getFileContent(file.getId()).getInputStream()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
     }
 
     @Test
@@ -91,7 +246,7 @@ public class FileServiceTest extends AtlasDatabaseTestBase {
     }
 
     @Test
-    public void getFileContent() {
+    public void getFileContent() throws IOException {
         String name = "file.txt";
         String originalFileName = "file.txt";
         String contentType = "text/plain";
@@ -100,9 +255,40 @@ public class FileServiceTest extends AtlasDatabaseTestBase {
         MultipartFile multipartFileWithContent = new MockMultipartFile(name,
                 originalFileName, contentType, content);
         File persistedFile = fileService.create(multipartFileWithContent);
-        byte[] result = fileService.getFileContent(persistedFile.getId());
+        Resource result = fileService.getFileContent(persistedFile.getId());
+
+        assertThat(result.contentLength()).isEqualTo(content.length);
+        assertThat(result.getFilename()).isEqualTo(originalFileName);
+        try (InputStream inputStream = result.getInputStream()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    public void getFileContent_Range() throws IOException {
+        byte[] content = generateRandomByteArray();
+        File persistedFile = fileService.create(new MockMultipartFile("file.txt", "file.txt", "text/plain", content));
+
+        try (InputStream inputStream = fileService.getFileContent(persistedFile.getId()).getInputStream()) {
+            assertThat(inputStream.skip(2)).isEqualTo(2);
+            assertThat(inputStream.readNBytes(3)).isEqualTo(Arrays.copyOfRange(content, 2, 5));
+            assertThat(inputStream.skip(10)).isEqualTo(2);
+            assertThat(inputStream.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void getFileContent_ElementNotFound() {
+        assertThrows(NoSuchElementException.class, () -> fileService.getFileContent(UUID.randomUUID()));
+    }
 
-        assertThat(result).isEqualTo(content);
+    private byte[] generateText(int length) {
+        byte[] line = "{\"cell_type\": \"code\", \"source\": [\"print('hello')\"]},\n".getBytes(StandardCharsets.UTF_8);
+        byte[] text = new byte[length];
+        for (int i = 0; i < length; i++) {
+            text[i] = line[i % line.length];
+        }
+        return text;
     }
 
     private byte[] generateRandomByteArray() {
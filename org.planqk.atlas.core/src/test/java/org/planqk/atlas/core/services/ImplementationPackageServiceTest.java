@@ -22,6 +22,7 @@ package org.planqk.atlas.core.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 
@@ -124,6 +125,21 @@ public class ImplementationPackageServiceTest extends AtlasDatabaseTestBase {
         assertThat(implementationPackages.getTotalElements()).isEqualTo(2);
     }
 
+    @Test
+    void findAllWithFilesByImplementationId() {
+        final ImplementationPackage packageWithFile = implementationPackageService.create(implementationPackage, implementation.getId());
+        implementationPackageService.create(implementationPackage1, implementation.getId());
+        final File file = implementationPackageService.addFileToImplementationPackage(packageWithFile.getId(), this.multipartFile);
+
+        final List<ImplementationPackage> packages = implementationPackageService.findAllWithFilesByImplementationId(implementation.getId());
+
+        assertThat(packages).extracting(ImplementationPackage::getName).containsExactly("Name", "Name1");
+        assertThat(packages.get(0).getFile().getId()).isEqualTo(file.getId());
+        assertThat(packages.get(0).getFile().getName()).isEqualTo("file.txt");
+        assertThat(packages.get(1).getFile()).isNull();
+        assertThrows(NoSuchElementException.class, () -> implementationPackageService.findAllWithFilesByImplementationId(UUID.randomUUID()));
+    }
+
     @Test
     void findImplementationPackageById_ElementNotFound() {
         assertThrows(NoSuchElementException.class, () -> {
@@ -169,6 +185,17 @@ public class ImplementationPackageServiceTest extends AtlasDatabaseTestBase {
         });
     }
 
+    @Test
+    void deleteImplementationPackage_WithFile_FileDeleted() {
+        ImplementationPackage implementationPackage = implementationPackageService.create(this.implementationPackage, implementation.getId());
+        File file = implementationPackageService.addFileToImplementationPackage(implementationPackage.getId(), this.multipartFile);
+
+        implementationPackageService.delete(implementationPackage.getId());
+
+        assertThat(implementationPackageRepository.findById(implementationPackage.getId())).isEmpty();
+        assertThat(fileRepository.findById(file.getId())).isEmpty();
+    }
+
     @Test
     void checkIfImplementationPackageIsLinkedToImplementation() {
         var algo = new Algorithm();
@@ -24,8 +24,10 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -45,6 +47,9 @@ import org.planqk.atlas.core.util.ServiceTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -66,6 +71,9 @@ public class ImplementationServiceTest extends AtlasDatabaseTestBase {
     @Autowired
     private LinkingService linkingService;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Test
     void createImplementation_Classic() {
         Algorithm algorithm = new ClassicAlgorithm();
@@ -128,6 +136,66 @@ public class ImplementationServiceTest extends AtlasDatabaseTestBase {
         assertThat(revisions.getContent().get(0)).isEqualTo(newOldestRevision);
     }
 
+    @Test
+    void updateImplementation_WithPatterns_DropOldestRevisions() {
+        Algorithm algorithm = new ClassicAlgorithm();
+        algorithm.setName("algorithmName");
+        algorithm = algorithmService.create(algorithm);
+
+        var implementation = new ClassicImplementation();
+        implementation.setName("implementationName");
+        implementation.setPatterns(Set.of("https://patterns.example/0"));
+        var storedImplementation = implementationService.create(implementation, algorithm.getId());
+
+        for (int i = 1; i <= Constants.REVISIONS_COUNT; i++) {
+            storedImplementation.setName("implementationName " + i);
+            storedImplementation.setPatterns(Set.of("https://patterns.example/" + i));
+            implementationService.update(storedImplementation);
+        }
+
+        var revisions = implementationService.findImplementationRevisions(storedImplementation.getId(),
+                PageRequest.of(0, Constants.REVISIONS_COUNT + 1));
+        assertThat(revisions.getTotalElements()).isEqualTo(Constants.REVISIONS_COUNT);
+        assertThat(revisions.getContent().get(0).getEntity().getName()).isEqualTo("implementationName 1");
+
+        implementationService.delete(storedImplementation.getId());
+
+        assertThrows(NoSuchElementException.class,
+                () -> implementationService.findImplementationRevisions(storedImplementation.getId(), Pageable.unpaged()));
+    }
+
+    @Test
+    void updateImplementation_PatternsAddedInDroppedRevision_KeptInRetainedRevisions() {
+        Algorithm algorithm = new ClassicAlgorithm();
+        algorithm.setName("algorithmName");
+        algorithm = algorithmService.create(algorithm);
+
+        var implementation = new ClassicImplementation();
+        implementation.setName("implementationName");
+        implementation.setPatterns(Set.of("https://patterns.example/kept", "https://patterns.example/removed"));
+        var storedImplementation = implementationService.create(implementation, algorithm.getId());
+        storedImplementation.setPatterns(Set.of("https://patterns.example/kept"));
+        implementationService.update(storedImplementation);
+
+        // only the name changes, so the revisions adding and removing the patterns are dropped
+        for (int i = 1; i <= Constants.REVISIONS_COUNT; i++) {
+            storedImplementation.setName("implementationName " + i);
+            implementationService.update(storedImplementation);
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            var revisions = implementationService.findImplementationRevisions(storedImplementation.getId(),
+                    PageRequest.of(0, Constants.REVISIONS_COUNT + 1));
+            assertThat(revisions.getTotalElements()).isEqualTo(Constants.REVISIONS_COUNT);
+            assertThat(revisions.getContent().get(0).getEntity().getName()).isEqualTo("implementationName 1");
+            for (var revision : revisions) {
+                assertThat(revision.getEntity().getPatterns()).containsExactly("https://patterns.example/kept");
+            }
+            assertThat(implementationService.findByIdAsOf(storedImplementation.getId(), new Date()).getPatterns())
+                    .containsExactly("https://patterns.example/kept");
+        });
+    }
+
     @Test
     void createImplementation_Quantum_DropOldestRevisionElement() {
         QuantumAlgorithm algorithm = new QuantumAlgorithm();
@@ -436,6 +504,31 @@ public class ImplementationServiceTest extends AtlasDatabaseTestBase {
         assertThat(implementations.size()).isEqualTo(2);
     }
 
+    @Test
+    void findByImplementedAlgorithmAsOf() throws InterruptedException {
+        Algorithm algorithm = new Algorithm();
+        algorithm.setName("algorithmName");
+        algorithm = algorithmService.create(algorithm);
+        Implementation implementation = implementationService.create(getFullImplementation("implementationName1", algorithm),
+                algorithm.getId());
+        Thread.sleep(5);
+        final Date beforeUpdate = new Date();
+        Thread.sleep(5);
+        implementation.setName("implementationName1_Updated");
+        implementationService.update(implementation);
+        implementationService.create(getFullImplementation("implementationName2", algorithm), algorithm.getId());
+
+        var implementations = implementationService.findByImplementedAlgorithmAsOf(algorithm.getId(), beforeUpdate,
+                PageRequest.of(0, 10, Sort.by("name")));
+        assertThat(implementations.getContent()).extracting(Implementation::getName).containsExactly("implementationName1");
+        assertThat(implementationService.findByImplementedAlgorithmAsOf(algorithm.getId(), new Date(), PageRequest.of(0, 10, Sort.by("name")))
+                .getContent()).extracting(Implementation::getName).containsExactly("implementationName1_Updated", "implementationName2");
+        assertThat(implementationService.findAllAsOf(beforeUpdate, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+        assertThat(implementationService.findByIdAsOf(implementation.getId(), beforeUpdate).getName()).isEqualTo("implementationName1");
+        assertThrows(NoSuchElementException.class, () ->
+                implementationService.findByImplementedAlgorithmAsOf(UUID.randomUUID(), beforeUpdate, PageRequest.of(0, 10)));
+    }
+
     @Test
     void findLinkedSoftwarePlatforms() {
         Algorithm algorithm = new ClassicAlgorithm();
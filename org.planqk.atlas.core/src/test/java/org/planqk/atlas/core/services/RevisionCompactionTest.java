@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.Test;
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.ClassicAlgorithm;
+import org.planqk.atlas.core.model.ClassicImplementation;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.repository.AlgorithmRepository;
+import org.planqk.atlas.core.repository.ImplementationRepository;
+import org.planqk.atlas.core.repository.KnowledgeArtifactRepository;
+import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class RevisionCompactionTest extends AtlasDatabaseTestBase {
+
+    @Autowired
+    private AlgorithmService algorithmService;
+
+    @Autowired
+    private ImplementationService implementationService;
+
+    @Autowired
+    private AlgorithmRepository algorithmRepository;
+
+    @Autowired
+    private ImplementationRepository implementationRepository;
+
+    @Autowired
+    private KnowledgeArtifactRepository knowledgeArtifactRepository;
+
+    @Autowired
+    private RevisionRetention revisionRetention;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void compact_MoreRevisionsThanMaxCount_OldestDeleted() {
+        // more algorithms than the batch size of two, so the compaction has to page through them
+        final Algorithm[] algorithms = new Algorithm[3];
+        for (int i = 0; i < algorithms.length; i++) {
+            algorithms[i] = createAlgorithm("algorithm" + i);
+            for (int j = 1; j <= 3; j++) {
+                algorithms[i].setName("algorithm" + i + " " + j);
+                algorithmService.update(algorithms[i]);
+            }
+        }
+
+        final long deleted = compaction(2, 0, 20, 0).compact();
+
+        assertThat(deleted).isGreaterThan(0);
+        for (Algorithm algorithm : algorithms) {
+            final var revisions = algorithmService.findAlgorithmRevisions(algorithm.getId(), PageRequest.of(0, 10));
+            assertThat(revisions.getTotalElements()).isEqualTo(2);
+            assertThat(revisions.getContent().get(1).getEntity().getName()).endsWith(" 3");
+        }
+    }
+
+    @Test
+    void compact_RevisionsOlderThanMaxAge_AllButLatestDeleted() {
+        final Algorithm algorithm = createAlgorithm("algorithm");
+        Implementation implementation = new ClassicImplementation();
+        implementation.setName("implementation");
+        implementation = implementationService.create(implementation, algorithm.getId());
+        for (int i = 1; i <= 2; i++) {
+            implementation.setName("implementation " + i);
+            implementationService.update(implementation);
+        }
+        ageRevisions(TimeUnit.DAYS.toMillis(2));
+
+        compaction(20, 0, 20, 1).compact();
+
+        final var revisions = implementationService.findImplementationRevisions(implementation.getId(), PageRequest.of(0, 10));
+        assertThat(revisions.getTotalElements()).isEqualTo(1);
+        assertThat(revisions.getContent().get(0).getEntity().getName()).isEqualTo("implementation 2");
+        // the age of the algorithm revisions is not limited
+        assertThat(algorithmService.findAlgorithmRevisions(algorithm.getId(), PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void compact_UnreferencedRevisionInfos_Deleted() {
+        final Algorithm algorithm = createAlgorithm("algorithm");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("INSERT INTO revinfo (rev, revtstmp) VALUES (100000, 0), (100001, 0), (100002, 0)")
+                    .executeUpdate();
+        });
+
+        assertThat(compaction(20, 0, 20, 0).compact()).isEqualTo(3);
+        assertThat(revisionInfoCount()).isEqualTo(1);
+        assertThat(algorithmService.findAlgorithmRevisions(algorithm.getId(), PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void retain_AlgorithmSharingRevisionWithPatternUris_RevisionInfoKept() {
+        final Algorithm algorithm = createAlgorithm("algorithm");
+        final Implementation implementation = createImplementation(algorithm, "https://patterns.example/1");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            algorithm.setName("algorithm 1");
+            algorithmService.update(algorithm);
+            implementation.setPatterns(new HashSet<>(Set.of("https://patterns.example/1", "https://patterns.example/2")));
+            implementationService.update(implementation);
+        });
+        final int sharedRevision = ((Number) entityManager
+                .createNativeQuery("SELECT MAX(rev) FROM pattern_uris_aud WHERE implementation_id = :implId")
+                .setParameter("implId", implementation.getId())
+                .getSingleResult()).intValue();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                revisionRetention.retain(algorithmRepository.findById(algorithm.getId()).orElseThrow(), 0));
+
+        assertThat(algorithmService.findAlgorithmRevisions(algorithm.getId(), PageRequest.of(0, 10)).getTotalElements()).isEqualTo(0);
+        assertThat(((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM revinfo WHERE rev = :rev")
+                .setParameter("rev", sharedRevision)
+                .getSingleResult()).longValue()).isEqualTo(1);
+        assertThat(implementationService.findImplementationRevisions(implementation.getId(), PageRequest.of(0, 10)).getTotalElements())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void compact_RevisionInfosReferencedByPatternUris_Kept() {
+        final Implementation implementation = createImplementation(createAlgorithm("algorithm"), "https://patterns.example/1");
+        final long revisionInfos = revisionInfoCount();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("INSERT INTO revinfo (rev, revtstmp) VALUES (100000, 0), (100001, 0), (100002, 0)")
+                    .executeUpdate();
+            entityManager.createNativeQuery("INSERT INTO pattern_uris_aud (implementation_id, pattern_uri, rev, revtype, revend) " +
+                    "VALUES (:implId, 'https://patterns.example/0', 100000, 0, 100001)")
+                    .setParameter("implId", implementation.getId())
+                    .executeUpdate();
+        });
+
+        assertThat(compaction(20, 0, 20, 0).compact()).isEqualTo(1);
+        assertThat(revisionInfoCount()).isEqualTo(revisionInfos + 2);
+    }
+
+    private RevisionCompaction compaction(int algorithmMaxCount, int algorithmMaxAgeDays, int implementationMaxCount,
+                                          int implementationMaxAgeDays) {
+        return new RevisionCompaction(algorithmRepository, implementationRepository, knowledgeArtifactRepository, revisionRetention,
+                transactionManager, 2, algorithmMaxCount, algorithmMaxAgeDays, implementationMaxCount, implementationMaxAgeDays);
+    }
+
+    private Algorithm createAlgorithm(String name) {
+        final Algorithm algorithm = new ClassicAlgorithm();
+        algorithm.setName(name);
+        return algorithmService.create(algorithm);
+    }
+
+    private Implementation createImplementation(Algorithm algorithm, String pattern) {
+        final Implementation implementation = new ClassicImplementation();
+        implementation.setName("implementation");
+        implementation.setPatterns(new HashSet<>(Set.of(pattern)));
+        return implementationService.create(implementation, algorithm.getId());
+    }
+
+    private void ageRevisions(long millis) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("UPDATE revinfo SET revtstmp = revtstmp - :millis")
+                    .setParameter("millis", millis)
+                    .executeUpdate();
+            entityManager.createNativeQuery("UPDATE knowledge_artifact_revisions SET revend_tstmp = revend_tstmp - CAST(:interval AS interval)")
+                    .setParameter("interval", millis + " milliseconds")
+                    .executeUpdate();
+        });
+    }
+
+    private long revisionInfoCount() {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM revinfo").getSingleResult()).longValue();
+    }
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.Test;
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.ClassicAlgorithm;
+import org.planqk.atlas.core.model.ClassicImplementation;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class RevisionEndMigrationTest extends AtlasDatabaseTestBase {
+
+    @Autowired
+    private AlgorithmService algorithmService;
+
+    @Autowired
+    private ImplementationService implementationService;
+
+    @Autowired
+    private RevisionEndMigration revisionEndMigration;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void migrate_RevisionsWithoutEnd_EndedBySuccessor() {
+        // more algorithms than the batch size of two, so the migration has to page through them
+        final Algorithm[] algorithms = new Algorithm[3];
+        for (int i = 0; i < algorithms.length; i++) {
+            algorithms[i] = new ClassicAlgorithm();
+            algorithms[i].setName("algorithm" + i);
+            algorithms[i] = algorithmService.create(algorithms[i]);
+            for (int j = 1; j <= 2; j++) {
+                algorithms[i].setName("algorithm" + i + " " + j);
+                algorithmService.update(algorithms[i]);
+            }
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("UPDATE knowledge_artifact_revisions SET revend = NULL, revend_tstmp = NULL")
+                    .executeUpdate();
+        });
+
+        revisionEndMigration.migrate();
+
+        for (Algorithm algorithm : algorithms) {
+            final List<?> rows = entityManager.createNativeQuery("SELECT rev, revend, revend_tstmp FROM knowledge_artifact_revisions" +
+                    " WHERE id = :id ORDER BY rev")
+                    .setParameter("id", algorithm.getId())
+                    .getResultList();
+            assertThat(rows).hasSize(3);
+            for (int i = 0; i < rows.size(); i++) {
+                final Object[] row = (Object[]) rows.get(i);
+                if (i < rows.size() - 1) {
+                    assertThat(((Number) row[1]).intValue()).isEqualTo(((Number) ((Object[]) rows.get(i + 1))[0]).intValue());
+                    assertThat(row[2]).isNotNull();
+                } else {
+                    assertThat(row[1]).isNull();
+                    assertThat(row[2]).isNull();
+                }
+            }
+        }
+
+        // the latest revision is the only one without an end, so the next revision can end it
+        algorithms[0].setName("algorithm0 3");
+        algorithmService.update(algorithms[0]);
+        assertThat(algorithmService.findAlgorithmRevisions(algorithms[0].getId(), PageRequest.of(0, 10)).getTotalElements())
+                .isEqualTo(4);
+    }
+
+    @Test
+    void migrate_PatternRevisionsWithoutEnd_EndedByRemoval() {
+        Algorithm algorithm = new ClassicAlgorithm();
+        algorithm.setName("algorithm");
+        algorithm = algorithmService.create(algorithm);
+        Implementation implementation = new ClassicImplementation();
+        implementation.setName("implementation");
+        implementation.setPatterns(Set.of("https://patterns.example/a"));
+        implementation = implementationService.create(implementation, algorithm.getId());
+        implementation.setPatterns(Set.of("https://patterns.example/a", "https://patterns.example/b"));
+        implementationService.update(implementation);
+        implementation.setPatterns(Set.of("https://patterns.example/b"));
+        implementationService.update(implementation);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("UPDATE pattern_uris_aud SET revend = NULL, revend_tstmp = NULL").executeUpdate();
+        });
+
+        revisionEndMigration.migrate();
+
+        final List<?> rows = entityManager.createNativeQuery("SELECT rev, revend FROM pattern_uris_aud" +
+                " WHERE implementation_id = :id AND pattern_uri = :pattern ORDER BY rev")
+                .setParameter("id", implementation.getId())
+                .setParameter("pattern", "https://patterns.example/a")
+                .getResultList();
+        assertThat(rows).hasSize(2);
+        // the addition of the pattern ends with its removal, which is the latest revision of the pattern
+        assertThat(((Number) ((Object[]) rows.get(0))[1]).intValue()).isEqualTo(((Number) ((Object[]) rows.get(1))[0]).intValue());
+        assertThat(((Object[]) rows.get(1))[1]).isNull();
+        final Number unended = (Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM pattern_uris_aud" +
+                " WHERE implementation_id = :id AND pattern_uri = :pattern AND revend IS NULL")
+                .setParameter("id", implementation.getId())
+                .setParameter("pattern", "https://patterns.example/b")
+                .getSingleResult();
+        assertThat(unended.intValue()).isEqualTo(1);
+
+        implementation.setPatterns(Set.of());
+        implementationService.update(implementation);
+        assertThat(implementationService.findById(implementation.getId()).getPatterns()).isEmpty();
+    }
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.Test;
+import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class RevisionIndexesTest extends AtlasDatabaseTestBase {
+
+    @Autowired
+    private RevisionIndexes revisionIndexes;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void create_IndexesExist() {
+        // the indexes were created on startup already, creating them again leaves them as they are
+        revisionIndexes.create();
+
+        final List<String> names = RevisionIndexes.INDEXES.stream()
+                .map(index -> index.substring(0, index.indexOf(' ')))
+                .collect(Collectors.toList());
+        final List<?> existing = entityManager
+                .createNativeQuery("SELECT indexname FROM pg_indexes WHERE indexname IN (:names)")
+                .setParameter("names", names)
+                .getResultList();
+        assertThat(existing).containsExactlyInAnyOrderElementsOf(names);
+    }
+}
@@ -25,26 +25,39 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.UUID;
+import javax.imageio.ImageIO;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.ApplicationArea;
 import org.planqk.atlas.core.model.ClassicAlgorithm;
 import org.planqk.atlas.core.model.ComputationModel;
 import org.planqk.atlas.core.model.Image;
+import org.planqk.atlas.core.model.ImageEncoding;
 import org.planqk.atlas.core.model.Sketch;
 import org.planqk.atlas.core.repository.ImageRepository;
 import org.planqk.atlas.core.repository.SketchRepository;
 import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.planqk.atlas.core.util.ImageContentResource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.mock.web.MockMultipartFile;
 
+import lombok.SneakyThrows;
+
 public class SketchServiceTest extends AtlasDatabaseTestBase {
 
     @Autowired
@@ -59,6 +72,9 @@ public class SketchServiceTest extends AtlasDatabaseTestBase {
     @Autowired
     private ImageRepository imageRepository;
 
+    @Autowired
+    private SketchImageMigration sketchImageMigration;
+
     @Test
     void updateSketch() {
         final Algorithm algorithm = this.algorithmService.create(this.getAlgorithm("algo"));
@@ -187,6 +203,161 @@ public class SketchServiceTest extends AtlasDatabaseTestBase {
         assertTrue(Arrays.equals(response, testFile));
     }
 
+    @Test
+    @SneakyThrows
+    void addSketchToAlgorithm_ImageStoredRaw() {
+        final Algorithm algorithm = this.algorithmService.create(this.getAlgorithm("algo"));
+
+        byte[] testFile = hexStringToByteArray("e04fd020ea3a6910a2d808002b30309d");
+        final MockMultipartFile file = new MockMultipartFile("image", "image.png", "image/png", testFile);
+
+        // call
+        final Sketch persistedSketch = sketchService.addSketchToAlgorithm(algorithm.getId(), file, "description", "http://localhost");
+        final ImageContentResource content = sketchService.getImageContentBySketch(persistedSketch.getId());
+
+        // test
+        final Image image = this.imageRepository.findImageBySketchId(persistedSketch.getId());
+        assertThat(image.getEncoding()).isEqualTo(ImageEncoding.RAW);
+        assertThat(image.getImage()).isEqualTo(testFile);
+        assertThat(content.getMimeType()).isEqualTo("image/png");
+        assertThat(content.contentLength()).isEqualTo(testFile.length);
+        try (InputStream inputStream = content.getInputStream()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(testFile);
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void getImageContentBySketch_Base64EncodedImage_Decoded() {
+        final byte[] testFile = hexStringToByteArray("e04fd020ea3a6910a2d808002b30309d");
+        final Sketch persistedSketch = createSketchWithBase64EncodedImage(testFile);
+
+        // call
+        final ImageContentResource content = sketchService.getImageContentBySketch(persistedSketch.getId());
+
+        // test
+        assertThat(content.contentLength()).isEqualTo(testFile.length);
+        try (InputStream inputStream = content.getInputStream()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(testFile);
+        }
+    }
+
+    @Test
+    void getImageContentBySketch_ElementNotFound() {
+        assertThrows(NoSuchElementException.class, () -> sketchService.getImageContentBySketch(UUID.randomUUID()));
+    }
+
+    @Test
+    void migrateBase64EncodedImages() {
+        final byte[] testFile = hexStringToByteArray("e04fd020ea3a6910a2d808002b30309d");
+        final Sketch persistedSketch = createSketchWithBase64EncodedImage(testFile);
+
+        // call
+        sketchImageMigration.migrate();
+
+        // test
+        final Image image = this.imageRepository.findImageBySketchId(persistedSketch.getId());
+        assertThat(image.getEncoding()).isEqualTo(ImageEncoding.RAW);
+        assertThat(image.getImage()).isEqualTo(testFile);
+        assertThat(this.imageRepository.findBase64EncodedIds(PageRequest.of(0, 1))).isEmpty();
+    }
+
+    @Test
+    @SneakyThrows
+    void getImageContentBySketch_WithSize_Thumbnail() {
+        final Algorithm algorithm = this.algorithmService.create(this.getAlgorithm("algo"));
+        final ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(800, 400, BufferedImage.TYPE_INT_ARGB), "png", png);
+        final MockMultipartFile file = new MockMultipartFile("image", "image.png", "image/png", png.toByteArray());
+        final Sketch persistedSketch = sketchService.addSketchToAlgorithm(algorithm.getId(), file, "description", "http://localhost");
+
+        // call
+        final ImageContentResource thumbnail = sketchService.getImageContentBySketch(persistedSketch.getId(), 100);
+        final ImageContentResource original = sketchService.getImageContentBySketch(persistedSketch.getId(), 2000);
+
+        // test
+        assertThat(thumbnail.getWidth()).isEqualTo(160);
+        assertThat(thumbnail.getMimeType()).isEqualTo("image/png");
+        try (InputStream inputStream = thumbnail.getInputStream()) {
+            final BufferedImage image = ImageIO.read(inputStream);
+            assertThat(image.getWidth()).isEqualTo(160);
+            assertThat(image.getHeight()).isEqualTo(80);
+        }
+        assertThat(original.getWidth()).isNull();
+        assertThat(original.contentLength()).isEqualTo(png.size());
+        assertThrows(IllegalArgumentException.class, () -> sketchService.getImageContentBySketch(persistedSketch.getId(), 0));
+    }
+
+    @Test
+    @SneakyThrows
+    void getImageContentBySketch_NarrowImage_Original() {
+        final Algorithm algorithm = this.algorithmService.create(this.getAlgorithm("algo"));
+        final ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB), "png", png);
+        final MockMultipartFile file = new MockMultipartFile("image", "image.png", "image/png", png.toByteArray());
+        final Sketch persistedSketch = sketchService.addSketchToAlgorithm(algorithm.getId(), file, "description", "http://localhost");
+
+        // call
+        final ImageContentResource content = sketchService.getImageContentBySketch(persistedSketch.getId(), 160);
+
+        // test
+        assertThat(content.getWidth()).isNull();
+        try (InputStream inputStream = content.getInputStream()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(png.toByteArray());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void getThumbnail_ImageAboveMaxPixels_Subsampled(@TempDir Path directory) {
+        final UUID imageId = createSketchWithPngImage(800, 400);
+        final SketchThumbnails thumbnails = new SketchThumbnails(imageRepository, new int[] {160}, directory.toString(), 100_000);
+
+        // call
+        final ImageContentResource thumbnail = thumbnails.getThumbnail(imageId, "image/png", 160).orElseThrow();
+
+        // test
+        try (InputStream inputStream = thumbnail.getInputStream()) {
+            final BufferedImage image = ImageIO.read(inputStream);
+            assertThat(image.getWidth()).isEqualTo(160);
+            assertThat(image.getHeight()).isEqualTo(80);
+        }
+    }
+
+    @Test
+    void getThumbnail_ImageTooLargeToSubsample_Original(@TempDir Path directory) {
+        final UUID imageId = createSketchWithPngImage(800, 400);
+        final SketchThumbnails thumbnails = new SketchThumbnails(imageRepository, new int[] {640}, directory.toString(), 100_000);
+
+        assertThat(thumbnails.getThumbnail(imageId, "image/png", 640)).isEmpty();
+    }
+
+    @SneakyThrows
+    private UUID createSketchWithPngImage(int width, int height) {
+        final Algorithm algorithm = this.algorithmService.create(this.getAlgorithm("algo"));
+        final ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", png);
+        final MockMultipartFile file = new MockMultipartFile("image", "image.png", "image/png", png.toByteArray());
+        final Sketch persistedSketch = sketchService.addSketchToAlgorithm(algorithm.getId(), file, "description", "http://localhost");
+        return this.imageRepository.findImageBySketchId(persistedSketch.getId()).getId();
+    }
+
+    private Sketch createSketchWithBase64EncodedImage(byte[] content) {
+        final Algorithm algorithm = this.algorithmService.create(this.getAlgorithm("algo"));
+
+        final Sketch sketch = this.getSketch(null, "http://image/url", "description");
+        sketch.setAlgorithm(algorithm);
+        final Sketch persistedSketch = this.sketchRepository.save(sketch);
+
+        // images were stored base64 encoded without an encoding before
+        final Image image = new Image();
+        image.setImage(Base64.getEncoder().encode(content));
+        image.setMimeType("image/png");
+        image.setSketch(persistedSketch);
+        this.imageRepository.save(image);
+        return persistedSketch;
+    }
+
     private Sketch getSketch(final Image image, final String imageURLAsString, final String description) {
         final Sketch sketch = new Sketch();
         sketch.setImage(image);
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.planqk.atlas.core.model.Upload;
+import org.planqk.atlas.core.model.UploadStatus;
+import org.planqk.atlas.core.model.UploadTarget;
+import org.planqk.atlas.core.repository.UploadRepository;
+import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+public class UploadCleanupTest extends AtlasDatabaseTestBase {
+
+    @Autowired
+    private UploadCleanup uploadCleanup;
+
+    @Autowired
+    private UploadRepository uploadRepository;
+
+    @Value("${org.planqk.atlas.upload.spool-directory}")
+    private String spoolDirectory;
+
+    @Test
+    void recover_UnfinishedBeforeStart_FailedAndSpooledFilesDeleted() throws IOException {
+        final Date beforeStart = new Date(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1));
+        final Upload pending = createUpload(UploadStatus.PENDING, beforeStart);
+        final Upload processing = createUpload(UploadStatus.PROCESSING, beforeStart);
+        final Upload completed = createUpload(UploadStatus.COMPLETED, beforeStart);
+        final Upload received = createUpload(UploadStatus.PENDING, new Date());
+        final Path directory = Files.createDirectories(Paths.get(spoolDirectory).toAbsolutePath());
+        final Path orphanedFile = Files.createTempFile(directory, "upload-", ".part");
+        Files.setLastModifiedTime(orphanedFile, FileTime.fromMillis(beforeStart.getTime()));
+        final Path receivedFile = Files.createTempFile(directory, "upload-", ".part");
+
+        try {
+            uploadCleanup.recover();
+
+            assertThat(statusOf(pending)).isEqualTo(UploadStatus.FAILED);
+            assertThat(uploadRepository.findById(pending.getId()).orElseThrow().getErrorMessage())
+                    .isEqualTo(UploadCleanup.INTERRUPTED_MESSAGE);
+            assertThat(statusOf(processing)).isEqualTo(UploadStatus.FAILED);
+            assertThat(statusOf(completed)).isEqualTo(UploadStatus.COMPLETED);
+            assertThat(statusOf(received)).isEqualTo(UploadStatus.PENDING);
+            assertThat(orphanedFile).doesNotExist();
+            assertThat(receivedFile).exists();
+        } finally {
+            Files.deleteIfExists(receivedFile);
+        }
+    }
+
+    @Test
+    void deleteFinished_NotModifiedForRetentionPeriod_Deleted() {
+        final Date longAgo = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(30));
+        final Upload oldCompleted = createUpload(UploadStatus.COMPLETED, longAgo);
+        final Upload oldFailed = createUpload(UploadStatus.FAILED, longAgo);
+        final Upload recentCompleted = createUpload(UploadStatus.COMPLETED, new Date());
+        final Upload oldPending = createUpload(UploadStatus.PENDING, longAgo);
+
+        uploadCleanup.deleteFinished();
+
+        assertThat(uploadRepository.findById(oldCompleted.getId())).isEmpty();
+        assertThat(uploadRepository.findById(oldFailed.getId())).isEmpty();
+        assertThat(uploadRepository.findById(recentCompleted.getId())).isPresent();
+        assertThat(uploadRepository.findById(oldPending.getId())).isPresent();
+    }
+
+    private Upload createUpload(UploadStatus status, Date date) {
+        final Upload upload = new Upload();
+        upload.setTarget(UploadTarget.TOSCA_APPLICATION);
+        upload.setName("upload");
+        upload.setStatus(status);
+        upload.setCreationDate(date);
+        upload.setLastModifiedAt(date);
+        return uploadRepository.save(upload);
+    }
+
+    private UploadStatus statusOf(Upload upload) {
+        return uploadRepository.findById(upload.getId()).orElseThrow().getStatus();
+    }
+}
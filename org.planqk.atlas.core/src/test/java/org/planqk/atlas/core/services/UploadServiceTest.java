@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.core.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.ImplementationPackage;
+import org.planqk.atlas.core.model.ImplementationPackageType;
+import org.planqk.atlas.core.model.Upload;
+import org.planqk.atlas.core.model.UploadStatus;
+import org.planqk.atlas.core.model.UploadTarget;
+import org.planqk.atlas.core.repository.FileRepository;
+import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.planqk.atlas.core.util.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mock.web.MockMultipartFile;
+
+// The test context does not enable asynchronous execution, so the uploads are processed before submit returns
+public class UploadServiceTest extends AtlasDatabaseTestBase {
+
+    @Autowired
+    private UploadService uploadService;
+
+    @Autowired
+    private AlgorithmService algorithmService;
+
+    @Autowired
+    private ImplementationService implementationService;
+
+    @Autowired
+    private ImplementationPackageService implementationPackageService;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Value("${org.planqk.atlas.upload.spool-directory}")
+    private String spoolDirectory;
+
+    @Test
+    void submitImplementationPackageFile_Completed() throws IOException {
+        var implementationPackage = createImplementationPackage();
+        byte[] content = new byte[Constants.UPLOAD_PROGRESS_INTERVAL + 42];
+        new Random().nextBytes(content);
+
+        Upload upload = uploadService.submitImplementationPackageFile(implementationPackage.getId(),
+                new MockMultipartFile("file", "file.bin", "application/octet-stream", content));
+
+        Upload processedUpload = uploadService.findById(upload.getId());
+        assertThat(processedUpload.getTarget()).isEqualTo(UploadTarget.IMPLEMENTATION_PACKAGE_FILE);
+        assertThat(processedUpload.getTargetId()).isEqualTo(implementationPackage.getId());
+        assertThat(processedUpload.getName()).isEqualTo("file.bin");
+        assertThat(processedUpload.getStatus()).isEqualTo(UploadStatus.COMPLETED);
+        assertThat(processedUpload.getSize()).isEqualTo((long) content.length);
+        assertThat(processedUpload.getBytesProcessed()).isEqualTo((long) content.length);
+        assertThat(processedUpload.getErrorMessage()).isNull();
+
+        var file = implementationPackageService.findLinkedFile(implementationPackage.getId());
+        assertThat(file.getId()).isEqualTo(processedUpload.getResultId());
+        assertThat(fileRepository.findById(file.getId()).orElseThrow().getSize()).isEqualTo((long) content.length);
+        assertSpoolDirectoryEmpty();
+    }
+
+    @Test
+    void submitSolutionFile_UnknownSolution_Failed() throws IOException {
+        Upload upload = uploadService.submitSolutionFile(UUID.randomUUID(),
+                new MockMultipartFile("file", "file.txt", "text/plain", "content".getBytes()));
+
+        Upload processedUpload = uploadService.findById(upload.getId());
+        assertThat(processedUpload.getTarget()).isEqualTo(UploadTarget.SOLUTION_FILE);
+        assertThat(processedUpload.getStatus()).isEqualTo(UploadStatus.FAILED);
+        assertThat(processedUpload.getResultId()).isNull();
+        assertThat(processedUpload.getErrorMessage()).isNotBlank();
+        assertThat(fileRepository.findAll()).isEmpty();
+        assertSpoolDirectoryEmpty();
+    }
+
+    @Test
+    void findById_ElementNotFound() {
+        assertThrows(NoSuchElementException.class, () -> uploadService.findById(UUID.randomUUID()));
+    }
+
+    private ImplementationPackage createImplementationPackage() {
+        var algorithm = new Algorithm();
+        algorithm.setName("algorithm");
+        algorithm = algorithmService.create(algorithm);
+
+        var implementation = new Implementation();
+        implementation.setName("implementation");
+        implementation = implementationService.create(implementation, algorithm.getId());
+
+        var implementationPackage = new ImplementationPackage();
+        implementationPackage.setName("package");
+        implementationPackage.setPackageType(ImplementationPackageType.FILE);
+        implementationPackage.setImplementation(implementation);
+        return implementationPackageService.create(implementationPackage, implementation.getId());
+    }
+
+    private void assertSpoolDirectoryEmpty() throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(spoolDirectory).toAbsolutePath())) {
+            assertThat(files).isEmpty();
+        }
+    }
+}
@@ -79,11 +79,22 @@ public final class Constants {
 
     public static final String SOLUTIONS = "solutions";
 
+    public static final String LOOKUP = "lookup";
+
+    public static final String UPLOADS = "uploads";
+
+    public static final String ARCHIVE = "archive";
+
+    public static final String DIFF = "diff";
+
     // default Pagination params that are exposed in HATEOAS links
     public static final Integer DEFAULT_PAGE_NUMBER = 0;
 
     public static final Integer DEFAULT_PAGE_SIZE = 50;
 
+    // maximum amount of IDs accepted by the lookup endpoints
+    public static final int MAX_LOOKUP_IDS = 1000;
+
     // query parameter names
     public static final String PAGE = "page";
 
@@ -91,6 +102,12 @@ public final class Constants {
 
     public static final String SEARCH = "search";
 
+    public static final String FIELDS = "fields";
+
+    public static final String EXPAND = "expand";
+
+    public static final String AS_OF = "asOf";
+
     // Swagger tag names
     public static final String TAG_ALGORITHM = "algorithm";
 
@@ -130,6 +147,8 @@ public final class Constants {
 
     public static final String TAG_SOLUTION = "solution";
 
+    public static final String TAG_UPLOADS = "uploads";
+
     private Constants() {
     }
 }
@@ -19,6 +19,7 @@
 
 package org.planqk.atlas.web;
 
+import java.util.List;
 import java.util.Map;
 
 import org.planqk.atlas.web.dtos.AlgorithmDto;
@@ -28,22 +29,28 @@ import org.planqk.atlas.web.dtos.ImplementationDto;
 import org.planqk.atlas.web.dtos.QuantumAlgorithmDto;
 import org.planqk.atlas.web.dtos.QuantumImplementationDto;
 import org.planqk.atlas.web.utils.OverrideModelConverter;
+import org.springdoc.core.customizers.OpenApiCustomiser;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.http.MediaType;
 
 import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.oas.annotations.media.DiscriminatorMapping;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.models.media.Content;
 
 /**
  * This configuration contains the Swagger / SpringDoc configurations we need.
  * <p>
- * This includes custom ModelConverters and type overrides.
+ * This includes custom ModelConverters, type overrides and the binary JSON media types.
  */
 @Configuration
 public class SwaggerConfiguration {
 
+    private static final String SMILE_MEDIA_TYPE = "application/x-jackson-smile";
+
     /**
      * ModelConverter that allows overriding {@link io.swagger.v3.oas.models.media.Schema} objects for Java classes.
      * Required for the different models (Quantum, Hybrid, or Classic) of AlgorithmDto and ImplementationDto,
@@ -60,6 +67,28 @@ public class SwaggerConfiguration {
         return converter;
     }
 
+    /**
+     * Documents that every JSON request and response body is also available as CBOR and Smile. The media types are
+     * selected by the Accept and Content-Type headers, so the controllers do not declare them.
+     */
+    @Bean
+    public OpenApiCustomiser binaryJsonMediaTypesCustomiser(@Value("${springdoc.default-produces-media-type:application/json}") String jsonMediaType) {
+        final var binaryMediaTypes = List.of(MediaType.APPLICATION_CBOR_VALUE, SMILE_MEDIA_TYPE);
+        return openApi -> openApi.getPaths().values().forEach(pathItem -> pathItem.readOperations().forEach(operation -> {
+            if (operation.getRequestBody() != null) {
+                addMediaTypes(operation.getRequestBody().getContent(), MediaType.APPLICATION_JSON_VALUE, binaryMediaTypes);
+            }
+            operation.getResponses().values().forEach(response -> addMediaTypes(response.getContent(), jsonMediaType, binaryMediaTypes));
+        }));
+    }
+
+    private static void addMediaTypes(Content content, String jsonMediaType, List<String> mediaTypes) {
+        if (content == null || !content.containsKey(jsonMediaType)) {
+            return;
+        }
+        mediaTypes.forEach(mediaType -> content.putIfAbsent(mediaType, content.get(jsonMediaType)));
+    }
+
     // The private classes below provide custom schemas for certain types used in our public API.
     // Setting these annotations on the correct types is not always possible, because we could end up with
     // reference cycles, for example:
@@ -23,13 +23,23 @@ import java.util.List;
 
 import org.planqk.atlas.web.annotation.VersionedRequestHandlerMapping;
 import org.planqk.atlas.web.utils.ListParametersMethodArgumentResolver;
+import org.planqk.atlas.web.utils.SparseFieldsetInterceptor;
+import org.planqk.atlas.web.utils.SparseFieldsetModule;
+import org.planqk.atlas.web.utils.ZeroCopyResourceHttpMessageConverter;
 import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
 @Configuration
 public class WebConfiguration implements WebMvcConfigurer {
     @Bean
@@ -47,8 +57,45 @@ public class WebConfiguration implements WebMvcConfigurer {
         return new ListParametersMethodArgumentResolver();
     }
 
+    @Bean
+    public SparseFieldsetModule sparseFieldsetModule() {
+        return new SparseFieldsetModule();
+    }
+
+    /**
+     * CBOR converter for clients that send {@code Accept: application/cbor}. In contrast to the converter Spring MVC
+     * registers by default, it is configured like the JSON object mapper, e.g. with the sparse fieldset module.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Smile converter for clients that send {@code Accept: application/x-jackson-smile}, configured like the JSON object
+     * mapper.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Replaces the default resource converter, so file contents stored on the local storage are sent without copying
+     * them through the heap.
+     */
+    @Bean
+    public ZeroCopyResourceHttpMessageConverter resourceHttpMessageConverter() {
+        return new ZeroCopyResourceHttpMessageConverter();
+    }
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> argumentResolvers) {
         argumentResolvers.add(listParametersResolver());
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SparseFieldsetInterceptor());
+    }
 }
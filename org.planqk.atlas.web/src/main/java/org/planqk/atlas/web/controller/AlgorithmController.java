@@ -19,14 +19,20 @@
 
 package org.planqk.atlas.web.controller;
 
+import java.io.IOException;
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.ApplicationArea;
 import org.planqk.atlas.core.model.ComputeResourceProperty;
-import org.planqk.atlas.core.model.Image;
 import org.planqk.atlas.core.model.LearningMethod;
 import org.planqk.atlas.core.model.PatternRelation;
 import org.planqk.atlas.core.model.ProblemType;
@@ -43,32 +49,45 @@ import org.planqk.atlas.core.services.ProblemTypeService;
 import org.planqk.atlas.core.services.PublicationService;
 import org.planqk.atlas.core.services.SketchService;
 import org.planqk.atlas.core.services.TagService;
+import org.planqk.atlas.core.util.ImageContentResource;
 import org.planqk.atlas.web.Constants;
 import org.planqk.atlas.web.dtos.AlgorithmDto;
+import org.planqk.atlas.web.dtos.AlgorithmExpansionDto;
 import org.planqk.atlas.web.dtos.ApplicationAreaDto;
 import org.planqk.atlas.web.dtos.ComputeResourcePropertyDto;
 import org.planqk.atlas.web.dtos.DiscussionCommentDto;
 import org.planqk.atlas.web.dtos.DiscussionTopicDto;
 import org.planqk.atlas.web.dtos.ImplementationDto;
 import org.planqk.atlas.web.dtos.LearningMethodDto;
+import org.planqk.atlas.web.dtos.LookupResultDto;
 import org.planqk.atlas.web.dtos.PatternRelationDto;
 import org.planqk.atlas.web.dtos.ProblemTypeDto;
 import org.planqk.atlas.web.dtos.PublicationDto;
+import org.planqk.atlas.web.dtos.RevisionDiffDto;
 import org.planqk.atlas.web.dtos.RevisionDto;
 import org.planqk.atlas.web.dtos.SketchDto;
 import org.planqk.atlas.web.dtos.TagDto;
+import org.planqk.atlas.web.utils.AsOfParameterDoc;
 import org.planqk.atlas.web.utils.ControllerValidationUtils;
+import org.planqk.atlas.web.utils.Expansions;
 import org.planqk.atlas.web.utils.ListParameters;
 import org.planqk.atlas.web.utils.ListParametersDoc;
+import org.planqk.atlas.web.utils.Lookups;
 import org.planqk.atlas.web.utils.ModelMapperUtils;
+import org.planqk.atlas.web.utils.PageStreamingUtils;
 import org.planqk.atlas.web.utils.ValidationGroups;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -98,6 +117,20 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class AlgorithmController {
 
+    private static final Map<String, AlgorithmService.Association> EXPANDABLE_ASSOCIATIONS = Map.of(
+            Constants.PUBLICATIONS, AlgorithmService.Association.PUBLICATIONS,
+            Constants.PROBLEM_TYPES, AlgorithmService.Association.PROBLEM_TYPES,
+            Constants.APPLICATION_AREAS, AlgorithmService.Association.APPLICATION_AREAS,
+            Constants.TAGS, AlgorithmService.Association.TAGS,
+            Constants.IMPLEMENTATIONS, AlgorithmService.Association.IMPLEMENTATIONS,
+            Constants.LEARNING_METHODS, AlgorithmService.Association.LEARNING_METHODS,
+            Constants.PATTERN_RELATIONS, AlgorithmService.Association.PATTERN_RELATIONS,
+            Constants.COMPUTE_RESOURCE_PROPERTIES, AlgorithmService.Association.COMPUTE_RESOURCE_PROPERTIES,
+            Constants.SKETCHES, AlgorithmService.Association.SKETCHES);
+
+    private static final String IMMUTABLE_CACHE_CONTROL =
+            CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().getHeaderValue() + ", immutable";
+
     private final AlgorithmService algorithmService;
 
     private final SketchService sketchService;
@@ -120,9 +153,13 @@ public class AlgorithmController {
 
     private final LinkingService linkingService;
 
+    private final HttpMessageConverters messageConverters;
+
     @Operation(responses = {
             @ApiResponse(responseCode = "200")
-    }, description = "Retrieve all algorithms (quantum, hybrid and classic).")
+    }, description = "Retrieve all algorithms (quantum, hybrid and classic). With the " + Constants.AS_OF + " parameter " +
+            "(ISO 8601 date-time) the algorithms are retrieved in the state they had at that point in time.")
+    @AsOfParameterDoc
     @ListParametersDoc
     @GetMapping
     public ResponseEntity<Page<AlgorithmDto>> getAlgorithms(
@@ -131,6 +168,44 @@ public class AlgorithmController {
                 listParameters.getSearch()), AlgorithmDto.class));
     }
 
+    /**
+     * Point-in-time variant of {@link #getAlgorithms(ListParameters)}, which reads the algorithms from their revisions.
+     */
+    @Operation(hidden = true)
+    @GetMapping(params = Constants.AS_OF)
+    public ResponseEntity<Page<AlgorithmDto>> getAlgorithmsAsOf(
+            @RequestParam(Constants.AS_OF) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date asOf,
+            @Parameter(hidden = true) ListParameters listParameters) {
+        return ResponseEntity.ok(ModelMapperUtils.convertPage(algorithmService.findAllAsOf(asOf, listParameters.getPageable(),
+                listParameters.getSearch()), AlgorithmDto.class));
+    }
+
+    /**
+     * Unpaged variant of {@link #getAlgorithms(ListParameters)}, which writes the algorithms one after the other instead of
+     * loading all of them at once.
+     * <p>
+     * Unpaged point-in-time requests are excluded, they are served by the point-in-time variant.
+     */
+    @Operation(hidden = true)
+    @GetMapping(params = {Constants.PAGE + "=-1", Constants.SIZE + "=-1", "!" + Constants.AS_OF})
+    public void streamAlgorithms(@Parameter(hidden = true) ListParameters listParameters,
+                                 HttpServletRequest request, HttpServletResponse response)
+            throws IOException, HttpMediaTypeNotAcceptableException {
+        final var sort = listParameters.getPageable().getSort();
+        PageStreamingUtils.<Algorithm, AlgorithmDto>writePage(request, response, messageConverters, sort, AlgorithmDto.class,
+                consumer -> algorithmService.streamAll(sort, listParameters.getSearch(), consumer));
+    }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid list of IDs.")
+    }, description = "Retrieve multiple algorithms by their IDs. The algorithms are returned in the order of the given IDs, " +
+            "IDs without a stored entry are listed as missing. At most " + Constants.MAX_LOOKUP_IDS + " IDs can be looked up at once.")
+    @PostMapping("/" + Constants.LOOKUP)
+    public ResponseEntity<LookupResultDto<AlgorithmDto>> lookupAlgorithms(@RequestBody List<UUID> algorithmIds) {
+        return ResponseEntity.ok(Lookups.lookup(algorithmIds, algorithmService::findAllById, AlgorithmDto.class));
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "201"),
             @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body."),
@@ -180,12 +255,71 @@ public class AlgorithmController {
             @ApiResponse(responseCode = "200"),
             @ApiResponse(responseCode = "400"),
             @ApiResponse(responseCode = "404", description = "Not Found. Algorithm with given ID doesn't exist.")
-    }, description = "Retrieve a specific algorithm and its basic properties.")
+    }, description = "Retrieve a specific algorithm and its basic properties. The sub-collections listed in the expand " +
+            "parameter are embedded into the algorithm. With the " + Constants.AS_OF + " parameter (ISO 8601 date-time) the " +
+            "basic properties are retrieved in the state they had at that point in time, sub-collections are not embedded then.")
+    @AsOfParameterDoc
     @GetMapping("/{algorithmId}")
     public ResponseEntity<AlgorithmDto> getAlgorithm(
-            @PathVariable UUID algorithmId) {
-        final var algorithm = algorithmService.findById(algorithmId);
-        return ResponseEntity.ok(ModelMapperUtils.convert(algorithm, AlgorithmDto.class));
+            @PathVariable UUID algorithmId,
+            @Parameter(description = "Comma separated list of sub-collections to embed, e.g. publications,tags")
+            @RequestParam(name = Constants.EXPAND, required = false) Set<String> expand) {
+        final var associations = Expansions.parse(expand, EXPANDABLE_ASSOCIATIONS, AlgorithmService.Association.class);
+        if (associations.isEmpty()) {
+            return ResponseEntity.ok(ModelMapperUtils.convert(algorithmService.findById(algorithmId), AlgorithmDto.class));
+        }
+        final var algorithm = algorithmService.findById(algorithmId, associations);
+        final var algorithmDto = ModelMapperUtils.convert(algorithm, AlgorithmDto.class);
+        algorithmDto.setEmbedded(expand(algorithm, associations));
+        return ResponseEntity.ok(algorithmDto);
+    }
+
+    /**
+     * Point-in-time variant of {@link #getAlgorithm(UUID, Set)}, which reads the algorithm from its revisions.
+     */
+    @Operation(hidden = true)
+    @GetMapping(value = "/{algorithmId}", params = Constants.AS_OF)
+    public ResponseEntity<AlgorithmDto> getAlgorithmAsOf(
+            @PathVariable UUID algorithmId,
+            @RequestParam(Constants.AS_OF) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date asOf) {
+        return ResponseEntity.ok(ModelMapperUtils.convert(algorithmService.findByIdAsOf(algorithmId, asOf), AlgorithmDto.class));
+    }
+
+    private static AlgorithmExpansionDto expand(Algorithm algorithm, Set<AlgorithmService.Association> associations) {
+        final var expansion = new AlgorithmExpansionDto();
+        for (final var association : associations) {
+            switch (association) {
+                case PUBLICATIONS:
+                    expansion.setPublications(ModelMapperUtils.convertCollection(algorithm.getPublications(), PublicationDto.class));
+                    break;
+                case PROBLEM_TYPES:
+                    expansion.setProblemTypes(ModelMapperUtils.convertCollection(algorithm.getProblemTypes(), ProblemTypeDto.class));
+                    break;
+                case APPLICATION_AREAS:
+                    expansion.setApplicationAreas(ModelMapperUtils.convertCollection(algorithm.getApplicationAreas(), ApplicationAreaDto.class));
+                    break;
+                case TAGS:
+                    expansion.setTags(ModelMapperUtils.convertCollection(algorithm.getTags(), TagDto.class));
+                    break;
+                case IMPLEMENTATIONS:
+                    expansion.setImplementations(ModelMapperUtils.convertCollection(algorithm.getImplementations(), ImplementationDto.class));
+                    break;
+                case LEARNING_METHODS:
+                    expansion.setLearningMethods(ModelMapperUtils.convertCollection(algorithm.getLearningMethods(), LearningMethodDto.class));
+                    break;
+                case PATTERN_RELATIONS:
+                    expansion.setPatternRelations(ModelMapperUtils.convertCollection(algorithm.getRelatedPatterns(), PatternRelationDto.class));
+                    break;
+                case COMPUTE_RESOURCE_PROPERTIES:
+                    expansion.setComputeResourceProperties(ModelMapperUtils.convertCollection(
+                            algorithm.getRequiredComputeResourceProperties(), ComputeResourcePropertyDto.class));
+                    break;
+                default:
+                    // sketches are always part of the algorithm itself
+                    break;
+            }
+        }
+        return expansion;
     }
 
     @Operation(responses = {
@@ -419,8 +553,11 @@ public class AlgorithmController {
             @ApiResponse(responseCode = "400"),
             @ApiResponse(responseCode = "404",
                          description = "Not Found. Algorithm with given ID doesn't exist.")
-    }, description = "Retrieve implementations of an algorithm. If none are found an empty list is returned."
+    }, description = "Retrieve implementations of an algorithm. If none are found an empty list is returned. With the " +
+            Constants.AS_OF + " parameter (ISO 8601 date-time) the implementations are retrieved in the state they had at " +
+            "that point in time."
     )
+    @AsOfParameterDoc
     @ListParametersDoc
     @GetMapping("/{algorithmId}/" + Constants.IMPLEMENTATIONS)
     public ResponseEntity<Page<ImplementationDto>> getImplementationsOfAlgorithm(
@@ -430,6 +567,20 @@ public class AlgorithmController {
         return ResponseEntity.ok(ModelMapperUtils.convertPage(implementations, ImplementationDto.class));
     }
 
+    /**
+     * Point-in-time variant of {@link #getImplementationsOfAlgorithm(UUID, ListParameters)}, which reads the
+     * implementations from their revisions.
+     */
+    @Operation(hidden = true)
+    @GetMapping(value = "/{algorithmId}/" + Constants.IMPLEMENTATIONS, params = Constants.AS_OF)
+    public ResponseEntity<Page<ImplementationDto>> getImplementationsOfAlgorithmAsOf(
+            @PathVariable UUID algorithmId,
+            @RequestParam(Constants.AS_OF) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date asOf,
+            @Parameter(hidden = true) ListParameters listParameters) {
+        final var implementations = implementationService.findByImplementedAlgorithmAsOf(algorithmId, asOf, listParameters.getPageable());
+        return ResponseEntity.ok(ModelMapperUtils.convertPage(implementations, ImplementationDto.class));
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
             @ApiResponse(responseCode = "400"),
@@ -843,17 +994,29 @@ public class AlgorithmController {
 
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
-            @ApiResponse(responseCode = "400"),
+            @ApiResponse(responseCode = "304", description = "Not Modified. The image matches the ETag given in the If-None-Match header."),
+            @ApiResponse(responseCode = "400", description = "Bad Request. The requested size is not positive"),
             @ApiResponse(responseCode = "404", description = "Not Found. Sketch with given ID doesn't exist")
-    }, description = "Retrieve the image of specific Sketch.")
+    }, description = "Retrieve the image of specific Sketch, or a thumbnail of it if a size is given. The image of a " +
+            "sketch never changes, so it may be cached without revalidation.")
     @GetMapping(value = "/{algorithmId}/" + Constants.SKETCHES + "/{sketchId}" + "/image")
-    public ResponseEntity<byte[]> getSketchImage(@PathVariable UUID algorithmId, @PathVariable UUID sketchId) {
-        final Image image = this.sketchService.getImageBySketch(sketchId);
+    public ResponseEntity<Resource> getSketchImage(
+            @PathVariable UUID algorithmId,
+            @PathVariable UUID sketchId,
+            @Parameter(description = "Requested width in pixels, rounded up to the next available thumbnail width. " +
+                    "The original image is returned if it is not wider or no thumbnail is that wide")
+            @RequestParam(name = Constants.SIZE, required = false) Integer size) {
+        final ImageContentResource image = size == null
+                ? this.sketchService.getImageContentBySketch(sketchId)
+                : this.sketchService.getImageContentBySketch(sketchId, size);
         return ResponseEntity
                 .ok()
                 .contentType(MediaType.parseMediaType(image.getMimeType()))
                 .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
-                .body(image.getImage());
+                // images are never changed, so the ID and the width identify the content
+                .eTag(image.getEntityTag())
+                .header(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL)
+                .body(image);
     }
 
     @Operation(responses = {
@@ -950,4 +1113,16 @@ public class AlgorithmController {
         final Algorithm algorithmRevision = algorithmService.findAlgorithmRevision(algorithmId, revisionId).getEntity();
         return ResponseEntity.ok(ModelMapperUtils.convert(algorithmRevision, AlgorithmDto.class));
     }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400"),
+            @ApiResponse(responseCode = "404", description = "Not Found. Algorithm with given ID or one of the revisions doesn't exist.")
+    }, description = "Retrieve the basic properties of an algorithm that changed from one revision to another")
+    @GetMapping("/{algorithmId}/" + Constants.REVISIONS + "/{fromRevisionId}/" + Constants.DIFF + "/{toRevisionId}")
+    public ResponseEntity<RevisionDiffDto> getAlgorithmRevisionDiff(
+            @PathVariable UUID algorithmId, @PathVariable Integer fromRevisionId, @PathVariable Integer toRevisionId) {
+        final var changes = algorithmService.findAlgorithmRevisionChanges(algorithmId, fromRevisionId, toRevisionId);
+        return ResponseEntity.ok(RevisionDiffDto.of(fromRevisionId, toRevisionId, changes));
+    }
 }
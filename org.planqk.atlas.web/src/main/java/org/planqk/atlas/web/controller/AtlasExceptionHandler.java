@@ -25,13 +25,16 @@ import java.util.NoSuchElementException;
 import org.planqk.atlas.core.exceptions.CloudStorageException;
 import org.planqk.atlas.core.exceptions.EntityReferenceConstraintViolationException;
 import org.planqk.atlas.core.exceptions.InvalidResourceTypeValueException;
+import org.planqk.atlas.core.exceptions.LocalStorageException;
 import org.planqk.atlas.web.controller.exceptions.InvalidRequestException;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -62,6 +65,12 @@ public class AtlasExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e);
     }
 
+    @ExceptionHandler(LocalStorageException.class)
+    public ResponseEntity<LocalStorageException> handleLocalStorageException(LocalStorageException e) {
+        log.error(e.getMessage(), e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e);
+    }
+
     @ExceptionHandler(EntityReferenceConstraintViolationException.class)
     public ResponseEntity<EntityReferenceConstraintViolationException> handleEntityReferenceConstraintViolationException(
             EntityReferenceConstraintViolationException e) {
@@ -112,6 +121,19 @@ public class AtlasExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e);
     }
 
+    @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+    public ResponseEntity<Void> handleHttpMediaTypeNotAcceptableException(HttpMediaTypeNotAcceptableException e) {
+        log.warn(e.getMessage(), e);
+        // no body, since none of the accepted media types can be written
+        return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<TaskRejectedException> handleTaskRejectedException(TaskRejectedException e) {
+        log.warn(e.getMessage(), e);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e);
+    }
+
     // Return stacktrace to client if another exception occurs.
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Exception> handleOtherException(Exception e) {
@@ -19,6 +19,7 @@
 
 package org.planqk.atlas.web.controller;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.CloudService;
@@ -27,9 +28,11 @@ import org.planqk.atlas.core.services.LinkingService;
 import org.planqk.atlas.web.Constants;
 import org.planqk.atlas.web.dtos.CloudServiceDto;
 import org.planqk.atlas.web.dtos.ComputeResourceDto;
+import org.planqk.atlas.web.dtos.LookupResultDto;
 import org.planqk.atlas.web.dtos.SoftwarePlatformDto;
 import org.planqk.atlas.web.utils.ListParameters;
 import org.planqk.atlas.web.utils.ListParametersDoc;
+import org.planqk.atlas.web.utils.Lookups;
 import org.planqk.atlas.web.utils.ModelMapperUtils;
 import org.planqk.atlas.web.utils.ValidationGroups;
 import org.springframework.data.domain.Page;
@@ -81,6 +84,16 @@ public class CloudServiceController {
         return ResponseEntity.ok(ModelMapperUtils.convertPage(entities, CloudServiceDto.class));
     }
 
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid list of IDs.")
+    }, description = "Retrieve multiple cloud services by their IDs. The cloud services are returned in the order of the given IDs, " +
+            "IDs without a stored entry are listed as missing. At most " + Constants.MAX_LOOKUP_IDS + " IDs can be looked up at once.")
+    @PostMapping("/" + Constants.LOOKUP)
+    public ResponseEntity<LookupResultDto<CloudServiceDto>> lookupCloudServices(@RequestBody List<UUID> cloudServiceIds) {
+        return ResponseEntity.ok(Lookups.lookup(cloudServiceIds, cloudServiceService::findAllById, CloudServiceDto.class));
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "201"),
             @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body."),
@@ -19,6 +19,7 @@
 
 package org.planqk.atlas.web.controller;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.ComputeResource;
@@ -29,9 +30,11 @@ import org.planqk.atlas.web.Constants;
 import org.planqk.atlas.web.dtos.CloudServiceDto;
 import org.planqk.atlas.web.dtos.ComputeResourceDto;
 import org.planqk.atlas.web.dtos.ComputeResourcePropertyDto;
+import org.planqk.atlas.web.dtos.LookupResultDto;
 import org.planqk.atlas.web.dtos.SoftwarePlatformDto;
 import org.planqk.atlas.web.utils.ListParameters;
 import org.planqk.atlas.web.utils.ListParametersDoc;
+import org.planqk.atlas.web.utils.Lookups;
 import org.planqk.atlas.web.utils.ModelMapperUtils;
 import org.planqk.atlas.web.utils.ValidationGroups;
 import org.springframework.data.domain.Page;
@@ -84,6 +87,16 @@ public class ComputeResourceController {
         return ResponseEntity.ok(ModelMapperUtils.convertPage(entities, ComputeResourceDto.class));
     }
 
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid list of IDs.")
+    }, description = "Retrieve multiple compute resources by their IDs. The compute resources are returned in the order of the given IDs, " +
+            "IDs without a stored entry are listed as missing. At most " + Constants.MAX_LOOKUP_IDS + " IDs can be looked up at once.")
+    @PostMapping("/" + Constants.LOOKUP)
+    public ResponseEntity<LookupResultDto<ComputeResourceDto>> lookupComputeResources(@RequestBody List<UUID> computeResourceIds) {
+        return ResponseEntity.ok(Lookups.lookup(computeResourceIds, computeResourceService::findAllById, ComputeResourceDto.class));
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "201"),
             @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body.")
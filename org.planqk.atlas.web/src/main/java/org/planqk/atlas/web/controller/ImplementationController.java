@@ -19,8 +19,13 @@
 
 package org.planqk.atlas.web.controller;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.UUID;
+import javax.servlet.http.HttpServletResponse;
 
 import org.planqk.atlas.core.model.ComputeResourceProperty;
 import org.planqk.atlas.core.model.File;
@@ -28,6 +33,7 @@ import org.planqk.atlas.core.model.Implementation;
 import org.planqk.atlas.core.model.ImplementationPackage;
 import org.planqk.atlas.core.model.Publication;
 import org.planqk.atlas.core.model.Tag;
+import org.planqk.atlas.core.model.Upload;
 import org.planqk.atlas.core.services.ComputeResourcePropertyService;
 import org.planqk.atlas.core.services.FileService;
 import org.planqk.atlas.core.services.ImplementationPackageService;
@@ -36,6 +42,7 @@ import org.planqk.atlas.core.services.LinkingService;
 import org.planqk.atlas.core.services.PublicationService;
 import org.planqk.atlas.core.services.SoftwarePlatformService;
 import org.planqk.atlas.core.services.TagService;
+import org.planqk.atlas.core.services.UploadService;
 import org.planqk.atlas.web.Constants;
 import org.planqk.atlas.web.dtos.ComputeResourcePropertyDto;
 import org.planqk.atlas.web.dtos.DiscussionCommentDto;
@@ -46,16 +53,24 @@ import org.planqk.atlas.web.dtos.ImplementationPackageDto;
 import org.planqk.atlas.web.dtos.PublicationDto;
 import org.planqk.atlas.web.dtos.SoftwarePlatformDto;
 import org.planqk.atlas.web.dtos.TagDto;
+import org.planqk.atlas.web.dtos.UploadDto;
+import org.planqk.atlas.web.linkassembler.LinkBuilderService;
+import org.planqk.atlas.web.utils.FileContentResponses;
+import org.planqk.atlas.web.utils.ImplementationPackageArchives;
 import org.planqk.atlas.web.utils.ListParameters;
 import org.planqk.atlas.web.utils.ListParametersDoc;
 import org.planqk.atlas.web.utils.ModelMapperUtils;
 import org.planqk.atlas.web.utils.ValidationGroups;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -64,13 +79,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -86,6 +105,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ImplementationController {
 
+    private static final String ARCHIVE_MEDIA_TYPE = "application/zip";
+
     private final ImplementationService implementationService;
 
     private final TagService tagService;
@@ -104,6 +125,12 @@ public class ImplementationController {
 
     private final FileService fileService;
 
+    private final UploadService uploadService;
+
+    private final LinkBuilderService linkBuilderService;
+
+    private final ObjectMapper objectMapper;
+
     @Operation(responses = {
             @ApiResponse(responseCode = "201"),
             @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body."),
@@ -168,7 +195,8 @@ public class ImplementationController {
                          description = "Bad Request. Invalid request body or algorithm resource is not implemented algorithm of implementation."),
             @ApiResponse(responseCode = "404",
                          description = "Not Found. Algorithm or implementation with given IDs don't exist.")
-    }, description = "Retrieve a specific implementation and its basic properties of an algorithm.")
+    }, description = "Retrieve a specific implementation and its basic properties of an algorithm. With the " + Constants.AS_OF +
+            " parameter (ISO 8601 date-time) the implementation is retrieved in the state it had at that point in time.")
     @GetMapping("/{implementationId}")
     public ResponseEntity<ImplementationDto> getImplementation(
             @PathVariable UUID algorithmId,
@@ -179,6 +207,19 @@ public class ImplementationController {
         return ResponseEntity.ok(ModelMapperUtils.convert(implementation, ImplementationDto.class));
     }
 
+    /**
+     * Point-in-time variant of {@link #getImplementation(UUID, UUID)}, which reads the implementation from its revisions.
+     */
+    @Operation(hidden = true)
+    @GetMapping(value = "/{implementationId}", params = Constants.AS_OF)
+    public ResponseEntity<ImplementationDto> getImplementationAsOf(
+            @PathVariable UUID algorithmId,
+            @PathVariable UUID implementationId,
+            @RequestParam(Constants.AS_OF) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date asOf) {
+        final var implementation = implementationService.findByIdAndImplementedAlgorithmAsOf(implementationId, algorithmId, asOf);
+        return ResponseEntity.ok(ModelMapperUtils.convert(implementation, ImplementationDto.class));
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
             @ApiResponse(responseCode = "400",
@@ -709,20 +750,44 @@ public class ImplementationController {
     }
 
     @Operation(responses = {
-            @ApiResponse(responseCode = "201"),
+            @ApiResponse(responseCode = "200", content = @Content(mediaType = ARCHIVE_MEDIA_TYPE)),
+            @ApiResponse(responseCode = "404",
+                         description = "Not Found. implementation with given ID doesn't exist.")
+    }, description = "Downloads the files of all implementation packages of an implementation as ZIP archive. The archive " +
+            "contains a " + ImplementationPackageArchives.MANIFEST + " with the metadata of the packages and the path of the " +
+            "content of each file. The archive is written while the contents are read, so its size is not known in advance.")
+    @GetMapping("/{implementationId}/" + Constants.IMPLEMENTATION_PACKAGES + "/" + Constants.ARCHIVE)
+    public void downloadImplementationPackagesArchive(
+            @PathVariable UUID algorithmId,
+            @PathVariable UUID implementationId,
+            HttpServletResponse response) throws IOException {
+        implementationService.checkIfImplementationIsOfAlgorithm(implementationId, algorithmId);
+        final Implementation implementation = implementationService.findById(implementationId);
+        final List<ImplementationPackage> packages = implementationPackageService.findAllWithFilesByImplementationId(implementationId);
+
+        response.setContentType(ARCHIVE_MEDIA_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.builder("attachment")
+                .filename(archiveName(implementation), StandardCharsets.UTF_8).build().toString());
+        ImplementationPackageArchives.write(response.getOutputStream(), implementation, packages, fileService, objectMapper);
+    }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "202", description = "Accepted. The upload is processed in the background, " +
+                    "its status can be retrieved from the URL in the Location header."),
             @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body."),
+            @ApiResponse(responseCode = "503", description = "Service Unavailable. Too many uploads are processed at the moment.")
     }, description = "Uploads and adds a file to a given implementation")
     @PostMapping(value = "/{implementationId}/" + Constants.IMPLEMENTATION_PACKAGES + "/{implementationPackageId}/" +
             Constants.FILE, consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<FileDto> createFileForImplementationPackage(
+    public ResponseEntity<UploadDto> createFileForImplementationPackage(
             @PathVariable UUID algorithmId,
             @PathVariable UUID implementationId,
             @PathVariable UUID implementationPackageId,
             @RequestParam("file") MultipartFile multipartFile) {
         implementationService.checkIfImplementationIsOfAlgorithm(implementationId, algorithmId);
         implementationPackageService.checkIfImplementationPackageIsLinkedToImplementation(implementationPackageId, implementationId);
-        final File file = implementationPackageService.addFileToImplementationPackage(implementationPackageId, multipartFile);
-        return ResponseEntity.status(HttpStatus.CREATED).body(ModelMapperUtils.convert(file, FileDto.class));
+        final Upload upload = uploadService.submitImplementationPackageFile(implementationPackageId, multipartFile);
+        return UploadController.accepted(upload, linkBuilderService);
     }
 
     @Operation(responses = {
@@ -743,14 +808,19 @@ public class ImplementationController {
 
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "206", description = "Partial Content. The ranges given in the Range header."),
+            @ApiResponse(responseCode = "304", description = "Not Modified. The content matches the ETag given in the If-None-Match header."),
             @ApiResponse(responseCode = "404",
-                         description = "File of Implementation with given ID doesn't exist")
-    }, description = "Downloads a specific file content of an Implementation")
+                         description = "File of Implementation with given ID doesn't exist"),
+            @ApiResponse(responseCode = "416", description = "Range Not Satisfiable. Invalid Range header.")
+    }, description = "Downloads a specific file content of an Implementation. Parts of the content can be requested " +
+            "with a Range header. Contents stored compressed are sent gzip encoded if the Accept-Encoding header allows it.")
     @GetMapping("/{implementationId}/" + Constants.IMPLEMENTATION_PACKAGES + "/{implementationPackageId}/" + Constants.FILE + "/content")
-    public ResponseEntity<byte[]> downloadFileContent(
+    public ResponseEntity<Resource> downloadFileContent(
             @PathVariable UUID algorithmId,
             @PathVariable UUID implementationId,
-            @PathVariable UUID implementationPackageId
+            @PathVariable UUID implementationPackageId,
+            @Parameter(hidden = true) @RequestHeader HttpHeaders requestHeaders
     ) {
         implementationService.checkIfImplementationIsOfAlgorithm(implementationId, algorithmId);
         implementationPackageService.checkIfImplementationPackageIsLinkedToImplementation(implementationPackageId, implementationId);
@@ -759,11 +829,7 @@ public class ImplementationController {
         if (file == null) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        return ResponseEntity
-                .ok()
-                .contentType(MediaType.parseMediaType(file.getMimeType()))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + file.getName())
-                .body(fileService.getFileContent(file.getId()));
+        return FileContentResponses.download(file, fileService, requestHeaders);
     }
 
     @Operation(responses = {
@@ -866,4 +932,9 @@ public class ImplementationController {
         implementationPackageService.delete(implementationPackageId);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    private static String archiveName(Implementation implementation) {
+        final String name = StringUtils.hasText(implementation.getName()) ? implementation.getName() : implementation.getId().toString();
+        return name.replaceAll("[/\\\\:\"]", "_") + ".zip";
+    }
 }
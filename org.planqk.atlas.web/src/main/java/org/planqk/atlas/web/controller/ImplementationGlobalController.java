@@ -19,25 +19,46 @@
 
 package org.planqk.atlas.web.controller;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.planqk.atlas.core.model.Implementation;
 import org.planqk.atlas.core.services.ImplementationService;
 import org.planqk.atlas.web.Constants;
+import org.planqk.atlas.web.dtos.ComputeResourcePropertyDto;
 import org.planqk.atlas.web.dtos.ImplementationDto;
+import org.planqk.atlas.web.dtos.ImplementationExpansionDto;
+import org.planqk.atlas.web.dtos.ImplementationPackageDto;
+import org.planqk.atlas.web.dtos.LookupResultDto;
 import org.planqk.atlas.web.dtos.PatternUriDto;
+import org.planqk.atlas.web.dtos.PublicationDto;
+import org.planqk.atlas.web.dtos.RevisionDiffDto;
 import org.planqk.atlas.web.dtos.RevisionDto;
+import org.planqk.atlas.web.dtos.TagDto;
+import org.planqk.atlas.web.utils.AsOfParameterDoc;
+import org.planqk.atlas.web.utils.Expansions;
 import org.planqk.atlas.web.utils.ListParameters;
 import org.planqk.atlas.web.utils.ListParametersDoc;
+import org.planqk.atlas.web.utils.Lookups;
 import org.planqk.atlas.web.utils.ModelMapperUtils;
+import org.planqk.atlas.web.utils.PageStreamingUtils;
 import org.planqk.atlas.web.utils.ValidationGroups;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -66,11 +87,21 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ImplementationGlobalController {
 
+    private static final Map<String, ImplementationService.Association> EXPANDABLE_ASSOCIATIONS = Map.of(
+            Constants.PUBLICATIONS, ImplementationService.Association.PUBLICATIONS,
+            Constants.TAGS, ImplementationService.Association.TAGS,
+            Constants.COMPUTE_RESOURCE_PROPERTIES, ImplementationService.Association.COMPUTE_RESOURCE_PROPERTIES,
+            Constants.IMPLEMENTATION_PACKAGES, ImplementationService.Association.IMPLEMENTATION_PACKAGES);
+
     private final ImplementationService implementationService;
 
+    private final HttpMessageConverters messageConverters;
+
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
-    }, description = "Retrieve all implementations unaffected by its implemented algorithm")
+    }, description = "Retrieve all implementations unaffected by its implemented algorithm. With the " + Constants.AS_OF +
+            " parameter (ISO 8601 date-time) the implementations are retrieved in the state they had at that point in time.")
+    @AsOfParameterDoc
     @ListParametersDoc
     @GetMapping
     public ResponseEntity<Page<ImplementationDto>> getImplementations(@Parameter(hidden = true) ListParameters listParameters) {
@@ -78,18 +109,108 @@ public class ImplementationGlobalController {
         return ResponseEntity.ok(ModelMapperUtils.convertPage(implementations, ImplementationDto.class));
     }
 
+    /**
+     * Point-in-time variant of {@link #getImplementations(ListParameters)}, which reads the implementations from their
+     * revisions.
+     */
+    @Operation(hidden = true)
+    @GetMapping(params = Constants.AS_OF)
+    public ResponseEntity<Page<ImplementationDto>> getImplementationsAsOf(
+            @RequestParam(Constants.AS_OF) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date asOf,
+            @Parameter(hidden = true) ListParameters listParameters) {
+        final var implementations = implementationService.findAllAsOf(asOf, listParameters.getPageable());
+        return ResponseEntity.ok(ModelMapperUtils.convertPage(implementations, ImplementationDto.class));
+    }
+
+    /**
+     * Unpaged variant of {@link #getImplementations(ListParameters)}, which writes the implementations one after the other
+     * instead of loading all of them at once.
+     * <p>
+     * Unpaged point-in-time requests are excluded, they are served by the point-in-time variant.
+     */
+    @Operation(hidden = true)
+    @GetMapping(params = {Constants.PAGE + "=-1", Constants.SIZE + "=-1", "!" + Constants.AS_OF})
+    public void streamImplementations(@Parameter(hidden = true) ListParameters listParameters,
+                                      HttpServletRequest request, HttpServletResponse response)
+            throws IOException, HttpMediaTypeNotAcceptableException {
+        final var sort = listParameters.getPageable().getSort();
+        PageStreamingUtils.<Implementation, ImplementationDto>writePage(request, response, messageConverters, sort, ImplementationDto.class,
+                consumer -> implementationService.streamAll(sort, consumer));
+    }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid list of IDs.")
+    }, description = "Retrieve multiple implementations by their IDs. The implementations are returned in the order of the given IDs, " +
+            "IDs without a stored entry are listed as missing. At most " + Constants.MAX_LOOKUP_IDS + " IDs can be looked up at once.")
+    @PostMapping("/" + Constants.LOOKUP)
+    public ResponseEntity<LookupResultDto<ImplementationDto>> lookupImplementations(@RequestBody List<UUID> implementationIds) {
+        return ResponseEntity.ok(Lookups.lookup(implementationIds, implementationService::findAllById, ImplementationDto.class));
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
             @ApiResponse(responseCode = "400"),
             @ApiResponse(responseCode = "404",
                     description = "Implementation with given ID doesn't exist")
-    }, description = "Retrieve a specific implementation and its basic properties.")
+    }, description = "Retrieve a specific implementation and its basic properties. The sub-collections listed in the " +
+            "expand parameter are embedded into the implementation. With the " + Constants.AS_OF + " parameter (ISO 8601 " +
+            "date-time) the basic properties are retrieved in the state they had at that point in time, sub-collections are " +
+            "not embedded then.")
+    @AsOfParameterDoc
     @GetMapping("/{implementationId}")
-    public ResponseEntity<ImplementationDto> getImplementation(@PathVariable UUID implementationId) {
-        final var implementation = this.implementationService.findById(implementationId);
+    public ResponseEntity<ImplementationDto> getImplementation(
+            @PathVariable UUID implementationId,
+            @Parameter(description = "Comma separated list of sub-collections to embed, e.g. publications,tags")
+            @RequestParam(name = Constants.EXPAND, required = false) Set<String> expand) {
+        final var associations = Expansions.parse(expand, EXPANDABLE_ASSOCIATIONS, ImplementationService.Association.class);
+        if (associations.isEmpty()) {
+            final var implementation = this.implementationService.findById(implementationId);
+            return ResponseEntity.ok(ModelMapperUtils.convert(implementation, ImplementationDto.class));
+        }
+        final var implementation = this.implementationService.findById(implementationId, associations);
+        final var implementationDto = ModelMapperUtils.convert(implementation, ImplementationDto.class);
+        implementationDto.setEmbedded(expand(implementation, associations));
+        return ResponseEntity.ok(implementationDto);
+    }
+
+    /**
+     * Point-in-time variant of {@link #getImplementation(UUID, Set)}, which reads the implementation from its revisions.
+     */
+    @Operation(hidden = true)
+    @GetMapping(value = "/{implementationId}", params = Constants.AS_OF)
+    public ResponseEntity<ImplementationDto> getImplementationAsOf(
+            @PathVariable UUID implementationId,
+            @RequestParam(Constants.AS_OF) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date asOf) {
+        final var implementation = implementationService.findByIdAsOf(implementationId, asOf);
         return ResponseEntity.ok(ModelMapperUtils.convert(implementation, ImplementationDto.class));
     }
 
+    private static ImplementationExpansionDto expand(Implementation implementation, Set<ImplementationService.Association> associations) {
+        final var expansion = new ImplementationExpansionDto();
+        for (final var association : associations) {
+            switch (association) {
+                case PUBLICATIONS:
+                    expansion.setPublications(ModelMapperUtils.convertCollection(implementation.getPublications(), PublicationDto.class));
+                    break;
+                case TAGS:
+                    expansion.setTags(ModelMapperUtils.convertCollection(implementation.getTags(), TagDto.class));
+                    break;
+                case COMPUTE_RESOURCE_PROPERTIES:
+                    expansion.setComputeResourceProperties(ModelMapperUtils.convertCollection(
+                            implementation.getRequiredComputeResourceProperties(), ComputeResourcePropertyDto.class));
+                    break;
+                case IMPLEMENTATION_PACKAGES:
+                    expansion.setImplementationPackages(ModelMapperUtils.convertCollection(
+                            implementation.getImplementationPackages(), ImplementationPackageDto.class));
+                    break;
+                default:
+                    break;
+            }
+        }
+        return expansion;
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
             @ApiResponse(responseCode = "400"),
@@ -117,6 +238,19 @@ public class ImplementationGlobalController {
         return ResponseEntity.ok(ModelMapperUtils.convert(implementationRevision, ImplementationDto.class));
     }
 
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400"),
+            @ApiResponse(responseCode = "404",
+                    description = "Not Found. Implementation with given ID or one of the revisions doesn't exist")
+    }, description = "Retrieve the basic properties of an implementation that changed from one revision to another")
+    @GetMapping("/{implementationId}/" + Constants.REVISIONS + "/{fromRevisionId}/" + Constants.DIFF + "/{toRevisionId}")
+    public ResponseEntity<RevisionDiffDto> getImplementationRevisionDiff(
+            @PathVariable UUID implementationId, @PathVariable Integer fromRevisionId, @PathVariable Integer toRevisionId) {
+        final var changes = implementationService.findImplementationRevisionChanges(implementationId, fromRevisionId, toRevisionId);
+        return ResponseEntity.ok(RevisionDiffDto.of(fromRevisionId, toRevisionId, changes));
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
             @ApiResponse(responseCode = "400",
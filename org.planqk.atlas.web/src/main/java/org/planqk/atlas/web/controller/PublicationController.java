@@ -19,6 +19,7 @@
 
 package org.planqk.atlas.web.controller;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.Publication;
@@ -31,9 +32,11 @@ import org.planqk.atlas.web.dtos.AlgorithmDto;
 import org.planqk.atlas.web.dtos.DiscussionCommentDto;
 import org.planqk.atlas.web.dtos.DiscussionTopicDto;
 import org.planqk.atlas.web.dtos.ImplementationDto;
+import org.planqk.atlas.web.dtos.LookupResultDto;
 import org.planqk.atlas.web.dtos.PublicationDto;
 import org.planqk.atlas.web.utils.ListParameters;
 import org.planqk.atlas.web.utils.ListParametersDoc;
+import org.planqk.atlas.web.utils.Lookups;
 import org.planqk.atlas.web.utils.ModelMapperUtils;
 import org.planqk.atlas.web.utils.ValidationGroups;
 import org.springframework.data.domain.Page;
@@ -89,6 +92,16 @@ public class PublicationController {
         return ResponseEntity.ok(ModelMapperUtils.convertPage(entities, PublicationDto.class));
     }
 
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid list of IDs.")
+    }, description = "Retrieve multiple publications by their IDs. The publications are returned in the order of the given IDs, " +
+            "IDs without a stored entry are listed as missing. At most " + Constants.MAX_LOOKUP_IDS + " IDs can be looked up at once.")
+    @PostMapping("/" + Constants.LOOKUP)
+    public ResponseEntity<LookupResultDto<PublicationDto>> lookupPublications(@RequestBody List<UUID> publicationIds) {
+        return ResponseEntity.ok(Lookups.lookup(publicationIds, publicationService::findAllById, PublicationDto.class));
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "201"),
             @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body.")
@@ -23,15 +23,21 @@ import java.util.UUID;
 
 import org.planqk.atlas.core.model.File;
 import org.planqk.atlas.core.model.Solution;
+import org.planqk.atlas.core.model.Upload;
 import org.planqk.atlas.core.services.FileService;
 import org.planqk.atlas.core.services.SolutionService;
+import org.planqk.atlas.core.services.UploadService;
 import org.planqk.atlas.web.Constants;
 import org.planqk.atlas.web.dtos.FileDto;
 import org.planqk.atlas.web.dtos.SolutionDto;
+import org.planqk.atlas.web.dtos.UploadDto;
+import org.planqk.atlas.web.linkassembler.LinkBuilderService;
+import org.planqk.atlas.web.utils.FileContentResponses;
 import org.planqk.atlas.web.utils.ListParameters;
 import org.planqk.atlas.web.utils.ListParametersDoc;
 import org.planqk.atlas.web.utils.ModelMapperUtils;
 import org.planqk.atlas.web.utils.ValidationGroups;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -45,6 +51,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -71,6 +78,10 @@ public class SolutionController {
 
     private final FileService fileService;
 
+    private final UploadService uploadService;
+
+    private final LinkBuilderService linkBuilderService;
+
     @Operation(responses = {
             @ApiResponse(responseCode = "200")
     }, description = "Retrieve all solutions.")
@@ -141,16 +152,21 @@ public class SolutionController {
     }
 
     @Operation(responses = {
-            @ApiResponse(responseCode = "201"),
+            @ApiResponse(responseCode = "202", description = "Accepted. The upload is processed in the background, " +
+                    "its status can be retrieved from the URL in the Location header."),
             @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body."),
+            @ApiResponse(responseCode = "404", description = "Not Found. Solution with given ID doesn't exist."),
+            @ApiResponse(responseCode = "503", description = "Service Unavailable. Too many uploads are processed at the moment.")
     }, description = "Uploads and adds a file to a given solution")
     @PostMapping(value = "/{solutionId}/" + Constants.FILE, consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<FileDto> createFileForSolution(
+    public ResponseEntity<UploadDto> createFileForSolution(
             @PathVariable UUID solutionId,
             @RequestParam("file") MultipartFile multipartFile) {
-        final File file = solutionService.addFileToSolution(solutionId, multipartFile);
+        // fail fast for an unknown solution instead of reporting it on the status resource
+        solutionService.findById(solutionId);
+        final Upload upload = uploadService.submitSolutionFile(solutionId, multipartFile);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(ModelMapperUtils.convert(file, FileDto.class));
+        return UploadController.accepted(upload, linkBuilderService);
     }
 
     @Operation(responses = {
@@ -167,12 +183,17 @@ public class SolutionController {
 
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "206", description = "Partial Content. The ranges given in the Range header."),
+            @ApiResponse(responseCode = "304", description = "Not Modified. The content matches the ETag given in the If-None-Match header."),
             @ApiResponse(responseCode = "404",
-                    description = "File of Solution with given ID doesn't exist")
-    }, description = "Downloads a specific file content of a Solution")
+                    description = "File of Solution with given ID doesn't exist"),
+            @ApiResponse(responseCode = "416", description = "Range Not Satisfiable. Invalid Range header.")
+    }, description = "Downloads a specific file content of a Solution. Parts of the content can be requested " +
+            "with a Range header. Contents stored compressed are sent gzip encoded if the Accept-Encoding header allows it.")
     @GetMapping("/{solutionId}/" + Constants.FILE + "/content")
-    public ResponseEntity<byte[]> downloadFileContent(
-            @PathVariable UUID solutionId
+    public ResponseEntity<Resource> downloadFileContent(
+            @PathVariable UUID solutionId,
+            @Parameter(hidden = true) @RequestHeader HttpHeaders requestHeaders
     ) {
         final File file = solutionService.findById(solutionId).getFile();
 
@@ -180,11 +201,7 @@ public class SolutionController {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        return ResponseEntity
-                .ok()
-                .contentType(MediaType.parseMediaType(file.getMimeType()))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + file.getName())
-                .body(fileService.getFileContent(file.getId()));
+        return FileContentResponses.download(file, fileService, requestHeaders);
     }
 
     @Operation(responses = {
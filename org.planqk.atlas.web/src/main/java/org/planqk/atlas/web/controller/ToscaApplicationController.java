@@ -31,9 +31,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.planqk.atlas.core.model.ToscaApplication;
+import org.planqk.atlas.core.model.Upload;
 import org.planqk.atlas.core.services.ToscaApplicationService;
+import org.planqk.atlas.core.services.UploadService;
 import org.planqk.atlas.web.Constants;
 import org.planqk.atlas.web.dtos.ToscaApplicationDto;
+import org.planqk.atlas.web.dtos.UploadDto;
+import org.planqk.atlas.web.linkassembler.LinkBuilderService;
 import org.planqk.atlas.web.utils.ListParameters;
 import org.planqk.atlas.web.utils.ListParametersDoc;
 import org.planqk.atlas.web.utils.ModelMapperUtils;
@@ -64,6 +68,10 @@ public class ToscaApplicationController {
 
     private final ToscaApplicationService toscaApplicationService;
 
+    private final UploadService uploadService;
+
+    private final LinkBuilderService linkBuilderService;
+
     private ObjectMapper mapper;
 
     @Operation(responses = {
@@ -77,16 +85,18 @@ public class ToscaApplicationController {
     }
 
     @Operation(responses = {
-            @ApiResponse(responseCode = "201"),
+            @ApiResponse(responseCode = "202", description = "Accepted. The CSAR is imported in the background, " +
+                    "the status of the import can be retrieved from the URL in the Location header."),
             @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body."),
+            @ApiResponse(responseCode = "503", description = "Service Unavailable. Too many uploads are processed at the moment.")
     }, description = "Create a TOSCA Application.")
     @PostMapping()
-    public ResponseEntity<ToscaApplicationDto> createApplication(@RequestPart("file") MultipartFile file,
-                                                                 @RequestPart("payload") String payload) throws JsonProcessingException {
+    public ResponseEntity<UploadDto> createApplication(@RequestPart("file") MultipartFile file,
+                                                       @RequestPart("payload") String payload) throws JsonProcessingException {
         final MapType mapType = mapper.getTypeFactory().constructMapType(Map.class, String.class, Object.class);
         final Map<String, Object> payloadMap = mapper.readValue(payload, mapType);
-        final ToscaApplication savedToscaApplication = this.toscaApplicationService.createFromFile(file, payloadMap.get("name").toString());
-        return new ResponseEntity<>(ModelMapperUtils.convert(savedToscaApplication, ToscaApplicationDto.class), HttpStatus.CREATED);
+        final Upload upload = this.uploadService.submitToscaApplication(file, payloadMap.get("name").toString());
+        return UploadController.accepted(upload, linkBuilderService);
     }
 
     @Operation(responses = {
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.web.controller;
+
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.Upload;
+import org.planqk.atlas.core.services.UploadService;
+import org.planqk.atlas.web.Constants;
+import org.planqk.atlas.web.dtos.UploadDto;
+import org.planqk.atlas.web.linkassembler.LinkBuilderService;
+import org.planqk.atlas.web.utils.ModelMapperUtils;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.AllArgsConstructor;
+
+/**
+ * Controller to poll the status of uploads that are processed in the background.
+ */
+@io.swagger.v3.oas.annotations.tags.Tag(name = Constants.TAG_UPLOADS)
+@RestController
+@CrossOrigin(allowedHeaders = "*", origins = "*")
+@RequestMapping("/" + Constants.UPLOADS)
+@AllArgsConstructor
+public class UploadController {
+
+    private final UploadService uploadService;
+
+    /**
+     * Creates the response for an accepted upload, pointing to its status with the Location header.
+     *
+     * @param upload             the submitted upload
+     * @param linkBuilderService builds the URL of the status resource
+     * @return a response with status 202 and the status of the upload as body
+     */
+    public static ResponseEntity<UploadDto> accepted(Upload upload, LinkBuilderService linkBuilderService) {
+        final String location = linkBuilderService.urlStringTo(WebMvcLinkBuilder.methodOn(UploadController.class).getUpload(upload.getId()));
+        return ResponseEntity.accepted()
+                .header(HttpHeaders.LOCATION, location)
+                .body(ModelMapperUtils.convert(upload, UploadDto.class));
+    }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400"),
+            @ApiResponse(responseCode = "404", description = "Not Found. Upload with given ID doesn't exist.")
+    }, description = "Retrieve the status of an upload. The upload is processed until its status is COMPLETED or FAILED, " +
+            "the bytesProcessed show the progress in the meantime. Once it is completed, the resultId is the ID of the " +
+            "created file or TOSCA application.")
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<UploadDto> getUpload(@PathVariable UUID uploadId) {
+        return ResponseEntity.ok(ModelMapperUtils.convert(uploadService.findById(uploadId), UploadDto.class));
+    }
+}
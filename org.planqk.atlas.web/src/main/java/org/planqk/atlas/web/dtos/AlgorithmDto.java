@@ -29,6 +29,7 @@ import org.planqk.atlas.core.model.ComputationModel;
 import org.planqk.atlas.web.utils.Identifyable;
 import org.planqk.atlas.web.utils.ValidationGroups;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
@@ -79,4 +80,7 @@ public class AlgorithmDto implements Identifyable {
     @NotNull(groups = {ValidationGroups.Update.class, ValidationGroups.Create.class},
              message = "Computational-Model must not be null!")
     private ComputationModel computationModel;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private AlgorithmExpansionDto embedded;
 }
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.dtos;
+
+import java.util.Collection;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sub-collections of an {@link AlgorithmDto} that were requested by the {@code expand} query parameter. Collections
+ * that were not requested are null and omitted.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AlgorithmExpansionDto {
+
+    private Collection<PublicationDto> publications;
+
+    private Collection<ProblemTypeDto> problemTypes;
+
+    private Collection<ApplicationAreaDto> applicationAreas;
+
+    private Collection<TagDto> tags;
+
+    private Collection<ImplementationDto> implementations;
+
+    private Collection<LearningMethodDto> learningMethods;
+
+    private Collection<PatternRelationDto> patternRelations;
+
+    private Collection<ComputeResourcePropertyDto> computeResourceProperties;
+}
@@ -32,5 +32,10 @@ public class FileDto {
 
     private String mimeType;
 
+    private Long size;
+
+    // hex encoded SHA-256 of the content, can be used to validate cached copies of the content
+    private String digest;
+
     private String fileURL;
 }
@@ -28,6 +28,8 @@ import javax.validation.constraints.Null;
 import org.planqk.atlas.web.utils.Identifyable;
 import org.planqk.atlas.web.utils.ValidationGroups;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -75,4 +77,7 @@ public class ImplementationDto implements Identifyable {
     private Set<SoftwarePlatformDto> softwarePlatforms;
 
     private Set<String> patterns;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ImplementationExpansionDto embedded;
 }
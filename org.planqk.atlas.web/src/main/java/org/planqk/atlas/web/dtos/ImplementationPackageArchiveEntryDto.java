@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.web.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An implementation package listed in the manifest of an archive ({@link ImplementationPackageArchiveDto}).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImplementationPackageArchiveEntryDto {
+
+    private ImplementationPackageDto implementationPackage;
+
+    private FileDto file;
+
+    // path of the content in the archive, null if the package has no file or its content is missing
+    private String path;
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.web.dtos;
+
+import org.planqk.atlas.core.util.PropertyChange;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A changed property in the style of a JSON Patch operation, extended by the value in the older revision.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevisionChangeDto {
+
+    // "add", "remove" or "replace"
+    private String op;
+
+    // JSON pointer to the property, e.g. "/name"
+    private String path;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Object value;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Object oldValue;
+
+    public static RevisionChangeDto of(PropertyChange change) {
+        final String op;
+        if (change.getOldValue() == null) {
+            op = "add";
+        } else if (change.getNewValue() == null) {
+            op = "remove";
+        } else {
+            op = "replace";
+        }
+        return new RevisionChangeDto(op, "/" + change.getProperty(), change.getNewValue(), change.getOldValue());
+    }
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.web.dtos;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.planqk.atlas.core.util.PropertyChange;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The properties that changed between two revisions of an entity, see {@link RevisionDto}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevisionDiffDto {
+
+    private int fromRevisionId;
+
+    private int toRevisionId;
+
+    private List<RevisionChangeDto> changes;
+
+    public static RevisionDiffDto of(int fromRevisionId, int toRevisionId, List<PropertyChange> changes) {
+        return new RevisionDiffDto(fromRevisionId, toRevisionId,
+                changes.stream().map(RevisionChangeDto::of).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.web.dtos;
+
+import java.util.Date;
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.UploadStatus;
+import org.planqk.atlas.core.model.UploadTarget;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object for the status of an upload ({@link org.planqk.atlas.core.model.Upload}).
+ */
+@Data
+@NoArgsConstructor
+public class UploadDto {
+
+    private UUID id;
+
+    private UploadTarget target;
+
+    private UUID targetId;
+
+    private String name;
+
+    private long size;
+
+    private long bytesProcessed;
+
+    private UploadStatus status;
+
+    private UUID resultId;
+
+    private String errorMessage;
+
+    private Date creationDate;
+
+    private Date lastModifiedAt;
+}
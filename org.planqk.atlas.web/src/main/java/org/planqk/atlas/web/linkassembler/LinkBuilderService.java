@@ -19,10 +19,14 @@
 
 package org.planqk.atlas.web.linkassembler;
 
+import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.planqk.atlas.web.utils.ListParametersMethodArgumentResolver;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ParameterNameDiscoverer;
@@ -36,7 +40,6 @@ import org.springframework.util.Assert;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.method.annotation.RequestParamMethodArgumentResolver;
 import org.springframework.web.method.support.CompositeUriComponentsContributor;
-import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
 import org.springframework.web.servlet.mvc.method.annotation.PathVariableMethodArgumentResolver;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
@@ -48,15 +51,22 @@ import org.springframework.web.util.UriComponentsBuilder;
  * Custom HATEOAS {@link org.springframework.hateoas.server.LinkBuilder} that resolves path mappings using the
  * container's {@link RequestMappingInfoHandlerMapping} instance.
  * This class is now used in test classes of controllers to build api instead of hardcoding the url
+ * <p>
+ * The primary URL pattern of every handler method is indexed once (and again on every context refresh), so resolving
+ * a link does not scan all handler methods. The parameter metadata of the handler methods is cached as well.
  */
 @Component
-public class LinkBuilderService {
+public class LinkBuilderService implements ApplicationListener<ContextRefreshedEvent> {
     private static final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
 
     private final CompositeUriComponentsContributor contributor;
 
     private final RequestMappingHandlerMapping mappings;
 
+    private final Map<Method, MethodParameter[]> methodParameters = new ConcurrentHashMap<>();
+
+    private volatile Map<Method, String> mappingPatterns;
+
     public LinkBuilderService(ListParametersMethodArgumentResolver listResolver, RequestMappingHandlerMapping mappings) {
         contributor = new CompositeUriComponentsContributor(
                 new PathVariableMethodArgumentResolver(), new RequestParamMethodArgumentResolver(false),
@@ -75,8 +85,8 @@ public class LinkBuilderService {
         final var invocation = invocations.getLastInvocation();
         Assert.notNull(invocation, "No invocation present");
 
-        final var mappingInfo = resolveInvocation(invocation);
-        if (mappingInfo == null) {
+        final var mappingPattern = resolveMappingPattern(invocation.getMethod());
+        if (mappingPattern == null) {
             // In case there's no mapping, using just the annotations is our only option!
             return WebMvcLinkBuilder.linkTo(invocationValue).toUriComponentsBuilder().build();
         }
@@ -90,7 +100,7 @@ public class LinkBuilderService {
             builder = ServletUriComponentsBuilder.fromCurrentServletMapping();
         else
             builder = UriComponentsBuilder.newInstance();
-        return appendMappingParameters(appendMappingPath(builder, mappingInfo), invocation).build();
+        return appendMappingParameters(builder.path(mappingPattern), invocation).build();
     }
 
     /**
@@ -104,19 +114,42 @@ public class LinkBuilderService {
         return urlTo(invocationValue).toUriString();
     }
 
-    private RequestMappingInfo resolveInvocation(MethodInvocation invocation) {
-        for (var entry : this.mappings.getHandlerMethods().entrySet()) {
-            if (entry.getValue().getMethod().equals(invocation.getMethod()))
-                return entry.getKey();
+    /**
+     * Rebuilds the handler method index, as the handler mappings may have changed with the refreshed context.
+     */
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        mappingPatterns = indexMappingPatterns();
+        methodParameters.clear();
+    }
+
+    private String resolveMappingPattern(Method method) {
+        var patterns = mappingPatterns;
+        if (patterns == null) {
+            // Without a context (e.g. in unit tests) the index is built on first use
+            patterns = indexMappingPatterns();
+            mappingPatterns = patterns;
         }
-        return null;
+        return patterns.get(method);
+    }
+
+    private Map<Method, String> indexMappingPatterns() {
+        final Map<Method, String> patterns = new HashMap<>();
+        mappings.getHandlerMethods().forEach((mapping, handlerMethod) -> mapping.getPatternsCondition().getPatterns().stream()
+                .sorted().findFirst()
+                .ifPresent(pattern -> patterns.putIfAbsent(handlerMethod.getMethod(), pattern)));
+        return patterns;
     }
 
-    private UriComponentsBuilder appendMappingPath(UriComponentsBuilder builder, RequestMappingInfo mapping) {
-        final var patternSet = mapping.getPatternsCondition().getPatterns();
-        Assert.notEmpty(patternSet, "Need at least one URL mapping");
-        builder.path(patternSet.stream().sorted().findFirst().orElse(""));
-        return builder;
+    private MethodParameter[] resolveMethodParameters(Method method) {
+        return methodParameters.computeIfAbsent(method, key -> {
+            final var parameters = new MethodParameter[key.getParameterCount()];
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = new SynthesizingMethodParameter(key, i);
+                parameters[i].initParameterNameDiscovery(parameterNameDiscoverer);
+            }
+            return parameters;
+        });
     }
 
     private UriComponentsBuilder appendMappingParameters(UriComponentsBuilder builder, MethodInvocation invocation) {
@@ -128,10 +161,9 @@ public class LinkBuilderService {
         }
 
         final Map<String, Object> uriVars = new HashMap<>();
+        final MethodParameter[] params = resolveMethodParameters(invocation.getMethod());
         for (int i = 0; i < paramCount; i++) {
-            final MethodParameter param = new SynthesizingMethodParameter(invocation.getMethod(), i);
-            param.initParameterNameDiscovery(parameterNameDiscoverer);
-            contributor.contributeMethodArgument(param, invocation.getArguments()[i], builder, uriVars);
+            contributor.contributeMethodArgument(params[i], invocation.getArguments()[i], builder, uriVars);
         }
 
         // This may not be all the URI variables, supply what we have so far..
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.utils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.planqk.atlas.web.controller.exceptions.InvalidRequestException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Utility class to resolve the values of an {@code expand} query parameter, which selects the sub-collections that
+ * should be embedded into a returned resource.
+ */
+public final class Expansions {
+
+    private Expansions() {
+    }
+
+    /**
+     * Resolves the given expand values to the associations they stand for.
+     *
+     * @param expand    the values of the expand parameter, may be null
+     * @param supported the supported values and the associations they stand for
+     * @param type      the enum type of the associations
+     * @return the selected associations, empty if nothing should be embedded
+     * @throws InvalidRequestException if one of the values is not supported
+     */
+    public static <E extends Enum<E>> Set<E> parse(@Nullable Collection<String> expand, Map<String, E> supported, Class<E> type) {
+        if (expand == null || expand.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final Set<E> associations = EnumSet.noneOf(type);
+        for (final String value : expand) {
+            final E association = supported.get(value.trim());
+            if (association == null) {
+                throw new InvalidRequestException("Cannot expand \"" + value + "\", supported values are " + new TreeSet<>(supported.keySet()));
+            }
+            associations.add(association);
+        }
+        return associations;
+    }
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.web.utils;
+
+import java.util.Optional;
+
+import org.planqk.atlas.core.model.File;
+import org.planqk.atlas.core.services.FileService;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+
+/**
+ * Utility class to create the responses of the endpoints downloading file contents.
+ */
+public final class FileContentResponses {
+
+    private static final String GZIP = "gzip";
+
+    private FileContentResponses() {
+    }
+
+    /**
+     * Creates the response with the content of the given file.
+     * <p>
+     * If the content is stored compressed and the client accepts gzip, the compressed content is sent as it is stored
+     * with a Content-Encoding header. Range requests always get the uncompressed content, since the ranges refer to it.
+     *
+     * @param file           the file to download
+     * @param fileService    the service reading the content
+     * @param requestHeaders the headers of the download request
+     * @return the response with the content as body
+     */
+    public static ResponseEntity<Resource> download(File file, FileService fileService, HttpHeaders requestHeaders) {
+        final ResponseEntity.BodyBuilder response = ResponseEntity
+                .ok()
+                .contentType(MediaType.parseMediaType(file.getMimeType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + file.getName())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (requestHeaders != null && requestHeaders.getFirst(HttpHeaders.RANGE) == null && acceptsGzip(requestHeaders)) {
+            final Optional<Resource> gzipContent = fileService.getGzipFileContent(file.getId());
+            if (gzipContent.isPresent()) {
+                if (file.getDigest() != null) {
+                    // each encoding of the content is a different representation and needs a different entity tag
+                    response.eTag(file.getDigest() + "-" + GZIP);
+                }
+                return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(gzipContent.get());
+            }
+        }
+        if (file.getDigest() != null) {
+            // the content of a file never changes, so its digest is a strong entity tag
+            response.eTag(file.getDigest());
+        }
+        return response.body(fileService.getFileContent(file.getId()));
+    }
+
+    /**
+     * Checks if gzip is an acceptable content coding according to the Accept-Encoding header.
+     */
+    static boolean acceptsGzip(HttpHeaders requestHeaders) {
+        boolean accepted = false;
+        for (String header : requestHeaders.getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String coding : StringUtils.tokenizeToStringArray(header, ",")) {
+                final String[] parameters = StringUtils.tokenizeToStringArray(coding, ";");
+                if (parameters.length == 0) {
+                    continue;
+                }
+                final boolean zeroQuality = hasZeroQuality(parameters);
+                if (GZIP.equalsIgnoreCase(parameters[0])) {
+                    // an explicit entry for gzip overrides the wildcard
+                    return !zeroQuality;
+                }
+                if ("*".equals(parameters[0])) {
+                    accepted = !zeroQuality;
+                }
+            }
+        }
+        return accepted;
+    }
+
+    private static boolean hasZeroQuality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            final String[] parameter = parameters[i].split("=", 2);
+            if (parameter.length == 2 && "q".equalsIgnoreCase(parameter[0].trim())) {
+                try {
+                    return Double.parseDouble(parameter[1].trim()) == 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.web.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.planqk.atlas.core.model.File;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.ImplementationPackage;
+import org.planqk.atlas.core.services.FileService;
+import org.planqk.atlas.web.dtos.FileDto;
+import org.planqk.atlas.web.dtos.ImplementationPackageArchiveDto;
+import org.planqk.atlas.web.dtos.ImplementationPackageArchiveEntryDto;
+import org.planqk.atlas.web.dtos.ImplementationPackageDto;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Utility class to write the files of the implementation packages of an implementation as ZIP archive.
+ * <p>
+ * The archive starts with a {@value #MANIFEST} listing the packages and the paths of their contents, followed by the
+ * content of each file at {@code packages/<package ID>/<file name>}. The contents are copied from the {@link
+ * FileService} to the output one after the other, so neither the contents nor the archive are held in memory or
+ * written to temporary files.
+ */
+@Slf4j
+public final class ImplementationPackageArchives {
+
+    public static final String MANIFEST = "manifest.json";
+
+    private static final String PACKAGES_DIRECTORY = "packages/";
+
+    private ImplementationPackageArchives() {
+    }
+
+    /**
+     * Writes the archive to the given stream. The stream is not closed.
+     *
+     * @param outputStream   the stream to write the archive to, e.g. the output of a response
+     * @param implementation the implementation the packages belong to
+     * @param packages       the packages with their files loaded
+     * @param fileService    the service reading the contents of the files
+     * @param objectMapper   the object mapper used to write the manifest
+     */
+    public static void write(OutputStream outputStream, Implementation implementation, List<ImplementationPackage> packages,
+                             FileService fileService, ObjectMapper objectMapper) throws IOException {
+        final ImplementationPackageArchiveDto manifest = new ImplementationPackageArchiveDto();
+        manifest.setImplementationId(implementation.getId());
+        manifest.setImplementationName(implementation.getName());
+        manifest.setCreationDate(new Date());
+
+        // the contents are resolved up front, so missing contents are reported in the manifest instead of breaking the archive
+        final List<Resource> contents = new ArrayList<>(packages.size());
+        for (final ImplementationPackage implementationPackage : packages) {
+            final File file = implementationPackage.getFile();
+            Resource content = null;
+            String path = null;
+            if (file != null) {
+                try {
+                    content = fileService.getFileContent(file.getId());
+                    path = PACKAGES_DIRECTORY + implementationPackage.getId() + "/" + entryName(file);
+                } catch (NoSuchElementException e) {
+                    log.warn("Content of file {} of implementation package {} is missing", file.getId(), implementationPackage.getId());
+                }
+            }
+            manifest.getPackages().add(new ImplementationPackageArchiveEntryDto(
+                    ModelMapperUtils.convert(implementationPackage, ImplementationPackageDto.class),
+                    file == null ? null : ModelMapperUtils.convert(file, FileDto.class),
+                    path));
+            contents.add(content);
+        }
+
+        final ZipOutputStream zip = new ZipOutputStream(outputStream);
+        zip.putNextEntry(new ZipEntry(MANIFEST));
+        objectMapper.writerWithDefaultPrettyPrinter().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(zip, manifest);
+        zip.closeEntry();
+        for (int i = 0; i < contents.size(); i++) {
+            final Resource content = contents.get(i);
+            if (content == null) {
+                continue;
+            }
+            zip.putNextEntry(new ZipEntry(manifest.getPackages().get(i).getPath()));
+            try (InputStream inputStream = content.getInputStream()) {
+                inputStream.transferTo(zip);
+            }
+            zip.closeEntry();
+        }
+        zip.finish();
+    }
+
+    /**
+     * Returns the name of the file as entry name, without any path, so the archive can not be extracted outside the
+     * target directory.
+     */
+    static String entryName(File file) {
+        final String name = file.getName() == null ? null : file.getName().replaceAll("[/\\\\:]", "_");
+        if (!StringUtils.hasText(name) || ".".equals(name) || "..".equals(name)) {
+            return file.getId().toString();
+        }
+        return name;
+    }
+}
@@ -19,6 +19,9 @@
 
 package org.planqk.atlas.web.utils;
 
+import java.util.Collections;
+import java.util.Set;
+
 import org.planqk.atlas.web.Constants;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -40,6 +43,12 @@ public class ListParameters {
     @Nullable
     private final String search;
 
+    /**
+     * Properties of the listed DTOs selected by the {@code fields} query parameter, empty if all properties are returned.
+     */
+    @NonNull
+    private Set<String> fields = Collections.emptySet();
+
     public static ListParameters getDefault() {
         return new ListParameters(PageRequest.of(Constants.DEFAULT_PAGE_NUMBER, Constants.DEFAULT_PAGE_SIZE), "");
     }
@@ -36,5 +36,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 @PageableAsQueryParam
 @Parameter(in = ParameterIn.QUERY, description = "Filter criteria for this query ", name = "search",
            content = @Content(schema = @Schema(type = "string")))
+@Parameter(in = ParameterIn.QUERY, description = "Comma separated list of the properties to return for each element, e.g. id,name. "
+        + "All properties are returned if omitted", name = "fields", content = @Content(schema = @Schema(type = "string")))
 public @interface ListParametersDoc {
 }
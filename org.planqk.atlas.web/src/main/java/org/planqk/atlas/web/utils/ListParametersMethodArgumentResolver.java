@@ -50,6 +50,7 @@ public class ListParametersMethodArgumentResolver extends PageableHandlerMethodA
         final String page = webRequest.getParameter(getParameterNameToUse(Constants.PAGE, methodParameter));
         final String pageSize = webRequest.getParameter(getParameterNameToUse(Constants.SIZE, methodParameter));
         final String searchQuery = webRequest.getParameter(getParameterNameToUse(Constants.SEARCH, methodParameter));
+        final String fields = webRequest.getParameter(getParameterNameToUse(Constants.FIELDS, methodParameter));
 
         final Sort sort = sortResolver.resolveArgument(methodParameter, mavContainer, webRequest, binderFactory);
         Pageable pageable = getPageable(methodParameter, page, pageSize);
@@ -61,7 +62,9 @@ public class ListParametersMethodArgumentResolver extends PageableHandlerMethodA
         if (sort.isSorted()) {
             pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
         }
-        return new ListParameters(pageable, searchQuery);
+        final var listParameters = new ListParameters(pageable, searchQuery);
+        listParameters.setFields(SparseFieldsets.parse(fields));
+        return listParameters;
     }
 
     @Override
@@ -94,5 +97,9 @@ public class ListParametersMethodArgumentResolver extends PageableHandlerMethodA
         if (listParams.getSearch() != null && !listParams.getSearch().isEmpty()) {
             builder.replaceQueryParam(getParameterNameToUse(Constants.SEARCH, parameter), listParams.getSearch());
         }
+
+        if (!listParams.getFields().isEmpty()) {
+            builder.replaceQueryParam(getParameterNameToUse(Constants.FIELDS, parameter), String.join(",", listParams.getFields()));
+        }
     }
 }
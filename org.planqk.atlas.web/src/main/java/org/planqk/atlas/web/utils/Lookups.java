@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.utils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.planqk.atlas.core.model.HasId;
+import org.planqk.atlas.web.Constants;
+import org.planqk.atlas.web.controller.exceptions.InvalidRequestException;
+import org.planqk.atlas.web.dtos.LookupResultDto;
+
+/**
+ * Utility class for the lookup endpoints, which return multiple resources of a type by their IDs.
+ */
+public final class Lookups {
+
+    private Lookups() {
+    }
+
+    /**
+     * Loads the resources with the given IDs and converts them to DTOs.
+     *
+     * @param ids      the requested IDs in the order the resources should be returned
+     * @param finder   the service method loading the entities in the order of the given IDs, e.g. findAllById
+     * @param dtoClass the type of the returned DTOs
+     * @return the found resources and the IDs without a resource
+     * @throws InvalidRequestException if the IDs are missing, contain null or exceed {@link Constants#MAX_LOOKUP_IDS}
+     */
+    public static <T extends HasId, D> LookupResultDto<D> lookup(List<UUID> ids, Function<Collection<UUID>, List<T>> finder,
+                                                                 Class<D> dtoClass) {
+        if (ids == null || ids.contains(null)) {
+            throw new InvalidRequestException("The list of IDs must not be null or contain null");
+        }
+        if (ids.size() > Constants.MAX_LOOKUP_IDS) {
+            throw new InvalidRequestException("At most " + Constants.MAX_LOOKUP_IDS + " IDs can be looked up at once");
+        }
+        final List<T> entities = finder.apply(ids);
+        final Set<UUID> foundIds = entities.stream().map(HasId::getId).collect(Collectors.toSet());
+        final List<UUID> missingIds = ids.stream().distinct().filter(id -> !foundIds.contains(id)).collect(Collectors.toList());
+        return new LookupResultDto<>(ModelMapperUtils.convertCollection(entities, dtoClass), missingIds);
+    }
+}
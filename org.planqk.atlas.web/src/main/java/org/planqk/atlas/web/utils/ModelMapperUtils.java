@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.module.jsr310.Jsr310Module;
 import org.modelmapper.module.jsr310.Jsr310ModuleConfig;
@@ -54,6 +55,7 @@ import org.planqk.atlas.web.dtos.QPUDto;
 import org.planqk.atlas.web.dtos.QuantumAlgorithmDto;
 import org.planqk.atlas.web.dtos.SimulatorDto;
 import org.planqk.atlas.web.dtos.TOSCAImplementationPackageDto;
+import org.planqk.atlas.web.utils.mapping.DtoMappers;
 import org.springframework.data.domain.Page;
 
 import lombok.NonNull;
@@ -73,7 +75,18 @@ public final class ModelMapperUtils {
         return entities.stream().map(objectEntity -> convert(objectEntity, dtoClass)).collect(Collectors.toCollection(ArrayList::new));
     }
 
+    /**
+     * Converts the given object using the compile-time generated mappers of {@link DtoMappers}. Type pairs without a
+     * generated mapping are still converted by ModelMapper.
+     */
     public static <D, T> D convert(final T entity, Class<D> outClass) {
+        if (entity != null) {
+            final Object source = Hibernate.unproxy(entity);
+            final var generated = DtoMappers.find(source.getClass(), outClass);
+            if (generated.isPresent()) {
+                return outClass.cast(generated.get().apply(source));
+            }
+        }
         return mapper.map(entity, outClass);
     }
 
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Utility class to write unpaged list responses without materializing all entities and DTOs in memory.
+ * <p>
+ * The written document has the same shape as a serialized unpaged {@link org.springframework.data.domain.Page}, but the
+ * page properties follow the content, since the amount of elements is only known after all of them were written.
+ */
+public final class PageStreamingUtils {
+
+    private PageStreamingUtils() {
+    }
+
+    /**
+     * Writes all entities passed by the given source as page of DTOs to the response, using the Jackson based message
+     * converter that supports the media type requested by the {@code Accept} header, e.g. CBOR or Smile.
+     * <p>
+     * Wildcard media types that include JSON, as well as a missing {@code Accept} header, are answered with JSON.
+     *
+     * @param request    the request, whose {@code Accept} header selects the media type
+     * @param response   the response to write to
+     * @param converters the registered message converters
+     * @param sort       the sort the entities are ordered by, as reported in the page properties
+     * @param dtoClass   the class the entities are converted to using {@link ModelMapperUtils}
+     * @param source     calls the passed consumer for every entity, e.g. a streaming service method
+     * @throws HttpMediaTypeNotAcceptableException if none of the accepted media types is supported
+     */
+    public static <T, D> void writePage(HttpServletRequest request, HttpServletResponse response, Iterable<HttpMessageConverter<?>> converters,
+                                        Sort sort, Class<D> dtoClass, Consumer<Consumer<T>> source)
+            throws IOException, HttpMediaTypeNotAcceptableException {
+        for (final MediaType acceptedType : acceptedTypes(request)) {
+            final MediaType mediaType = acceptedType.isConcrete() ? acceptedType : MediaType.APPLICATION_JSON;
+            if (!acceptedType.isCompatibleWith(mediaType)) {
+                continue;
+            }
+            final AbstractJackson2HttpMessageConverter converter = findConverter(converters, dtoClass, mediaType);
+            if (converter != null) {
+                writePage(response, converter.getObjectMapper(), mediaType, sort, dtoClass, source);
+                return;
+            }
+        }
+        throw new HttpMediaTypeNotAcceptableException(supportedTypes(converters, dtoClass));
+    }
+
+    private static List<MediaType> acceptedTypes(HttpServletRequest request) {
+        final List<MediaType> acceptedTypes = MediaType.parseMediaTypes(request.getHeader(HttpHeaders.ACCEPT));
+        if (acceptedTypes.isEmpty()) {
+            return List.of(MediaType.ALL);
+        }
+        MediaType.sortByQualityValue(acceptedTypes);
+        return acceptedTypes;
+    }
+
+    private static List<MediaType> supportedTypes(Iterable<HttpMessageConverter<?>> converters, Class<?> dtoClass) {
+        final List<MediaType> supportedTypes = new ArrayList<>();
+        for (final HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof AbstractJackson2HttpMessageConverter && converter.canWrite(dtoClass, null)) {
+                supportedTypes.addAll(converter.getSupportedMediaTypes());
+            }
+        }
+        return supportedTypes;
+    }
+
+    private static AbstractJackson2HttpMessageConverter findConverter(Iterable<HttpMessageConverter<?>> converters, Class<?> dtoClass,
+                                                                      MediaType mediaType) {
+        for (final HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof AbstractJackson2HttpMessageConverter && converter.canWrite(dtoClass, mediaType)) {
+                return (AbstractJackson2HttpMessageConverter) converter;
+            }
+        }
+        return null;
+    }
+
+    private static <T, D> void writePage(HttpServletResponse response, ObjectMapper objectMapper, MediaType mediaType, Sort sort,
+                                         Class<D> dtoClass, Consumer<Consumer<T>> source) throws IOException {
+        response.setContentType(mediaType.removeQualityValue().toString());
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("content");
+            final long[] count = {0};
+            source.accept(entity -> {
+                try {
+                    generator.writeObject(ModelMapperUtils.convert(entity, dtoClass));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+            generator.writeEndArray();
+            writePageProperties(generator, sort, count[0]);
+            generator.writeEndObject();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void writePageProperties(JsonGenerator generator, Sort sort, long count) throws IOException {
+        generator.writeStringField("pageable", "INSTANCE");
+        generator.writeNumberField("totalElements", count);
+        generator.writeNumberField("totalPages", 1);
+        generator.writeBooleanField("last", true);
+        generator.writeNumberField("size", count);
+        generator.writeNumberField("number", 0);
+        generator.writeObjectFieldStart("sort");
+        generator.writeBooleanField("sorted", sort.isSorted());
+        generator.writeBooleanField("unsorted", sort.isUnsorted());
+        generator.writeBooleanField("empty", sort.isEmpty());
+        generator.writeEndObject();
+        generator.writeNumberField("numberOfElements", count);
+        generator.writeBooleanField("first", true);
+        generator.writeBooleanField("empty", count == 0);
+    }
+}
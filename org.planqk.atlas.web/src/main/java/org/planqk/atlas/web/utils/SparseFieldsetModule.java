@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.utils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.planqk.atlas.web.dtos.AlgorithmDto;
+import org.planqk.atlas.web.dtos.LookupResultDto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+/**
+ * Jackson module that omits the properties of DTOs that were not selected by the {@code fields} query parameter, see
+ * {@link SparseFieldsets}.
+ */
+public class SparseFieldsetModule extends SimpleModule {
+
+    private static final String DTO_PACKAGE = AlgorithmDto.class.getPackageName();
+
+    public SparseFieldsetModule() {
+        super(SparseFieldsetModule.class.getSimpleName());
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                             List<BeanPropertyWriter> beanProperties) {
+                if (!isDto(beanDesc.getBeanClass())) {
+                    return beanProperties;
+                }
+                return beanProperties.stream().map(SparseFieldsetPropertyWriter::new).collect(Collectors.toList());
+            }
+        });
+    }
+
+    private static boolean isDto(Class<?> type) {
+        // the lookup result only wraps the returned DTOs, like a page does
+        return type.getPackageName().equals(DTO_PACKAGE) && type != LookupResultDto.class;
+    }
+
+    private static final class SparseFieldsetPropertyWriter extends BeanPropertyWriter {
+
+        private SparseFieldsetPropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            if (SparseFieldsets.isSelected(getName()) || isNested(gen)) {
+                super.serializeAsField(bean, gen, prov);
+            }
+        }
+
+        @Override
+        protected BeanPropertyWriter _new(PropertyName newName) {
+            return new SparseFieldsetPropertyWriter(super._new(newName));
+        }
+
+        /**
+         * A property belongs to a nested DTO if one of the enclosing JSON contexts is written for another DTO.
+         */
+        private static boolean isNested(JsonGenerator gen) {
+            for (JsonStreamContext context = gen.getOutputContext().getParent(); context != null; context = context.getParent()) {
+                if (context.getCurrentValue() != null && isDto(context.getCurrentValue().getClass())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
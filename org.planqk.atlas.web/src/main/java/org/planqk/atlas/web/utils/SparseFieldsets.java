@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Holds the DTO properties selected by the {@code fields} query parameter of the current request.
+ * <p>
+ * The selection applies to the outermost DTOs of a response, e.g. to the elements of a page. Nested DTOs of a selected
+ * property are always serialized completely. The {@code id} property is always part of the selection. If no fields are
+ * selected, all properties are serialized.
+ */
+public final class SparseFieldsets {
+
+    private static final String ID = "id";
+
+    private static final ThreadLocal<Set<String>> selectedFields = new ThreadLocal<>();
+
+    private SparseFieldsets() {
+    }
+
+    /**
+     * Parses the comma separated value of a {@code fields} query parameter.
+     *
+     * @param fields the parameter value, may be null
+     * @return the selected property names, empty if all properties should be returned
+     */
+    public static Set<String> parse(@Nullable String fields) {
+        if (fields == null || fields.isBlank()) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public static void select(Set<String> fields) {
+        if (fields.isEmpty()) {
+            selectedFields.remove();
+        } else {
+            selectedFields.set(fields);
+        }
+    }
+
+    public static void clear() {
+        selectedFields.remove();
+    }
+
+    public static boolean isSelected(String property) {
+        final Set<String> fields = selectedFields.get();
+        return fields == null || ID.equals(property) || fields.contains(property);
+    }
+}
@@ -0,0 +1,416 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.utils.mapping;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import org.hibernate.Hibernate;
+import org.mapstruct.Condition;
+import org.mapstruct.InheritConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.TargetPropertyName;
+import org.mapstruct.factory.Mappers;
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.AlgorithmRelation;
+import org.planqk.atlas.core.model.AlgorithmRelationType;
+import org.planqk.atlas.core.model.ApplicationArea;
+import org.planqk.atlas.core.model.ClassicAlgorithm;
+import org.planqk.atlas.core.model.CloudService;
+import org.planqk.atlas.core.model.ComputeResource;
+import org.planqk.atlas.core.model.ComputeResourceProperty;
+import org.planqk.atlas.core.model.ComputeResourcePropertyType;
+import org.planqk.atlas.core.model.DiscussionComment;
+import org.planqk.atlas.core.model.DiscussionTopic;
+import org.planqk.atlas.core.model.File;
+import org.planqk.atlas.core.model.FileImplementationPackage;
+import org.planqk.atlas.core.model.FunctionImplementationPackage;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.ImplementationPackage;
+import org.planqk.atlas.core.model.LearningMethod;
+import org.planqk.atlas.core.model.PatternRelation;
+import org.planqk.atlas.core.model.PatternRelationType;
+import org.planqk.atlas.core.model.ProblemType;
+import org.planqk.atlas.core.model.Publication;
+import org.planqk.atlas.core.model.Qpu;
+import org.planqk.atlas.core.model.QuantumAlgorithm;
+import org.planqk.atlas.core.model.Simulator;
+import org.planqk.atlas.core.model.Sketch;
+import org.planqk.atlas.core.model.SoftwarePlatform;
+import org.planqk.atlas.core.model.Solution;
+import org.planqk.atlas.core.model.TOSCAImplementationPackage;
+import org.planqk.atlas.core.model.Tag;
+import org.planqk.atlas.core.model.ToscaApplication;
+import org.planqk.atlas.core.model.Upload;
+import org.planqk.atlas.web.dtos.AlgorithmDto;
+import org.planqk.atlas.web.dtos.AlgorithmRelationDto;
+import org.planqk.atlas.web.dtos.AlgorithmRelationTypeDto;
+import org.planqk.atlas.web.dtos.ApplicationAreaDto;
+import org.planqk.atlas.web.dtos.ClassicAlgorithmDto;
+import org.planqk.atlas.web.dtos.CloudServiceDto;
+import org.planqk.atlas.web.dtos.ComputeResourceDto;
+import org.planqk.atlas.web.dtos.ComputeResourcePropertyDto;
+import org.planqk.atlas.web.dtos.ComputeResourcePropertyTypeDto;
+import org.planqk.atlas.web.dtos.DiscussionCommentDto;
+import org.planqk.atlas.web.dtos.DiscussionTopicDto;
+import org.planqk.atlas.web.dtos.FileDto;
+import org.planqk.atlas.web.dtos.FileImplementationPackageDto;
+import org.planqk.atlas.web.dtos.FunctionImplementationPackageDto;
+import org.planqk.atlas.web.dtos.ImplementationDto;
+import org.planqk.atlas.web.dtos.ImplementationPackageDto;
+import org.planqk.atlas.web.dtos.LearningMethodDto;
+import org.planqk.atlas.web.dtos.PatternRelationDto;
+import org.planqk.atlas.web.dtos.PatternRelationTypeDto;
+import org.planqk.atlas.web.dtos.ProblemTypeDto;
+import org.planqk.atlas.web.dtos.PublicationDto;
+import org.planqk.atlas.web.dtos.QPUDto;
+import org.planqk.atlas.web.dtos.QuantumAlgorithmDto;
+import org.planqk.atlas.web.dtos.SimulatorDto;
+import org.planqk.atlas.web.dtos.SketchDto;
+import org.planqk.atlas.web.dtos.SoftwarePlatformDto;
+import org.planqk.atlas.web.dtos.SolutionDto;
+import org.planqk.atlas.web.dtos.TOSCAImplementationPackageDto;
+import org.planqk.atlas.web.dtos.TagDto;
+import org.planqk.atlas.web.dtos.ToscaApplicationDto;
+import org.planqk.atlas.web.dtos.UploadDto;
+import org.planqk.atlas.web.utils.SparseFieldsets;
+
+/**
+ * Compile-time generated mappings between the entities and their DTOs, in both directions where the controllers convert
+ * them both ways. Only the revision DTOs, which are converted from Spring Data revisions rather than entities, are
+ * still converted by ModelMapper.
+ * <p>
+ * The polymorphic hierarchies (algorithms, implementation packages and compute resources) are dispatched explicitly by
+ * the default methods of this interface, which replaces the type map converters registered in {@link
+ * org.planqk.atlas.web.utils.ModelMapperUtils}. The concrete mapping methods are {@link Named} so MapStruct never picks
+ * them for nested properties instead of the dispatching methods.
+ * <p>
+ * Lazy collections that are not part of the {@link SparseFieldsets} of the current request are not mapped, so they are
+ * never loaded just to be dropped by the serializer.
+ * <p>
+ * Unmapped target properties fail the build, so every property that is deliberately left out (expansions, relations
+ * managed by their own endpoints and entity state the DTOs do not expose) is ignored explicitly.
+ */
+@Mapper(unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface DtoMapper {
+
+    DtoMapper INSTANCE = Mappers.getMapper(DtoMapper.class);
+
+    default AlgorithmDto toAlgorithmDto(Algorithm algorithm) {
+        if (algorithm instanceof QuantumAlgorithm) {
+            return toQuantumAlgorithmDto((QuantumAlgorithm) algorithm);
+        }
+        if (algorithm instanceof ClassicAlgorithm) {
+            return toClassicAlgorithmDto((ClassicAlgorithm) algorithm);
+        }
+        return toPlainAlgorithmDto(algorithm);
+    }
+
+    @Named("plainAlgorithmDto")
+    @Mapping(target = "embedded", ignore = true)
+    AlgorithmDto toPlainAlgorithmDto(Algorithm algorithm);
+
+    @Named("classicAlgorithmDto")
+    @InheritConfiguration(name = "toPlainAlgorithmDto")
+    ClassicAlgorithmDto toClassicAlgorithmDto(ClassicAlgorithm algorithm);
+
+    @Named("quantumAlgorithmDto")
+    @InheritConfiguration(name = "toPlainAlgorithmDto")
+    QuantumAlgorithmDto toQuantumAlgorithmDto(QuantumAlgorithm algorithm);
+
+    default Algorithm toAlgorithm(AlgorithmDto algorithmDto) {
+        if (algorithmDto instanceof QuantumAlgorithmDto) {
+            return toQuantumAlgorithm((QuantumAlgorithmDto) algorithmDto);
+        }
+        if (algorithmDto instanceof ClassicAlgorithmDto) {
+            return toClassicAlgorithm((ClassicAlgorithmDto) algorithmDto);
+        }
+        return toPlainAlgorithm(algorithmDto);
+    }
+
+    @Named("plainAlgorithm")
+    @Mapping(target = "discussionTopics", ignore = true)
+    @Mapping(target = "publications", ignore = true)
+    @Mapping(target = "sourceAlgorithmRelations", ignore = true)
+    @Mapping(target = "targetAlgorithmRelations", ignore = true)
+    @Mapping(target = "requiredComputeResourceProperties", ignore = true)
+    @Mapping(target = "relatedPatterns", ignore = true)
+    @Mapping(target = "problemTypes", ignore = true)
+    @Mapping(target = "applicationAreas", ignore = true)
+    @Mapping(target = "tags", ignore = true)
+    @Mapping(target = "implementations", ignore = true)
+    @Mapping(target = "learningMethods", ignore = true)
+    Algorithm toPlainAlgorithm(AlgorithmDto algorithmDto);
+
+    @Named("classicAlgorithm")
+    @InheritConfiguration(name = "toPlainAlgorithm")
+    ClassicAlgorithm toClassicAlgorithm(ClassicAlgorithmDto algorithmDto);
+
+    @Named("quantumAlgorithm")
+    @InheritConfiguration(name = "toPlainAlgorithm")
+    QuantumAlgorithm toQuantumAlgorithm(QuantumAlgorithmDto algorithmDto);
+
+    SketchDto toSketchDto(Sketch sketch);
+
+    @Mapping(target = "creationDate", ignore = true)
+    @Mapping(target = "lastModifiedAt", ignore = true)
+    @Mapping(target = "discussionTopics", ignore = true)
+    @Mapping(target = "algorithm", ignore = true)
+    @Mapping(target = "image", ignore = true)
+    Sketch toSketch(SketchDto sketchDto);
+
+    @Mapping(target = "sourceAlgorithmId", source = "sourceAlgorithm.id")
+    @Mapping(target = "targetAlgorithmId", source = "targetAlgorithm.id")
+    AlgorithmRelationDto toAlgorithmRelationDto(AlgorithmRelation algorithmRelation);
+
+    @Mapping(target = "sourceAlgorithm", source = "sourceAlgorithmId", qualifiedByName = "algorithmWithId")
+    @Mapping(target = "targetAlgorithm", source = "targetAlgorithmId", qualifiedByName = "algorithmWithId")
+    AlgorithmRelation toAlgorithmRelation(AlgorithmRelationDto algorithmRelationDto);
+
+    AlgorithmRelationTypeDto toAlgorithmRelationTypeDto(AlgorithmRelationType algorithmRelationType);
+
+    @Mapping(target = "implementedAlgorithmId", source = "implementedAlgorithm.id")
+    @Mapping(target = "embedded", ignore = true)
+    ImplementationDto toImplementationDto(Implementation implementation);
+
+    @Mapping(target = "implementedAlgorithm", source = "implementedAlgorithmId", qualifiedByName = "algorithmWithId")
+    @Mapping(target = "creationDate", ignore = true)
+    @Mapping(target = "lastModifiedAt", ignore = true)
+    @Mapping(target = "discussionTopics", ignore = true)
+    @Mapping(target = "publications", ignore = true)
+    @Mapping(target = "tags", ignore = true)
+    @Mapping(target = "requiredComputeResourceProperties", ignore = true)
+    @Mapping(target = "implementationPackages", ignore = true)
+    Implementation toImplementation(ImplementationDto implementationDto);
+
+    default ImplementationPackageDto toImplementationPackageDto(ImplementationPackage implementationPackage) {
+        if (implementationPackage instanceof FileImplementationPackage) {
+            return toFileImplementationPackageDto((FileImplementationPackage) implementationPackage);
+        }
+        if (implementationPackage instanceof TOSCAImplementationPackage) {
+            return toTOSCAImplementationPackageDto((TOSCAImplementationPackage) implementationPackage);
+        }
+        if (implementationPackage instanceof FunctionImplementationPackage) {
+            return toFunctionImplementationPackageDto((FunctionImplementationPackage) implementationPackage);
+        }
+        return toPlainImplementationPackageDto(implementationPackage);
+    }
+
+    @Named("plainImplementationPackageDto")
+    ImplementationPackageDto toPlainImplementationPackageDto(ImplementationPackage implementationPackage);
+
+    @Named("fileImplementationPackageDto")
+    FileImplementationPackageDto toFileImplementationPackageDto(FileImplementationPackage implementationPackage);
+
+    @Named("toscaImplementationPackageDto")
+    TOSCAImplementationPackageDto toTOSCAImplementationPackageDto(TOSCAImplementationPackage implementationPackage);
+
+    @Named("functionImplementationPackageDto")
+    FunctionImplementationPackageDto toFunctionImplementationPackageDto(FunctionImplementationPackage implementationPackage);
+
+    default ImplementationPackage toImplementationPackage(ImplementationPackageDto implementationPackageDto) {
+        if (implementationPackageDto instanceof FileImplementationPackageDto) {
+            return toFileImplementationPackage((FileImplementationPackageDto) implementationPackageDto);
+        }
+        if (implementationPackageDto instanceof TOSCAImplementationPackageDto) {
+            return toTOSCAImplementationPackage((TOSCAImplementationPackageDto) implementationPackageDto);
+        }
+        if (implementationPackageDto instanceof FunctionImplementationPackageDto) {
+            return toFunctionImplementationPackage((FunctionImplementationPackageDto) implementationPackageDto);
+        }
+        return toPlainImplementationPackage(implementationPackageDto);
+    }
+
+    @Named("plainImplementationPackage")
+    @Mapping(target = "implementation", ignore = true)
+    @Mapping(target = "file", ignore = true)
+    ImplementationPackage toPlainImplementationPackage(ImplementationPackageDto implementationPackageDto);
+
+    @Named("fileImplementationPackage")
+    @InheritConfiguration(name = "toPlainImplementationPackage")
+    FileImplementationPackage toFileImplementationPackage(FileImplementationPackageDto implementationPackageDto);
+
+    @Named("toscaImplementationPackage")
+    @InheritConfiguration(name = "toPlainImplementationPackage")
+    TOSCAImplementationPackage toTOSCAImplementationPackage(TOSCAImplementationPackageDto implementationPackageDto);
+
+    @Named("functionImplementationPackage")
+    @InheritConfiguration(name = "toPlainImplementationPackage")
+    FunctionImplementationPackage toFunctionImplementationPackage(FunctionImplementationPackageDto implementationPackageDto);
+
+    default ComputeResourceDto toComputeResourceDto(ComputeResource computeResource) {
+        if (computeResource instanceof Qpu) {
+            return toQPUDto((Qpu) computeResource);
+        }
+        if (computeResource instanceof Simulator) {
+            return toSimulatorDto((Simulator) computeResource);
+        }
+        return toPlainComputeResourceDto(computeResource);
+    }
+
+    @Named("plainComputeResourceDto")
+    ComputeResourceDto toPlainComputeResourceDto(ComputeResource computeResource);
+
+    @Named("qpuDto")
+    QPUDto toQPUDto(Qpu qpu);
+
+    @Named("simulatorDto")
+    SimulatorDto toSimulatorDto(Simulator simulator);
+
+    default ComputeResource toComputeResource(ComputeResourceDto computeResourceDto) {
+        if (computeResourceDto instanceof QPUDto) {
+            return toQpu((QPUDto) computeResourceDto);
+        }
+        if (computeResourceDto instanceof SimulatorDto) {
+            return toSimulator((SimulatorDto) computeResourceDto);
+        }
+        return toPlainComputeResource(computeResourceDto);
+    }
+
+    @Named("plainComputeResource")
+    @Mapping(target = "providedComputingResourceProperties", ignore = true)
+    @Mapping(target = "softwarePlatforms", ignore = true)
+    @Mapping(target = "cloudServices", ignore = true)
+    ComputeResource toPlainComputeResource(ComputeResourceDto computeResourceDto);
+
+    @Named("qpu")
+    @InheritConfiguration(name = "toPlainComputeResource")
+    Qpu toQpu(QPUDto qpuDto);
+
+    @Named("simulator")
+    @InheritConfiguration(name = "toPlainComputeResource")
+    Simulator toSimulator(SimulatorDto simulatorDto);
+
+    SoftwarePlatformDto toSoftwarePlatformDto(SoftwarePlatform softwarePlatform);
+
+    @Mapping(target = "supportedComputeResources", ignore = true)
+    @Mapping(target = "supportedCloudServices", ignore = true)
+    @Mapping(target = "implementations", ignore = true)
+    SoftwarePlatform toSoftwarePlatform(SoftwarePlatformDto softwarePlatformDto);
+
+    CloudServiceDto toCloudServiceDto(CloudService cloudService);
+
+    @Mapping(target = "providedComputeResources", ignore = true)
+    @Mapping(target = "softwarePlatforms", ignore = true)
+    CloudService toCloudService(CloudServiceDto cloudServiceDto);
+
+    PublicationDto toPublicationDto(Publication publication);
+
+    @Mapping(target = "creationDate", ignore = true)
+    @Mapping(target = "lastModifiedAt", ignore = true)
+    @Mapping(target = "discussionTopics", ignore = true)
+    @Mapping(target = "algorithms", ignore = true)
+    @Mapping(target = "implementations", ignore = true)
+    Publication toPublication(PublicationDto publicationDto);
+
+    FileDto toFileDto(File file);
+
+    AlgorithmRelationType toAlgorithmRelationType(AlgorithmRelationTypeDto algorithmRelationTypeDto);
+
+    @Mapping(target = "algorithmId", source = "algorithm.id")
+    PatternRelationDto toPatternRelationDto(PatternRelation patternRelation);
+
+    @Mapping(target = "algorithm", source = "algorithmId", qualifiedByName = "algorithmWithId")
+    PatternRelation toPatternRelation(PatternRelationDto patternRelationDto);
+
+    PatternRelationTypeDto toPatternRelationTypeDto(PatternRelationType patternRelationType);
+
+    PatternRelationType toPatternRelationType(PatternRelationTypeDto patternRelationTypeDto);
+
+    ApplicationAreaDto toApplicationAreaDto(ApplicationArea applicationArea);
+
+    @Mapping(target = "algorithms", ignore = true)
+    ApplicationArea toApplicationArea(ApplicationAreaDto applicationAreaDto);
+
+    ProblemTypeDto toProblemTypeDto(ProblemType problemType);
+
+    @Mapping(target = "algorithms", ignore = true)
+    ProblemType toProblemType(ProblemTypeDto problemTypeDto);
+
+    LearningMethodDto toLearningMethodDto(LearningMethod learningMethod);
+
+    @Mapping(target = "algorithms", ignore = true)
+    LearningMethod toLearningMethod(LearningMethodDto learningMethodDto);
+
+    TagDto toTagDto(Tag tag);
+
+    @Mapping(target = "algorithms", ignore = true)
+    @Mapping(target = "implementations", ignore = true)
+    Tag toTag(TagDto tagDto);
+
+    @Mapping(target = "type", source = "computeResourcePropertyType")
+    ComputeResourcePropertyDto toComputeResourcePropertyDto(ComputeResourceProperty computeResourceProperty);
+
+    @Mapping(target = "computeResourcePropertyType", source = "type")
+    @Mapping(target = "algorithm", ignore = true)
+    @Mapping(target = "implementation", ignore = true)
+    @Mapping(target = "computeResource", ignore = true)
+    ComputeResourceProperty toComputeResourceProperty(ComputeResourcePropertyDto computeResourcePropertyDto);
+
+    ComputeResourcePropertyTypeDto toComputeResourcePropertyTypeDto(ComputeResourcePropertyType computeResourcePropertyType);
+
+    ComputeResourcePropertyType toComputeResourcePropertyType(ComputeResourcePropertyTypeDto computeResourcePropertyTypeDto);
+
+    SolutionDto toSolutionDto(Solution solution);
+
+    @Mapping(target = "creationDate", ignore = true)
+    @Mapping(target = "lastModifiedAt", ignore = true)
+    @Mapping(target = "discussionTopics", ignore = true)
+    @Mapping(target = "file", ignore = true)
+    Solution toSolution(SolutionDto solutionDto);
+
+    DiscussionTopicDto toDiscussionTopicDto(DiscussionTopic discussionTopic);
+
+    @Mapping(target = "creationDate", ignore = true)
+    @Mapping(target = "lastModifiedAt", ignore = true)
+    @Mapping(target = "discussionTopics", ignore = true)
+    @Mapping(target = "knowledgeArtifact", ignore = true)
+    @Mapping(target = "discussionComments", ignore = true)
+    DiscussionTopic toDiscussionTopic(DiscussionTopicDto discussionTopicDto);
+
+    DiscussionCommentDto toDiscussionCommentDto(DiscussionComment discussionComment);
+
+    DiscussionComment toDiscussionComment(DiscussionCommentDto discussionCommentDto);
+
+    ToscaApplicationDto toToscaApplicationDto(ToscaApplication toscaApplication);
+
+    @Mapping(target = "wineryLocation", ignore = true)
+    ToscaApplication toToscaApplication(ToscaApplicationDto toscaApplicationDto);
+
+    UploadDto toUploadDto(Upload upload);
+
+    @Named("algorithmWithId")
+    default Algorithm algorithmWithId(UUID id) {
+        if (id == null) {
+            return null;
+        }
+        final var algorithm = new Algorithm();
+        algorithm.setId(id);
+        return algorithm;
+    }
+
+    @Condition
+    default boolean isSelected(Collection<?> collection, @TargetPropertyName String property) {
+        return Hibernate.isInitialized(collection) || SparseFieldsets.isSelected(property);
+    }
+}
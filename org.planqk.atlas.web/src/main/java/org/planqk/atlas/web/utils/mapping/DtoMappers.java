@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.utils.mapping;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.AlgorithmRelation;
+import org.planqk.atlas.core.model.AlgorithmRelationType;
+import org.planqk.atlas.core.model.ApplicationArea;
+import org.planqk.atlas.core.model.ClassicAlgorithm;
+import org.planqk.atlas.core.model.CloudService;
+import org.planqk.atlas.core.model.ComputeResource;
+import org.planqk.atlas.core.model.ComputeResourceProperty;
+import org.planqk.atlas.core.model.ComputeResourcePropertyType;
+import org.planqk.atlas.core.model.DiscussionComment;
+import org.planqk.atlas.core.model.DiscussionTopic;
+import org.planqk.atlas.core.model.File;
+import org.planqk.atlas.core.model.FileImplementationPackage;
+import org.planqk.atlas.core.model.FunctionImplementationPackage;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.ImplementationPackage;
+import org.planqk.atlas.core.model.LearningMethod;
+import org.planqk.atlas.core.model.PatternRelation;
+import org.planqk.atlas.core.model.PatternRelationType;
+import org.planqk.atlas.core.model.ProblemType;
+import org.planqk.atlas.core.model.Publication;
+import org.planqk.atlas.core.model.Qpu;
+import org.planqk.atlas.core.model.QuantumAlgorithm;
+import org.planqk.atlas.core.model.Simulator;
+import org.planqk.atlas.core.model.Sketch;
+import org.planqk.atlas.core.model.SoftwarePlatform;
+import org.planqk.atlas.core.model.Solution;
+import org.planqk.atlas.core.model.TOSCAImplementationPackage;
+import org.planqk.atlas.core.model.Tag;
+import org.planqk.atlas.core.model.ToscaApplication;
+import org.planqk.atlas.core.model.Upload;
+import org.planqk.atlas.web.dtos.AlgorithmDto;
+import org.planqk.atlas.web.dtos.AlgorithmRelationDto;
+import org.planqk.atlas.web.dtos.AlgorithmRelationTypeDto;
+import org.planqk.atlas.web.dtos.ApplicationAreaDto;
+import org.planqk.atlas.web.dtos.ClassicAlgorithmDto;
+import org.planqk.atlas.web.dtos.CloudServiceDto;
+import org.planqk.atlas.web.dtos.ComputeResourceDto;
+import org.planqk.atlas.web.dtos.ComputeResourcePropertyDto;
+import org.planqk.atlas.web.dtos.ComputeResourcePropertyTypeDto;
+import org.planqk.atlas.web.dtos.DiscussionCommentDto;
+import org.planqk.atlas.web.dtos.DiscussionTopicDto;
+import org.planqk.atlas.web.dtos.FileDto;
+import org.planqk.atlas.web.dtos.FileImplementationPackageDto;
+import org.planqk.atlas.web.dtos.FunctionImplementationPackageDto;
+import org.planqk.atlas.web.dtos.ImplementationDto;
+import org.planqk.atlas.web.dtos.ImplementationPackageDto;
+import org.planqk.atlas.web.dtos.LearningMethodDto;
+import org.planqk.atlas.web.dtos.PatternRelationDto;
+import org.planqk.atlas.web.dtos.PatternRelationTypeDto;
+import org.planqk.atlas.web.dtos.ProblemTypeDto;
+import org.planqk.atlas.web.dtos.PublicationDto;
+import org.planqk.atlas.web.dtos.QPUDto;
+import org.planqk.atlas.web.dtos.QuantumAlgorithmDto;
+import org.planqk.atlas.web.dtos.SimulatorDto;
+import org.planqk.atlas.web.dtos.SketchDto;
+import org.planqk.atlas.web.dtos.SoftwarePlatformDto;
+import org.planqk.atlas.web.dtos.SolutionDto;
+import org.planqk.atlas.web.dtos.TOSCAImplementationPackageDto;
+import org.planqk.atlas.web.dtos.TagDto;
+import org.planqk.atlas.web.dtos.ToscaApplicationDto;
+import org.planqk.atlas.web.dtos.UploadDto;
+
+/**
+ * Registry of the generated {@link DtoMapper} methods, keyed by source and target type.
+ * <p>
+ * A lookup walks the superclass chain of the source type, so e.g. a {@link QuantumAlgorithm} converted to {@link
+ * AlgorithmDto} uses the dispatching {@link DtoMapper#toAlgorithmDto(Algorithm)}. Results (including misses) are cached
+ * per type pair, so the chain is only walked once. Pairs without a generated mapping are left to ModelMapper.
+ */
+public final class DtoMappers {
+
+    private static final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> REGISTERED = new HashMap<>();
+
+    private static final Map<Class<?>, Map<Class<?>, Optional<Function<Object, Object>>>> RESOLVED = new ConcurrentHashMap<>();
+
+    static {
+        final DtoMapper mapper = DtoMapper.INSTANCE;
+
+        register(Algorithm.class, AlgorithmDto.class, mapper::toAlgorithmDto);
+        register(ClassicAlgorithm.class, ClassicAlgorithmDto.class, mapper::toClassicAlgorithmDto);
+        register(QuantumAlgorithm.class, QuantumAlgorithmDto.class, mapper::toQuantumAlgorithmDto);
+        register(AlgorithmDto.class, Algorithm.class, mapper::toAlgorithm);
+        register(ClassicAlgorithmDto.class, ClassicAlgorithm.class, mapper::toClassicAlgorithm);
+        register(QuantumAlgorithmDto.class, QuantumAlgorithm.class, mapper::toQuantumAlgorithm);
+
+        register(Sketch.class, SketchDto.class, mapper::toSketchDto);
+        register(AlgorithmRelation.class, AlgorithmRelationDto.class, mapper::toAlgorithmRelationDto);
+        register(AlgorithmRelationDto.class, AlgorithmRelation.class, mapper::toAlgorithmRelation);
+        register(AlgorithmRelationType.class, AlgorithmRelationTypeDto.class, mapper::toAlgorithmRelationTypeDto);
+
+        register(Implementation.class, ImplementationDto.class, mapper::toImplementationDto);
+        register(ImplementationDto.class, Implementation.class, mapper::toImplementation);
+
+        register(ImplementationPackage.class, ImplementationPackageDto.class, mapper::toImplementationPackageDto);
+        register(FileImplementationPackage.class, FileImplementationPackageDto.class, mapper::toFileImplementationPackageDto);
+        register(TOSCAImplementationPackage.class, TOSCAImplementationPackageDto.class, mapper::toTOSCAImplementationPackageDto);
+        register(FunctionImplementationPackage.class, FunctionImplementationPackageDto.class, mapper::toFunctionImplementationPackageDto);
+        register(ImplementationPackageDto.class, ImplementationPackage.class, mapper::toImplementationPackage);
+        register(FileImplementationPackageDto.class, FileImplementationPackage.class, mapper::toFileImplementationPackage);
+        register(TOSCAImplementationPackageDto.class, TOSCAImplementationPackage.class, mapper::toTOSCAImplementationPackage);
+        register(FunctionImplementationPackageDto.class, FunctionImplementationPackage.class, mapper::toFunctionImplementationPackage);
+
+        register(ComputeResource.class, ComputeResourceDto.class, mapper::toComputeResourceDto);
+        register(Qpu.class, QPUDto.class, mapper::toQPUDto);
+        register(Simulator.class, SimulatorDto.class, mapper::toSimulatorDto);
+        register(ComputeResourceDto.class, ComputeResource.class, mapper::toComputeResource);
+        register(QPUDto.class, Qpu.class, mapper::toQpu);
+        register(SimulatorDto.class, Simulator.class, mapper::toSimulator);
+
+        register(SoftwarePlatform.class, SoftwarePlatformDto.class, mapper::toSoftwarePlatformDto);
+        register(SoftwarePlatformDto.class, SoftwarePlatform.class, mapper::toSoftwarePlatform);
+        register(CloudService.class, CloudServiceDto.class, mapper::toCloudServiceDto);
+        register(CloudServiceDto.class, CloudService.class, mapper::toCloudService);
+        register(Publication.class, PublicationDto.class, mapper::toPublicationDto);
+        register(PublicationDto.class, Publication.class, mapper::toPublication);
+        register(File.class, FileDto.class, mapper::toFileDto);
+        register(AlgorithmRelationTypeDto.class, AlgorithmRelationType.class, mapper::toAlgorithmRelationType);
+
+        register(PatternRelation.class, PatternRelationDto.class, mapper::toPatternRelationDto);
+        register(PatternRelationDto.class, PatternRelation.class, mapper::toPatternRelation);
+        register(PatternRelationType.class, PatternRelationTypeDto.class, mapper::toPatternRelationTypeDto);
+        register(PatternRelationTypeDto.class, PatternRelationType.class, mapper::toPatternRelationType);
+
+        register(ApplicationArea.class, ApplicationAreaDto.class, mapper::toApplicationAreaDto);
+        register(ApplicationAreaDto.class, ApplicationArea.class, mapper::toApplicationArea);
+        register(ProblemType.class, ProblemTypeDto.class, mapper::toProblemTypeDto);
+        register(ProblemTypeDto.class, ProblemType.class, mapper::toProblemType);
+        register(LearningMethod.class, LearningMethodDto.class, mapper::toLearningMethodDto);
+        register(LearningMethodDto.class, LearningMethod.class, mapper::toLearningMethod);
+        register(Tag.class, TagDto.class, mapper::toTagDto);
+        register(TagDto.class, Tag.class, mapper::toTag);
+
+        register(ComputeResourceProperty.class, ComputeResourcePropertyDto.class, mapper::toComputeResourcePropertyDto);
+        register(ComputeResourcePropertyDto.class, ComputeResourceProperty.class, mapper::toComputeResourceProperty);
+        register(ComputeResourcePropertyType.class, ComputeResourcePropertyTypeDto.class, mapper::toComputeResourcePropertyTypeDto);
+        register(ComputeResourcePropertyTypeDto.class, ComputeResourcePropertyType.class, mapper::toComputeResourcePropertyType);
+
+        register(Solution.class, SolutionDto.class, mapper::toSolutionDto);
+        register(SolutionDto.class, Solution.class, mapper::toSolution);
+        register(DiscussionTopic.class, DiscussionTopicDto.class, mapper::toDiscussionTopicDto);
+        register(DiscussionTopicDto.class, DiscussionTopic.class, mapper::toDiscussionTopic);
+        register(DiscussionComment.class, DiscussionCommentDto.class, mapper::toDiscussionCommentDto);
+        register(DiscussionCommentDto.class, DiscussionComment.class, mapper::toDiscussionComment);
+        register(ToscaApplication.class, ToscaApplicationDto.class, mapper::toToscaApplicationDto);
+        register(ToscaApplicationDto.class, ToscaApplication.class, mapper::toToscaApplication);
+        register(Upload.class, UploadDto.class, mapper::toUploadDto);
+    }
+
+    private DtoMappers() {
+    }
+
+    /**
+     * Returns the generated mapping for the given pair of types.
+     *
+     * @param sourceClass the runtime class of the object to convert
+     * @param targetClass the requested target type
+     * @return the mapping function or an empty optional if the pair has to be handled by ModelMapper
+     */
+    public static Optional<Function<Object, Object>> find(Class<?> sourceClass, Class<?> targetClass) {
+        return RESOLVED.computeIfAbsent(sourceClass, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(targetClass, key -> resolve(sourceClass, targetClass));
+    }
+
+    private static Optional<Function<Object, Object>> resolve(Class<?> sourceClass, Class<?> targetClass) {
+        for (Class<?> current = sourceClass; current != null; current = current.getSuperclass()) {
+            final Map<Class<?>, Function<Object, Object>> mappings = REGISTERED.get(current);
+            if (mappings != null && mappings.containsKey(targetClass)) {
+                return Optional.of(mappings.get(targetClass));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static <S, D> void register(Class<S> sourceClass, Class<D> targetClass, Function<S, D> mapping) {
+        REGISTERED.computeIfAbsent(sourceClass, key -> new HashMap<>())
+                .put(targetClass, source -> mapping.apply(sourceClass.cast(source)));
+    }
+}
@@ -20,9 +20,11 @@
 package org.planqk.atlas.web.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -36,9 +38,11 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.time.Instant;
 import java.time.OffsetDateTime;
@@ -46,6 +50,7 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -71,7 +76,6 @@ import org.planqk.atlas.core.model.ComputeResourcePropertyDataType;
 import org.planqk.atlas.core.model.ComputeResourcePropertyType;
 import org.planqk.atlas.core.model.DiscussionComment;
 import org.planqk.atlas.core.model.DiscussionTopic;
-import org.planqk.atlas.core.model.Image;
 import org.planqk.atlas.core.model.Implementation;
 import org.planqk.atlas.core.model.LearningMethod;
 import org.planqk.atlas.core.model.PatternRelation;
@@ -95,6 +99,9 @@ import org.planqk.atlas.core.services.ProblemTypeService;
 import org.planqk.atlas.core.services.PublicationService;
 import org.planqk.atlas.core.services.SketchService;
 import org.planqk.atlas.core.services.TagService;
+import org.planqk.atlas.core.util.ImageContentResource;
+import org.planqk.atlas.core.util.PropertyChange;
+import org.planqk.atlas.web.Constants;
 import org.planqk.atlas.web.controller.util.ObjectMapperUtils;
 import org.planqk.atlas.web.dtos.AlgorithmDto;
 import org.planqk.atlas.web.dtos.AlgorithmRelationDto;
@@ -126,6 +133,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.envers.repository.support.DefaultRevisionMetadata;
 import org.springframework.data.history.Revision;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
@@ -508,7 +516,7 @@ public class AlgorithmControllerTest {
         doThrow(NoSuchElementException.class).when(algorithmService).findById(any());
 
         var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
-                .getAlgorithm(UUID.randomUUID()));
+                .getAlgorithm(UUID.randomUUID(), null));
 
         mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
@@ -522,7 +530,7 @@ public class AlgorithmControllerTest {
         doReturn(algorithm1).when(algorithmService).findById(any());
 
         var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
-                .getAlgorithm(UUID.randomUUID()));
+                .getAlgorithm(UUID.randomUUID(), null));
         MvcResult result = mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk()).andReturn();
 
@@ -532,6 +540,142 @@ public class AlgorithmControllerTest {
         assertEquals(response.getContent().getId(), algorithm1Dto.getId());
     }
 
+    @Test
+    @SneakyThrows
+    void getAlgorithmAsOf_returnOk() {
+        initializeAlgorithms();
+        var asOf = Date.from(Instant.parse("2020-10-14T12:00:00Z"));
+
+        doReturn(algorithm1).when(algorithmService).findByIdAsOf(any(), eq(asOf));
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithm(algorithm1.getId(), null));
+        mockMvc.perform(get(url).param(Constants.AS_OF, "2020-10-14T12:00:00Z").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(algorithm1.getId().toString()))
+                .andExpect(jsonPath("$.name").value(algorithm1.getName()));
+        Mockito.verify(algorithmService, times(0)).findById(any());
+    }
+
+    @Test
+    @SneakyThrows
+    void getAlgorithmAsOf_returnNotFound() {
+        doThrow(NoSuchElementException.class).when(algorithmService).findByIdAsOf(any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithm(UUID.randomUUID(), null));
+        mockMvc.perform(get(url).param(Constants.AS_OF, "2020-10-14T12:00:00Z").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @SneakyThrows
+    void getAlgorithmsAsOf_returnOk() {
+        initializeAlgorithms();
+
+        doReturn(new PageImpl<>(List.of(algorithm1))).when(algorithmService).findAllAsOf(any(), any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithms(ListParameters.getDefault()));
+        mockMvc.perform(get(url).param(Constants.AS_OF, "2020-10-14T12:00:00Z").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(algorithm1.getId().toString()));
+    }
+
+    @Test
+    @SneakyThrows
+    void getAlgorithmsAsOf_Unpaged_returnOk() {
+        initializeAlgorithms();
+
+        doReturn(new PageImpl<>(List.of(algorithm1))).when(algorithmService).findAllAsOf(any(), any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithms(new ListParameters(Pageable.unpaged(), null)));
+        mockMvc.perform(get(url).param(Constants.AS_OF, "2020-10-14T12:00:00Z").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(algorithm1.getId().toString()));
+        Mockito.verify(algorithmService).findAllAsOf(eq(Date.from(Instant.parse("2020-10-14T12:00:00Z"))), eq(Pageable.unpaged()), any());
+        Mockito.verify(algorithmService, times(0)).streamAll(any(), any(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    void getAlgorithmsAsOf_InvalidDate_returnBadRequest() {
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithms(ListParameters.getDefault()));
+        mockMvc.perform(get(url).param(Constants.AS_OF, "yesterday").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @SneakyThrows
+    void getAlgorithm_withExpand_returnOk() {
+        initializeAlgorithms();
+        var publication = new Publication();
+        publication.setId(UUID.randomUUID());
+        publication.setTitle("publication");
+        algorithm1.setPublications(Set.of(publication));
+
+        doReturn(algorithm1).when(algorithmService).findById(any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithm(algorithm1.getId(), Set.of(Constants.PUBLICATIONS, Constants.PROBLEM_TYPES)));
+        mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(algorithm1.getId().toString()))
+                .andExpect(jsonPath("$.embedded.publications[0].title").value("publication"))
+                .andExpect(jsonPath("$.embedded.problemTypes.length()").value(algorithm1.getProblemTypes().size()))
+                .andExpect(jsonPath("$.embedded.tags").doesNotExist());
+
+        Mockito.verify(algorithmService).findById(algorithm1.getId(),
+                Set.of(AlgorithmService.Association.PUBLICATIONS, AlgorithmService.Association.PROBLEM_TYPES));
+    }
+
+    @Test
+    @SneakyThrows
+    void getAlgorithm_withUnsupportedExpand_returnBadRequest() {
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithm(UUID.randomUUID(), Set.of("unknown")));
+        mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(algorithmService);
+    }
+
+    @Test
+    @SneakyThrows
+    void lookupAlgorithms_returnOkWithMissingIds() {
+        initializeAlgorithms();
+        var missingId = UUID.randomUUID();
+        var ids = List.of(algorithm2.getId(), missingId, algorithm1.getId());
+        doReturn(List.of(algorithm2, algorithm1)).when(algorithmService).findAllById(ids);
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class).lookupAlgorithms(null));
+        mockMvc.perform(post(url).content(mapper.writeValueAsString(ids))
+                .contentType(APPLICATION_JSON).accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(algorithm2.getId().toString()))
+                .andExpect(jsonPath("$.content[1].id").value(algorithm1.getId().toString()))
+                .andExpect(jsonPath("$.missingIds.length()").value(1))
+                .andExpect(jsonPath("$.missingIds[0]").value(missingId.toString()));
+    }
+
+    @Test
+    @SneakyThrows
+    void lookupAlgorithms_tooManyIds_returnBadRequest() {
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i <= Constants.MAX_LOOKUP_IDS; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class).lookupAlgorithms(null));
+        mockMvc.perform(post(url).content(mapper.writeValueAsString(ids))
+                .contentType(APPLICATION_JSON).accept(APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(algorithmService);
+    }
+
     @Test
     @SneakyThrows
     void getAlgorithmRevisions_SingleElement_returnOk() {
@@ -613,6 +757,42 @@ public class AlgorithmControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @SneakyThrows
+    void getAlgorithmRevisionDiff_returnOk() {
+        doReturn(List.of(new PropertyChange("name", "Shor", "Shor_Updated"), new PropertyChange("acronym", "SH", null),
+                new PropertyChange("intent", null, "intent")))
+                .when(algorithmService).findAlgorithmRevisionChanges(any(), any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithmRevisionDiff(UUID.randomUUID(), 1, 2));
+
+        mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fromRevisionId").value(1))
+                .andExpect(jsonPath("$.toRevisionId").value(2))
+                .andExpect(jsonPath("$.changes[0].op").value("replace"))
+                .andExpect(jsonPath("$.changes[0].path").value("/name"))
+                .andExpect(jsonPath("$.changes[0].value").value("Shor_Updated"))
+                .andExpect(jsonPath("$.changes[0].oldValue").value("Shor"))
+                .andExpect(jsonPath("$.changes[1].op").value("remove"))
+                .andExpect(jsonPath("$.changes[1].value").doesNotExist())
+                .andExpect(jsonPath("$.changes[2].op").value("add"))
+                .andExpect(jsonPath("$.changes[2].oldValue").doesNotExist());
+    }
+
+    @Test
+    @SneakyThrows
+    void getAlgorithmRevisionDiff_returnNotFound() {
+        doThrow(NoSuchElementException.class).when(algorithmService).findAlgorithmRevisionChanges(any(), any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithmRevisionDiff(UUID.randomUUID(), 1, 2));
+
+        mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
 
     @Test
     @SneakyThrows
@@ -1984,21 +2164,81 @@ public class AlgorithmControllerTest {
         sketch.setId(sketchId);
         sketch.setImageURL("http://test/image/url");
 
-        Image image = new Image();
-        image.setImage(new byte[20]);
-        image.setMimeType("img/png");
+        final UUID imageId = UUID.randomUUID();
+        final byte[] content = new byte[20];
+        new Random().nextBytes(content);
+        final var image = new ImageContentResource(imageId, "img/png", content.length, () -> new ByteArrayInputStream(content));
 
-        doReturn(image).when(sketchService).getImageBySketch(sketchId);
+        doReturn(image).when(sketchService).getImageContentBySketch(sketchId);
 
         var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
-                .getSketchImage(algorithmId, sketchId));
+                .getSketchImage(algorithmId, sketchId, null));
 
         // call
-        var resultActions = mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn();
+        var resultActions = mockMvc.perform(get(url)).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + imageId + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")))
+                .andReturn();
 
         byte[] responseImage = resultActions.getResponse().getContentAsByteArray();
 
-        assertThat(image.getImage()).isEqualTo(responseImage);
+        assertThat(content).isEqualTo(responseImage);
+    }
+
+    @Test
+    @SneakyThrows
+    void getSketchImage_withSize_returnThumbnail() {
+        final UUID algorithmId = UUID.randomUUID();
+        final UUID sketchId = UUID.randomUUID();
+        final UUID imageId = UUID.randomUUID();
+        final byte[] content = new byte[10];
+        new Random().nextBytes(content);
+        final var thumbnail = new ImageContentResource(imageId, "image/png", content.length, 160,
+                () -> new ByteArrayInputStream(content));
+
+        doReturn(thumbnail).when(sketchService).getImageContentBySketch(sketchId, 100);
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getSketchImage(algorithmId, sketchId, 100));
+
+        var result = mockMvc.perform(get(url)).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + imageId + "-160\""))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    @SneakyThrows
+    void getSketchImage_invalidSize_returnBadRequest() {
+        final UUID algorithmId = UUID.randomUUID();
+        final UUID sketchId = UUID.randomUUID();
+
+        doThrow(new IllegalArgumentException()).when(sketchService).getImageContentBySketch(sketchId, 0);
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getSketchImage(algorithmId, sketchId, 0));
+
+        mockMvc.perform(get(url)).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @SneakyThrows
+    void getSketchImage_matchingETag_returnNotModified() {
+        final UUID algorithmId = UUID.randomUUID();
+        final UUID sketchId = UUID.randomUUID();
+        final UUID imageId = UUID.randomUUID();
+        final var image = new ImageContentResource(imageId, "image/png", 20, () -> new ByteArrayInputStream(new byte[20]));
+
+        doReturn(image).when(sketchService).getImageContentBySketch(sketchId);
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getSketchImage(algorithmId, sketchId, null));
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, "\"" + imageId + "\""))
+                .andExpect(status().isNotModified());
     }
 
     @Test
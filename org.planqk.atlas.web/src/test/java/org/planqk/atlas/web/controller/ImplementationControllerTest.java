@@ -19,6 +19,8 @@
 
 package org.planqk.atlas.web.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
@@ -33,16 +35,27 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
@@ -67,6 +80,9 @@ import org.planqk.atlas.core.model.SoftwarePlatform;
 import org.planqk.atlas.core.model.Status;
 import org.planqk.atlas.core.model.TOSCAImplementationPackage;
 import org.planqk.atlas.core.model.Tag;
+import org.planqk.atlas.core.model.Upload;
+import org.planqk.atlas.core.model.UploadStatus;
+import org.planqk.atlas.core.model.UploadTarget;
 import org.planqk.atlas.core.services.ComputeResourcePropertyService;
 import org.planqk.atlas.core.services.DiscussionCommentService;
 import org.planqk.atlas.core.services.DiscussionTopicService;
@@ -77,29 +93,36 @@ import org.planqk.atlas.core.services.LinkingService;
 import org.planqk.atlas.core.services.PublicationService;
 import org.planqk.atlas.core.services.SoftwarePlatformService;
 import org.planqk.atlas.core.services.TagService;
+import org.planqk.atlas.core.services.UploadService;
+import org.planqk.atlas.web.Constants;
 import org.planqk.atlas.web.controller.util.ObjectMapperUtils;
 import org.planqk.atlas.web.dtos.ComputeResourcePropertyDto;
 import org.planqk.atlas.web.dtos.ComputeResourcePropertyTypeDto;
 import org.planqk.atlas.web.dtos.DiscussionCommentDto;
 import org.planqk.atlas.web.dtos.DiscussionTopicDto;
 import org.planqk.atlas.web.dtos.ImplementationDto;
+import org.planqk.atlas.web.dtos.ImplementationPackageArchiveDto;
 import org.planqk.atlas.web.dtos.ImplementationPackageDto;
 import org.planqk.atlas.web.dtos.PublicationDto;
 import org.planqk.atlas.web.dtos.SoftwarePlatformDto;
 import org.planqk.atlas.web.dtos.TagDto;
 import org.planqk.atlas.web.linkassembler.EnableLinkAssemblers;
 import org.planqk.atlas.web.linkassembler.LinkBuilderService;
+import org.planqk.atlas.web.utils.ImplementationPackageArchives;
 import org.planqk.atlas.web.utils.ListParameters;
 import org.planqk.atlas.web.utils.ModelMapperUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
@@ -155,6 +178,9 @@ public class ImplementationControllerTest {
     @MockBean
     private FileService fileService;
 
+    @MockBean
+    private UploadService uploadService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -1917,7 +1943,12 @@ public class ImplementationControllerTest {
 
         byte[] testFile = new byte[20];
         final MockMultipartFile file = new MockMultipartFile("file", testFile);
-        doReturn(new File()).when(implementationPackageService).addFileToImplementationPackage(implementationPackage.getId(), file);
+        var upload = new Upload();
+        upload.setId(UUID.randomUUID());
+        upload.setTarget(UploadTarget.IMPLEMENTATION_PACKAGE_FILE);
+        upload.setTargetId(implementationPackage.getId());
+        upload.setStatus(UploadStatus.PENDING);
+        doReturn(upload).when(uploadService).submitImplementationPackageFile(implementationPackage.getId(), file);
 
         final String path = linkBuilderService.urlStringTo(methodOn(ImplementationController.class)
                 .createFileForImplementationPackage(algo.getId(), impl.getId(), implementationPackage.getId(), file));
@@ -1926,8 +1957,33 @@ public class ImplementationControllerTest {
         ResultActions resultActions = mockMvc.perform(multipart(path).file(file));
 
         // Then
-        resultActions.andExpect(status().isCreated());
-        Mockito.verify(implementationPackageService, times(1)).addFileToImplementationPackage(implementationPackage.getId(), file);
+        resultActions.andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, endsWith("/" + Constants.UPLOADS + "/" + upload.getId())))
+                .andExpect(jsonPath("$.id").value(upload.getId().toString()))
+                .andExpect(jsonPath("$.status").value(UploadStatus.PENDING.toString()));
+        Mockito.verify(uploadService, times(1)).submitImplementationPackageFile(implementationPackage.getId(), file);
+        Mockito.verify(implementationPackageService, Mockito.never()).addFileToImplementationPackage(any(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testCreateFileForImplementationPackage_queueFull_returnServiceUnavailable() {
+        // Given
+        var algoId = UUID.randomUUID();
+        var implId = UUID.randomUUID();
+        var implementationPackageId = UUID.randomUUID();
+
+        final MockMultipartFile file = new MockMultipartFile("file", new byte[20]);
+        doThrow(new TaskRejectedException("queue full")).when(uploadService).submitImplementationPackageFile(implementationPackageId, file);
+
+        final String path = linkBuilderService.urlStringTo(methodOn(ImplementationController.class)
+                .createFileForImplementationPackage(algoId, implId, implementationPackageId, file));
+
+        // When
+        ResultActions resultActions = mockMvc.perform(multipart(path).file(file));
+
+        // Then
+        resultActions.andExpect(status().isServiceUnavailable());
     }
 
     @Test
@@ -1995,6 +2051,75 @@ public class ImplementationControllerTest {
         Mockito.verify(implementationPackageService, times(1)).findLinkedFile(implementationPackage.getId());
     }
 
+    @Test
+    @SneakyThrows
+    public void testDownloadImplementationPackagesArchive_response_OK() {
+        var algo = new Algorithm();
+        algo.setId(UUID.randomUUID());
+        var impl = new Implementation();
+        impl.setId(UUID.randomUUID());
+        impl.setName("Shor");
+
+        var file = new File();
+        file.setId(UUID.randomUUID());
+        file.setName("shor.py");
+        file.setMimeType("text/x-python");
+        var packageWithFile = new FileImplementationPackage();
+        packageWithFile.setId(UUID.randomUUID());
+        packageWithFile.setName("code");
+        packageWithFile.setPackageType(ImplementationPackageType.FILE);
+        packageWithFile.setFile(file);
+        var packageWithoutFile = new FileImplementationPackage();
+        packageWithoutFile.setId(UUID.randomUUID());
+        packageWithoutFile.setName("empty");
+        packageWithoutFile.setPackageType(ImplementationPackageType.FILE);
+
+        doNothing().when(implementationService).checkIfImplementationIsOfAlgorithm(impl.getId(), algo.getId());
+        when(implementationService.findById(impl.getId())).thenReturn(impl);
+        when(implementationPackageService.findAllWithFilesByImplementationId(impl.getId()))
+                .thenReturn(List.of(packageWithFile, packageWithoutFile));
+        when(fileService.getFileContent(file.getId())).thenReturn(new ByteArrayResource("print(15)".getBytes(StandardCharsets.UTF_8)));
+
+        final MvcResult result = mockMvc.perform(get(archivePath(algo.getId(), impl.getId())))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/zip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''Shor.zip"))
+                .andReturn();
+
+        final Map<String, byte[]> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), zip.readAllBytes());
+            }
+        }
+        final String contentPath = "packages/" + packageWithFile.getId() + "/shor.py";
+        assertThat(entries.keySet()).containsExactly(ImplementationPackageArchives.MANIFEST, contentPath);
+        assertThat(new String(entries.get(contentPath), StandardCharsets.UTF_8)).isEqualTo("print(15)");
+
+        final ImplementationPackageArchiveDto manifest =
+                mapper.readValue(entries.get(ImplementationPackageArchives.MANIFEST), ImplementationPackageArchiveDto.class);
+        assertThat(manifest.getImplementationId()).isEqualTo(impl.getId());
+        assertThat(manifest.getPackages()).hasSize(2);
+        assertThat(manifest.getPackages().get(0).getPath()).isEqualTo(contentPath);
+        assertThat(manifest.getPackages().get(0).getFile().getId()).isEqualTo(file.getId());
+        assertThat(manifest.getPackages().get(1).getImplementationPackage().getId()).isEqualTo(packageWithoutFile.getId());
+        assertThat(manifest.getPackages().get(1).getPath()).isNull();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testDownloadImplementationPackagesArchive_response_notFound() {
+        doThrow(new NoSuchElementException()).when(implementationService).checkIfImplementationIsOfAlgorithm(any(), any());
+
+        mockMvc.perform(get(archivePath(UUID.randomUUID(), UUID.randomUUID())))
+                .andExpect(status().isNotFound());
+    }
+
+    private static String archivePath(UUID algorithmId, UUID implementationId) {
+        return "/" + Constants.ALGORITHMS + "/" + algorithmId + "/" + Constants.IMPLEMENTATIONS + "/" + implementationId + "/" +
+                Constants.IMPLEMENTATION_PACKAGES + "/" + Constants.ARCHIVE;
+    }
+
     @Test
     @SneakyThrows
     public void testDownloadFileContent_response_OK() {
@@ -2018,7 +2143,7 @@ public class ImplementationControllerTest {
 
         // When
         final String path = linkBuilderService.urlStringTo(methodOn(ImplementationController.class)
-                .downloadFileContent(algo.getId(), impl.getId(), implementationPackage.getId()));
+                .downloadFileContent(algo.getId(), impl.getId(), implementationPackage.getId(), null));
 
         ResultActions result = mockMvc.perform(get(path).accept(MediaType.APPLICATION_JSON));
 
@@ -2027,6 +2152,120 @@ public class ImplementationControllerTest {
         Mockito.verify(implementationPackageService, times(1)).findLinkedFile(implementationPackage.getId());
     }
 
+    @Test
+    @SneakyThrows
+    public void testDownloadFileContent_withRange_response_partial_content() {
+        var algo = new Algorithm();
+        algo.setId(UUID.randomUUID());
+        var impl = new Implementation();
+        impl.setId(UUID.randomUUID());
+        var implementationPackage = new FileImplementationPackage();
+        implementationPackage.setId(UUID.randomUUID());
+
+        var file = new File();
+        file.setId(UUID.randomUUID());
+        file.setName("content.txt");
+        file.setMimeType("text/plain");
+
+        when(implementationPackageService.findLinkedFile(implementationPackage.getId())).thenReturn(file);
+        when(fileService.getFileContent(file.getId())).thenReturn(new ByteArrayResource("0123456789".getBytes(StandardCharsets.UTF_8)));
+
+        final String path = linkBuilderService.urlStringTo(methodOn(ImplementationController.class)
+                .downloadFileContent(algo.getId(), impl.getId(), implementationPackage.getId(), null));
+
+        mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "4"))
+                .andExpect(content().string("2345"));
+
+        mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "10"))
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testDownloadFileContent_withDigest_response_not_modified() {
+        var algo = new Algorithm();
+        algo.setId(UUID.randomUUID());
+        var impl = new Implementation();
+        impl.setId(UUID.randomUUID());
+        var implementationPackage = new FileImplementationPackage();
+        implementationPackage.setId(UUID.randomUUID());
+
+        var file = new File();
+        file.setId(UUID.randomUUID());
+        file.setName("content.txt");
+        file.setMimeType("text/plain");
+        file.setDigest("84d89877f0d4041efb6bf91a16f0248f2fd573e6af05c19f96bedb9f882f7882");
+
+        when(implementationPackageService.findLinkedFile(implementationPackage.getId())).thenReturn(file);
+        when(fileService.getFileContent(file.getId())).thenReturn(new ByteArrayResource("0123456789".getBytes(StandardCharsets.UTF_8)));
+
+        final String path = linkBuilderService.urlStringTo(methodOn(ImplementationController.class)
+                .downloadFileContent(algo.getId(), impl.getId(), implementationPackage.getId(), null));
+        final String eTag = "\"" + file.getDigest() + "\"";
+
+        mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testDownloadFileContent_acceptGzip_response_compressed_content() {
+        var algo = new Algorithm();
+        algo.setId(UUID.randomUUID());
+        var impl = new Implementation();
+        impl.setId(UUID.randomUUID());
+        var implementationPackage = new FileImplementationPackage();
+        implementationPackage.setId(UUID.randomUUID());
+
+        var file = new File();
+        file.setId(UUID.randomUUID());
+        file.setName("content.txt");
+        file.setMimeType("text/plain");
+        file.setDigest("84d89877f0d4041efb6bf91a16f0248f2fd573e6af05c19f96bedb9f882f7882");
+
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream outputStream = new GZIPOutputStream(compressed)) {
+            outputStream.write("0123456789".getBytes(StandardCharsets.UTF_8));
+        }
+
+        when(implementationPackageService.findLinkedFile(implementationPackage.getId())).thenReturn(file);
+        when(fileService.getFileContent(file.getId())).thenReturn(new ByteArrayResource("0123456789".getBytes(StandardCharsets.UTF_8)));
+        when(fileService.getGzipFileContent(file.getId())).thenReturn(Optional.of(new ByteArrayResource(compressed.toByteArray())));
+
+        final String path = linkBuilderService.urlStringTo(methodOn(ImplementationController.class)
+                .downloadFileContent(algo.getId(), impl.getId(), implementationPackage.getId(), null));
+
+        mockMvc.perform(get(path).header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + file.getDigest() + "-gzip\""))
+                .andExpect(content().bytes(compressed.toByteArray()));
+
+        // ranges refer to the uncompressed content
+        mockMvc.perform(get(path).header(HttpHeaders.ACCEPT_ENCODING, "gzip").header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string("2345"));
+
+        mockMvc.perform(get(path).header(HttpHeaders.ACCEPT_ENCODING, "*, gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + file.getDigest() + "\""))
+                .andExpect(content().string("0123456789"));
+    }
+
     @Test
     @SneakyThrows
     public void testDeleteFile_response_file_not_found() {
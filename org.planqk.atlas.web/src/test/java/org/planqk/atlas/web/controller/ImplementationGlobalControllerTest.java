@@ -21,8 +21,11 @@ package org.planqk.atlas.web.controller;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -33,19 +36,24 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Date;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.hibernate.envers.DefaultRevisionEntity;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.Implementation;
 import org.planqk.atlas.core.services.FileService;
 import org.planqk.atlas.core.services.ImplementationService;
+import org.planqk.atlas.core.util.PropertyChange;
+import org.planqk.atlas.web.Constants;
 import org.planqk.atlas.web.controller.util.ObjectMapperUtils;
 import org.planqk.atlas.web.dtos.ImplementationDto;
 import org.planqk.atlas.web.dtos.RevisionDto;
@@ -60,13 +68,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.envers.repository.support.DefaultRevisionMetadata;
 import org.springframework.data.history.Revision;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 
 import lombok.SneakyThrows;
 
@@ -94,6 +106,8 @@ public class ImplementationGlobalControllerTest {
     @Autowired
     private LinkBuilderService linkBuilderService;
 
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
     private final ObjectMapper mapper = ObjectMapperUtils.newTestMapper();
 
     @Test
@@ -108,6 +122,86 @@ public class ImplementationGlobalControllerTest {
         assertEquals(ObjectMapperUtils.mapResponseToList(mvcResult, ImplementationDto.class).size(), 0);
     }
 
+    @Test
+    @SneakyThrows
+    void getImplementations_Unpaged_streamsAllElements() {
+        var algo = new Algorithm();
+        algo.setId(UUID.randomUUID());
+        var impl1 = new Implementation();
+        impl1.setName("test-i1");
+        impl1.setId(UUID.randomUUID());
+        impl1.setImplementedAlgorithm(algo);
+        var impl2 = new Implementation();
+        impl2.setName("test-i2");
+        impl2.setId(UUID.randomUUID());
+        impl2.setImplementedAlgorithm(algo);
+
+        doAnswer(invocation -> {
+            Consumer<Implementation> consumer = invocation.getArgument(1);
+            consumer.accept(impl1);
+            consumer.accept(impl2);
+            return null;
+        }).when(implementationService).streamAll(any(Sort.class), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(ImplementationGlobalController.class)
+                .getImplementations(new ListParameters(Pageable.unpaged(), null)));
+        MvcResult mvcResult = mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.last").value(true))
+                .andReturn();
+        var implementationDtos = ObjectMapperUtils.mapResponseToList(mvcResult, ImplementationDto.class);
+        assertEquals(2, implementationDtos.size());
+        assertEquals(impl1.getName(), implementationDtos.get(0).getName());
+        assertEquals(algo.getId(), implementationDtos.get(1).getImplementedAlgorithmId());
+    }
+
+    @Test
+    @SneakyThrows
+    void getImplementations_UnpagedSmile_streamsAllElements() {
+        var impl = new Implementation();
+        impl.setName("test-i1");
+        impl.setId(UUID.randomUUID());
+
+        doAnswer(invocation -> {
+            Consumer<Implementation> consumer = invocation.getArgument(1);
+            consumer.accept(impl);
+            return null;
+        }).when(implementationService).streamAll(any(Sort.class), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(ImplementationGlobalController.class)
+                .getImplementations(new ListParameters(Pageable.unpaged(), null)));
+        MvcResult mvcResult = mockMvc.perform(get(url).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn();
+        JsonNode page = new SmileMapper().readTree(mvcResult.getResponse().getContentAsByteArray());
+        assertEquals(1, page.get("totalElements").asInt());
+        assertEquals(impl.getName(), page.get("content").get(0).get("name").asText());
+    }
+
+    @Test
+    @SneakyThrows
+    void getImplementations_UnpagedWildcard_streamsJson() {
+        var url = linkBuilderService.urlStringTo(methodOn(ImplementationGlobalController.class)
+                .getImplementations(new ListParameters(Pageable.unpaged(), null)));
+        mockMvc.perform(get(url).accept(MediaType.IMAGE_PNG, MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    @SneakyThrows
+    void getImplementations_UnpagedUnsupportedMediaType_returnNotAcceptable() {
+        var url = linkBuilderService.urlStringTo(methodOn(ImplementationGlobalController.class)
+                .getImplementations(new ListParameters(Pageable.unpaged(), null)));
+        mockMvc.perform(get(url).accept(MediaType.IMAGE_PNG))
+                .andExpect(status().isNotAcceptable());
+        Mockito.verify(implementationService, times(0)).streamAll(any(), any());
+    }
+
     @Test
     @SneakyThrows
     void getImplementations_SingleElement_returnOk() {
@@ -144,13 +238,110 @@ public class ImplementationGlobalControllerTest {
         doReturn(impl).when(implementationService).findById(any());
 
         var url = linkBuilderService.urlStringTo(methodOn(ImplementationGlobalController.class)
-                .getImplementation(impl.getId()));
+                .getImplementation(impl.getId(), null));
         mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(impl.getId().toString()))
                 .andExpect(jsonPath("$.implementedAlgorithmId").value(algo.getId().toString()));
     }
 
+    @Test
+    @SneakyThrows
+    public void getImplementationAsOf_returnOk() {
+        var impl = new Implementation();
+        impl.setName("implementation for Shor");
+        impl.setId(UUID.randomUUID());
+        var asOf = Date.from(Instant.parse("2020-10-14T12:00:00Z"));
+
+        doReturn(impl).when(implementationService).findByIdAsOf(any(), eq(asOf));
+
+        var url = linkBuilderService.urlStringTo(methodOn(ImplementationGlobalController.class)
+                .getImplementation(impl.getId(), null));
+        mockMvc.perform(get(url).param(Constants.AS_OF, "2020-10-14T12:00:00Z").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(impl.getId().toString()))
+                .andExpect(jsonPath("$.name").value(impl.getName()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getImplementationsAsOf_returnOk() {
+        var impl = new Implementation();
+        impl.setName("implementation for Shor");
+        impl.setId(UUID.randomUUID());
+
+        doReturn(new PageImpl<>(List.of(impl))).when(implementationService).findAllAsOf(any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(ImplementationGlobalController.class)
+                .getImplementations(ListParameters.getDefault()));
+        mockMvc.perform(get(url).param(Constants.AS_OF, "2020-10-14T12:00:00Z").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(impl.getId().toString()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getImplementationsAsOf_Unpaged_returnOk() {
+        var impl = new Implementation();
+        impl.setName("implementation for Shor");
+        impl.setId(UUID.randomUUID());
+
+        doReturn(new PageImpl<>(List.of(impl))).when(implementationService).findAllAsOf(any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(ImplementationGlobalController.class)
+                .getImplementations(new ListParameters(Pageable.unpaged(), null)));
+        mockMvc.perform(get(url).param(Constants.AS_OF, "2020-10-14T12:00:00Z").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(impl.getId().toString()));
+        Mockito.verify(implementationService).findAllAsOf(eq(Date.from(Instant.parse("2020-10-14T12:00:00Z"))), eq(Pageable.unpaged()));
+        Mockito.verify(implementationService, times(0)).streamAll(any(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    public void getImplementation_Cbor_returnOk() {
+        var impl = new Implementation();
+        impl.setName("implementation for Shor");
+        impl.setDescription("description");
+        impl.setId(UUID.randomUUID());
+
+        doReturn(impl).when(implementationService).findById(any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(ImplementationGlobalController.class)
+                .getImplementation(impl.getId(), null));
+        MvcResult mvcResult = mockMvc.perform(get(url).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        ImplementationDto implementationDto = new CBORMapper().readValue(mvcResult.getResponse().getContentAsByteArray(),
+                ImplementationDto.class);
+        assertEquals(impl.getId(), implementationDto.getId());
+        assertEquals(impl.getDescription(), implementationDto.getDescription());
+    }
+
+    @Test
+    @SneakyThrows
+    public void getImplementation_withFields_returnSelectedFields() {
+        var algo = new Algorithm();
+        algo.setId(UUID.randomUUID());
+        var impl = new Implementation();
+        impl.setName("implementation for Shor");
+        impl.setDescription("description");
+        impl.setId(UUID.randomUUID());
+        impl.setImplementedAlgorithm(algo);
+
+        doReturn(impl).when(implementationService).findById(any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(ImplementationGlobalController.class)
+                .getImplementation(impl.getId(), null));
+        mockMvc.perform(get(url).queryParam(Constants.FIELDS, "name").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(impl.getId().toString()))
+                .andExpect(jsonPath("$.name").value(impl.getName()))
+                .andExpect(jsonPath("$.description").doesNotExist())
+                .andExpect(jsonPath("$.implementedAlgorithmId").doesNotExist());
+    }
+
     @Test
     @SneakyThrows
     void getImplementationRevisions_SingleElement_returnOk() {
@@ -235,4 +426,34 @@ public class ImplementationGlobalControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @SneakyThrows
+    void getImplementationRevisionDiff_returnOk() {
+        doReturn(List.of(new PropertyChange("patterns", List.of("https://patterns.example/a"), List.of("https://patterns.example/b"))))
+                .when(implementationService).findImplementationRevisionChanges(any(), any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(ImplementationGlobalController.class)
+                .getImplementationRevisionDiff(UUID.randomUUID(), 3, 5));
+
+        mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fromRevisionId").value(3))
+                .andExpect(jsonPath("$.toRevisionId").value(5))
+                .andExpect(jsonPath("$.changes[0].op").value("replace"))
+                .andExpect(jsonPath("$.changes[0].path").value("/patterns"))
+                .andExpect(jsonPath("$.changes[0].value[0]").value("https://patterns.example/b"));
+    }
+
+    @Test
+    @SneakyThrows
+    void getImplementationRevisionDiff_returnNotFound() {
+        doThrow(NoSuchElementException.class).when(implementationService).findImplementationRevisionChanges(any(), any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(ImplementationGlobalController.class)
+                .getImplementationRevisionDiff(UUID.randomUUID(), 3, 5));
+
+        mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
 }
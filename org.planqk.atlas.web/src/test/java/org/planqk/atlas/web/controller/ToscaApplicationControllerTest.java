@@ -29,7 +29,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.planqk.atlas.core.model.ToscaApplication;
+import org.planqk.atlas.core.model.Upload;
+import org.planqk.atlas.core.model.UploadStatus;
+import org.planqk.atlas.core.model.UploadTarget;
 import org.planqk.atlas.core.services.ToscaApplicationService;
+import org.planqk.atlas.core.services.UploadService;
+import org.planqk.atlas.web.Constants;
 import org.planqk.atlas.web.controller.util.ObjectMapperUtils;
 import org.planqk.atlas.web.dtos.ToscaApplicationDto;
 import org.planqk.atlas.web.linkassembler.EnableLinkAssemblers;
@@ -42,18 +47,22 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.mock.web.MockPart;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import static org.hamcrest.Matchers.endsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -61,6 +70,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -80,6 +90,9 @@ class ToscaApplicationControllerTest {
     @MockBean
     private ToscaApplicationService toscaApplicationService;
 
+    @MockBean
+    private UploadService uploadService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -88,15 +101,17 @@ class ToscaApplicationControllerTest {
 
     @Test
     @SneakyThrows
-    public void createApplication_returnCreated() {
+    public void createApplication_returnAccepted() {
 
         UUID uuid = UUID.randomUUID();
         String name = "Test-Name";
         String nameJson =  String.format("{\"name\":\"%s\"}", name);
 
-        var returnedResource = new ToscaApplication();
-        returnedResource.setName(name);
-        returnedResource.setId(uuid);
+        var upload = new Upload();
+        upload.setId(uuid);
+        upload.setTarget(UploadTarget.TOSCA_APPLICATION);
+        upload.setName(name);
+        upload.setStatus(UploadStatus.PENDING);
 
         MockMultipartFile file
                 = new MockMultipartFile(
@@ -106,7 +121,7 @@ class ToscaApplicationControllerTest {
                 "Hello, World!".getBytes()
         );
 
-        doReturn(returnedResource).when(toscaApplicationService).createFromFile(eq(file), eq(name));
+        doReturn(upload).when(uploadService).submitToscaApplication(eq(file), eq(name));
 
         var url = linkBuilderService.urlStringTo(
                 methodOn(ToscaApplicationController.class).createApplication(null, null)
@@ -117,9 +132,12 @@ class ToscaApplicationControllerTest {
 
         mockMvc.perform(
                         multipart(url).file(file).part(namePart)
-                ).andExpect(status().isCreated())
+                ).andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, endsWith("/" + Constants.UPLOADS + "/" + uuid)))
                 .andExpect(jsonPath("$.id").value(uuid.toString()))
-                .andExpect(jsonPath("$.name").value(name));
+                .andExpect(jsonPath("$.name").value(name))
+                .andExpect(jsonPath("$.status").value(UploadStatus.PENDING.toString()));
+        verify(toscaApplicationService, never()).createFromFile(any(), any());
     }
 
     @Test
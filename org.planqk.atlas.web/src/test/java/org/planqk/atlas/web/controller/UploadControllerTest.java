@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.web.controller;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.planqk.atlas.core.model.Upload;
+import org.planqk.atlas.core.model.UploadStatus;
+import org.planqk.atlas.core.model.UploadTarget;
+import org.planqk.atlas.core.services.UploadService;
+import org.planqk.atlas.web.linkassembler.EnableLinkAssemblers;
+import org.planqk.atlas.web.linkassembler.LinkBuilderService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import lombok.SneakyThrows;
+
+@WebMvcTest(value = UploadController.class)
+@ExtendWith({MockitoExtension.class})
+@AutoConfigureMockMvc
+@EnableLinkAssemblers
+public class UploadControllerTest {
+
+    @MockBean
+    private UploadService uploadService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LinkBuilderService linkBuilderService;
+
+    @Test
+    @SneakyThrows
+    void getUpload_processing_returnOk() {
+        var upload = new Upload();
+        upload.setId(UUID.randomUUID());
+        upload.setTarget(UploadTarget.SOLUTION_FILE);
+        upload.setTargetId(UUID.randomUUID());
+        upload.setName("solution.zip");
+        upload.setSize(1024);
+        upload.setBytesProcessed(512);
+        upload.setStatus(UploadStatus.PROCESSING);
+        doReturn(upload).when(uploadService).findById(upload.getId());
+
+        var url = linkBuilderService.urlStringTo(methodOn(UploadController.class).getUpload(upload.getId()));
+        mockMvc.perform(get(url).accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(upload.getId().toString()))
+                .andExpect(jsonPath("$.target").value(UploadTarget.SOLUTION_FILE.toString()))
+                .andExpect(jsonPath("$.status").value(UploadStatus.PROCESSING.toString()))
+                .andExpect(jsonPath("$.size").value(1024))
+                .andExpect(jsonPath("$.bytesProcessed").value(512));
+    }
+
+    @Test
+    @SneakyThrows
+    void getUpload_failed_returnOkWithErrorMessage() {
+        var upload = new Upload();
+        upload.setId(UUID.randomUUID());
+        upload.setTarget(UploadTarget.TOSCA_APPLICATION);
+        upload.setStatus(UploadStatus.FAILED);
+        upload.setErrorMessage("Winery is not reachable");
+        doReturn(upload).when(uploadService).findById(upload.getId());
+
+        var url = linkBuilderService.urlStringTo(methodOn(UploadController.class).getUpload(upload.getId()));
+        mockMvc.perform(get(url).accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(UploadStatus.FAILED.toString()))
+                .andExpect(jsonPath("$.errorMessage").value("Winery is not reachable"));
+    }
+
+    @Test
+    @SneakyThrows
+    void getUpload_returnNotFound() {
+        var id = UUID.randomUUID();
+        doThrow(new NoSuchElementException()).when(uploadService).findById(id);
+
+        var url = linkBuilderService.urlStringTo(methodOn(UploadController.class).getUpload(id));
+        mockMvc.perform(get(url).accept(APPLICATION_JSON)).andExpect(status().isNotFound());
+    }
+}
@@ -19,9 +19,15 @@
 
 package org.planqk.atlas.web.linkassembler;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.planqk.atlas.web.annotation.VersionedRequestHandlerMapping;
 import org.planqk.atlas.web.utils.ListParametersMethodArgumentResolver;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.http.HttpEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 
@@ -37,6 +43,21 @@ public class LinkBuilderServiceTest {
         mappings.populateFromHandler(new Controller());
     }
 
+    @Test
+    void urlToMappedEndpoint() {
+        assertThat(service.urlStringTo(methodOn(Controller.class).endpoint())).isEqualTo("/test/test");
+    }
+
+    @Test
+    void urlToEndpointRegisteredBeforeRefresh() {
+        assertThat(service.urlStringTo(methodOn(Controller.class).endpoint())).isEqualTo("/test/test");
+
+        mappings.populateFromHandler(new OtherController());
+        service.onApplicationEvent(new ContextRefreshedEvent(new GenericApplicationContext()));
+
+        assertThat(service.urlStringTo(methodOn(OtherController.class).otherEndpoint())).isEqualTo("/other/a");
+    }
+
     static class NonController {
         public HttpEntity<Void> test() {
             return null;
@@ -54,4 +75,12 @@ public class LinkBuilderServiceTest {
             return null;
         }
     }
+
+    @RequestMapping("/other")
+    static class OtherController {
+        @RequestMapping({"/b", "/a"})
+        public HttpEntity<Void> otherEndpoint() {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.planqk.atlas.web.dtos.ImplementationDto;
+import org.planqk.atlas.web.dtos.SoftwarePlatformDto;
+import org.springframework.data.domain.PageImpl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.SneakyThrows;
+
+public class SparseFieldsetModuleTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new SparseFieldsetModule());
+
+    @AfterEach
+    void clearSelection() {
+        SparseFieldsets.clear();
+    }
+
+    @Test
+    void parseFields() {
+        assertThat(SparseFieldsets.parse(null)).isEmpty();
+        assertThat(SparseFieldsets.parse(" ")).isEmpty();
+        assertThat(SparseFieldsets.parse("name, description,,")).containsExactlyInAnyOrder("name", "description");
+    }
+
+    @Test
+    @SneakyThrows
+    void serializeAllFieldsWithoutSelection() {
+        final JsonNode json = mapper.valueToTree(implementation());
+
+        assertThat(json.has("description")).isTrue();
+        assertThat(json.has("softwarePlatforms")).isTrue();
+    }
+
+    @Test
+    @SneakyThrows
+    void serializeSelectedFieldsOnly() {
+        SparseFieldsets.select(Set.of("name", "softwarePlatforms"));
+
+        final JsonNode json = mapper.valueToTree(List.of(implementation()));
+
+        final JsonNode element = json.get(0);
+        assertThat(element.has("id")).isTrue();
+        assertThat(element.get("name").asText()).isEqualTo("implementation");
+        assertThat(element.has("description")).isFalse();
+        assertThat(element.has("version")).isFalse();
+        // nested DTOs are not affected by the selection
+        final JsonNode softwarePlatform = element.get("softwarePlatforms").get(0);
+        assertThat(softwarePlatform.get("name").asText()).isEqualTo("platform");
+        assertThat(softwarePlatform.get("version").asText()).isEqualTo("1");
+    }
+
+    @Test
+    @SneakyThrows
+    void serializeSelectedFieldsOfPage() {
+        SparseFieldsets.select(Set.of("description"));
+
+        final JsonNode json = mapper.valueToTree(new PageImpl<>(List.of(implementation())));
+
+        final JsonNode element = json.get("content").get(0);
+        assertThat(element.has("id")).isTrue();
+        assertThat(element.has("description")).isTrue();
+        assertThat(element.has("name")).isFalse();
+        assertThat(json.get("totalElements").asInt()).isEqualTo(1);
+    }
+
+    private static ImplementationDto implementation() {
+        final var softwarePlatform = new SoftwarePlatformDto();
+        softwarePlatform.setId(UUID.randomUUID());
+        softwarePlatform.setName("platform");
+        softwarePlatform.setVersion("1");
+
+        final var implementation = new ImplementationDto();
+        implementation.setId(UUID.randomUUID());
+        implementation.setName("implementation");
+        implementation.setDescription("description");
+        implementation.setVersion("1.0");
+        implementation.setSoftwarePlatforms(Set.of(softwarePlatform));
+        return implementation;
+    }
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+
+package org.planqk.atlas.web.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.PathResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+public class ZeroCopyResourceHttpMessageConverterTest {
+
+    private final ZeroCopyResourceHttpMessageConverter converter = new ZeroCopyResourceHttpMessageConverter();
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/content");
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void writeFile_transferToResponse() throws Exception {
+        final Path file = Files.write(directory.resolve("content.txt"), "0123456789".getBytes(StandardCharsets.UTF_8));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        converter.write(new PathResource(file), MediaType.TEXT_PLAIN, new ServletServerHttpResponse(response));
+
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(response.getContentLength()).isEqualTo(10);
+    }
+
+    @Test
+    void writeFile_handOverToContainer() throws Exception {
+        final Path file = Files.write(directory.resolve("content.txt"), "0123456789".getBytes(StandardCharsets.UTF_8));
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        converter.write(new PathResource(file), MediaType.TEXT_PLAIN, new ServletServerHttpResponse(response));
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLength()).isEqualTo(10);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(0L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(10L);
+    }
+
+    @Test
+    void writeOtherResource_copyToResponse() throws Exception {
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        converter.write(new ByteArrayResource("0123456789".getBytes(StandardCharsets.UTF_8)), MediaType.TEXT_PLAIN,
+                new ServletServerHttpResponse(response));
+
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+    }
+}
@@ -0,0 +1,452 @@
+/*******************************************************************************
+ * Copyright (c) 2026 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.utils.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.AlgorithmRelation;
+import org.planqk.atlas.core.model.AlgorithmRelationType;
+import org.planqk.atlas.core.model.ApplicationArea;
+import org.planqk.atlas.core.model.ClassicAlgorithm;
+import org.planqk.atlas.core.model.ComputationModel;
+import org.planqk.atlas.core.model.ComputeResource;
+import org.planqk.atlas.core.model.ComputeResourceProperty;
+import org.planqk.atlas.core.model.ComputeResourcePropertyDataType;
+import org.planqk.atlas.core.model.ComputeResourcePropertyType;
+import org.planqk.atlas.core.model.DiscussionComment;
+import org.planqk.atlas.core.model.DiscussionTopic;
+import org.planqk.atlas.core.model.File;
+import org.planqk.atlas.core.model.FunctionImplementationPackage;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.ImplementationPackage;
+import org.planqk.atlas.core.model.ImplementationPackageType;
+import org.planqk.atlas.core.model.LearningMethod;
+import org.planqk.atlas.core.model.PatternRelation;
+import org.planqk.atlas.core.model.PatternRelationType;
+import org.planqk.atlas.core.model.ProblemType;
+import org.planqk.atlas.core.model.Publication;
+import org.planqk.atlas.core.model.Qpu;
+import org.planqk.atlas.core.model.QuantumAlgorithm;
+import org.planqk.atlas.core.model.QuantumComputationModel;
+import org.planqk.atlas.core.model.Simulator;
+import org.planqk.atlas.core.model.Sketch;
+import org.planqk.atlas.core.model.SoftwarePlatform;
+import org.planqk.atlas.core.model.Solution;
+import org.planqk.atlas.core.model.Status;
+import org.planqk.atlas.core.model.TOSCAImplementationPackage;
+import org.planqk.atlas.core.model.Tag;
+import org.planqk.atlas.core.model.ToscaApplication;
+import org.planqk.atlas.core.model.Upload;
+import org.planqk.atlas.core.model.UploadStatus;
+import org.planqk.atlas.core.model.UploadTarget;
+import org.planqk.atlas.web.dtos.AlgorithmDto;
+import org.planqk.atlas.web.dtos.AlgorithmRelationDto;
+import org.planqk.atlas.web.dtos.ApplicationAreaDto;
+import org.planqk.atlas.web.dtos.ClassicAlgorithmDto;
+import org.planqk.atlas.web.dtos.ComputeResourceDto;
+import org.planqk.atlas.web.dtos.ComputeResourcePropertyDto;
+import org.planqk.atlas.web.dtos.ComputeResourcePropertyTypeDto;
+import org.planqk.atlas.web.dtos.DiscussionCommentDto;
+import org.planqk.atlas.web.dtos.DiscussionTopicDto;
+import org.planqk.atlas.web.dtos.FileDto;
+import org.planqk.atlas.web.dtos.ImplementationDto;
+import org.planqk.atlas.web.dtos.ImplementationPackageDto;
+import org.planqk.atlas.web.dtos.LearningMethodDto;
+import org.planqk.atlas.web.dtos.PatternRelationDto;
+import org.planqk.atlas.web.dtos.PatternRelationTypeDto;
+import org.planqk.atlas.web.dtos.ProblemTypeDto;
+import org.planqk.atlas.web.dtos.PublicationDto;
+import org.planqk.atlas.web.dtos.QPUDto;
+import org.planqk.atlas.web.dtos.QuantumAlgorithmDto;
+import org.planqk.atlas.web.dtos.SoftwarePlatformDto;
+import org.planqk.atlas.web.dtos.SolutionDto;
+import org.planqk.atlas.web.dtos.TOSCAImplementationPackageDto;
+import org.planqk.atlas.web.dtos.TagDto;
+import org.planqk.atlas.web.dtos.ToscaApplicationDto;
+import org.planqk.atlas.web.dtos.UploadDto;
+import org.planqk.atlas.web.utils.ModelMapperUtils;
+
+/**
+ * Checks that the generated mappers produce the same DTOs and entities as the previous ModelMapper configuration.
+ */
+public class DtoMapperEquivalenceTest {
+
+    @Test
+    void mapQuantumAlgorithmToDto() {
+        final var algorithm = new QuantumAlgorithm();
+        fillAlgorithm(algorithm);
+        algorithm.setComputationModel(ComputationModel.QUANTUM);
+        algorithm.setNisqReady(true);
+        algorithm.setQuantumComputationModel(QuantumComputationModel.GATE_BASED);
+        algorithm.setSpeedUp("exponential");
+
+        final AlgorithmDto dto = assertEquivalent(algorithm, AlgorithmDto.class);
+        assertThat(dto).isInstanceOf(QuantumAlgorithmDto.class);
+        assertThat(dto.getSketches()).hasSize(1);
+    }
+
+    @Test
+    void mapClassicAlgorithmToDto() {
+        final var algorithm = new ClassicAlgorithm();
+        fillAlgorithm(algorithm);
+        algorithm.setComputationModel(ComputationModel.CLASSIC);
+
+        assertThat(assertEquivalent(algorithm, AlgorithmDto.class)).isInstanceOf(ClassicAlgorithmDto.class);
+        assertEquivalent(algorithm, ClassicAlgorithmDto.class);
+    }
+
+    @Test
+    void mapQuantumAlgorithmDtoToEntity() {
+        final var dto = new QuantumAlgorithmDto();
+        dto.setId(UUID.randomUUID());
+        dto.setName("Shor");
+        dto.setComputationModel(ComputationModel.QUANTUM);
+        dto.setNisqReady(true);
+        dto.setQuantumComputationModel(QuantumComputationModel.MEASUREMENT_BASED);
+
+        final Algorithm algorithm = ModelMapperUtils.convert(dto, Algorithm.class);
+        final Algorithm expected = ModelMapperUtils.mapper.map(dto, Algorithm.class);
+
+        assertThat(algorithm).isInstanceOf(QuantumAlgorithm.class);
+        assertThat(algorithm.getId()).isEqualTo(expected.getId());
+        assertThat(algorithm.getName()).isEqualTo(expected.getName());
+        assertThat(((QuantumAlgorithm) algorithm).isNisqReady()).isEqualTo(((QuantumAlgorithm) expected).isNisqReady());
+        assertThat(((QuantumAlgorithm) algorithm).getQuantumComputationModel())
+                .isEqualTo(((QuantumAlgorithm) expected).getQuantumComputationModel());
+    }
+
+    @Test
+    void mapImplementationToDto() throws MalformedURLException {
+        final var algorithm = new Algorithm();
+        algorithm.setId(UUID.randomUUID());
+
+        final var implementation = new Implementation();
+        implementation.setId(UUID.randomUUID());
+        implementation.setName("implementation");
+        implementation.setDescription("description");
+        implementation.setVersion("1.0");
+        implementation.setImplementedAlgorithm(algorithm);
+        implementation.setPatterns(Set.of("https://patterns.example/a"));
+        implementation.setSoftwarePlatforms(Set.of(softwarePlatform()));
+
+        assertEquivalent(implementation, ImplementationDto.class);
+    }
+
+    @Test
+    void mapImplementationDtoToEntity() {
+        final var dto = new ImplementationDto();
+        dto.setId(UUID.randomUUID());
+        dto.setImplementedAlgorithmId(UUID.randomUUID());
+        dto.setName("implementation");
+
+        final Implementation implementation = ModelMapperUtils.convert(dto, Implementation.class);
+        final Implementation expected = ModelMapperUtils.mapper.map(dto, Implementation.class);
+
+        assertThat(implementation.getId()).isEqualTo(expected.getId());
+        assertThat(implementation.getName()).isEqualTo(expected.getName());
+        assertThat(implementation.getImplementedAlgorithm().getId()).isEqualTo(expected.getImplementedAlgorithm().getId());
+    }
+
+    @Test
+    void mapAlgorithmRelationToDto() {
+        final var source = new Algorithm();
+        source.setId(UUID.randomUUID());
+        final var target = new Algorithm();
+        target.setId(UUID.randomUUID());
+        final var type = new AlgorithmRelationType();
+        type.setId(UUID.randomUUID());
+        type.setName("type");
+
+        final var relation = new AlgorithmRelation();
+        relation.setId(UUID.randomUUID());
+        relation.setSourceAlgorithm(source);
+        relation.setTargetAlgorithm(target);
+        relation.setAlgorithmRelationType(type);
+        relation.setDescription("description");
+
+        assertEquivalent(relation, AlgorithmRelationDto.class);
+    }
+
+    @Test
+    void mapImplementationPackagesToDto() {
+        final ImplementationPackage tosca = new TOSCAImplementationPackage();
+        tosca.setId(UUID.randomUUID());
+        tosca.setName("tosca");
+        tosca.setPackageType(ImplementationPackageType.TOSCA);
+        final ImplementationPackage function = new FunctionImplementationPackage();
+        function.setId(UUID.randomUUID());
+        function.setPackageType(ImplementationPackageType.FUNCTION);
+
+        assertThat(assertEquivalent(tosca, ImplementationPackageDto.class)).isInstanceOf(TOSCAImplementationPackageDto.class);
+        assertEquivalent(function, ImplementationPackageDto.class);
+    }
+
+    @Test
+    void mapComputeResourcesToDto() {
+        final ComputeResource qpu = new Qpu();
+        qpu.setId(UUID.randomUUID());
+        qpu.setName("qpu");
+        qpu.setVendor("vendor");
+        qpu.setQprovOrigin(true);
+        final ComputeResource simulator = new Simulator();
+        simulator.setId(UUID.randomUUID());
+        simulator.setQuantumComputationModel(QuantumComputationModel.QUANTUM_ANNEALING);
+
+        assertThat(assertEquivalent(qpu, ComputeResourceDto.class)).isInstanceOf(QPUDto.class);
+        assertEquivalent(simulator, ComputeResourceDto.class);
+    }
+
+    @Test
+    void mapSimpleEntitiesToDto() throws MalformedURLException {
+        final var publication = new Publication();
+        publication.setId(UUID.randomUUID());
+        publication.setTitle("title");
+        publication.setAuthors(List.of("first", "second"));
+        final var file = new File();
+        file.setId(UUID.randomUUID());
+        file.setName("file.txt");
+        file.setMimeType("text/plain");
+
+        assertEquivalent(publication, PublicationDto.class);
+        assertEquivalent(file, FileDto.class);
+        assertEquivalent(softwarePlatform(), SoftwarePlatformDto.class);
+    }
+
+    @Test
+    void mapPatternRelationToDto() {
+        final var algorithm = new Algorithm();
+        algorithm.setId(UUID.randomUUID());
+        final var relation = new PatternRelation();
+        relation.setId(UUID.randomUUID());
+        relation.setAlgorithm(algorithm);
+        relation.setPattern(URI.create("https://patterns.example/a"));
+        relation.setPatternRelationType(patternRelationType());
+        relation.setDescription("description");
+
+        assertThat(assertEquivalent(relation, PatternRelationDto.class).getAlgorithmId()).isEqualTo(algorithm.getId());
+    }
+
+    @Test
+    void mapPatternRelationDtoToEntity() {
+        final var typeDto = new PatternRelationTypeDto();
+        typeDto.setId(UUID.randomUUID());
+        typeDto.setName("type");
+        final var dto = new PatternRelationDto();
+        dto.setId(UUID.randomUUID());
+        dto.setAlgorithmId(UUID.randomUUID());
+        dto.setPattern(URI.create("https://patterns.example/a"));
+        dto.setPatternRelationType(typeDto);
+
+        final PatternRelation relation = ModelMapperUtils.convert(dto, PatternRelation.class);
+        final PatternRelation expected = ModelMapperUtils.mapper.map(dto, PatternRelation.class);
+
+        assertThat(relation.getId()).isEqualTo(expected.getId());
+        assertThat(relation.getPattern()).isEqualTo(expected.getPattern());
+        assertThat(relation.getAlgorithm().getId()).isEqualTo(expected.getAlgorithm().getId());
+        assertThat(relation.getPatternRelationType().getId()).isEqualTo(expected.getPatternRelationType().getId());
+    }
+
+    @Test
+    void mapComputeResourcePropertyToDto() {
+        final var type = new ComputeResourcePropertyType();
+        type.setId(UUID.randomUUID());
+        type.setName("qubits");
+        type.setDatatype(ComputeResourcePropertyDataType.INTEGER);
+        type.setDescription("number of qubits");
+        final var property = new ComputeResourceProperty();
+        property.setId(UUID.randomUUID());
+        property.setComputeResourcePropertyType(type);
+        property.setValue("5");
+
+        final ComputeResourcePropertyDto dto = assertEquivalent(property, ComputeResourcePropertyDto.class);
+        assertThat(dto.getType().getId()).isEqualTo(type.getId());
+        assertEquivalent(type, ComputeResourcePropertyTypeDto.class);
+    }
+
+    @Test
+    void mapComputeResourcePropertyDtoToEntity() {
+        final var typeDto = new ComputeResourcePropertyTypeDto();
+        typeDto.setId(UUID.randomUUID());
+        typeDto.setName("qubits");
+        typeDto.setDatatype(ComputeResourcePropertyDataType.INTEGER);
+        final var dto = new ComputeResourcePropertyDto();
+        dto.setId(UUID.randomUUID());
+        dto.setType(typeDto);
+        dto.setValue("5");
+
+        final ComputeResourceProperty property = ModelMapperUtils.convert(dto, ComputeResourceProperty.class);
+        final ComputeResourceProperty expected = ModelMapperUtils.mapper.map(dto, ComputeResourceProperty.class);
+
+        assertThat(property.getId()).isEqualTo(expected.getId());
+        assertThat(property.getValue()).isEqualTo(expected.getValue());
+        assertThat(property.getComputeResourcePropertyType()).isEqualTo(expected.getComputeResourcePropertyType());
+    }
+
+    @Test
+    void mapDiscussionToDto() {
+        final var topic = new DiscussionTopic();
+        topic.setId(UUID.randomUUID());
+        topic.setTitle("title");
+        topic.setDescription("description");
+        topic.setStatus(Status.OPEN);
+        topic.setDate(OffsetDateTime.of(2021, 3, 1, 12, 0, 0, 0, ZoneOffset.UTC));
+        final var comment = new DiscussionComment();
+        comment.setId(UUID.randomUUID());
+        comment.setText("comment");
+        comment.setDate(topic.getDate());
+        comment.setDiscussionTopic(topic);
+        final var reply = new DiscussionComment();
+        reply.setId(UUID.randomUUID());
+        reply.setText("reply");
+        reply.setReplyTo(comment);
+        reply.setDiscussionTopic(topic);
+
+        assertEquivalent(topic, DiscussionTopicDto.class);
+        assertThat(assertEquivalent(reply, DiscussionCommentDto.class).getReplyTo().getText()).isEqualTo("comment");
+    }
+
+    @Test
+    void mapClassificationsToDto() {
+        final var applicationArea = new ApplicationArea();
+        applicationArea.setId(UUID.randomUUID());
+        applicationArea.setName("chemistry");
+        final var problemType = new ProblemType();
+        problemType.setId(UUID.randomUUID());
+        problemType.setName("factorization");
+        problemType.setParentProblemType(UUID.randomUUID());
+        final var learningMethod = new LearningMethod();
+        learningMethod.setId(UUID.randomUUID());
+        learningMethod.setName("supervised");
+        final var tag = new Tag();
+        tag.setCategory("category");
+        tag.setValue("value");
+
+        assertEquivalent(applicationArea, ApplicationAreaDto.class);
+        assertEquivalent(problemType, ProblemTypeDto.class);
+        assertEquivalent(learningMethod, LearningMethodDto.class);
+        assertEquivalent(tag, TagDto.class);
+        assertEquivalent(patternRelationType(), PatternRelationTypeDto.class);
+    }
+
+    @Test
+    void mapSolutionsAndApplicationsToDto() {
+        final var solution = new Solution();
+        solution.setId(UUID.randomUUID());
+        solution.setPatternId(UUID.randomUUID());
+        solution.setSolutionType("QRM");
+        final var toscaApplication = new ToscaApplication();
+        toscaApplication.setId(UUID.randomUUID());
+        toscaApplication.setName("application");
+        toscaApplication.setToscaID("id");
+        toscaApplication.setToscaNamespace("https://tosca.example");
+        toscaApplication.setCreatedAt(new Date());
+        toscaApplication.setWineryLocation("https://winery.example/application");
+        final var upload = new Upload();
+        upload.setId(UUID.randomUUID());
+        upload.setTarget(UploadTarget.SOLUTION_FILE);
+        upload.setTargetId(solution.getId());
+        upload.setName("solution.zip");
+        upload.setSize(1024);
+        upload.setBytesProcessed(512);
+        upload.setStatus(UploadStatus.PROCESSING);
+
+        assertEquivalent(solution, SolutionDto.class);
+        assertEquivalent(toscaApplication, ToscaApplicationDto.class);
+        assertEquivalent(upload, UploadDto.class);
+    }
+
+    @Test
+    void mapSimpleDtosToEntity() {
+        final var dto = new ApplicationAreaDto();
+        dto.setId(UUID.randomUUID());
+        dto.setName("chemistry");
+
+        final ApplicationArea applicationArea = ModelMapperUtils.convert(dto, ApplicationArea.class);
+        final ApplicationArea expected = ModelMapperUtils.mapper.map(dto, ApplicationArea.class);
+
+        assertThat(DtoMappers.find(ApplicationAreaDto.class, ApplicationArea.class)).isPresent();
+        assertThat(applicationArea).isEqualTo(expected);
+        assertThat(DtoMappers.find(SoftwarePlatformDto.class, SoftwarePlatform.class)).isPresent();
+        assertThat(DtoMappers.find(TagDto.class, Tag.class)).isPresent();
+    }
+
+    @Test
+    void fallBackToModelMapperForUnregisteredTypes() {
+        assertThat(DtoMappers.find(Sketch.class, Object.class)).isEmpty();
+        assertThat(DtoMappers.find(Algorithm.class, QuantumAlgorithmDto.class)).isEmpty();
+    }
+
+    private static <D> D assertEquivalent(Object source, Class<D> outClass) {
+        assertThat(DtoMappers.find(source.getClass(), outClass)).isPresent();
+
+        final D generated = ModelMapperUtils.convert(source, outClass);
+        final D expected = ModelMapperUtils.mapper.map(source, outClass);
+
+        assertThat(generated).isExactlyInstanceOf(expected.getClass());
+        assertThat(generated).usingRecursiveComparison().isEqualTo(expected);
+        return generated;
+    }
+
+    private static void fillAlgorithm(Algorithm algorithm) {
+        algorithm.setId(UUID.randomUUID());
+        algorithm.setCreationDate(new Date());
+        algorithm.setLastModifiedAt(new Date());
+        algorithm.setName("algorithm");
+        algorithm.setAcronym("ALG");
+        algorithm.setIntent("intent");
+        algorithm.setProblem("problem");
+        algorithm.setInputFormat("input");
+        algorithm.setOutputFormat("output");
+
+        final var sketch = new Sketch();
+        sketch.setId(UUID.randomUUID());
+        sketch.setImageURL("https://sketches.example/1");
+        sketch.setDescription("sketch");
+        algorithm.addSketch(sketch);
+    }
+
+    private static PatternRelationType patternRelationType() {
+        final var type = new PatternRelationType();
+        type.setId(UUID.randomUUID());
+        type.setName("type");
+        return type;
+    }
+
+    private static SoftwarePlatform softwarePlatform() throws MalformedURLException {
+        final var softwarePlatform = new SoftwarePlatform();
+        softwarePlatform.setId(UUID.randomUUID());
+        softwarePlatform.setName("platform");
+        softwarePlatform.setLink(new URL("https://platform.example"));
+        softwarePlatform.setVersion("1");
+        return softwarePlatform;
+    }
+}